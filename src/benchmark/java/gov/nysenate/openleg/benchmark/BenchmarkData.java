@@ -0,0 +1,163 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.google.common.io.Resources;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.sobi.SobiBlock;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.model.sobi.SobiFragmentType;
+import gov.nysenate.openleg.model.sobi.SobiLineType;
+import gov.nysenate.openleg.processor.base.ParseError;
+import gov.nysenate.openleg.processor.bill.BillTextParser;
+import gov.nysenate.openleg.processor.law.LawBlock;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the inputs used by the benchmarks from the checked in sample data so that the benchmarks
+ * can run without a database or network access.
+ */
+public final class BenchmarkData
+{
+    public static final String SOBI_FIXTURE = "sobi/SOBI.D140509.T124706.TXT";
+
+    public static final BaseBillId BASE_BILL_ID = new BaseBillId("S7300", 2013);
+
+    public static final Optional<PublishStatus> DEFAULT_PUB_STATUS =
+        Optional.of(new PublishStatus(true, LocalDateTime.of(2013, 1, 7, 0, 0)));
+
+    private static final String[] actionTexts = {
+        "REFERRED TO HEALTH", "1ST REPORT CAL.%d", "2ND REPORT CAL.", "ADVANCED TO THIRD READING",
+        "AMENDED ON THIRD READING 7300%s", "COMMITTED TO RULES", "PRINT NUMBER 7300%s", "PASSED SENATE",
+        "DELIVERED TO ASSEMBLY", "REFERRED TO CODES", "SUBSTITUTED BY A%d", "SUBSTITUTION RECONSIDERED",
+        "RETURNED TO SENATE", "RECOMMIT, ENACTING CLAUSE STRICKEN"
+    };
+
+    private BenchmarkData() {}
+
+    /** Reads a checked in sample file from the benchmark classpath. */
+    public static String readResource(String name) {
+        try {
+            return Resources.toString(Resources.getResource(name), StandardCharsets.UTF_8);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /** A bill fragment containing the full text of the sample SOBI file. */
+    public static SobiFragment getSobiFragment() {
+        return new SobiFragment("SOBI.D140509.T124706.TXT-1-BILL", null, SobiFragmentType.BILL,
+                                readResource(SOBI_FIXTURE), 1);
+    }
+
+    /** The raw data of the first bill text block in the sample SOBI file. */
+    public static String getBillTextData() {
+        return getSobiFragment().getSobiBlocks().stream()
+            .filter(block -> block.getType() == SobiLineType.TEXT)
+            .map(SobiBlock::getData)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No bill text block in " + SOBI_FIXTURE));
+    }
+
+    /** The full text of the bill in the sample SOBI file, as it would be stored on the bill amendment. */
+    public static String getBillText() {
+        try {
+            return new BillTextParser(getBillTextData(), BillTextType.BILL, LocalDateTime.of(2014, 5, 9, 12, 47, 6))
+                .extractText();
+        }
+        catch (ParseError ex) {
+            throw new IllegalStateException("Failed to parse the bill text in " + SOBI_FIXTURE, ex);
+        }
+    }
+
+    /**
+     * Produces an amended copy of the given bill text by rewording every seventh line and inserting a new line
+     * every thirteenth line, similar in scale to a typical amendment.
+     */
+    public static String getAmendedText(String fullText) {
+        String[] lines = fullText.split("\\n");
+        StringBuilder amended = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            if (i % 13 == 0) {
+                amended.append("   ").append(i).append("  and shall further apply to any such district.\n");
+            }
+            amended.append(i % 7 == 0 ? lines[i].replace("the", "such") : lines[i]).append("\n");
+        }
+        return amended.toString();
+    }
+
+    /** A synthetic action list which cycles through amendments, referrals, passages and substitutions. */
+    public static List<BillAction> getActions(int count) {
+        BillId billId = BASE_BILL_ID.withVersion(Version.DEFAULT);
+        List<BillAction> actions = new ArrayList<>();
+        LocalDate date = LocalDate.of(2013, 1, 7);
+        for (int i = 0; i < count; i++) {
+            String textFormat = actionTexts[i % actionTexts.length];
+            String text = textFormat.contains("7300")
+                ? String.format(textFormat, (char) ('A' + (i / actionTexts.length) % 3))
+                : String.format(textFormat, 100 + i);
+            Chamber chamber = text.contains("CODES") ? Chamber.ASSEMBLY : Chamber.SENATE;
+            actions.add(new BillAction(date.plusDays(i / 3), text, chamber, i + 1, billId));
+        }
+        return actions;
+    }
+
+    /** A bill with the given number of published amendments, each holding the full text, and a list of actions. */
+    public static Bill getBill(String fullText, int amendmentCount, int actionCount) {
+        Bill bill = new Bill(BASE_BILL_ID);
+        bill.setTitle("Relates to the establishment of school districts");
+        bill.setSummary("Relates to the establishment of school districts");
+        for (int i = 0; i < amendmentCount; i++) {
+            Version version = Version.values()[i];
+            BillAmendment amendment = new BillAmendment(BASE_BILL_ID, version);
+            amendment.setFullText(fullText);
+            bill.addAmendment(amendment);
+            bill.updatePublishStatus(version, DEFAULT_PUB_STATUS.get());
+            bill.setActiveVersion(version);
+        }
+        bill.setActions(getActions(actionCount));
+        return bill;
+    }
+
+    /**
+     * Law blocks for a synthetic consolidated law, in the order they appear in an initial law dump. The law
+     * has a chapter node followed by articles that each contain the given number of sections.
+     */
+    public static List<LawBlock> getLawBlocks(int articleCount, int sectionsPerArticle) {
+        LocalDate publishedDate = LocalDate.of(2014, 9, 22);
+        List<LawBlock> blocks = new ArrayList<>();
+        blocks.add(getLawBlock("-CH16", publishedDate, "CHAPTER 16 OF THE CONSOLIDATED LAWS\nEDUCATION LAW\n"));
+        int sectionNo = 1;
+        for (int article = 1; article <= articleCount; article++) {
+            blocks.add(getLawBlock("A" + article, publishedDate,
+                "ARTICLE " + article + "\nGENERAL PROVISIONS OF ARTICLE " + article + "\nSection " + sectionNo + ".\n"));
+            for (int section = 0; section < sectionsPerArticle; section++, sectionNo++) {
+                blocks.add(getLawBlock(Integer.toString(sectionNo), publishedDate,
+                    "  S " + sectionNo + ". Definitions of section " + sectionNo + ". As used in this article, the " +
+                    "following terms shall have the following meanings unless the context requires otherwise.\n"));
+            }
+        }
+        return blocks;
+    }
+
+    private static LawBlock getLawBlock(String locationId, LocalDate publishedDate, String text) {
+        LawBlock block = new LawBlock();
+        block.setLawId("EDN");
+        block.setLocationId(locationId);
+        block.setDocumentId("EDN" + locationId);
+        block.setPublishedDate(publishedDate);
+        block.setMethod("");
+        block.getText().append(text);
+        return block;
+    }
+}
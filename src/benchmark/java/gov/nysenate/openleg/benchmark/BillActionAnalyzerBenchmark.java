@@ -0,0 +1,62 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.processor.bill.BillActionAnalyzer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures analyzing a bill's full action list against extending an already analyzed list with a single
+ * appended action, which is the common case when a bill event block is processed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillActionAnalyzerBenchmark
+{
+    @Param({"20", "200"})
+    private int actionCount;
+
+    private List<BillAction> actions;
+    private List<BillAction> priorActions;
+
+    @Setup
+    public void setup() {
+        actions = BenchmarkData.getActions(actionCount);
+        priorActions = new ArrayList<>(actions.subList(0, actionCount - 1));
+    }
+
+    @Benchmark
+    public BillActionAnalyzer analyzeAll() {
+        BillActionAnalyzer analyzer =
+            new BillActionAnalyzer(BenchmarkData.BASE_BILL_ID, actions, BenchmarkData.DEFAULT_PUB_STATUS);
+        analyzer.analyze();
+        return analyzer;
+    }
+
+    /** Holds an analyzer that has already analyzed every action but the last one. */
+    @State(Scope.Thread)
+    public static class PriorAnalysis
+    {
+        private BillActionAnalyzer analyzer;
+
+        /** A new analyzer is needed for every call since extending it changes its state. */
+        @Setup(Level.Invocation)
+        public void setup(BillActionAnalyzerBenchmark benchmark) {
+            analyzer = new BillActionAnalyzer(BenchmarkData.BASE_BILL_ID, benchmark.priorActions,
+                                              BenchmarkData.DEFAULT_PUB_STATUS);
+            analyzer.analyze();
+        }
+    }
+
+    @Benchmark
+    public BillActionAnalyzer analyzeAppended(PriorAnalysis prior) {
+        BillActionAnalyzer analyzer = prior.analyzer;
+        analyzer.extend(actions, BenchmarkData.DEFAULT_PUB_STATUS);
+        analyzer.analyze();
+        return analyzer;
+    }
+}
@@ -0,0 +1,78 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.service.bill.data.BillCodec;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding a bill with BillCodec against java serialization and the json bill view.
+ * Json is only a reference point since a bill cannot be read back from its view. The encoded sizes are compared
+ * in BillCodecTests rather than here, so that they are checked once instead of reported by every fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillCodecBenchmark
+{
+    /** Bills are cached without their full text, snapshots include it. */
+    @Param({"false", "true"})
+    private boolean withText;
+
+    private Bill bill;
+    private byte[] codecBytes;
+    private byte[] javaBytes;
+    private byte[] jsonBytes;
+    private ObjectMapper jsonMapper;
+
+    @Setup
+    public void setup() throws IOException {
+        bill = BenchmarkData.getBill(withText ? BenchmarkData.getBillText() : "", 4, 60);
+        jsonMapper = OutputUtils.getJsonMapper();
+        codecBytes = BillCodec.encode(bill);
+        javaBytes = javaSerialize();
+        jsonBytes = jsonSerialize();
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return BillCodec.encode(bill);
+    }
+
+    @Benchmark
+    public Bill codecDecode() {
+        return BillCodec.decode(codecBytes);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(bill);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Bill javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return (Bill) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() throws IOException {
+        return jsonMapper.writeValueAsBytes(new BillView(bill));
+    }
+
+    @Benchmark
+    public JsonNode jsonParse() throws IOException {
+        return jsonMapper.readTree(jsonBytes);
+    }
+}
@@ -0,0 +1,89 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bill id operations done for every bill touched during ingestion and when building
+ * search results, over the ids of a full session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillIdBenchmark
+{
+    private static final int SESSION_SIZE = 20000;
+
+    private String[] printNos;
+    private BillId[] billIds;
+    private long[] packedIds;
+    private Map<BaseBillId, BillId> billIdMap;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        printNos = new String[SESSION_SIZE];
+        billIds = new BillId[SESSION_SIZE];
+        packedIds = new long[SESSION_SIZE];
+        billIdMap = new HashMap<>();
+        for (int i = 0; i < SESSION_SIZE; i++) {
+            String amendment = random.nextInt(4) == 0 ? String.valueOf((char) ('A' + random.nextInt(3))) : "";
+            printNos[i] = (i % 2 == 0 ? "S" : "A") + (i / 2 + 1) + amendment;
+            billIds[i] = new BillId(printNos[i], 2015);
+            packedIds[i] = billIds[i].getPackedId();
+            billIdMap.put(BaseBillId.of(billIds[i]), billIds[i]);
+        }
+        Collections.shuffle(Arrays.asList(billIds), random);
+    }
+
+    @Benchmark
+    public BillId[] construct() {
+        BillId[] ids = new BillId[SESSION_SIZE];
+        for (int i = 0; i < SESSION_SIZE; i++) {
+            ids[i] = new BillId(printNos[i], 2015);
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public BillId[] sortBillIds() {
+        BillId[] ids = billIds.clone();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    @Benchmark
+    public BillId[] sortPackedIds() {
+        long[] ids = packedIds.clone();
+        Arrays.sort(ids);
+        BillId[] sorted = new BillId[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sorted[i] = BillId.fromPackedId(ids[i]);
+        }
+        return sorted;
+    }
+
+    @Benchmark
+    public int mapLookup() {
+        int found = 0;
+        for (BillId billId : billIds) {
+            if (billIdMap.get(new BaseBillId(billId.getBasePrintNo(), billId.getSession())) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int paddedPrintNumber() {
+        int length = 0;
+        for (BillId billId : billIds) {
+            length += billId.getPaddedPrintNumber().length();
+        }
+        return length;
+    }
+}
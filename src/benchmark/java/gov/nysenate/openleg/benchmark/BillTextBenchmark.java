@@ -0,0 +1,51 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.util.BillTextDiffer;
+import gov.nysenate.openleg.util.BillTextUtils;
+import gov.nysenate.openleg.util.StringDiffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bill text operations used when serving full text: page splitting, formatting and
+ * diffing the text of two amendments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillTextBenchmark
+{
+    private String fullText;
+    private String amendedText;
+    private StringDiffer differ;
+
+    @Setup
+    public void setup() {
+        fullText = BenchmarkData.getBillText();
+        amendedText = BenchmarkData.getAmendedText(fullText);
+        differ = new StringDiffer();
+    }
+
+    @Benchmark
+    public List<List<String>> getPages() {
+        return BillTextUtils.getPages(fullText);
+    }
+
+    @Benchmark
+    public String formatBillText() {
+        return BillTextUtils.formatBillText(false, fullText);
+    }
+
+    @Benchmark
+    public LinkedList<StringDiffer.Diff> diffAmendments() {
+        return differ.diff_main(fullText, amendedText);
+    }
+
+    @Benchmark
+    public LinkedList<StringDiffer.Diff> lineAwareDiffAmendments() {
+        return BillTextDiffer.diff(fullText, amendedText);
+    }
+}
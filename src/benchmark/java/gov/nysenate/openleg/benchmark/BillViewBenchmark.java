@@ -0,0 +1,49 @@
+package gov.nysenate.openleg.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the full bill view and serializing it to json, which is the bulk of the work done
+ * when serving an uncached bill response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BillViewBenchmark
+{
+    @Param({"1", "4"})
+    private int amendmentCount;
+
+    private Bill bill;
+    private BillView billView;
+    private ObjectMapper jsonMapper;
+
+    @Setup
+    public void setup() {
+        bill = BenchmarkData.getBill(BenchmarkData.getBillText(), amendmentCount, 60);
+        billView = new BillView(bill);
+        jsonMapper = OutputUtils.getJsonMapper();
+    }
+
+    @Benchmark
+    public BillView constructView() {
+        return new BillView(bill);
+    }
+
+    @Benchmark
+    public byte[] serializeView() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(billView);
+    }
+
+    @Benchmark
+    public byte[] constructAndSerializeView() throws JsonProcessingException {
+        return jsonMapper.writeValueAsBytes(new BillView(bill));
+    }
+}
@@ -0,0 +1,114 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.daybreak.*;
+import gov.nysenate.openleg.processor.daybreak.DaybreakFileParser;
+import gov.nysenate.openleg.processor.daybreak.DaybreakFragmentParser;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures parsing a synthetic daybreak report that is roughly the size of a full session, one file and
+ * fragment at a time and with the files and fragments parsed in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DaybreakParseBenchmark
+{
+    private static final String REPORT_PREFIX = "20140808";
+    private static final int SENATE_BILL_COUNT = 8000;
+    private static final int ASSEMBLY_BILL_COUNT = 11000;
+    private static final int ACTIONS_PER_BILL = 12;
+
+    private File reportDir;
+    private List<DaybreakFile> reportFiles;
+    private DaybreakFile pageFile;
+
+    @Setup
+    public void setup() throws IOException {
+        reportDir = Files.createTempDirectory("daybreak-bench").toFile();
+        pageFile = new DaybreakFile(writeFile(DaybreakDocType.PAGE_FILE, ""));
+        reportFiles = new ArrayList<>();
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.SENATE_LOW, reportHtml("S", 1, 4000))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.SENATE_HIGH, reportHtml("S", 4001, SENATE_BILL_COUNT))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.ASSEMBLY_LOW, reportHtml("A", 1, 4000))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.ASSEMBLY_HIGH, reportHtml("A", 4001, ASSEMBLY_BILL_COUNT))));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(reportDir);
+    }
+
+    @Benchmark
+    public List<DaybreakBill> serialParse() throws IOException {
+        List<DaybreakBill> daybreakBills = new ArrayList<>();
+        for (DaybreakFile reportFile : reportFiles) {
+            for (DaybreakFragment fragment : DaybreakFileParser.extractDaybreakFragments(reportFile)) {
+                addPageFileEntry(fragment);
+                daybreakBills.add(DaybreakFragmentParser.extractDaybreakBill(fragment));
+            }
+        }
+        return daybreakBills;
+    }
+
+    @Benchmark
+    public List<DaybreakBill> parallelParse() {
+        List<DaybreakFragment> fragments = reportFiles.parallelStream()
+                .flatMap(reportFile -> {
+                    try {
+                        return DaybreakFileParser.extractDaybreakFragments(reportFile).stream();
+                    }
+                    catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .collect(Collectors.toList());
+        fragments.forEach(this::addPageFileEntry);
+        return DaybreakFragmentParser.extractDaybreakBills(fragments);
+    }
+
+    private void addPageFileEntry(DaybreakFragment fragment) {
+        BillId billId = fragment.getBillId();
+        PageFileEntry entry = billId.getBasePrintNo().startsWith("S")
+                ? new PageFileEntry(billId, null, pageFile, LocalDate.of(2014, 1, 8), 3)
+                : new PageFileEntry(null, billId, pageFile, LocalDate.of(2014, 1, 8), 3);
+        fragment.setPageFileEntries(Collections.singletonMap(billId, entry));
+    }
+
+    private File writeFile(DaybreakDocType docType, String contents) throws IOException {
+        File file = new File(reportDir, REPORT_PREFIX + docType.getLocalFileExt());
+        FileUtils.writeStringToFile(file, contents, "UTF-8");
+        return file;
+    }
+
+    private static String reportHtml(String prefix, int start, int end) {
+        StringBuilder html = new StringBuilder("<html><body><table>\n");
+        html.append("<tr><td><b>Bill</b></td></tr>\n<tr><td><b>Sponsor</b></td></tr>\n");
+        for (int printNo = start; printNo <= end; printNo++) {
+            html.append("<tr><td>").append(prefix).append(printNo).append("</td>")
+                .append(prefix.equals("S") ? "<td>GOLDEN CO: LANZA, MARTINS, SAVINO</td>"
+                                           : "<td>Weinstein, Lentol, Paulin; M-S: Abinanti, Cook</td>")
+                .append("<td>Relates to the synthetic benchmark bill number ").append(printNo).append("</td>")
+                .append("<td>Amd S").append(printNo % 500).append(", Pub Hlth L</td>")
+                .append("<td>Pub Hlth L Relates to benchmarking</td><td>");
+            for (int i = 0; i < ACTIONS_PER_BILL; i++) {
+                html.append(String.format("%02d/%02d/14 REFERRED TO HEALTH<br>", (i % 12) + 1, (i % 28) + 1));
+            }
+            html.append("</td></tr>\n");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+}
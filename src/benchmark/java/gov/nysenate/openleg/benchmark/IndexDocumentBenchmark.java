@@ -0,0 +1,52 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing a bulk indexing batch of bill views into search index documents, using the indented
+ * json previously sent to the index and the compact json sent now. The total size of the batch is returned
+ * so that the two can be compared in the benchmark output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexDocumentBenchmark
+{
+    private static final int BATCH_SIZE = 100;
+
+    private List<BillView> billViews;
+
+    @Setup
+    public void setup() {
+        billViews = new ArrayList<>();
+        String fullText = BenchmarkData.getBillText();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            billViews.add(new BillView(BenchmarkData.getBill(fullText, 2, 30)));
+        }
+    }
+
+    @Benchmark
+    public long indentedDocuments() {
+        long size = 0;
+        for (BillView billView : billViews) {
+            size += OutputUtils.toJson(billView).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    @Benchmark
+    public long compactDocuments() {
+        long size = 0;
+        for (BillView billView : billViews) {
+            size += OutputUtils.toCompactJson(billView).length;
+        }
+        return size;
+    }
+}
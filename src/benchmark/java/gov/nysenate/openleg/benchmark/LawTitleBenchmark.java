@@ -0,0 +1,64 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.law.LawDocInfo;
+import gov.nysenate.openleg.model.law.LawDocumentType;
+import gov.nysenate.openleg.processor.law.LawTitleParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures extracting the titles of every article and section document in a consolidated law the size of
+ * the education law, as done during the initial law processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LawTitleBenchmark
+{
+    private static final int ARTICLE_COUNT = 180;
+    private static final int SECTIONS_PER_ARTICLE = 25;
+
+    private List<LawDocInfo> docInfos;
+    private List<String> docTexts;
+
+    @Setup
+    public void setup() {
+        LocalDate publishedDate = LocalDate.of(2014, 9, 22);
+        docInfos = new ArrayList<>();
+        docTexts = new ArrayList<>();
+        int sectionNo = 1;
+        for (int article = 1; article <= ARTICLE_COUNT; article++) {
+            String locationId = "A" + article;
+            docInfos.add(new LawDocInfo("EDN" + locationId, "EDN", locationId, "", LawDocumentType.ARTICLE,
+                                        Integer.toString(article), publishedDate));
+            docTexts.add("                              ARTICLE " + article + "\\n" +
+                         "                  GENERAL PROVISIONS OF ARTICLE " + article + "\\n" +
+                         "Section " + sectionNo + ".    Definitions.\\n");
+            for (int section = 0; section < SECTIONS_PER_ARTICLE; section++, sectionNo++) {
+                locationId = sectionNo + "-a";
+                docInfos.add(new LawDocInfo("EDN" + locationId, "EDN", locationId, "", LawDocumentType.SECTION,
+                                            locationId, publishedDate));
+                StringBuilder text = new StringBuilder("  § " + locationId + ". Definitions of terms used in\\n" +
+                                                       "  this article. As used in this article:\\n");
+                for (int line = 0; line < 40; line++) {
+                    text.append("  ").append(line).append(". The term shall mean the following unless the ")
+                        .append("context requires otherwise.\\n");
+                }
+                docTexts.add(text.toString());
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> extractTitles() {
+        List<String> titles = new ArrayList<>(docInfos.size());
+        for (int i = 0; i < docInfos.size(); i++) {
+            titles.add(LawTitleParser.extractTitle(docInfos.get(i), docTexts.get(i)));
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,38 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.law.LawTree;
+import gov.nysenate.openleg.model.law.LawVersionId;
+import gov.nysenate.openleg.processor.law.LawBlock;
+import gov.nysenate.openleg.processor.law.LawBuilderImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a law tree from the blocks of an initial law dump.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LawTreeBenchmark
+{
+    @Param({"10", "100"})
+    private int articleCount;
+
+    private List<LawBlock> lawBlocks;
+    private LawVersionId lawVersionId;
+
+    @Setup
+    public void setup() {
+        lawBlocks = BenchmarkData.getLawBlocks(articleCount, 20);
+        lawVersionId = new LawVersionId("EDN", lawBlocks.get(0).getPublishedDate());
+    }
+
+    @Benchmark
+    public LawTree buildInitialTree() {
+        LawBuilderImpl lawBuilder = new LawBuilderImpl(lawVersionId);
+        lawBlocks.forEach(block -> lawBuilder.addInitialBlock(block, true));
+        return lawBuilder.getProcessedLawTree();
+    }
+}
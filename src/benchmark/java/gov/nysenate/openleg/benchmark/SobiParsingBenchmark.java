@@ -0,0 +1,43 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.bill.BillTextType;
+import gov.nysenate.openleg.model.sobi.SobiBlock;
+import gov.nysenate.openleg.model.sobi.SobiFragment;
+import gov.nysenate.openleg.processor.base.ParseError;
+import gov.nysenate.openleg.processor.bill.BillTextParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the SOBI parsing steps of bill ingestion that do not require the data layer: splitting a bill
+ * fragment into blocks and extracting the full text from a bill text block.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SobiParsingBenchmark
+{
+    private SobiFragment fragment;
+    private String billTextData;
+    private LocalDateTime fragmentDateTime;
+
+    @Setup
+    public void setup() {
+        fragment = BenchmarkData.getSobiFragment();
+        billTextData = BenchmarkData.getBillTextData();
+        fragmentDateTime = LocalDateTime.of(2014, 5, 9, 12, 47, 6);
+    }
+
+    @Benchmark
+    public List<SobiBlock> parseSobiBlocks() {
+        return fragment.getSobiBlocks();
+    }
+
+    @Benchmark
+    public String extractBillText() throws ParseError {
+        return new BillTextParser(billTextData, BillTextType.BILL, fragmentDateTime).extractText();
+    }
+}
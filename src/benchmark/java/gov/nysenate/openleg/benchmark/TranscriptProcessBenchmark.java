@@ -0,0 +1,97 @@
+package gov.nysenate.openleg.benchmark;
+
+import gov.nysenate.openleg.model.transcript.Transcript;
+import gov.nysenate.openleg.model.transcript.TranscriptFile;
+import gov.nysenate.openleg.processor.transcript.TranscriptParser;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures parsing a year of session transcripts one file at a time and with the files parsed in parallel,
+ * as done when processing a batch of pending transcript files. The transcripts are generated into a
+ * temporary directory with the layout of the LBDC transcript files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranscriptProcessBenchmark
+{
+    private static final int SESSION_DAYS = 65;
+    private static final int PAGES_PER_TRANSCRIPT = 200;
+    private static final int LINES_PER_PAGE = 25;
+
+    private static final DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("MMMM d, yyyy");
+
+    private final TranscriptParser transcriptParser = new TranscriptParser();
+
+    private File transcriptDir;
+    private List<TranscriptFile> transcriptFiles;
+
+    @Setup
+    public void setup() throws IOException {
+        transcriptDir = Files.createTempDirectory("transcripts").toFile();
+        transcriptFiles = new ArrayList<>();
+        LocalDate sessionDate = LocalDate.of(2014, 1, 6);
+        for (int day = 0; day < SESSION_DAYS; day++, sessionDate = sessionDate.plusDays(3)) {
+            File file = new File(transcriptDir, sessionDate.format(DateTimeFormatter.ofPattern("MMddyy")) + ".v1");
+            FileUtils.write(file, getTranscriptText(sessionDate), "latin1");
+            transcriptFiles.add(new TranscriptFile(file));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(transcriptDir);
+    }
+
+    @Benchmark
+    public List<Transcript> serialParse() throws IOException {
+        List<Transcript> transcripts = new ArrayList<>();
+        for (TranscriptFile file : transcriptFiles) {
+            transcripts.add(transcriptParser.parse(file));
+        }
+        return transcripts;
+    }
+
+    @Benchmark
+    public List<Transcript> parallelParse() {
+        return transcriptFiles.parallelStream().map(file -> {
+            try {
+                return transcriptParser.parse(file);
+            }
+            catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }).collect(Collectors.toList());
+    }
+
+    private static String getTranscriptText(LocalDate sessionDate) {
+        StringBuilder text = new StringBuilder()
+            .append("                                                              1\n")
+            .append("     1                 NEW YORK STATE SENATE\n")
+            .append("     2\n")
+            .append("     3            THE STENOGRAPHIC RECORD\n")
+            .append("     4                 ALBANY, NEW YORK\n")
+            .append("     5                 ").append(sessionDate.format(dateFormat)).append("\n")
+            .append("     6                    11:00 a.m.\n")
+            .append("     7                 REGULAR SESSION\n");
+        for (int page = 2; page <= PAGES_PER_TRANSCRIPT; page++) {
+            text.append("\f                                                              ").append(page).append("\n");
+            for (int line = 1; line <= LINES_PER_PAGE; line++) {
+                text.append(String.format("%6d             SENATOR SMITH:  Thank you, Mr. President.\n", line));
+            }
+        }
+        return text.toString();
+    }
+}
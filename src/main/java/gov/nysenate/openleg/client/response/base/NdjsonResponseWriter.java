@@ -0,0 +1,109 @@
+package gov.nysenate.openleg.client.response.base;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.util.OutputUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes view objects to an output stream as newline delimited json, i.e. one compact json document per line.
+ * Each view is serialized to a line buffer and only copied to the stream once it has been serialized in full,
+ * so a view that fails to serialize leaves no partial line behind and only one view is ever held in memory.
+ * The last line is a trailer that tells the reader whether every view was written, e.g.
+ * {"complete":true,"count":1204}. Closing the writer closes the underlying stream.
+ */
+public class NdjsonResponseWriter implements Closeable
+{
+    /** The stream is flushed after this many views so the client receives data at a steady rate. */
+    private static final int FLUSH_INTERVAL = 25;
+
+    private final OutputStream outputStream;
+    private final JsonFactory factory;
+    private final ObjectWriter writer;
+    /** Holds the line that is being serialized, reused for every line. */
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
+    private int count = 0;
+
+    public NdjsonResponseWriter(OutputStream outputStream) {
+        ObjectMapper mapper = OutputUtils.getCompactJsonMapper();
+        this.outputStream = outputStream;
+        this.factory = mapper.getFactory();
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes the view as a single line. Nothing is written if the view fails to serialize.
+     *
+     * @param view ViewObject
+     * @throws JsonProcessingException - If the view could not be serialized
+     * @throws IOException - If the view could not be written to the stream
+     */
+    public void write(ViewObject view) throws IOException {
+        lineBuffer.reset();
+        writer.writeValue(lineBuffer, view);
+        writeLine();
+        if (++count % FLUSH_INTERVAL == 0) {
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * Ends the output with a trailer line marking it as complete, e.g. {"complete":true,"count":1204}.
+     *
+     * @throws IOException - If the trailer could not be written to the stream
+     */
+    public void writeComplete() throws IOException {
+        writeTrailer(null);
+    }
+
+    /**
+     * Ends the output with a trailer line marking it as incomplete, e.g.
+     * {"complete":false,"count":25,"error":"..."}.
+     *
+     * @param errorMessage String - Describes why the remaining views were not written
+     * @throws IOException - If the trailer could not be written to the stream
+     */
+    public void writeError(String errorMessage) throws IOException {
+        writeTrailer(errorMessage);
+    }
+
+    /**
+     * @return int - The number of views written so far
+     */
+    public int getCount() {
+        return count;
+    }
+
+    private void writeTrailer(String errorMessage) throws IOException {
+        lineBuffer.reset();
+        try (JsonGenerator generator = factory.createGenerator(lineBuffer)) {
+            generator.writeStartObject();
+            generator.writeBooleanField("complete", errorMessage == null);
+            generator.writeNumberField("count", count);
+            if (errorMessage != null) {
+                generator.writeStringField("error", errorMessage);
+            }
+            generator.writeEndObject();
+        }
+        writeLine();
+    }
+
+    private void writeLine() throws IOException {
+        lineBuffer.write('\n');
+        lineBuffer.writeTo(outputStream);
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.close();
+    }
+}
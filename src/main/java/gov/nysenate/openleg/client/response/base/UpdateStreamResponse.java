@@ -0,0 +1,32 @@
+package gov.nysenate.openleg.client.response.base;
+
+import gov.nysenate.openleg.client.view.base.ListView;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+
+import java.util.List;
+
+public class UpdateStreamResponse<ViewType> extends ListViewResponse<ViewType>
+{
+    protected String cursor;
+    protected boolean resync;
+
+    protected UpdateStreamResponse(ListView<ViewType> result, String cursor, boolean resync, int limit) {
+        super(result, result.getSize(), new LimitOffset(limit));
+        this.cursor = cursor;
+        this.resync = resync;
+    }
+
+    public static <ViewType extends ViewObject> UpdateStreamResponse<ViewType> of(
+            List<ViewType> items, String cursor, boolean resync, int limit) {
+        return new UpdateStreamResponse<>(ListView.of(items), cursor, resync, limit);
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+}
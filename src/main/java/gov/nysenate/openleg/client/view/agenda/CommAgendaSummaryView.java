@@ -23,6 +23,18 @@ public class CommAgendaSummaryView extends CommAgendaIdView
         this.totalBillsVotedOn = agenda.totalBillsVoted(Optional.of(committeeAgendaId.getCommitteeId()));
     }
 
+    /**
+     * Constructs the view from precomputed totals, e.g. those read from the search index.
+     */
+    public CommAgendaSummaryView(CommitteeAgendaId committeeAgendaId, LocalDate weekOf, long totalAddendum,
+                                 int totalBillsConsidered, int totalBillsVotedOn) {
+        super(committeeAgendaId);
+        this.weekOf = weekOf;
+        this.totalAddendum = totalAddendum;
+        this.totalBillsConsidered = totalBillsConsidered;
+        this.totalBillsVotedOn = totalBillsVotedOn;
+    }
+
     @Override
     public String getViewType() {
         return "committee-agenda-summary";
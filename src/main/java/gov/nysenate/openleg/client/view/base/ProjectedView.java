@@ -0,0 +1,47 @@
+package gov.nysenate.openleg.client.view.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * A view that only serializes the properties of another view that were selected via {@link ViewFields}.
+ * The view type of the original view is retained. The selected properties are written directly from the
+ * original view when it is serialized, so unselected properties are never serialized.
+ */
+public class ProjectedView implements ViewObject, JsonSerializable
+{
+    protected ViewObject view;
+    protected ViewFields fields;
+
+    public ProjectedView(ViewObject view, ViewFields fields) {
+        this.view = view;
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the view itself if every property is selected, otherwise a projection of the view.
+     */
+    public static ViewObject of(ViewObject view, ViewFields fields) {
+        return (fields.isAll() || view == null) ? view : new ProjectedView(view, fields);
+    }
+
+    @Override
+    public String getViewType() {
+        return view.getViewType();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        fields.serialize(view, gen, provider);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+                                  throws IOException {
+        serialize(gen, provider);
+    }
+}
@@ -0,0 +1,364 @@
+package gov.nysenate.openleg.client.view.base;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.google.common.base.Splitter;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A selection of view properties requested via the 'fields' request parameter, e.g.
+ * 'title,status,amendments.fullText'. Nested properties are selected with dotted paths. The items of list and
+ * map views are selected directly, i.e. 'actions.text' selects the text of each action rather than requiring
+ * 'actions.items.text'.
+ *
+ * Views that are expensive to build can check the selection while they are being constructed so that
+ * unselected properties are never built. {@link #serialize} writes only the selected properties of a view and
+ * {@link #project(JsonNode)} trims an already serialized view down to them.
+ */
+public class ViewFields
+{
+    /** Selects every property of a view. */
+    public static final ViewFields ALL = new ViewFields(null);
+
+    /** The properties of list and map views, which are passed through when selecting properties. */
+    private static final Set<String> CONTAINER_PROPERTIES = new HashSet<>(Arrays.asList("items", "size"));
+
+    /** The accessors of the serialized properties of each view class, keyed by property name. */
+    private static final Map<Class<?>, Map<String, AnnotatedMember>> accessorCache = new ConcurrentHashMap<>();
+
+    /** The selected properties mapped to their own selections, or null if every property is selected. */
+    private final SortedMap<String, ViewFields> fields;
+
+    private ViewFields(SortedMap<String, ViewFields> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses a comma separated list of dotted property paths. A property that is selected on its own
+     * is selected in full, even if some of its nested properties are selected as well.
+     *
+     * @param fieldsParam String - The value of the 'fields' parameter, which may be null
+     * @return ViewFields - ALL if no properties were given
+     */
+    public static ViewFields of(String fieldsParam) {
+        if (StringUtils.isBlank(fieldsParam)) {
+            return ALL;
+        }
+        ViewFields viewFields = new ViewFields(new TreeMap<>());
+        for (String path : Splitter.on(',').trimResults().omitEmptyStrings().split(fieldsParam)) {
+            viewFields.addPath(Splitter.on('.').trimResults().omitEmptyStrings().splitToList(path));
+        }
+        return viewFields.fields.isEmpty() ? ALL : viewFields;
+    }
+
+    /**
+     * Returns the names of the properties that are serialized for a view class.
+     *
+     * @param viewClass Class<? extends ViewObject>
+     * @return Set<String>
+     */
+    public static Set<String> propertiesOf(Class<? extends ViewObject> viewClass) {
+        ObjectMapper mapper = OutputUtils.getJsonMapper();
+        return mapper.getSerializationConfig().introspect(mapper.constructType(viewClass)).findProperties().stream()
+            .map(BeanPropertyDefinition::getName)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Returns the selected property paths that do not exist on the given view class. The properties of nested
+     * views are found through the declared property types, passing through list and map views to their items.
+     *
+     * @param viewClass Class<? extends ViewObject>
+     * @return List<String> - The unknown dotted paths, empty if every selected property exists
+     */
+    public List<String> getUnknownPaths(Class<? extends ViewObject> viewClass) {
+        List<String> unknownPaths = new ArrayList<>();
+        addUnknownPaths(OutputUtils.getJsonMapper().constructType(viewClass), "", unknownPaths);
+        return unknownPaths;
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * @param field String - A property name
+     * @return boolean - True if the property is selected in full or in part
+     */
+    public boolean includes(String field) {
+        return isAll() || fields.containsKey(field);
+    }
+
+    /**
+     * @param fields String... - Property names
+     * @return boolean - True if any of the properties are selected
+     */
+    public boolean includesAny(String... fields) {
+        return Arrays.stream(fields).anyMatch(this::includes);
+    }
+
+    /**
+     * @param fieldNames Collection<String> - Property names
+     * @return boolean - True if no properties other than the given ones are selected
+     */
+    public boolean isWithin(Collection<String> fieldNames) {
+        return !isAll() && fieldNames.containsAll(fields.keySet());
+    }
+
+    /**
+     * Returns the selection for the nested properties of the given property.
+     *
+     * @param field String - A property name
+     * @return ViewFields - ALL if the property is selected in full
+     * @throws IllegalArgumentException - If the property is not selected
+     */
+    public ViewFields get(String field) {
+        if (isAll()) {
+            return ALL;
+        }
+        if (!fields.containsKey(field)) {
+            throw new IllegalArgumentException("Field " + field + " is not selected");
+        }
+        return fields.get(field);
+    }
+
+    /**
+     * Removes the unselected properties from a serialized view. List and map views are passed through so that
+     * the selection is applied to each of their items.
+     *
+     * @param node JsonNode - A view serialized as a json tree
+     * @return JsonNode - The node itself if every property is selected, otherwise a trimmed copy
+     */
+    public JsonNode project(JsonNode node) {
+        if (isAll() || node == null) {
+            return node;
+        }
+        if (node.isArray()) {
+            ArrayNode projected = ((ArrayNode) node).arrayNode();
+            node.forEach(item -> projected.add(project(item)));
+            return projected;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+        ObjectNode projected = ((ObjectNode) node).objectNode();
+        if (isContainer(node)) {
+            JsonNode items = node.get("items");
+            if (items.isObject()) {
+                ObjectNode projectedItems = projected.putObject("items");
+                items.fields().forEachRemaining(entry -> projectedItems.set(entry.getKey(), project(entry.getValue())));
+            }
+            else {
+                projected.set("items", project(items));
+            }
+            projected.set("size", node.get("size"));
+        }
+        else {
+            fields.forEach((field, subFields) -> {
+                if (node.has(field)) {
+                    projected.set(field, subFields.project(node.get(field)));
+                }
+            });
+        }
+        return projected;
+    }
+
+    /**
+     * Serializes only the selected properties of a value, producing the same json as {@link #project(JsonNode)}
+     * would for the fully serialized value without building the intermediate tree. Values that are not views,
+     * as well as fully selected properties, are written by the provider's regular serializers.
+     *
+     * @param value Object - A view, a collection or map of views, or a plain value
+     * @param gen JsonGenerator
+     * @param provider SerializerProvider
+     * @throws IOException - If the value could not be written
+     */
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (isAll() || value == null) {
+            provider.defaultSerializeValue(value, gen);
+        }
+        else if (value instanceof ListView) {
+            serializeContainer(((ListView<?>) value).getItems(), ((ListView<?>) value).getSize(), gen, provider);
+        }
+        else if (value instanceof MapView) {
+            serializeContainer(((MapView<?, ?>) value).getItems(), ((MapView<?, ?>) value).getSize(), gen, provider);
+        }
+        else if (value instanceof Collection) {
+            gen.writeStartArray();
+            for (Object item : (Collection<?>) value) {
+                serialize(item, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+        else if (value instanceof Map) {
+            gen.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object key = entry.getKey();
+                provider.findKeySerializer(provider.constructType(key.getClass()), null).serialize(key, gen, provider);
+                serialize(entry.getValue(), gen, provider);
+            }
+            gen.writeEndObject();
+        }
+        else if (value instanceof ViewObject) {
+            Map<String, AnnotatedMember> accessors = accessorCache.computeIfAbsent(value.getClass(),
+                viewClass -> accessorsOf(provider.getConfig().introspect(provider.constructType(viewClass))));
+            gen.writeStartObject();
+            for (Map.Entry<String, ViewFields> field : fields.entrySet()) {
+                AnnotatedMember accessor = accessors.get(field.getKey());
+                if (accessor != null) {
+                    gen.writeFieldName(field.getKey());
+                    field.getValue().serialize(accessor.getValue(value), gen, provider);
+                }
+            }
+            gen.writeEndObject();
+        }
+        else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    /** Writes a list or map view, applying this selection to each of its items. */
+    private void serializeContainer(Object items, int size, JsonGenerator gen, SerializerProvider provider)
+                                    throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName("items");
+        serialize(items, gen, provider);
+        gen.writeNumberField("size", size);
+        gen.writeEndObject();
+    }
+
+    private static Map<String, AnnotatedMember> accessorsOf(BeanDescription description) {
+        Map<String, AnnotatedMember> accessors = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor != null) {
+                ClassUtil.checkAndFixAccess(accessor.getMember());
+                accessors.put(property.getName(), accessor);
+            }
+        }
+        return accessors;
+    }
+
+    private void addUnknownPaths(JavaType viewType, String prefix, List<String> unknownPaths) {
+        if (isAll()) {
+            return;
+        }
+        Map<String, JavaType> propertyTypes = propertyTypesOf(viewType);
+        fields.forEach((field, subFields) -> {
+            if (!propertyTypes.containsKey(field)) {
+                unknownPaths.add(prefix + field);
+            }
+            else {
+                subFields.addUnknownPaths(propertyTypes.get(field), prefix + field + ".", unknownPaths);
+            }
+        });
+    }
+
+    /**
+     * Maps the serialized property names of a view to their declared types. The items of list and map views
+     * stand in for the views themselves. Types that are not views have no properties.
+     */
+    private static Map<String, JavaType> propertyTypesOf(JavaType type) {
+        while (type != null && (ListView.class.equals(type.getRawClass()) || MapView.class.equals(type.getRawClass()))) {
+            type = type.containedType(type.containedTypeCount() - 1);
+        }
+        Map<String, JavaType> propertyTypes = new HashMap<>();
+        if (type == null || !ViewObject.class.isAssignableFrom(type.getRawClass())) {
+            return propertyTypes;
+        }
+        ObjectMapper mapper = OutputUtils.getJsonMapper();
+        BeanDescription description = mapper.getSerializationConfig().introspect(type);
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember accessor = property.getAccessor();
+            if (accessor != null) {
+                propertyTypes.put(property.getName(), accessor.getType(description.bindingsForBeanType()));
+            }
+        }
+        return propertyTypes;
+    }
+
+    private void addPath(List<String> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        String field = path.get(0);
+        ViewFields subFields = fields.get(field);
+        if (path.size() == 1) {
+            fields.put(field, ALL);
+        }
+        else if (subFields == null || !subFields.isAll()) {
+            if (subFields == null) {
+                subFields = new ViewFields(new TreeMap<>());
+                fields.put(field, subFields);
+            }
+            subFields.addPath(path.subList(1, path.size()));
+        }
+    }
+
+    private static boolean isContainer(JsonNode node) {
+        if (node.size() != CONTAINER_PROPERTIES.size()) {
+            return false;
+        }
+        Iterator<String> fieldNames = node.fieldNames();
+        while (fieldNames.hasNext()) {
+            if (!CONTAINER_PROPERTIES.contains(fieldNames.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** --- Overrides --- */
+
+    /**
+     * Returns the selected property paths in sorted order, e.g. 'amendments.fullText,status,title'.
+     * Equivalent selections have the same string, so it can be used to key cached responses.
+     */
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return "*";
+        }
+        List<String> paths = new ArrayList<>();
+        fields.forEach((field, subFields) -> {
+            if (subFields.isAll()) {
+                paths.add(field);
+            }
+            else {
+                Splitter.on(',').split(subFields.toString()).forEach(subPath -> paths.add(field + "." + subPath));
+            }
+        });
+        return String.join(",", paths);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Objects.equals(fields, ((ViewFields) o).fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(fields);
+    }
+}
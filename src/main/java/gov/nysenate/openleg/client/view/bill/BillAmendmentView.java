@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.client.view.bill;
 
 import gov.nysenate.openleg.client.view.base.ListView;
+import gov.nysenate.openleg.client.view.base.ViewFields;
 import gov.nysenate.openleg.client.view.committee.CommitteeVersionIdView;
 import gov.nysenate.openleg.client.view.entity.MemberView;
 import gov.nysenate.openleg.client.view.entity.SimpleMemberView;
@@ -26,23 +27,39 @@ public class BillAmendmentView extends BillIdView
     protected boolean isStricken;
 
     public BillAmendmentView(BillAmendment billAmendment, PublishStatus publishStatus) {
+        this(billAmendment, publishStatus, ViewFields.ALL);
+    }
+
+    /**
+     * Constructs a view with only the selected properties set. The full text is formatted and the
+     * sponsor lists are built only if they are selected.
+     */
+    public BillAmendmentView(BillAmendment billAmendment, PublishStatus publishStatus, ViewFields fields) {
         super(billAmendment != null ? billAmendment.getBillId() : null);
         if (billAmendment != null) {
             this.publishDate = publishStatus.getEffectDateTime().toLocalDate();
-            this.sameAs = ListView.of(billAmendment.getSameAs().stream()
-                .map(BillIdView::new)
-                .collect(Collectors.toList()));
+            if (fields.includes("sameAs")) {
+                this.sameAs = ListView.of(billAmendment.getSameAs().stream()
+                    .map(BillIdView::new)
+                    .collect(Collectors.toList()));
+            }
             this.memo = billAmendment.getMemo();
             this.lawSection = billAmendment.getLawSection();
             this.lawCode = billAmendment.getLaw();
             this.actClause = billAmendment.getActClause();
-            this.fullText = BillTextUtils.formatBillText(billAmendment.isResolution(), billAmendment.getFullText());
-            this.coSponsors = ListView.of(billAmendment.getCoSponsors().stream()
-                .map(MemberView::new)
-                .collect(Collectors.toList()));
-            this.multiSponsors = ListView.of(billAmendment.getMultiSponsors().stream()
-                .map(MemberView::new)
-                .collect(Collectors.toList()));
+            if (fields.includes("fullText")) {
+                this.fullText = BillTextUtils.formatBillText(billAmendment.isResolution(), billAmendment.getFullText());
+            }
+            if (fields.includes("coSponsors")) {
+                this.coSponsors = ListView.of(billAmendment.getCoSponsors().stream()
+                    .map(MemberView::new)
+                    .collect(Collectors.toList()));
+            }
+            if (fields.includes("multiSponsors")) {
+                this.multiSponsors = ListView.of(billAmendment.getMultiSponsors().stream()
+                    .map(MemberView::new)
+                    .collect(Collectors.toList()));
+            }
             this.uniBill = billAmendment.isUniBill();
             this.isStricken = billAmendment.isStricken();
         }
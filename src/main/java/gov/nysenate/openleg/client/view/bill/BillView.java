@@ -3,6 +3,7 @@ package gov.nysenate.openleg.client.view.bill;
 import gov.nysenate.openleg.client.view.agenda.CommAgendaIdView;
 import gov.nysenate.openleg.client.view.base.ListView;
 import gov.nysenate.openleg.client.view.base.MapView;
+import gov.nysenate.openleg.client.view.base.ViewFields;
 import gov.nysenate.openleg.client.view.base.ViewObject;
 import gov.nysenate.openleg.client.view.calendar.CalendarIdView;
 import gov.nysenate.openleg.client.view.committee.CommitteeVersionIdView;
@@ -32,57 +33,87 @@ public class BillView extends BillInfoView implements ViewObject
     protected ListView<CalendarIdView> calendars;
 
     public BillView(Bill bill) {
+        this(bill, ViewFields.ALL);
+    }
+
+    /**
+     * Constructs a view with only the selected properties of the bill set, so that unselected amendments,
+     * votes, actions and other references are never built.
+     */
+    public BillView(Bill bill, ViewFields fields) {
         super(bill != null ? bill.getBillInfo() : null);
         if (bill != null) {
-            // Only output amendments that are currently published
-            TreeMap<String, BillAmendmentView> amendmentMap = new TreeMap<>();
-            bill.getAmendPublishStatusMap().forEach((k,v) -> {
-                if (v.isPublished() && bill.hasAmendment(k)) {
-                    amendmentMap.put(k.getValue(), new BillAmendmentView(bill.getAmendment(k), v));
+            if (fields.includesAny("amendments", "amendmentVersions")) {
+                // Only output amendments that are currently published
+                TreeMap<String, BillAmendmentView> amendmentMap = new TreeMap<>();
+                ViewFields amendmentFields = fields.includes("amendments") ? fields.get("amendments") : null;
+                bill.getAmendPublishStatusMap().forEach((k,v) -> {
+                    if (v.isPublished() && bill.hasAmendment(k)) {
+                        amendmentMap.put(k.getValue(), (amendmentFields != null)
+                            ? new BillAmendmentView(bill.getAmendment(k), v, amendmentFields) : null);
+                    }
+                });
+                if (amendmentFields != null) {
+                    this.amendments = MapView.of(amendmentMap);
                 }
-            });
-            this.amendments = MapView.of(amendmentMap);
-            this.amendmentVersions = ListView.ofStringList(amendmentMap.keySet().stream().collect(Collectors.toList()));
-
-            this.votes = ListView.of(bill.getAmendmentList().stream()
-                .flatMap(a -> a.getVotesList().stream())
-                .sorted()
-                .map(v -> new BillVoteView(v))
-                .collect(Collectors.toList()));
-
-            this.vetoMessages = ListView.of(bill.getVetoMessages().values().stream()
-                .map(VetoMessageView::new)
-                .collect(Collectors.toList()));
-
-            this.approvalMessage = bill.getApprovalMessage() != null ?
+                this.amendmentVersions = ListView.ofStringList(amendmentMap.keySet().stream().collect(Collectors.toList()));
+            }
+
+            if (fields.includes("votes")) {
+                this.votes = ListView.of(bill.getAmendmentList().stream()
+                    .flatMap(a -> a.getVotesList().stream())
+                    .sorted()
+                    .map(v -> new BillVoteView(v))
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("vetoMessages")) {
+                this.vetoMessages = ListView.of(bill.getVetoMessages().values().stream()
+                    .map(VetoMessageView::new)
+                    .collect(Collectors.toList()));
+            }
+
+            this.approvalMessage = bill.getApprovalMessage() != null && fields.includes("approvalMessage") ?
                 new ApprovalMessageView(bill.getApprovalMessage()) : null;
 
             this.activeVersion = bill.getActiveVersion().getValue();
 
-            this.additionalSponsors = ListView.of(bill.getAdditionalSponsors().stream()
-                .map(MemberView::new)
-                .collect(Collectors.toList()));
-
-            this.pastCommittees = ListView.of(bill.getPastCommittees().stream()
-                .map(CommitteeVersionIdView::new)
-                .collect(Collectors.toList()));
-
-            this.actions = ListView.of(bill.getActions().stream()
-                .map(BillActionView::new)
-                .collect(Collectors.toList()));
-
-            this.previousVersions = ListView.of(bill.getPreviousVersions().stream()
-                .map(BillIdView::new)
-                .sorted((a,b) -> Integer.compareUnsigned(b.getSession(), a.getSession()))
-                .collect(Collectors.toList()));
-
-            this.committeeAgendas = ListView.of(bill.getCommitteeAgendas().stream()
-                .map(CommAgendaIdView::new)
-                .collect(Collectors.toList()));
-
-            this.calendars = ListView.of(bill.getCalendars().stream()
-                .map(CalendarIdView::new)
-                .collect(Collectors.toList()));
+            if (fields.includes("additionalSponsors")) {
+                this.additionalSponsors = ListView.of(bill.getAdditionalSponsors().stream()
+                    .map(MemberView::new)
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("pastCommittees")) {
+                this.pastCommittees = ListView.of(bill.getPastCommittees().stream()
+                    .map(CommitteeVersionIdView::new)
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("actions")) {
+                this.actions = ListView.of(bill.getActions().stream()
+                    .map(BillActionView::new)
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("previousVersions")) {
+                this.previousVersions = ListView.of(bill.getPreviousVersions().stream()
+                    .map(BillIdView::new)
+                    .sorted((a,b) -> Integer.compareUnsigned(b.getSession(), a.getSession()))
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("committeeAgendas")) {
+                this.committeeAgendas = ListView.of(bill.getCommitteeAgendas().stream()
+                    .map(CommAgendaIdView::new)
+                    .collect(Collectors.toList()));
+            }
+
+            if (fields.includes("calendars")) {
+                this.calendars = ListView.of(bill.getCalendars().stream()
+                    .map(CalendarIdView::new)
+                    .collect(Collectors.toList()));
+            }
         }
     }
 
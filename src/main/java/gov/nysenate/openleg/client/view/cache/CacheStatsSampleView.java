@@ -0,0 +1,68 @@
+package gov.nysenate.openleg.client.view.cache;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.cache.CacheStatsSample;
+
+import java.time.LocalDateTime;
+
+public class CacheStatsSampleView implements ViewObject
+{
+    protected String cacheName;
+    protected LocalDateTime sampleDateTime;
+    protected long size;
+    protected long heapSizeMb;
+    protected long hitCount;
+    protected long missCount;
+    protected double hitRatio;
+    protected long evictedCount;
+
+    public CacheStatsSampleView(CacheStatsSample sample) {
+        if (sample != null) {
+            this.cacheName = sample.getCacheName();
+            this.sampleDateTime = sample.getSampleDateTime();
+            this.size = sample.getSize();
+            this.heapSizeMb = sample.getHeapSizeBytes() / (1024 * 1024);
+            this.hitCount = sample.getHitCount();
+            this.missCount = sample.getMissCount();
+            this.hitRatio = sample.getHitRatio();
+            this.evictedCount = sample.getEvictedCount();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "cache-stats-sample";
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public LocalDateTime getSampleDateTime() {
+        return sampleDateTime;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHeapSizeMb() {
+        return heapSizeMb;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+}
@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.client.view.cache;
 
 import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.statistics.StatisticsGateway;
 
@@ -8,6 +9,7 @@ public class CacheStatsView implements ViewObject
 {
     protected String cacheName;
     protected long heapSizeMb;
+    protected long maxHeapSizeMb;
     protected long size;
     protected long hitCount;
     protected double hitRatio;
@@ -17,6 +19,17 @@ public class CacheStatsView implements ViewObject
     protected long removeCount;
     protected long evictedCount;
     protected long expiredCount;
+    protected long loadCount;
+    protected long meanLoadMicros;
+    protected long p99LoadMicros;
+
+    public CacheStatsView(Ehcache cache, LatencyHistogram loadLatency) {
+        this(cache.getStatistics());
+        this.maxHeapSizeMb = cache.getCacheConfiguration().getMaxBytesLocalHeap() / (1024 * 1024);
+        this.loadCount = loadLatency.getTotalCount();
+        this.meanLoadMicros = (long) loadLatency.getMean();
+        this.p99LoadMicros = loadLatency.getValueAtPercentile(99);
+    }
 
     public CacheStatsView(StatisticsGateway stats) {
         if (stats != null) {
@@ -47,6 +60,10 @@ public class CacheStatsView implements ViewObject
         return heapSizeMb;
     }
 
+    public long getMaxHeapSizeMb() {
+        return maxHeapSizeMb;
+    }
+
     public long getSize() {
         return size;
     }
@@ -82,4 +99,16 @@ public class CacheStatsView implements ViewObject
     public long getExpiredCount() {
         return expiredCount;
     }
+
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    public long getMeanLoadMicros() {
+        return meanLoadMicros;
+    }
+
+    public long getP99LoadMicros() {
+        return p99LoadMicros;
+    }
 }
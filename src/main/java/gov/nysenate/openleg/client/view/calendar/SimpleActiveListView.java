@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.client.view.calendar;
 
 import gov.nysenate.openleg.model.calendar.CalendarActiveList;
+import gov.nysenate.openleg.model.calendar.CalendarActiveListId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,6 +24,15 @@ public class SimpleActiveListView extends CalendarActiveListIdView{
         this.totalEntries = activeList.getEntries().size();
     }
 
+    public SimpleActiveListView(CalendarActiveListId activeListId, LocalDate calDate, LocalDateTime releaseDateTime,
+                                String notes, int totalEntries) {
+        super(activeListId);
+        this.calDate = calDate;
+        this.releaseDateTime = releaseDateTime;
+        this.notes = notes;
+        this.totalEntries = totalEntries;
+    }
+
     public LocalDate getCalDate() {
         return calDate;
     }
@@ -1,6 +1,7 @@
 package gov.nysenate.openleg.client.view.calendar;
 
 import gov.nysenate.openleg.model.calendar.CalendarSupplemental;
+import gov.nysenate.openleg.model.calendar.CalendarSupplementalId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,6 +21,14 @@ public class SimpleCalendarSupView extends CalendarSupIdView{
         this.totalEntries = calendarSupplemental.getAllEntries().size();
     }
 
+    public SimpleCalendarSupView(CalendarSupplementalId calendarSupplementalId, LocalDate calDate,
+                                 LocalDateTime releaseDateTime, int totalEntries) {
+        super(calendarSupplementalId);
+        this.calDate = calDate;
+        this.releaseDateTime = releaseDateTime;
+        this.totalEntries = totalEntries;
+    }
+
     public LocalDate getCalDate() {
         return calDate;
     }
@@ -3,8 +3,10 @@ package gov.nysenate.openleg.client.view.calendar;
 import gov.nysenate.openleg.client.view.base.MapView;
 import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.calendar.Calendar;
+import gov.nysenate.openleg.model.calendar.CalendarId;
 
 import java.time.LocalDate;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
@@ -40,6 +42,19 @@ public class SimpleCalendarView extends CalendarIdView {
         }
     }
 
+    /**
+     * Constructs the view from its already built parts, e.g. those read from the search index.
+     */
+    public SimpleCalendarView(CalendarId calendarId, LocalDate calDate, SimpleCalendarSupView floorCalendar,
+                              Map<String, SimpleCalendarSupView> supplementalCalendars,
+                              Map<Integer, SimpleActiveListView> activeLists) {
+        super(calendarId);
+        this.floorCalendar = floorCalendar;
+        this.supplementalCalendars = MapView.of(new TreeMap<>(supplementalCalendars));
+        this.activeLists = MapView.of(new TreeMap<>(activeLists));
+        this.calDate = calDate;
+    }
+
     public SimpleCalendarSupView getFloorCalendar() {
         return floorCalendar;
     }
@@ -0,0 +1,54 @@
+package gov.nysenate.openleg.client.view.process;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+
+public class DataProcessLagView implements ViewObject
+{
+    protected String sourceType;
+    protected long fragmentCount;
+    protected long meanMillis;
+    protected long p50Millis;
+    protected long p90Millis;
+    protected long maxMillis;
+
+    public DataProcessLagView(String sourceType, LatencyHistogram lagMillis) {
+        this.sourceType = sourceType;
+        if (lagMillis != null) {
+            this.fragmentCount = lagMillis.getTotalCount();
+            this.meanMillis = (long) lagMillis.getMean();
+            this.p50Millis = lagMillis.getValueAtPercentile(50);
+            this.p90Millis = lagMillis.getValueAtPercentile(90);
+            this.maxMillis = lagMillis.getMaxValue();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "data-process-lag";
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public long getFragmentCount() {
+        return fragmentCount;
+    }
+
+    public long getMeanMillis() {
+        return meanMillis;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP90Millis() {
+        return p90Millis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+}
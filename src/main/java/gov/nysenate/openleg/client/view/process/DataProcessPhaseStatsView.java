@@ -0,0 +1,68 @@
+package gov.nysenate.openleg.client.view.process;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.process.DataProcessPhaseStats;
+
+import java.util.concurrent.TimeUnit;
+
+public class DataProcessPhaseStatsView implements ViewObject
+{
+    protected String sourceType;
+    protected String phase;
+    protected long spanCount;
+    protected long itemCount;
+    protected long byteCount;
+    protected long totalMillis;
+    protected long meanMicros;
+    protected long maxMicros;
+
+    public DataProcessPhaseStatsView(DataProcessPhaseStats stats) {
+        if (stats != null) {
+            this.sourceType = stats.getSourceType();
+            this.phase = stats.getPhase().name();
+            this.spanCount = stats.getSpanCount();
+            this.itemCount = stats.getItemCount();
+            this.byteCount = stats.getByteCount();
+            this.totalMillis = TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos());
+            this.meanMicros = (spanCount > 0) ? TimeUnit.NANOSECONDS.toMicros(stats.getTotalNanos() / spanCount) : 0;
+            this.maxMicros = TimeUnit.NANOSECONDS.toMicros(stats.getMaxNanos());
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "data-process-phase-stats";
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public long getSpanCount() {
+        return spanCount;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public long getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+}
@@ -10,12 +10,16 @@ import static java.util.stream.Collectors.toList;
 
 public class DataProcessRunDetailView extends DataProcessRunView implements ViewObject
 {
+    protected DataProcessTimingsView timings;
     protected ListViewResponse<DataProcessUnitView> details;
 
     /** --- Constructors --- */
 
     public DataProcessRunDetailView(DataProcessRun run, PaginatedList<DataProcessUnit> units) {
         super(run);
+        if (run != null) {
+            this.timings = new DataProcessTimingsView(run.getTimings());
+        }
         if (units != null) {
             this.details = ListViewResponse.of(
                 units.getResults().stream().map(DataProcessUnitView::new).collect(toList()),
@@ -30,6 +34,10 @@ public class DataProcessRunDetailView extends DataProcessRunView implements View
 
     /** --- Basic Getters --- */
 
+    public DataProcessTimingsView getTimings() {
+        return timings;
+    }
+
     public ListViewResponse<DataProcessUnitView> getDetails() {
         return details;
     }
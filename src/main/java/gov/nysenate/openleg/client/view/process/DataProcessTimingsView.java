@@ -0,0 +1,51 @@
+package gov.nysenate.openleg.client.view.process;
+
+import gov.nysenate.openleg.client.view.base.ListView;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.process.DataProcessPhase;
+import gov.nysenate.openleg.model.process.DataProcessTimings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+public class DataProcessTimingsView implements ViewObject
+{
+    protected Map<String, Long> phaseTotalMillis;
+    protected ListView<DataProcessPhaseStatsView> phases;
+    protected ListView<DataProcessLagView> lag;
+
+    public DataProcessTimingsView(DataProcessTimings timings) {
+        if (timings != null) {
+            this.phaseTotalMillis = new LinkedHashMap<>();
+            for (DataProcessPhase phase : DataProcessPhase.values()) {
+                phaseTotalMillis.put(phase.name(), TimeUnit.NANOSECONDS.toMillis(timings.getTotalNanos(phase)));
+            }
+            this.phases = ListView.of(timings.getPhaseStats().stream()
+                .map(DataProcessPhaseStatsView::new)
+                .collect(toList()));
+            this.lag = ListView.of(timings.getLagMillis().entrySet().stream()
+                .map(entry -> new DataProcessLagView(entry.getKey(), entry.getValue()))
+                .collect(toList()));
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "data-process-timings";
+    }
+
+    public Map<String, Long> getPhaseTotalMillis() {
+        return phaseTotalMillis;
+    }
+
+    public ListView<DataProcessPhaseStatsView> getPhases() {
+        return phases;
+    }
+
+    public ListView<DataProcessLagView> getLag() {
+        return lag;
+    }
+}
@@ -0,0 +1,50 @@
+package gov.nysenate.openleg.client.view.stats;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.stats.ApiKeyStats;
+
+import java.time.LocalDateTime;
+
+public class ApiKeyStatsView implements ViewObject
+{
+    protected String apiKey;
+    protected long requestCount;
+    protected double requestsPerMinute;
+    protected LocalDateTime firstRequestDateTime;
+    protected LocalDateTime lastRequestDateTime;
+
+    public ApiKeyStatsView(ApiKeyStats stats) {
+        if (stats != null) {
+            this.apiKey = stats.getApiKey();
+            this.requestCount = stats.getRequestCount();
+            this.requestsPerMinute = stats.getRequestsPerMinute();
+            this.firstRequestDateTime = stats.getFirstRequestDateTime();
+            this.lastRequestDateTime = stats.getLastRequestDateTime();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "api-key-stats";
+    }
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public double getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public LocalDateTime getFirstRequestDateTime() {
+        return firstRequestDateTime;
+    }
+
+    public LocalDateTime getLastRequestDateTime() {
+        return lastRequestDateTime;
+    }
+}
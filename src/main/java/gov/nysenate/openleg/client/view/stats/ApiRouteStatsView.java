@@ -0,0 +1,76 @@
+package gov.nysenate.openleg.client.view.stats;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.stats.ApiRouteStats;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+
+import java.util.Map;
+
+public class ApiRouteStatsView implements ViewObject
+{
+    protected String route;
+    protected long requestCount;
+    protected long responseBytes;
+    protected Map<Integer, Long> statusCounts;
+    protected long meanMicros;
+    protected long p50Micros;
+    protected long p90Micros;
+    protected long p99Micros;
+    protected long maxMicros;
+
+    public ApiRouteStatsView(ApiRouteStats stats) {
+        if (stats != null) {
+            LatencyHistogram latency = stats.getLatency();
+            this.route = stats.getRoute();
+            this.requestCount = stats.getRequestCount();
+            this.responseBytes = stats.getResponseBytes();
+            this.statusCounts = stats.getStatusCounts();
+            this.meanMicros = (long) latency.getMean();
+            this.p50Micros = latency.getValueAtPercentile(50);
+            this.p90Micros = latency.getValueAtPercentile(90);
+            this.p99Micros = latency.getValueAtPercentile(99);
+            this.maxMicros = latency.getMaxValue();
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "api-route-stats";
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public long getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+}
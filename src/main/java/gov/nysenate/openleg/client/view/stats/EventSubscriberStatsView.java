@@ -0,0 +1,87 @@
+package gov.nysenate.openleg.client.view.stats;
+
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.model.stats.EventSubscriberStats;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+
+public class EventSubscriberStatsView implements ViewObject
+{
+    protected String subscriber;
+    protected int queueCapacity;
+    protected int queueDepth;
+    protected long maxQueueDepth;
+    protected long handledCount;
+    protected long overflowCount;
+    protected long meanHandlerMicros;
+    protected long p99HandlerMicros;
+    protected long maxHandlerMicros;
+    protected long meanQueueMicros;
+    protected long p99QueueMicros;
+
+    public EventSubscriberStatsView(EventSubscriberStats stats) {
+        if (stats != null) {
+            LatencyHistogram handlerLatency = stats.getHandlerLatency();
+            LatencyHistogram queueLatency = stats.getQueueLatency();
+            this.subscriber = stats.getSubscriber();
+            this.queueCapacity = stats.getQueueCapacity();
+            this.queueDepth = stats.getQueueDepth();
+            this.maxQueueDepth = stats.getMaxQueueDepth();
+            this.handledCount = stats.getHandledCount();
+            this.overflowCount = stats.getOverflowCount();
+            this.meanHandlerMicros = (long) handlerLatency.getMean();
+            this.p99HandlerMicros = handlerLatency.getValueAtPercentile(99);
+            this.maxHandlerMicros = handlerLatency.getMaxValue();
+            this.meanQueueMicros = (long) queueLatency.getMean();
+            this.p99QueueMicros = queueLatency.getValueAtPercentile(99);
+        }
+    }
+
+    @Override
+    public String getViewType() {
+        return "event-subscriber-stats";
+    }
+
+    public String getSubscriber() {
+        return subscriber;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long getHandledCount() {
+        return handledCount;
+    }
+
+    public long getOverflowCount() {
+        return overflowCount;
+    }
+
+    public long getMeanHandlerMicros() {
+        return meanHandlerMicros;
+    }
+
+    public long getP99HandlerMicros() {
+        return p99HandlerMicros;
+    }
+
+    public long getMaxHandlerMicros() {
+        return maxHandlerMicros;
+    }
+
+    public long getMeanQueueMicros() {
+        return meanQueueMicros;
+    }
+
+    public long getP99QueueMicros() {
+        return p99QueueMicros;
+    }
+}
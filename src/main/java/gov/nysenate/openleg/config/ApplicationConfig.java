@@ -1,6 +1,6 @@
 package gov.nysenate.openleg.config;
 
-import com.google.common.eventbus.EventBus;
+import com.google.common.base.Splitter;
 import com.google.common.eventbus.SubscriberExceptionContext;
 import com.google.common.eventbus.SubscriberExceptionHandler;
 import gov.nysenate.openleg.model.agenda.Agenda;
@@ -10,8 +10,12 @@ import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.processor.base.IngestCache;
+import gov.nysenate.openleg.service.base.data.ContentUpdateEvent;
 import gov.nysenate.openleg.util.AsciiArt;
+import gov.nysenate.openleg.util.OpenlegThreadFactory;
+import gov.nysenate.openleg.util.RoutingEventBus;
 import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.DiskStoreConfiguration;
 import net.sf.ehcache.config.SizeOfPolicyConfiguration;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.elasticsearch.ElasticsearchException;
@@ -33,7 +37,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.annotation.PostConstruct;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
 
 @Configuration
 @EnableCaching
@@ -49,6 +58,7 @@ public class ApplicationConfig implements CachingConfigurer
     /** --- Eh Cache Spring Configuration --- */
 
     @Value("${cache.max.size}") private String cacheMaxHeapSize;
+    @Value("${cache.disk.path:java.io.tmpdir/openleg}") private String cacheDiskPath;
 
     @Bean(destroyMethod = "shutdown")
     public net.sf.ehcache.CacheManager pooledCacheManger() {
@@ -68,6 +78,8 @@ public class ApplicationConfig implements CachingConfigurer
         net.sf.ehcache.config.Configuration config = new net.sf.ehcache.config.Configuration();
         config.setMaxBytesLocalHeap(cacheMaxHeapSize + "M");
         config.addDefaultCache(cacheConfiguration);
+        // Caches that overflow to disk (e.g. rendered bill pdfs) are swapped to this directory.
+        config.addDiskStore(new DiskStoreConfiguration().path(cacheDiskPath));
         config.setUpdateCheck(false);
 
         return net.sf.ehcache.CacheManager.newInstance(config);
@@ -115,13 +127,50 @@ public class ApplicationConfig implements CachingConfigurer
 
     /** --- Guava Event Bus Configuration --- */
 
-    @Bean
-    public EventBus eventBus() {
+    /** Set to false to deliver all events synchronously on the posting thread. */
+    @Value("${eventbus.async.enabled:true}") private boolean asyncEventsEnabled;
+
+    /** Subscribers that are instances of these classes receive asynchronous events on the event pool. */
+    @Value("${eventbus.async.subscribers:gov.nysenate.openleg.service.base.search.IndexedSearchService," +
+           "gov.nysenate.openleg.service.calendar.search.ElasticCalendarSearchService," +
+           "gov.nysenate.openleg.service.entity.committee.search.ElasticCommitteeSearchService," +
+           "gov.nysenate.openleg.service.notification.dispatch.NotificationDispatcher," +
+           "gov.nysenate.openleg.service.spotcheck.base.SpotcheckRunService}")
+    private String asyncSubscriberTypes;
+
+    /** Events that are instances of these classes are delivered asynchronously. */
+    @Value("${eventbus.async.types:gov.nysenate.openleg.service.base.data.ContentUpdateEvent," +
+           "gov.nysenate.openleg.model.notification.Notification," +
+           "gov.nysenate.openleg.model.spotcheck.SpotCheckReferenceEvent}")
+    private String asyncEventTypes;
+
+    @Value("${eventbus.async.threads:4}") private int asyncEventThreads;
+    @Value("${eventbus.async.queue.size:1000}") private int asyncEventQueueSize;
+
+    @Bean(destroyMethod = "shutdown")
+    public RoutingEventBus eventBus() throws ClassNotFoundException {
         SubscriberExceptionHandler errorHandler = (exception, context) -> {
             logger.error("Exception thrown during event handling within {}: {}, {}", context.getSubscriberMethod(),
                 exception, ExceptionUtils.getStackTrace(exception));
         };
-        return new EventBus(errorHandler);
+        List<Class<?>> asyncSubscribers = new ArrayList<>();
+        List<Class<?>> asyncTypes = new ArrayList<>();
+        if (asyncEventsEnabled) {
+            for (String className : Splitter.on(',').trimResults().omitEmptyStrings().split(asyncSubscriberTypes)) {
+                asyncSubscribers.add(Class.forName(className));
+            }
+            for (String className : Splitter.on(',').trimResults().omitEmptyStrings().split(asyncEventTypes)) {
+                asyncTypes.add(Class.forName(className));
+            }
+            logger.info("Delivering events of types {} asynchronously to {}", asyncTypes, asyncSubscribers);
+        }
+        // Queued subscribers get their own copy of updated content since processing carries on modifying it
+        UnaryOperator<Object> eventCopier =
+            event -> (event instanceof ContentUpdateEvent) ? ((ContentUpdateEvent) event).copy() : event;
+        ExecutorService asyncEventExecutor =
+            Executors.newFixedThreadPool(asyncEventThreads, new OpenlegThreadFactory("event"));
+        return new RoutingEventBus(errorHandler, asyncSubscribers, asyncTypes, eventCopier, asyncEventExecutor,
+                                   asyncEventQueueSize);
     }
 
     /** --- Processing Instances --- */
@@ -143,4 +192,28 @@ public class ApplicationConfig implements CachingConfigurer
     public IngestCache<CalendarId, Calendar, SobiFragment> calendarIngestCache() {
         return new IngestCache<>(100);
     }
+
+    @Value("${transcript.parallel.process.threads:4}")
+    private int transcriptParseThreads;
+
+    /**
+     * Reads and parses transcript and public hearing files in parallel. Parsing mostly waits on file io,
+     * so it gets its own pool instead of using the common fork join pool.
+     */
+    @Bean(name = "transcriptParseExecutor", destroyMethod = "shutdown")
+    public ExecutorService transcriptParseExecutor() {
+        return Executors.newFixedThreadPool(transcriptParseThreads, new OpenlegThreadFactory("transcript-parse"));
+    }
+
+    @Value("${daybreak.parse.threads:4}")
+    private int daybreakParseThreads;
+
+    /**
+     * Reads and parses the files of a daybreak report in parallel. Like transcript parsing this mostly waits on
+     * file io, so it is kept off of the common fork join pool.
+     */
+    @Bean(name = "daybreakParseExecutor", destroyMethod = "shutdown")
+    public ExecutorService daybreakParseExecutor() {
+        return Executors.newFixedThreadPool(daybreakParseThreads, new OpenlegThreadFactory("daybreak-parse"));
+    }
 }
\ No newline at end of file
@@ -8,6 +8,8 @@ import org.springframework.web.filter.DelegatingFilterProxy;
 import org.springframework.web.servlet.DispatcherServlet;
 
 import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterRegistration;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRegistration;
@@ -47,27 +49,34 @@ public class WebInitializer implements WebApplicationInitializer
         ServletRegistration.Dynamic dispatcher;
         dispatcher = servletContext.addServlet(DISPATCHER_SERVLET_NAME, new DispatcherServlet(dispatcherContext));
         dispatcher.setLoadOnStartup(1);
+        dispatcher.setAsyncSupported(true);
         dispatcher.addMapping("/");
 
         /** Register Apache Shiro */
         DelegatingFilterProxy shiroFilter = new DelegatingFilterProxy("shiroFilter", dispatcherContext);
         shiroFilter.setTargetFilterLifecycle(true);
-        servletContext.addFilter("shiroFilter", shiroFilter)
-            .addMappingForUrlPatterns(EnumSet.of(REQUEST, FORWARD, INCLUDE), false, "/*");
+        addFilter(servletContext, "shiroFilter", shiroFilter, "/*");
 
         /** Cross Origin Resource Sharing Filter */
         DelegatingFilterProxy corsFilter = new DelegatingFilterProxy("corsFilter", dispatcherContext);
-        servletContext.addFilter("corsFilter", corsFilter)
-            .addMappingForUrlPatterns(EnumSet.of(REQUEST, FORWARD, INCLUDE), false, BaseCtrl.BASE_API_PATH + "/*");
+        addFilter(servletContext, "corsFilter", corsFilter, BaseCtrl.BASE_API_PATH + "/*");
+
+        /** Api Request Logging, ahead of authentication so that rejected requests are counted too */
+        DelegatingFilterProxy apiLogFilter = new DelegatingFilterProxy("apiLogFilter", dispatcherContext);
+        addFilter(servletContext, "apiLogFilter", apiLogFilter, BaseCtrl.BASE_API_PATH + "/*");
 
         /** Api Key Authentication */
         DelegatingFilterProxy apiAuthFilter = new DelegatingFilterProxy("apiAuthFilter", dispatcherContext);
-        servletContext.addFilter("apiAuthFilter", apiAuthFilter)
-                .addMappingForUrlPatterns(EnumSet.of(REQUEST, FORWARD, INCLUDE), false, BaseCtrl.BASE_API_PATH + "/*");
+        addFilter(servletContext, "apiAuthFilter", apiAuthFilter, BaseCtrl.BASE_API_PATH + "/*");
+    }
 
-        /** Api Request Logging */
-        DelegatingFilterProxy apiLogFilter = new DelegatingFilterProxy("apiLogFilter", dispatcherContext);
-        servletContext.addFilter("apiLogFilter", apiLogFilter)
-                .addMappingForUrlPatterns(EnumSet.of(REQUEST, FORWARD, INCLUDE), false, BaseCtrl.BASE_API_PATH + "/*");
+    /**
+     * Registers a filter for the given url pattern. Filters are marked as async supported so that requests
+     * handled asynchronously by the dispatcher servlet (e.g. update stream long polling) can pass through them.
+     */
+    private static void addFilter(ServletContext servletContext, String filterName, Filter filter, String urlPattern) {
+        FilterRegistration.Dynamic registration = servletContext.addFilter(filterName, filter);
+        registration.setAsyncSupported(true);
+        registration.addMappingForUrlPatterns(EnumSet.of(REQUEST, FORWARD, INCLUDE), false, urlPattern);
     }
 }
\ No newline at end of file
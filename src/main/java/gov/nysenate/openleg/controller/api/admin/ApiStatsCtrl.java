@@ -0,0 +1,93 @@
+package gov.nysenate.openleg.controller.api.admin;
+
+import com.google.common.collect.Range;
+import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.client.response.base.DateRangeListViewResponse;
+import gov.nysenate.openleg.client.response.base.SimpleResponse;
+import gov.nysenate.openleg.client.view.stats.ApiKeyStatsView;
+import gov.nysenate.openleg.client.view.stats.ApiRouteStatsView;
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.model.stats.ApiKeyStats;
+import gov.nysenate.openleg.model.stats.ApiRouteStats;
+import gov.nysenate.openleg.service.stats.ApiStatsService;
+import org.apache.shiro.authz.annotation.RequiresAuthentication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_ADMIN_API_PATH;
+
+@RestController
+@RequestMapping(value = BASE_ADMIN_API_PATH + "/apistats")
+public class ApiStatsCtrl extends BaseCtrl
+{
+    private static final Logger logger = LoggerFactory.getLogger(ApiStatsCtrl.class);
+
+    @Autowired private ApiStatsService apiStatsService;
+
+    /**
+     * Api Route Stats API
+     *
+     * Get request counts, response statuses, response sizes and latency percentiles for each api route,
+     * busiest routes first:  (GET) /api/3/admin/apistats/routes
+     *
+     * Request Params: limit, offset (int) - Paginate through the routes (default limit 100)
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/routes", method = RequestMethod.GET)
+    public BaseResponse getRouteStats(WebRequest webRequest) {
+        LimitOffset limitOffset = getLimitOffset(webRequest, 100);
+        List<ApiRouteStats> routeStats = apiStatsService.getRouteStats();
+        return DateRangeListViewResponse.of(
+            LimitOffset.limitList(routeStats, limitOffset).stream()
+                .map(ApiRouteStatsView::new)
+                .collect(Collectors.toList()),
+            getStatsRange(), routeStats.size(), limitOffset);
+    }
+
+    /**
+     * Api Key Stats API
+     *
+     * Get request counts and rates for each api key, busiest keys first:  (GET) /api/3/admin/apistats/keys
+     *
+     * Request Params: limit, offset (int) - Paginate through the keys (default limit 100)
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/keys", method = RequestMethod.GET)
+    public BaseResponse getApiKeyStats(WebRequest webRequest) {
+        LimitOffset limitOffset = getLimitOffset(webRequest, 100);
+        List<ApiKeyStats> keyStats = apiStatsService.getApiKeyStats();
+        return DateRangeListViewResponse.of(
+            LimitOffset.limitList(keyStats, limitOffset).stream()
+                .map(ApiKeyStatsView::new)
+                .collect(Collectors.toList()),
+            getStatsRange(), keyStats.size(), limitOffset);
+    }
+
+    /**
+     * Api Stats Reset API
+     *
+     * Discard the collected api stats:  (DELETE) /api/3/admin/apistats
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "", method = RequestMethod.DELETE)
+    public BaseResponse resetStats() {
+        apiStatsService.resetStats();
+        return new SimpleResponse(true, "Api stats have been reset", "api-stats-reset");
+    }
+
+    /** --- Internal --- */
+
+    private Range<LocalDateTime> getStatsRange() {
+        return Range.closed(apiStatsService.getStatsStartDateTime(), LocalDateTime.now());
+    }
+}
@@ -5,21 +5,29 @@ import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.response.base.SimpleResponse;
+import gov.nysenate.openleg.client.view.cache.CacheStatsSampleView;
 import gov.nysenate.openleg.client.view.cache.CacheStatsView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.controller.api.base.InvalidRequestParamEx;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.agenda.AgendaId;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictYearEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmYearEvent;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.entity.CommitteeSessionId;
 import gov.nysenate.openleg.model.law.LawVersionId;
+import gov.nysenate.openleg.service.base.data.CacheStatsService;
+import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.config.InvalidConfigurationException;
+import net.sf.ehcache.config.MemoryUnit;
 import org.apache.shiro.authz.annotation.RequiresAuthentication;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,11 +36,14 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
 
 import javax.annotation.PostConstruct;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -46,6 +57,11 @@ public class CacheCtrl extends BaseCtrl
 
     @Autowired private EventBus eventBus;
     @Autowired private CacheManager cacheManager;
+    @Autowired private CacheStatsService cacheStatsService;
+
+    /** Caches that can be warmed and evicted by year. */
+    private static final Set<ContentCache> yearCaches =
+        EnumSet.of(ContentCache.BILL, ContentCache.AGENDA, ContentCache.CALENDAR);
 
     @PostConstruct
     private void init() {
@@ -56,15 +72,92 @@ public class CacheCtrl extends BaseCtrl
      * Cache Stats API
      *
      * Gets stats for all memory caches: (GET) /api/3/cache/
+     * The stats include the configured heap budget and the time taken to load entries on a cache miss.
      */
     @RequiresAuthentication
     @RequestMapping(value = "", method = RequestMethod.GET)
     public BaseResponse getCacheStats() {
         return ListViewResponse.of(Arrays.asList(cacheManager.getCacheNames()).stream()
-            .map(cn -> new CacheStatsView(cacheManager.getCache(cn).getStatistics()))
+            .map(cn -> new CacheStatsView(cacheManager.getEhcache(cn), cacheStatsService.getLoadLatency(cn)))
             .collect(Collectors.toList()), cacheManager.getCacheNames().length, LimitOffset.ALL);
     }
 
+    /**
+     * Cache Stats History API
+     *
+     * Gets the periodically sampled stats for a single memory cache, oldest first:
+     *      (GET) /api/3/cache/{cacheName}/history
+     * The cacheName is the name of the cache as listed in the cache stats response. Each sample has the
+     * hits, misses and evictions that occurred since the previous sample.
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/{cacheName}/history", method = RequestMethod.GET)
+    public BaseResponse getCacheStatsHistory(@PathVariable String cacheName) {
+        getEhcache(cacheName);
+        List<CacheStatsSampleView> samples = cacheStatsService.getStatsHistory(cacheName).stream()
+            .map(CacheStatsSampleView::new)
+            .collect(Collectors.toList());
+        return ListViewResponse.of(samples, samples.size(), LimitOffset.ALL);
+    }
+
+    /**
+     * Cache Heap Size API
+     *
+     * Changes the heap budget of a single memory cache: (PUT) /api/3/cache/{cacheName}/heap
+     * Entries are evicted from the cache as needed if the budget is reduced. The change only lasts until
+     * the application is restarted.
+     *
+     * Request params: sizeMb (integer) - the new maximum heap size of the cache in MB
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/{cacheName}/heap", method = RequestMethod.PUT)
+    public BaseResponse setCacheHeapSize(@PathVariable String cacheName, @RequestParam int sizeMb) {
+        Ehcache cache = getEhcache(cacheName);
+        if (sizeMb <= 0) {
+            throw new InvalidRequestParamEx(Integer.toString(sizeMb), "sizeMb", "integer", "Must be > 0");
+        }
+        try {
+            cache.getCacheConfiguration().setMaxBytesLocalHeap(MemoryUnit.MEGABYTES.toBytes(sizeMb));
+        }
+        catch (IllegalStateException | IllegalArgumentException | InvalidConfigurationException ex) {
+            throw new InvalidRequestParamEx(Integer.toString(sizeMb), "sizeMb", "integer", ex.getMessage());
+        }
+        logger.info("Set the heap size of the {} cache to {} MB", cacheName, sizeMb);
+        return new SimpleResponse(true, "Heap size of " + cacheName + " set to " + sizeMb + " MB", "cache-resize");
+    }
+
+    /**
+     * Cache Year Warming API
+     *
+     * Pre-loads the content for a single year into a cache without clearing it:
+     *      (PUT) /api/3/cache/{cacheType}/year/{year}
+     * The cacheType can be one of BILL (loads the session year containing 'year'), AGENDA, or CALENDAR.
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/{cacheType}/year/{year:\\d{4}}", method = RequestMethod.PUT)
+    public BaseResponse warmCacheYear(@PathVariable String cacheType, @PathVariable int year) {
+        ContentCache targetCache = getYearCache(cacheType);
+        eventBus.post(new CacheWarmYearEvent(targetCache, year));
+        return new SimpleResponse(true, "Cache warming request completed for " + targetCache + " " + year,
+                                  "cache-warm");
+    }
+
+    /**
+     * Cache Year Evict API
+     *
+     * Trims a cache by evicting all of its content from a single year:
+     *      (DELETE) /api/3/cache/{cacheType}/year/{year}
+     * @see #warmCacheYear(String, int) for details about 'cacheType'
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/{cacheType}/year/{year:\\d{4}}", method = RequestMethod.DELETE)
+    public BaseResponse evictCacheYear(@PathVariable String cacheType, @PathVariable int year) {
+        ContentCache targetCache = getYearCache(cacheType);
+        eventBus.post(new CacheEvictYearEvent(targetCache, year));
+        return new SimpleResponse(true, "Cache eviction request sent for " + targetCache + " " + year,
+                                  "cache-evict");
+    }
+
     /**
      * Cache Warming API
      *
@@ -148,10 +241,28 @@ public class CacheCtrl extends BaseCtrl
         return getEnumParameter("cacheType", cacheType, ContentCache.class);
     }
 
+    private ContentCache getYearCache(String cacheType) {
+        ContentCache targetCache = getTargetCache(cacheType);
+        if (!yearCaches.contains(targetCache)) {
+            throw new InvalidRequestParamEx(cacheType, "cacheType", "string", "Must be one of " + yearCaches);
+        }
+        return targetCache;
+    }
+
+    private Ehcache getEhcache(String cacheName) {
+        Ehcache cache = cacheManager.getEhcache(cacheName);
+        if (cache == null) {
+            throw new InvalidRequestParamEx(cacheName, "cacheName", "string",
+                                            "Must be one of " + Arrays.toString(cacheManager.getCacheNames()));
+        }
+        return cache;
+    }
+
     private Object getContentId(ContentCache targetCache, WebRequest request)
             throws MissingServletRequestParameterException {
         switch (targetCache) {
             case BILL:
+            case BILL_PDF:
                 return getBaseBillId(request);
             case AGENDA:
                 return getAgendaId(request);
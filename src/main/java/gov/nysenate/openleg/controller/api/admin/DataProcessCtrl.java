@@ -9,6 +9,7 @@ import gov.nysenate.openleg.client.response.error.ErrorResponse;
 import gov.nysenate.openleg.client.response.error.ViewObjectErrorResponse;
 import gov.nysenate.openleg.client.view.process.DataProcessRunDetailView;
 import gov.nysenate.openleg.client.view.process.DataProcessRunView;
+import gov.nysenate.openleg.client.view.process.DataProcessTimingsView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.controller.api.base.InvalidRequestParamEx;
 import gov.nysenate.openleg.dao.base.LimitOffset;
@@ -151,4 +152,35 @@ public class DataProcessCtrl extends BaseCtrl
             return new ErrorResponse(ErrorCode.PROCESS_RUN_NOT_FOUND);
         }
     }
+
+    /**
+     * Data Process Run Timings API
+     * ----------------------------
+     *
+     * Get the time spent in each processing phase (collate, parse, apply, flush, event dispatch, index) per
+     * source type, along with the lag between when source fragments were published and when their content
+     * became visible. Timings are only held in memory for recent runs.
+     * Usage: (GET) /api/3/admin/process/runs/id/{id}/timings
+     *        (GET) /api/3/admin/process/runs/current/timings
+     *
+     * Expected Output: DataProcessTimingsView
+     */
+    @RequestMapping("/runs/id/{id:[0-9]+}/timings")
+    public BaseResponse getRunTimings(@PathVariable int id) {
+        Optional<DataProcessRun> run = processLogs.getRun(id);
+        if (run.isPresent()) {
+            return new ViewObjectResponse<>(new DataProcessTimingsView(run.get().getTimings()));
+        }
+        return new ErrorResponse(ErrorCode.PROCESS_RUN_NOT_FOUND);
+    }
+
+    @RequestMapping("/runs/current/timings")
+    public BaseResponse getCurrentRunTimings() {
+        Optional<DataProcessRun> run = dataProcessor.getCurrentRun();
+        if (run.isPresent()) {
+            return new ViewObjectResponse<>(new DataProcessTimingsView(run.get().getTimings()),
+                                            "process run " + run.get().getProcessId() + " is in progress");
+        }
+        return new ErrorResponse(ErrorCode.PROCESS_RUN_NOT_FOUND);
+    }
 }
@@ -0,0 +1,51 @@
+package gov.nysenate.openleg.controller.api.admin;
+
+import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.client.response.base.ListViewResponse;
+import gov.nysenate.openleg.client.view.stats.EventSubscriberStatsView;
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.model.stats.EventSubscriberStats;
+import gov.nysenate.openleg.util.RoutingEventBus;
+import org.apache.shiro.authz.annotation.RequiresAuthentication;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_ADMIN_API_PATH;
+
+@RestController
+@RequestMapping(value = BASE_ADMIN_API_PATH + "/eventbus")
+public class EventBusCtrl extends BaseCtrl
+{
+    @Autowired private RoutingEventBus eventBus;
+
+    /**
+     * Event Subscriber Stats API
+     *
+     * Get the queue depth and handler latency of each subscriber that receives events asynchronously,
+     * deepest queues first:  (GET) /api/3/admin/eventbus/subscribers
+     *
+     * Request Params: limit, offset (int) - Paginate through the subscribers (default limit 100)
+     */
+    @RequiresAuthentication
+    @RequestMapping(value = "/subscribers", method = RequestMethod.GET)
+    public BaseResponse getSubscriberStats(WebRequest webRequest) {
+        LimitOffset limitOffset = getLimitOffset(webRequest, 100);
+        List<EventSubscriberStats> subscriberStats = eventBus.getSubscriberStats().stream()
+            .sorted(Comparator.comparing(EventSubscriberStats::getQueueDepth).reversed()
+                .thenComparing(EventSubscriberStats::getSubscriber))
+            .collect(Collectors.toList());
+        return ListViewResponse.of(
+            LimitOffset.limitList(subscriberStats, limitOffset).stream()
+                .map(EventSubscriberStatsView::new)
+                .collect(Collectors.toList()),
+            subscriberStats.size(), limitOffset);
+    }
+}
@@ -12,6 +12,9 @@ import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.model.agenda.*;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
 import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.entity.CommitteeId;
 import gov.nysenate.openleg.model.search.SearchException;
@@ -25,8 +28,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -69,11 +75,17 @@ public class AgendaGetCtrl extends BaseCtrl
      *
      * where 'year' is the calendar year of the agenda and agendaNo is the number that identifies
      * the agenda. This response will contain data for committee agendas.
+     *
+     * Responses are served from the response cache and support conditional requests via ETag/Last-Modified.
      */
     @RequestMapping(value = "/{year:[\\d]{4}}/{agendaNo}")
-    public BaseResponse getAgenda(@PathVariable int year, @PathVariable int agendaNo) {
-        Agenda agenda = agendaData.getAgenda(new AgendaId(agendaNo, year));
-        return new ViewObjectResponse<>(new AgendaView(agenda, billData));
+    public ResponseEntity<byte[]> getAgenda(@PathVariable int year, @PathVariable int agendaNo,
+                                            WebRequest webRequest) throws IOException {
+        AgendaId agendaId = new AgendaId(agendaNo, year);
+        ResponseCacheKey cacheKey =
+            new ResponseCacheKey(ContentCache.AGENDA, agendaId, "FULL", SessionYear.of(year), true);
+        return getCachedResponse(cacheKey, webRequest,
+            () -> new ViewObjectResponse<>(new AgendaView(agendaData.getAgenda(agendaId), billData)));
     }
 
     /**
@@ -83,7 +95,7 @@ public class AgendaGetCtrl extends BaseCtrl
      * Retrieve a specific committee within an agenda:
      * (GET) /api/3/agendas/{year}/{agendaNo}/{committeeName}
      *
-     * where year and agendaNo are the same as {@link #getAgenda(int, int)} and 'committeeName' refers to the
+     * where year and agendaNo are the same as {@link #getAgenda(int, int, WebRequest)} and 'committeeName' refers to the
      * name of the senate committee.
      */
     @RequestMapping(value = "/{year:[\\d]{4}}/{agendaNo}/{commName}")
@@ -48,8 +48,11 @@ public class AgendaSearchCtrl extends BaseCtrl
                                       @RequestParam(defaultValue = "false") boolean full,
                                       WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
+        if (!full) {
+            return getAgendaSummarySearchResponse(limOff, agendaSearch.searchCommitteeAgendaSummaries(term, sort, limOff));
+        }
         SearchResults<CommitteeAgendaId> results = agendaSearch.searchCommitteeAgendas(term, sort, limOff);
-        return getAgendaSearchResponse(full, limOff, results);
+        return getAgendaSearchResponse(limOff, results);
     }
 
     /**
@@ -70,19 +73,31 @@ public class AgendaSearchCtrl extends BaseCtrl
                                       @RequestParam(defaultValue = "false") boolean full,
                                       WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
+        if (!full) {
+            return getAgendaSummarySearchResponse(limOff, agendaSearch.searchCommitteeAgendaSummaries(term, year, sort, limOff));
+        }
         SearchResults<CommitteeAgendaId> results = agendaSearch.searchCommitteeAgendas(term, year, sort, limOff);
-        return getAgendaSearchResponse(full, limOff, results);
+        return getAgendaSearchResponse(limOff, results);
     }
 
-    private BaseResponse getAgendaSearchResponse(boolean full, LimitOffset limOff, SearchResults<CommitteeAgendaId> results) {
+    private BaseResponse getAgendaSearchResponse(LimitOffset limOff, SearchResults<CommitteeAgendaId> results) {
         return ListViewResponse.of(
             results.getResults().stream()
                 .map(r ->
-                    new SearchResultView((full)
-                        ? new AgendaCommFlatView(agendaData.getAgenda(r.getResult().getAgendaId()),
-                                                 r.getResult().getCommitteeId(), billData)
-                        : new CommAgendaSummaryView(r.getResult(), agendaData.getAgenda(r.getResult().getAgendaId())),
+                    new SearchResultView(
+                        new AgendaCommFlatView(agendaData.getAgenda(r.getResult().getAgendaId()),
+                                               r.getResult().getCommitteeId(), billData),
                     r.getRank()))
                 .collect(Collectors.toList()), results.getTotalResults(), limOff);
     }
+
+    /**
+     * The summaries are read from the search index, so no agendas need to be loaded to build this response.
+     */
+    private BaseResponse getAgendaSummarySearchResponse(LimitOffset limOff, SearchResults<CommAgendaSummaryView> results) {
+        return ListViewResponse.of(
+            results.getResults().stream()
+                .map(r -> new SearchResultView(r.getResult(), r.getRank()))
+                .collect(Collectors.toList()), results.getTotalResults(), limOff);
+    }
 }
@@ -21,6 +21,9 @@ public class ApiAuthFilter implements Filter
 {
     private static final Logger logger = LoggerFactory.getLogger(ApiAuthFilter.class);
 
+    /** Request attribute that holds the api key once it has been validated. */
+    public static final String VALID_API_KEY_ATTRIBUTE = "openleg.validApiKey";
+
     @Autowired
     protected ApiUserService apiUserService;
 
@@ -44,7 +47,11 @@ public class ApiAuthFilter implements Filter
             String uiKey = (String) request.getSession().getAttribute("uiKey");
             boolean isUiUser = uiKey != null && uiKey.equals(request.getHeader("UIKey"));
 
-            if (isUiUser || ipAddress.matches(filterAddress) || apiUserService.validateKey(key)) {
+            if (isUiUser || ipAddress.matches(filterAddress)) {
+                filterChain.doFilter(servletRequest, servletResponse);
+            }
+            else if (apiUserService.validateKey(key)) {
+                request.setAttribute(VALID_API_KEY_ATTRIBUTE, key);
                 filterChain.doFilter(servletRequest, servletResponse);
             }
             else {
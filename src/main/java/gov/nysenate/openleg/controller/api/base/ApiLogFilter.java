@@ -1,32 +1,227 @@
 package gov.nysenate.openleg.controller.api.base;
 
+import gov.nysenate.openleg.controller.api.bill.BillGetCtrl.BillViewLevel;
 import gov.nysenate.openleg.dao.auth.ApiLogDao;
+import gov.nysenate.openleg.service.stats.ApiStatsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+/**
+ * Records the latency, response status and response size of each api request, grouped by the route
+ * (http method and path template) that handled it, along with the api key that was used.
+ */
 @Component ("apiLogFilter")
 public class ApiLogFilter implements Filter
 {
     @Autowired
     protected ApiLogDao apiLogDao;
 
+    @Autowired
+    protected ApiStatsService apiStatsService;
+
     private static final Logger logger = LoggerFactory.getLogger(ApiLogFilter.class);
-    
+
+    /** Route used for requests that were not handled by a controller. */
+    private static final String UNMATCHED_ROUTE = "unmatched";
+
+    /** The view names that are kept in the route, any other requested view is recorded as 'other'. */
+    private static final Set<String> ROUTE_VIEWS = Arrays.stream(BillViewLevel.values())
+        .map(level -> level.name().toLowerCase())
+        .collect(Collectors.toSet());
+
+    /** Route suffix for requested views that are not bill view levels. */
+    private static final String OTHER_VIEW = "other";
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {}
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
         throws IOException, ServletException {
-        filterChain.doFilter(servletRequest, servletResponse);
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        ByteCountingResponse response = new ByteCountingResponse((HttpServletResponse) servletResponse);
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        }
+        finally {
+            if (request.isAsyncStarted()) {
+                // Record asynchronous requests (e.g. update stream long polls) once the response is complete
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    public void onComplete(AsyncEvent event) { recordRequest(request, response, startNanos, true); }
+                    public void onTimeout(AsyncEvent event) {}
+                    public void onError(AsyncEvent event) {}
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            }
+            else {
+                recordRequest(request, response, startNanos, completed);
+            }
+        }
     }
 
     @Override
     public void destroy() {}
+
+    /** --- Internal --- */
+
+    private void recordRequest(HttpServletRequest request, ByteCountingResponse response, long startNanos,
+                               boolean completed) {
+        try {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            // An exception that escapes the dispatcher will be sent as a server error
+            int status = completed ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+            // Only keys that passed authentication are recorded so that arbitrary keys can't grow the key stats
+            String apiKey = (String) request.getAttribute(ApiAuthFilter.VALID_API_KEY_ATTRIBUTE);
+            apiStatsService.recordRequest(getRoute(request), apiKey, status,
+                                          response.getByteCount(), latencyMicros);
+        }
+        catch (RuntimeException ex) {
+            logger.warn("Failed to record api request stats: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the http method and the normalized path template of the controller mapping that handled
+     * the request, e.g. 'GET /api/3/bills/{sessionYear}/{printNo}'. The bill view level is appended for
+     * routes that receive one since the cost of the views differ significantly. Views that are not bill view
+     * levels are recorded as 'other' so that the number of distinct routes stays bounded.
+     */
+    static String getRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMATCHED_ROUTE;
+        }
+        StringBuilder route = new StringBuilder(request.getMethod()).append(' ');
+        appendPathTemplate(route, pattern.toString());
+        String view = request.getParameter("view");
+        if (view != null) {
+            String viewName = view.toLowerCase();
+            route.append("?view=").append(ROUTE_VIEWS.contains(viewName) ? viewName : OTHER_VIEW);
+        }
+        return route.toString();
+    }
+
+    /**
+     * Appends the path pattern with the regular expressions removed from the uri variables,
+     * e.g. '/{sessionYear:[\d]{4}}' becomes '/{sessionYear}'.
+     */
+    private static void appendPathTemplate(StringBuilder route, String pattern) {
+        int depth = 0;
+        boolean inRegex = false;
+        for (char c : pattern.toCharArray()) {
+            if (c == '{') {
+                depth++;
+            }
+            else if (c == '}') {
+                depth--;
+                if (depth == 0) {
+                    inRegex = false;
+                }
+                else if (inRegex) {
+                    continue;
+                }
+            }
+            else if (c == ':' && depth == 1) {
+                inRegex = true;
+            }
+            if (!inRegex) {
+                route.append(c);
+            }
+        }
+    }
+
+    /**
+     * Counts the number of bytes written to the response, either through the output stream or the writer.
+     * Characters written through the writer are counted in the response's character encoding.
+     */
+    private static class ByteCountingResponse extends HttpServletResponseWrapper
+    {
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private long byteCount = 0;
+
+        public ByteCountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream wrapped = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        wrapped.write(b);
+                        byteCount++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        wrapped.write(b, off, len);
+                        byteCount += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        wrapped.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        wrapped.close();
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter wrapped = super.getWriter();
+                Charset charset = Charset.forName(getCharacterEncoding());
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] cbuf, int off, int len) throws IOException {
+                        wrapped.write(cbuf, off, len);
+                        byteCount += new String(cbuf, off, len).getBytes(charset).length;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        wrapped.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        wrapped.close();
+                    }
+                });
+            }
+            return writer;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
 }
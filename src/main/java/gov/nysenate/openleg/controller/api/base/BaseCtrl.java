@@ -3,16 +3,23 @@ package gov.nysenate.openleg.controller.api.base;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import com.google.common.eventbus.EventBus;
+import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.error.ErrorCode;
 import gov.nysenate.openleg.client.response.error.ErrorResponse;
 import gov.nysenate.openleg.client.response.error.ViewObjectErrorResponse;
+import gov.nysenate.openleg.client.view.base.ViewFields;
+import gov.nysenate.openleg.client.view.base.ViewObject;
 import gov.nysenate.openleg.client.view.error.InvalidParameterView;
 import gov.nysenate.openleg.client.view.request.ParameterView;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.model.cache.CachedResponse;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
 import gov.nysenate.openleg.model.notification.Notification;
 import gov.nysenate.openleg.model.search.SearchException;
 import gov.nysenate.openleg.model.updates.UpdateType;
+import gov.nysenate.openleg.service.response.ResponseCacheService;
+import gov.nysenate.openleg.util.OutputUtils;
 import org.apache.catalina.connector.ClientAbortException;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -22,18 +29,24 @@ import org.apache.shiro.authz.AuthorizationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static gov.nysenate.openleg.model.notification.NotificationType.REQUEST_EXCEPTION;
 
@@ -50,6 +63,74 @@ public abstract class BaseCtrl
     @Autowired
     private EventBus eventBus;
 
+    @Autowired
+    private ResponseCacheService responseCache;
+
+    /** --- Cached responses --- */
+
+    /**
+     * Returns the serialized response identified by the given key, using the supplier to build the response
+     * if it is not cached. Conditional requests that match the cached response's ETag (If-None-Match) or
+     * last modified time (If-Modified-Since) receive a 304 with no body. The gzipped body is sent as is to
+     * clients that accept gzip encoding.
+     *
+     * @param key ResponseCacheKey - Identifies the content and view of the response
+     * @param webRequest WebRequest
+     * @param responseSupplier Supplier<BaseResponse> - Builds the response on a cache miss
+     * @return ResponseEntity<byte[]> - or null if a 304 was sent
+     */
+    protected ResponseEntity<byte[]> getCachedResponse(ResponseCacheKey key, WebRequest webRequest,
+                                                       Supplier<BaseResponse> responseSupplier) throws IOException {
+        return getResponseEntity(responseCache.getResponse(key, responseSupplier), webRequest, true);
+    }
+
+    /**
+     * Serializes a response without caching it, for responses that are unlikely to be requested again.
+     * Conditional requests are only answered through the ETag. The response is serialized on every request,
+     * so its serialization time says nothing about when the content last changed and no Last-Modified header
+     * is sent.
+     *
+     * @param webRequest WebRequest
+     * @param response BaseResponse
+     * @return ResponseEntity<byte[]> - or null if a 304 was sent
+     */
+    protected ResponseEntity<byte[]> getUncachedResponse(WebRequest webRequest, BaseResponse response)
+                                                         throws IOException {
+        byte[] json = OutputUtils.getJsonMapper().writeValueAsBytes(response);
+        return getResponseEntity(new CachedResponse(json, json, false), webRequest, false);
+    }
+
+    private ResponseEntity<byte[]> getResponseEntity(CachedResponse response, WebRequest webRequest,
+                                                     boolean sendLastModified) throws IOException {
+        long lastModified = response.getLastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String acceptEncoding = webRequest.getHeader("Accept-Encoding");
+        boolean gzipEncoded = response.isGzipped() && acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = response.getEtag(gzipEncoded);
+        HttpHeaders headers = new HttpHeaders();
+        // The web request sets the header for whichever validator it checks
+        if (!sendLastModified || webRequest.getHeader("If-None-Match") != null) {
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            if (sendLastModified) {
+                headers.setLastModified(lastModified);
+            }
+        }
+        else {
+            if (webRequest.checkNotModified(lastModified)) {
+                return null;
+            }
+            headers.setETag(etag);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Vary", "Accept-Encoding");
+        if (gzipEncoded) {
+            headers.set("Content-Encoding", "gzip");
+            return new ResponseEntity<>(response.getContent(), headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(response.getJson(), headers, HttpStatus.OK);
+    }
+
     /** --- Param grabbers --- */
 
     /**
@@ -98,6 +179,26 @@ public abstract class BaseCtrl
         return new LimitOffset(limit, offset);
     }
 
+    /**
+     * Returns the view properties selected by the 'fields' request parameter, e.g. 'title,status,actions'.
+     * Throws an InvalidRequestParamEx if any of the selected properties do not exist on the view.
+     *
+     * @param webRequest WebRequest
+     * @param viewClass Class<? extends ViewObject> - The view that the properties are selected from
+     * @return ViewFields - ViewFields.ALL if no properties were selected
+     */
+    protected ViewFields getViewFields(WebRequest webRequest, Class<? extends ViewObject> viewClass) {
+        String fieldsParam = webRequest.getParameter("fields");
+        ViewFields fields = ViewFields.of(fieldsParam);
+        List<String> unknownPaths = fields.getUnknownPaths(viewClass);
+        if (!unknownPaths.isEmpty()) {
+            throw new InvalidRequestParamEx(fieldsParam, "fields", "String",
+                    "Comma separated properties of " + viewClass.getSimpleName() + ". Unknown properties: " +
+                    String.join(",", unknownPaths));
+        }
+        return fields;
+    }
+
     /**
      * Attempts to parse a date request parameter
      * Throws an InvalidRequestParameterException if the parsing went wrong
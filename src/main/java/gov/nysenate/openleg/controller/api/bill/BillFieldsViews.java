@@ -0,0 +1,48 @@
+package gov.nysenate.openleg.controller.api.bill;
+
+import gov.nysenate.openleg.client.view.base.ProjectedView;
+import gov.nysenate.openleg.client.view.base.ViewFields;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.client.view.bill.BillInfoView;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.service.bill.data.BillDataService;
+
+import java.util.Set;
+
+/**
+ * Builds bill views that contain only the properties selected via the 'fields' request parameter.
+ * The bill data is loaded as sparingly as the selection allows.
+ */
+final class BillFieldsViews
+{
+    /** Selections within these properties can be served from the bill info alone. */
+    private static final Set<String> INFO_FIELDS = ViewFields.propertiesOf(BillInfoView.class);
+
+    private BillFieldsViews() {}
+
+    /**
+     * Returns a view of the bill with only the selected properties. If properties are selected, a BillInfoView
+     * is used when it covers the selection, otherwise a BillView. If every property is selected, the 'full'
+     * flag decides between the two as before.
+     *
+     * @param billData BillDataService
+     * @param baseBillId BaseBillId
+     * @param fields ViewFields - The selected properties
+     * @param full boolean - If true, a BillView is returned when every property is selected
+     * @return ViewObject
+     */
+    static ViewObject getBillView(BillDataService billData, BaseBillId baseBillId, ViewFields fields, boolean full) {
+        if (fields.isAll() ? !full : fields.isWithin(INFO_FIELDS)) {
+            return ProjectedView.of(new BillInfoView(billData.getBillInfo(baseBillId)), fields);
+        }
+        return ProjectedView.of(new BillView(billData.getBill(baseBillId, includesText(fields)), fields), fields);
+    }
+
+    /**
+     * @return boolean - True if the full text or memo of the amendments is selected
+     */
+    private static boolean includesText(ViewFields fields) {
+        return fields.includes("amendments") && fields.get("amendments").includesAny("fullText", "memo");
+    }
+}
@@ -7,6 +7,7 @@ import gov.nysenate.openleg.client.response.error.ErrorCode;
 import gov.nysenate.openleg.client.response.error.ViewObjectErrorResponse;
 import gov.nysenate.openleg.client.view.base.ModelView;
 import gov.nysenate.openleg.client.view.base.StringView;
+import gov.nysenate.openleg.client.view.base.ViewFields;
 import gov.nysenate.openleg.client.view.base.ViewObject;
 import gov.nysenate.openleg.client.view.bill.*;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
@@ -17,12 +18,17 @@ import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.bill.BillAmendment;
 import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.bill.BillPdf;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
 import gov.nysenate.openleg.model.search.SearchException;
 import gov.nysenate.openleg.model.search.SearchResults;
 import gov.nysenate.openleg.service.bill.data.BillAmendNotFoundEx;
 import gov.nysenate.openleg.service.bill.data.BillDataService;
 import gov.nysenate.openleg.service.bill.data.BillNotFoundEx;
+import gov.nysenate.openleg.service.bill.data.BillPdfService;
 import gov.nysenate.openleg.service.bill.search.BillSearchService;
+import gov.nysenate.openleg.util.BillTextDiffer;
 import gov.nysenate.openleg.util.BillTextUtils;
 import gov.nysenate.openleg.util.OutputUtils;
 import gov.nysenate.openleg.util.StringDiffer;
@@ -31,10 +37,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.stream.Collectors;
 
@@ -52,8 +60,9 @@ public class BillGetCtrl extends BaseCtrl
 
     @Autowired protected BillDataService billData;
     @Autowired protected BillSearchService billSearch;
+    @Autowired protected BillPdfService billPdfService;
 
-    protected enum BillViewLevel
+    public enum BillViewLevel
     {
         DEFAULT,                // Basic bill view (models the BillView class)
         INFO,                   // Bill info view
@@ -84,6 +93,8 @@ public class BillGetCtrl extends BaseCtrl
      * Retrieve bills for session year: (GET) /api/3/bills/{session}
      * Request Parameters: sort - Lucene syntax for sorting by any field from the bill response.
      *                     full - If true, the full bill view should be returned. Otherwise just the info.
+     *                     fields - Comma separated bill view properties to return, e.g. 'title,status,actions'.
+     *                              Nested properties are selected with dotted paths. Overrides 'full' if set.
      *                     limit - Limit the number of results.
      *                     offset - Start results from an offset.
      *
@@ -95,13 +106,13 @@ public class BillGetCtrl extends BaseCtrl
                                  @RequestParam(defaultValue = "false") boolean full,
                                  WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 50);
+        ViewFields fields = getViewFields(webRequest, BillView.class);
         SearchResults<BaseBillId> results =
             billSearch.searchBills(SessionYear.of(sessionYear), sort, limOff);
         // The bill data is retrieved from the data service so the data is always fresh.
         return ListViewResponse.of(
             results.getResults().stream()
-                .map(r -> (full) ? new BillView(billData.getBill(r.getResult()))
-                        : new BillInfoView(billData.getBillInfo(r.getResult())))
+                .map(r -> BillFieldsViews.getBillView(billData, r.getResult(), fields, full))
                 .collect(Collectors.toList()), results.getTotalResults(), limOff);
     }
 
@@ -114,33 +125,53 @@ public class BillGetCtrl extends BaseCtrl
      *
      * Request Parameters: summary - If true, then only a BillInfoView will be returned.
      *                     detail - If true, then a DetailedBillView will be returned.
+     *                     fields - Comma separated bill view properties to return, e.g. 'title,amendments.fullText'.
+     *                              Only the selected properties are loaded and built. Overrides 'view' if set.
+     *                              Unknown properties are rejected. These responses are not cached.
      *
      * Can't use 'summary' and 'detail' at the same time. If 'summary' is true, it will disregard 'detail'.
      *
+     * Responses are served from the response cache and support conditional requests via ETag/Last-Modified.
+     *
      * Expected Output: BillView, DetailedBillView, or BillInfoView
      */
     @RequestMapping(value = "/{sessionYear:[\\d]{4}}/{printNo}")
-    public BaseResponse getBill(@PathVariable int sessionYear, @PathVariable String printNo, WebRequest request) {
+    public ResponseEntity<byte[]> getBill(@PathVariable int sessionYear, @PathVariable String printNo,
+                                          WebRequest request) throws IOException {
         BaseBillId baseBillId = new BaseBillId(printNo, sessionYear);
+        ViewFields fields = getViewFields(request, BillView.class);
+        if (!fields.isAll()) {
+            // Any combination of fields can be selected, so these responses are not cached
+            return getUncachedResponse(request, new ViewObjectResponse<>(
+                BillFieldsViews.getBillView(billData, baseBillId, fields, true), "Data for bill " + baseBillId));
+        }
         BillViewLevel level = BillViewLevel.getValue(request.getParameter("view"));
-        ViewObject viewObject;
-        switch (level) {
-            case INFO: viewObject = new BillInfoView(billData.getBillInfo(baseBillId)); break;
-            case WITH_REFS: viewObject = new DetailBillView(billData.getBill(baseBillId), billData); break;
-            case NO_FULLTEXT: viewObject = new BillView(getFullTextStrippedBill(baseBillId)); break;
-            case WITH_REFS_NO_FULLTEXT: viewObject = new DetailBillView(getFullTextStrippedBill(baseBillId), billData); break;
-            case ONLY_FULLTEXT: {
-                Version amdVersion = Version.DEFAULT;
-                if (request.getParameter("version") != null) {
-                    amdVersion = Version.of(request.getParameter("version"));
+        Version amdVersion = Version.DEFAULT;
+        if (level == BillViewLevel.ONLY_FULLTEXT && request.getParameter("version") != null) {
+            amdVersion = Version.of(request.getParameter("version"));
+        }
+        boolean withRefs = level == BillViewLevel.WITH_REFS || level == BillViewLevel.WITH_REFS_NO_FULLTEXT;
+        String view = (level == BillViewLevel.ONLY_FULLTEXT) ? level + "-" + amdVersion : level.toString();
+        ResponseCacheKey cacheKey =
+            new ResponseCacheKey(ContentCache.BILL, baseBillId, view, baseBillId.getSession(), withRefs);
+        Version fullTextVersion = amdVersion;
+        return getCachedResponse(cacheKey, request, () -> {
+            ViewObject viewObject;
+            switch (level) {
+                case INFO: viewObject = new BillInfoView(billData.getBillInfo(baseBillId)); break;
+                case WITH_REFS: viewObject = new DetailBillView(billData.getBill(baseBillId), billData); break;
+                case NO_FULLTEXT: viewObject = new BillView(getFullTextStrippedBill(baseBillId)); break;
+                case WITH_REFS_NO_FULLTEXT: viewObject = new DetailBillView(getFullTextStrippedBill(baseBillId), billData); break;
+                case ONLY_FULLTEXT: {
+                    Bill bill = billData.getBill(baseBillId);
+                    viewObject = new BillFullTextView(bill.getBaseBillId(), fullTextVersion.getValue(),
+                                                      bill.getAmendment(fullTextVersion).getFullText());
+                    break;
                 }
-                Bill bill = billData.getBill(baseBillId);
-                viewObject = new BillFullTextView(bill.getBaseBillId(), amdVersion.getValue(), bill.getAmendment(amdVersion).getFullText());
-                break;
+                default: viewObject = new BillView(billData.getBill(baseBillId));
             }
-            default: viewObject = new BillView(billData.getBill(baseBillId));
-        }
-        return new ViewObjectResponse<>(viewObject, "Data for bill " + baseBillId);
+            return new ViewObjectResponse<>(viewObject, "Data for bill " + baseBillId);
+        });
     }
 
     /**
@@ -163,15 +194,18 @@ public class BillGetCtrl extends BaseCtrl
      *
      * Request Parameters: None
      *
-     * Expected Output: PDF response
+     * Expected Output: PDF response, or 304 Not Modified if the If-None-Match header matches the PDF's ETag.
      */
     @RequestMapping(value = "/{sessionYear:[\\d]{4}}/{printNo}.pdf")
-    public void getBillPdf(@PathVariable int sessionYear, @PathVariable String printNo, HttpServletResponse response)
-                           throws Exception {
-        BillId billId = new BillId(printNo, sessionYear);
-        Bill bill = billData.getBill(BaseBillId.of(billId));
-        new BillPdfView(bill, billId.getVersion(), response.getOutputStream());
-        response.setContentType("application/pdf");
+    public void getBillPdf(@PathVariable int sessionYear, @PathVariable String printNo, WebRequest webRequest,
+                           HttpServletResponse response) throws Exception {
+        BillPdf billPdf = billPdfService.getBillPdf(new BillId(printNo, sessionYear));
+        if (!webRequest.checkNotModified(billPdf.getEtag())) {
+            response.setHeader("ETag", billPdf.getEtag());
+            response.setContentType("application/pdf");
+            response.setContentLength(billPdf.getContent().length);
+            response.getOutputStream().write(billPdf.getContent());
+        }
     }
 
     /**
@@ -179,28 +213,36 @@ public class BillGetCtrl extends BaseCtrl
      * -------------
      *
      * Returns an html diff between 'version1' and 'version2' of a given bill.
+     * Diffs are served from the response cache until the bill is updated.
      *
      * TODO: Handle case with default amendment. Or rather make it so that it's possible to diff any two bills.
      */
     @RequestMapping(value = "/{sessionYear:[\\d]{4}}/{printNo}/diff/{version1}/{version2}")
-    public BaseResponse getBillDiff(@PathVariable int sessionYear, @PathVariable String printNo, @PathVariable String version1,
-                            @PathVariable String version2) {
-        StringDiffer stringDiffer = new StringDiffer();
+    public ResponseEntity<byte[]> getBillDiff(@PathVariable int sessionYear, @PathVariable String printNo,
+                                              @PathVariable String version1, @PathVariable String version2,
+                                              WebRequest request) throws IOException {
         BaseBillId baseBillId = new BaseBillId(printNo, sessionYear);
-        Bill bill = billData.getBill(baseBillId);
-        BillAmendment amend1 = bill.getAmendment(Version.of(version1));
-        BillAmendment amend2 = bill.getAmendment(Version.of(version2));
-        String fullText1 = BillTextUtils.formatBillText(bill.isResolution(), amend1.getFullText());
-        String fullText2 = BillTextUtils.formatBillText(bill.isResolution(), amend2.getFullText());
-        LinkedList<StringDiffer.Diff> diffs = stringDiffer.diff_main(fullText1, fullText2);
-        stringDiffer.diff_cleanupEfficiency(diffs);
-        stringDiffer.diff_cleanupSemantic(diffs);
-        stringDiffer.diff_cleanupMerge(diffs);
-        String prettyHtml = stringDiffer.diff_prettyHtml(diffs).replace("&para;", " ");
-        return new ViewObjectResponse<>(
-            new BillDiffView(
-                new BaseBillIdView(baseBillId), amend1.getVersion().toString(), amend2.getVersion().toString(),
-                    prettyHtml));
+        Version amdVersion1 = Version.of(version1);
+        Version amdVersion2 = Version.of(version2);
+        ResponseCacheKey cacheKey = new ResponseCacheKey(ContentCache.BILL, baseBillId,
+            "DIFF-" + amdVersion1 + "-" + amdVersion2, baseBillId.getSession(), false);
+        return getCachedResponse(cacheKey, request, () -> {
+            StringDiffer stringDiffer = new StringDiffer();
+            Bill bill = billData.getBill(baseBillId);
+            BillAmendment amend1 = bill.getAmendment(amdVersion1);
+            BillAmendment amend2 = bill.getAmendment(amdVersion2);
+            String fullText1 = BillTextUtils.formatBillText(bill.isResolution(), amend1.getFullText());
+            String fullText2 = BillTextUtils.formatBillText(bill.isResolution(), amend2.getFullText());
+            LinkedList<StringDiffer.Diff> diffs = BillTextDiffer.diff(fullText1, fullText2);
+            stringDiffer.diff_cleanupEfficiency(diffs);
+            stringDiffer.diff_cleanupSemantic(diffs);
+            stringDiffer.diff_cleanupMerge(diffs);
+            String prettyHtml = stringDiffer.diff_prettyHtml(diffs).replace("&para;", " ");
+            return new ViewObjectResponse<>(
+                new BillDiffView(
+                    new BaseBillIdView(baseBillId), amend1.getVersion().toString(), amend2.getVersion().toString(),
+                        prettyHtml));
+        });
     }
 
 
@@ -3,7 +3,7 @@ package gov.nysenate.openleg.controller.api.bill;
 import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.base.ListViewResponse;
 import gov.nysenate.openleg.client.view.base.SearchResultView;
-import gov.nysenate.openleg.client.view.bill.BillInfoView;
+import gov.nysenate.openleg.client.view.base.ViewFields;
 import gov.nysenate.openleg.client.view.bill.BillView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.base.LimitOffset;
@@ -43,6 +43,8 @@ public class BillSearchCtrl extends BaseCtrl
      * Request Parameters:  term - The lucene query string
      *                      sort - The lucene sort string (blank by default)
      *                      full - Set to true to retrieve full bill responses (false by default)
+     *                      fields - Comma separated bill view properties to return for each result.
+     *                               Overrides 'full' if set.
      *                      limit - Limit the number of results (default 25)
      *                      offset - Start results from offset
      */
@@ -53,7 +55,7 @@ public class BillSearchCtrl extends BaseCtrl
                                      WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
         SearchResults<BaseBillId> results = billSearch.searchBills(term, sort, limOff);
-        return getBillSearchResponse(results, full, limOff);
+        return getBillSearchResponse(results, getViewFields(webRequest, BillView.class), full, limOff);
     }
 
     /**
@@ -71,17 +73,17 @@ public class BillSearchCtrl extends BaseCtrl
                                       WebRequest webRequest) throws SearchException {
         LimitOffset limOff = getLimitOffset(webRequest, 25);
         SearchResults<BaseBillId> results = billSearch.searchBills(term, SessionYear.of(sessionYear), sort, limOff);
-        return getBillSearchResponse(results, full, limOff);
+        return getBillSearchResponse(results, getViewFields(webRequest, BillView.class), full, limOff);
     }
 
     /** --- Internal --- */
 
-    private BaseResponse getBillSearchResponse(SearchResults<BaseBillId> results, boolean full, LimitOffset limOff) {
+    private BaseResponse getBillSearchResponse(SearchResults<BaseBillId> results, ViewFields fields, boolean full,
+                                               LimitOffset limOff) {
         return ListViewResponse.of(
             results.getResults().stream()
-                .map(r -> new SearchResultView((full)
-                        ? new BillView(billData.getBill(r.getResult()))
-                        : new BillInfoView(billData.getBillInfo(r.getResult())), r.getRank(), r.getHighlights()))
+                .map(r -> new SearchResultView(BillFieldsViews.getBillView(billData, r.getResult(), fields, full),
+                                               r.getRank(), r.getHighlights()))
                 .collect(toList()), results.getTotalResults(), limOff);
     }
 }
\ No newline at end of file
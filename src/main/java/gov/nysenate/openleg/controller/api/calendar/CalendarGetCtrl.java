@@ -10,7 +10,10 @@ import gov.nysenate.openleg.client.view.calendar.*;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
 import gov.nysenate.openleg.model.calendar.*;
 import gov.nysenate.openleg.service.calendar.data.CalendarDataService;
 import gov.nysenate.openleg.service.calendar.data.CalendarNotFoundEx;
@@ -18,9 +21,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
@@ -120,14 +125,23 @@ public class CalendarGetCtrl extends BaseCtrl
      *
      * Gets a single calendar via year and calendar number:
      *      (GET) /api/3/calendars/{year}/{calendarNumber}
+     *
+     * Responses are served from the response cache and support conditional requests via ETag/Last-Modified.
      */
     @RequestMapping(value = "/{year:\\d{4}}/{calNo:\\d+}")
-    public BaseResponse getCalendar(@PathVariable int year,
-                                    @PathVariable int calNo,
-                                    @RequestParam(defaultValue = "true") boolean full) {
-        Calendar calendar = calendarDataService.getCalendar(new CalendarId(calNo, year));
-        return new ViewObjectResponse<>(full ? calendarViewFactory.getCalendarView(calendar)
-                                             : new SimpleCalendarView(calendar));
+    public ResponseEntity<byte[]> getCalendar(@PathVariable int year,
+                                              @PathVariable int calNo,
+                                              @RequestParam(defaultValue = "true") boolean full,
+                                              WebRequest webRequest) throws IOException {
+        CalendarId calendarId = new CalendarId(calNo, year);
+        // Full calendar views contain bill info for each entry
+        ResponseCacheKey cacheKey = new ResponseCacheKey(ContentCache.CALENDAR, calendarId,
+                                                         full ? "FULL" : "SIMPLE", SessionYear.of(year), full);
+        return getCachedResponse(cacheKey, webRequest, () -> {
+            Calendar calendar = calendarDataService.getCalendar(calendarId);
+            return new ViewObjectResponse<>(full ? calendarViewFactory.getCalendarView(calendar)
+                                                 : new SimpleCalendarView(calendar));
+        });
     }
 
     /**
@@ -97,24 +97,32 @@ public class CalendarSearchCtrl extends BaseCtrl{
      */
     private BaseResponse getCalendarSearchResponse(String term, String sort, LimitOffset limitOffset, Integer year, boolean detail)
             throws SearchException, InvalidRequestParamEx {
+        if (!detail) {
+            SearchResults<SimpleCalendarView> simpleResults = (year == null)
+                ? calendarSearchService.searchForSimpleCalendars(term, sort, limitOffset)
+                : calendarSearchService.searchForSimpleCalendarsByYear(year, term, sort, limitOffset);
+            return ListViewResponse.of(
+                    simpleResults.getResults().stream()
+                            .map(result -> new SearchResultView(result.getResult(), result.getRank()))
+                            .collect(Collectors.toList()),
+                    simpleResults.getTotalResults(), simpleResults.getLimitOffset());
+        }
         SearchResults<CalendarId> calResults = (year == null)
             ? calendarSearchService.searchForCalendars(term, sort, limitOffset)
             : calendarSearchService.searchForCalendarsByYear(year, term, sort, limitOffset);
-        return getCalendarSearchResultResponse(calResults, detail);
+        return getCalendarSearchResultResponse(calResults);
     }
 
     /**
-     * Generates a calendar list response from calendar search results
+     * Generates a detailed calendar list response from calendar search results
      * @param results
      * @return
      */
-    private BaseResponse getCalendarSearchResultResponse(SearchResults<CalendarId> results, boolean detail) {
+    private BaseResponse getCalendarSearchResultResponse(SearchResults<CalendarId> results) {
         return ListViewResponse.of(
                 results.getResults().stream()
-                        .map(result -> new SearchResultView((detail)
-                                ? calendarViewFactory.getCalendarView(
-                                calendarDataService.getCalendar(result.getResult()))
-                                : new SimpleCalendarView(calendarDataService.getCalendar(result.getResult())),
+                        .map(result -> new SearchResultView(
+                                calendarViewFactory.getCalendarView(calendarDataService.getCalendar(result.getResult())),
                                 result.getRank()))
                         .collect(Collectors.toList()),
                 results.getTotalResults(), results.getLimitOffset() );
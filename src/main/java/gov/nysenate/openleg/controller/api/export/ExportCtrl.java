@@ -0,0 +1,294 @@
+package gov.nysenate.openleg.controller.api.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.AbstractIterator;
+import gov.nysenate.openleg.client.response.base.NdjsonResponseWriter;
+import gov.nysenate.openleg.client.view.agenda.AgendaView;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.client.view.calendar.CalendarViewFactory;
+import gov.nysenate.openleg.client.view.law.LawDocView;
+import gov.nysenate.openleg.client.view.transcript.TranscriptView;
+import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.controller.api.base.InvalidRequestParamEx;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.base.SortOrder;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.law.LawDocument;
+import gov.nysenate.openleg.model.law.LawInfo;
+import gov.nysenate.openleg.model.transcript.TranscriptId;
+import gov.nysenate.openleg.service.agenda.data.AgendaDataService;
+import gov.nysenate.openleg.service.bill.data.BillDataService;
+import gov.nysenate.openleg.service.calendar.data.CalendarDataService;
+import gov.nysenate.openleg.service.law.data.LawDataService;
+import gov.nysenate.openleg.service.transcript.data.TranscriptDataService;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+
+import static gov.nysenate.openleg.controller.api.base.BaseCtrl.BASE_API_PATH;
+
+/**
+ * Bulk export APIs
+ *
+ * Each export streams every item of a session or year as newline delimited json (one view per line), in a
+ * fixed order. Items are loaded and written one at a time, so the memory used does not grow with the size of
+ * the export. An interrupted export can be resumed by passing the id of the last item received as 'after'.
+ * The response is gzip compressed for clients that accept gzip encoding.
+ *
+ * The last line of every export is a trailer rather than a view. A complete export ends with
+ * {"complete":true,"count":N}. If loading or serializing an item fails, the export ends with
+ * {"complete":false,"count":N,"error":...} instead. An export that is cut off while it is being sent has no trailer,
+ * and its gzip stream is left unfinished.
+ */
+@RestController
+@RequestMapping(value = BASE_API_PATH + "/export", method = RequestMethod.GET)
+public class ExportCtrl extends BaseCtrl
+{
+    private static final Logger logger = LoggerFactory.getLogger(ExportCtrl.class);
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    /** The number of calendars loaded at a time. */
+    private static final int CALENDAR_PAGE_SIZE = 25;
+
+    @Autowired private BillDataService billData;
+    @Autowired private AgendaDataService agendaData;
+    @Autowired private CalendarDataService calendarData;
+    @Autowired private CalendarViewFactory calendarViewFactory;
+    @Autowired private LawDataService lawData;
+    @Autowired private TranscriptDataService transcriptData;
+
+    /**
+     * Bill Export API
+     * ---------------
+     *
+     * Export all bills for a session: (GET) /api/3/export/bills/{session}
+     * Request Parameters: after - The print no of the last bill received, e.g. 'S1234'. Only bills that follow
+     *                             it are exported.
+     *
+     * Expected Output: BillView per line, ordered by bill id.
+     */
+    @RequestMapping("/bills/{sessionYear:[\\d]{4}}")
+    public void exportBills(@PathVariable int sessionYear, @RequestParam(required = false) String after,
+                            WebRequest webRequest, HttpServletResponse response) throws IOException {
+        SessionYear session = SessionYear.of(sessionYear);
+        BaseBillId lastBillId = null;
+        if (StringUtils.isNotBlank(after)) {
+            try {
+                lastBillId = new BaseBillId(after, session);
+            }
+            catch (IllegalArgumentException ex) {
+                throw new InvalidRequestParamEx(after, "after", "String", "Bill print no e.g. S1234");
+            }
+        }
+        BaseBillId afterBillId = lastBillId;
+        // Only the bill ids are held for the whole export
+        writeExport(billData.getBillIds(session, LimitOffset.ALL).stream()
+                .sorted()
+                .filter(billId -> afterBillId == null || billId.compareTo(afterBillId) > 0)
+                .map(billId -> new BillView(billData.getBill(billId))),
+            webRequest, response);
+    }
+
+    /**
+     * Agenda Export API
+     * -----------------
+     *
+     * Export all agendas for a year: (GET) /api/3/export/agendas/{year}
+     * Request Parameters: after - The number of the last agenda received.
+     *
+     * Expected Output: AgendaView per line, ordered by agenda number.
+     */
+    @RequestMapping("/agendas/{year:[\\d]{4}}")
+    public void exportAgendas(@PathVariable int year, WebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        int afterNo = getAfterNumber(webRequest);
+        writeExport(agendaData.getAgendaIds(year, SortOrder.ASC).stream()
+                .filter(agendaId -> agendaId.getNumber() > afterNo)
+                .map(agendaId -> new AgendaView(agendaData.getAgenda(agendaId), billData)),
+            webRequest, response);
+    }
+
+    /**
+     * Calendar Export API
+     * -------------------
+     *
+     * Export all calendars for a year: (GET) /api/3/export/calendars/{year}
+     * Request Parameters: after - The number of the last calendar received.
+     *
+     * Expected Output: CalendarView per line, ordered by calendar number.
+     */
+    @RequestMapping("/calendars/{year:[\\d]{4}}")
+    public void exportCalendars(@PathVariable int year, WebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        int afterNo = getAfterNumber(webRequest);
+        writeExport(getPages(limOff -> calendarData.getCalendars(year, SortOrder.ASC, limOff), CALENDAR_PAGE_SIZE)
+                .filter(calendar -> calendar.getId().getCalNo() > afterNo)
+                .map(calendarViewFactory::getCalendarView),
+            webRequest, response);
+    }
+
+    /**
+     * Law Export API
+     * --------------
+     *
+     * Export the current documents of all laws: (GET) /api/3/export/laws
+     * Request Parameters: after - The document id of the last law document received, e.g. 'ABC1'.
+     *
+     * Expected Output: LawDocView per line, ordered by document id. The documents are loaded one law at a time.
+     */
+    @RequestMapping("/laws")
+    public void exportLaws(@RequestParam(defaultValue = "") String after, WebRequest webRequest,
+                           HttpServletResponse response) throws IOException {
+        LocalDate endPublishedDate = LocalDate.now();
+        // Document ids are prefixed with their law id, so sorting laws by id also sorts their documents
+        writeExport(lawData.getLawInfos().stream()
+                .map(LawInfo::getLawId)
+                .sorted()
+                .filter(lawId -> lawId.compareTo(StringUtils.left(after, lawId.length())) >= 0)
+                .flatMap(lawId -> lawData.getLawDocuments(lawId, endPublishedDate).values().stream()
+                    .filter(doc -> doc.getDocumentId().compareTo(after) > 0)
+                    .sorted(Comparator.comparing(LawDocument::getDocumentId)))
+                .map(LawDocView::new),
+            webRequest, response);
+    }
+
+    /**
+     * Transcript Export API
+     * ---------------------
+     *
+     * Export all transcripts: (GET) /api/3/export/transcripts
+     * Request Parameters: after - The filename of the last transcript received.
+     *
+     * Expected Output: TranscriptView per line, ordered by filename.
+     */
+    @RequestMapping("/transcripts")
+    public void exportTranscripts(@RequestParam(defaultValue = "") String after, WebRequest webRequest,
+                                  HttpServletResponse response) throws IOException {
+        TranscriptId afterId = new TranscriptId(after);
+        writeExport(transcriptData.getTranscriptIds(SortOrder.ASC, LimitOffset.ALL).stream()
+                .sorted()
+                .filter(transcriptId -> transcriptId.compareTo(afterId) > 0)
+                .map(transcriptId -> new TranscriptView(transcriptData.getTranscript(transcriptId))),
+            webRequest, response);
+    }
+
+    /** --- Internal --- */
+
+    /**
+     * Writes each view to the response as it is produced by the stream, followed by the trailer line.
+     * The writer is only closed once the trailer is written. If writing to the client fails, the exception is
+     * propagated without finishing the response, so a cut off export can't pass for a complete one. The gzip
+     * stream of an aborted export is released without writing its footer.
+     */
+    private void writeExport(Stream<? extends ViewObject> views, WebRequest webRequest,
+                             HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        OutputStream outputStream = response.getOutputStream();
+        ExportGzipOutputStream gzipStream = null;
+        String acceptEncoding = webRequest.getHeader("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            response.setHeader("Content-Encoding", "gzip");
+            gzipStream = new ExportGzipOutputStream(outputStream);
+            outputStream = gzipStream;
+        }
+        NdjsonResponseWriter writer = new NdjsonResponseWriter(outputStream);
+        boolean closed = false;
+        try {
+            writeViews(views, writer, webRequest);
+            writer.close();
+            closed = true;
+        }
+        finally {
+            if (!closed && gzipStream != null) {
+                gzipStream.abort();
+            }
+        }
+        logger.debug("Exported {} items for {}", writer.getCount(), webRequest.getDescription(false));
+    }
+
+    /**
+     * Writes the views and the trailer. A view that fails to load or serialize is never partially written,
+     * so the error trailer always starts on a line of its own.
+     */
+    private void writeViews(Stream<? extends ViewObject> views, NdjsonResponseWriter writer, WebRequest webRequest)
+                            throws IOException {
+        Iterator<? extends ViewObject> viewIterator = views.iterator();
+        try {
+            while (viewIterator.hasNext()) {
+                writer.write(viewIterator.next());
+            }
+        }
+        catch (RuntimeException | JsonProcessingException ex) {
+            // The response has already been committed, so the failure is reported in the trailer
+            logger.error("Export failed after " + writer.getCount() + " items for " +
+                         webRequest.getDescription(false), ex);
+            writer.writeError("The export failed after " + writer.getCount() + " items. " +
+                              "Request it again with the 'after' parameter to resume it.");
+            return;
+        }
+        writer.writeComplete();
+    }
+
+    /**
+     * Returns a stream over the results of a paged query, loading the next page once the previous one is consumed.
+     */
+    private static <T> Stream<T> getPages(Function<LimitOffset, List<T>> pageLoader, int pageSize) {
+        Iterator<List<T>> pageIterator = new AbstractIterator<List<T>>() {
+            private LimitOffset limOff = new LimitOffset(pageSize);
+            private boolean lastPage = false;
+
+            @Override
+            protected List<T> computeNext() {
+                if (lastPage) {
+                    return endOfData();
+                }
+                List<T> page = pageLoader.apply(limOff);
+                lastPage = page.size() < pageSize;
+                limOff = limOff.next();
+                return page.isEmpty() ? endOfData() : page;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pageIterator, Spliterator.ORDERED), false)
+            .flatMap(List::stream);
+    }
+
+    private int getAfterNumber(WebRequest webRequest) {
+        return webRequest.getParameter("after") != null ? getIntegerParam(webRequest, "after") : 0;
+    }
+
+    /**
+     * A gzip stream that can release its deflater without finishing the stream. Closing the stream would try to
+     * write the gzip footer to a client that is no longer there, which fails before the deflater is ended.
+     */
+    private static class ExportGzipOutputStream extends GZIPOutputStream
+    {
+        public ExportGzipOutputStream(OutputStream outputStream) throws IOException {
+            super(outputStream);
+        }
+
+        public void abort() {
+            def.end();
+        }
+    }
+}
@@ -7,10 +7,9 @@ import gov.nysenate.openleg.client.view.law.LawDocIdView;
 import gov.nysenate.openleg.client.view.law.LawDocInfoView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
 import gov.nysenate.openleg.dao.base.LimitOffset;
-import gov.nysenate.openleg.model.law.LawDocId;
+import gov.nysenate.openleg.model.law.LawDocInfo;
 import gov.nysenate.openleg.model.search.SearchException;
 import gov.nysenate.openleg.model.search.SearchResults;
-import gov.nysenate.openleg.service.law.data.LawDataService;
 import gov.nysenate.openleg.service.law.search.LawSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +26,6 @@ public class LawSearchCtrl extends BaseCtrl
 {
     private static final Logger logger = LoggerFactory.getLogger(LawSearchCtrl.class);
 
-    @Autowired private LawDataService lawData;
     @Autowired private LawSearchService lawSearch;
 
     /**
@@ -63,12 +61,10 @@ public class LawSearchCtrl extends BaseCtrl
 
     /** --- Internal --- */
 
-    private BaseResponse getLawDocSearchResults(LimitOffset limOff, SearchResults<LawDocId> results) {
+    private BaseResponse getLawDocSearchResults(LimitOffset limOff, SearchResults<LawDocInfo> results) {
         return ListViewResponse.of(
             results.getResults().stream()
-                .map(r -> new SearchResultView(
-                    new LawDocInfoView(lawData.getLawDocInfo(r.getResult().getDocumentId(), r.getResult().getPublishedDate())),
-                        r.getRank(), r.getHighlights()))
+                .map(r -> new SearchResultView(new LawDocInfoView(r.getResult()), r.getRank(), r.getHighlights()))
                 .collect(toList()), results.getTotalResults(), limOff);
     }
 }
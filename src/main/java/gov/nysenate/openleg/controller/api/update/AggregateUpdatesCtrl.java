@@ -3,6 +3,7 @@ package gov.nysenate.openleg.controller.api.update;
 import com.google.common.collect.Range;
 import gov.nysenate.openleg.client.response.base.BaseResponse;
 import gov.nysenate.openleg.client.response.base.DateRangeListViewResponse;
+import gov.nysenate.openleg.client.response.base.UpdateStreamResponse;
 import gov.nysenate.openleg.client.view.agenda.AgendaIdView;
 import gov.nysenate.openleg.client.view.base.ViewObject;
 import gov.nysenate.openleg.client.view.bill.BaseBillIdView;
@@ -12,6 +13,7 @@ import gov.nysenate.openleg.client.view.law.LawVersionIdView;
 import gov.nysenate.openleg.client.view.updates.UpdateDigestView;
 import gov.nysenate.openleg.client.view.updates.UpdateTokenView;
 import gov.nysenate.openleg.controller.api.base.BaseCtrl;
+import gov.nysenate.openleg.controller.api.base.InvalidRequestParamEx;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.PaginatedList;
 import gov.nysenate.openleg.dao.base.SortOrder;
@@ -23,20 +25,24 @@ import gov.nysenate.openleg.model.law.LawDocId;
 import gov.nysenate.openleg.model.law.LawVersionId;
 import gov.nysenate.openleg.model.updates.UpdateContentType;
 import gov.nysenate.openleg.model.updates.UpdateDigest;
+import gov.nysenate.openleg.model.updates.UpdateStreamPage;
 import gov.nysenate.openleg.model.updates.UpdateToken;
 import gov.nysenate.openleg.model.updates.UpdateType;
+import gov.nysenate.openleg.service.updates.UpdateStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.controller.api.base.BaseCtrl.*;
@@ -47,6 +53,10 @@ import static org.springframework.http.MediaType.*;
 public class AggregateUpdatesCtrl extends BaseCtrl {
 
     @Autowired AggregateUpdatesDao updatesDao;
+    @Autowired UpdateStreamService updateStreamService;
+
+    private static final int MAX_STREAM_LIMIT = 1000;
+    private static final int MAX_STREAM_TIMEOUT_SECONDS = 120;
 
     /**
      * Aggregate Updates API
@@ -76,6 +86,51 @@ public class AggregateUpdatesCtrl extends BaseCtrl {
         return getAggregateUpdatesResponse(parseISODateTime(from, "from"), parseISODateTime(to, "to"), webRequest);
     }
 
+    /**
+     * Update Stream API
+     * -----------------
+     *
+     * Long polls for update tokens as content is processed, allowing clients to follow updates without
+     * repeatedly querying date ranges. The request returns as soon as there are updates after the given cursor
+     * or when the timeout elapses, in which case the list is empty. Either way the returned cursor should be
+     * supplied with the next request.
+     *
+     * Usage: (GET) /api/3/updates/stream
+     *
+     * Request Params: cursor (string) - The cursor returned by the previous stream request.
+     *                                   Default: the current end of the stream
+     *                 content-type (string[]) - Only get updates for the specified types
+     *                                           Default: all types (AGENDA, BILL, CALENDAR, LAW)
+     *                 limit (int) - The maximum number of tokens to return. Default: 100
+     *                 timeout (int) - Seconds to wait for an update. Default: 30, Max: 120
+     *
+     * Expected Response: List of UpdateTokenView along with the next cursor. If 'resync' is true the cursor has
+     *                    expired and any updates since the client's last processed date time should be fetched from
+     *                    the date range api before continuing with the returned cursor.
+     */
+    @RequestMapping(value = "/stream")
+    public DeferredResult<BaseResponse> getUpdateStream(WebRequest webRequest) {
+        String cursor = webRequest.getParameter("cursor");
+        Set<UpdateContentType> contentTypes = getContentTypes(webRequest);
+        int limit = Math.max(1, Math.min(getIntegerParam(webRequest, "limit", 100), MAX_STREAM_LIMIT));
+        int timeout = Math.max(1, Math.min(getIntegerParam(webRequest, "timeout", 30), MAX_STREAM_TIMEOUT_SECONDS));
+
+        CompletableFuture<UpdateStreamPage> pageFuture;
+        try {
+            pageFuture = updateStreamService.awaitUpdates(cursor, contentTypes, limit);
+        }
+        catch (IllegalArgumentException ex) {
+            throw new InvalidRequestParamEx(cursor, "cursor", "string", "A cursor from a previous stream response");
+        }
+        DeferredResult<BaseResponse> result = new DeferredResult<>(timeout * 1000L);
+        result.onTimeout(() ->
+            result.setResult(getStreamResponse(updateStreamService.getUpdates(cursor, contentTypes, limit), limit)));
+        // Stop waiting on the stream if the request times out or the client goes away
+        result.onCompletion(() -> pageFuture.cancel(false));
+        pageFuture.thenAccept(page -> result.setResult(getStreamResponse(page, limit)));
+        return result;
+    }
+
     /**
      * Parses request parameters and fetches a response for the getAggregateUpdates functions
      * @see #getAggregateUpdates
@@ -118,6 +173,14 @@ public class AggregateUpdatesCtrl extends BaseCtrl {
                 dateTimeRange, result.getTotal(), limitOffset);
     }
 
+    private BaseResponse getStreamResponse(UpdateStreamPage page, int limit) {
+        return UpdateStreamResponse.of(
+                page.getTokens().stream()
+                        .map(this::getTokenView)
+                        .collect(Collectors.toList()),
+                page.getCursor(), page.isResync(), limit);
+    }
+
     private Set<UpdateContentType> getContentTypes(WebRequest webRequest) {
         String[] contentTypeStrings = webRequest.getParameterValues("content-type");
         Set<UpdateContentType> types = new HashSet<>();
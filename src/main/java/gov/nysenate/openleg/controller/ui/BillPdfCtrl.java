@@ -1,18 +1,17 @@
 package gov.nysenate.openleg.controller.ui;
 
-import gov.nysenate.openleg.client.view.bill.BillPdfView;
-import gov.nysenate.openleg.model.bill.BaseBillId;
-import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.bill.BillPdf;
 import gov.nysenate.openleg.service.bill.data.BillAmendNotFoundEx;
-import gov.nysenate.openleg.service.bill.data.BillDataService;
 import gov.nysenate.openleg.service.bill.data.BillNotFoundEx;
+import gov.nysenate.openleg.service.bill.data.BillPdfService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -23,16 +22,19 @@ public class BillPdfCtrl
     private static final Logger logger = LoggerFactory.getLogger(BillPdfCtrl.class);
 
     @Autowired
-    protected BillDataService billData;
+    protected BillPdfService billPdfService;
 
     @RequestMapping(value = "/{sessionYear:[\\d]{4}}/{printNo}")
-    public void getBillPdf(@PathVariable int sessionYear, @PathVariable String printNo, HttpServletResponse response)
-            throws Exception {
+    public void getBillPdf(@PathVariable int sessionYear, @PathVariable String printNo, WebRequest webRequest,
+                           HttpServletResponse response) throws Exception {
         try {
-            BillId billId = new BillId(printNo, sessionYear);
-            Bill bill = billData.getBill(BaseBillId.of(billId));
-            new BillPdfView(bill, billId.getVersion(), response.getOutputStream());
-            response.setContentType("application/pdf");
+            BillPdf billPdf = billPdfService.getBillPdf(new BillId(printNo, sessionYear));
+            if (!webRequest.checkNotModified(billPdf.getEtag())) {
+                response.setHeader("ETag", billPdf.getEtag());
+                response.setContentType("application/pdf");
+                response.setContentLength(billPdf.getContent().length);
+                response.getOutputStream().write(billPdf.getContent());
+            }
         }
         catch (BillNotFoundEx | BillAmendNotFoundEx ex) {
             response.sendError(404, ex.getMessage());
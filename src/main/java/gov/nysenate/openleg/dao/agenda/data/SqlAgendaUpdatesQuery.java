@@ -25,14 +25,14 @@ public enum SqlAgendaUpdatesQuery implements BasicSqlQuery
     ),
 
     SELECT_AGENDA_UPDATE_TOKENS(
-        String.format(SELECT_AGENDA_UPDATES_FRAGMENT.sql,
-            // Select columns
-            "       MAX(action_date_time) AS last_processed_date_time, MAX(sobi_fragment_id) AS last_fragment_id,\n" +
-            "       MAX(published_date_time) AS last_published_date_time, COUNT(*) OVER() AS total_updated\n",
-            // No extra where clause
-            "",
-            // Group by agenda id
-            "GROUP BY agenda_no, year")
+        "SELECT content_id[2]::smallint AS agenda_no, content_id[4]::smallint AS year,\n" +
+        "       MAX(source_id) AS last_fragment_id, MAX(action_date_time) AS last_processed_date_time,\n" +
+        "       MAX(published_date_time) AS last_published_date_time, COUNT(*) OVER () AS total_updated\n" +
+        "FROM ${schema}." + SqlTable.UPDATE_TOKEN + "\n" +
+        "WHERE ${dateColumn} BETWEEN :startDateTime AND :endDateTime\n" +
+        "AND content_type = 'AGENDA'\n" +
+        // The update token rollup keeps one row per agenda and source so this group is small
+        "GROUP BY content_id"
     ),
 
     SELECT_AGENDA_UPDATE_DIGESTS(
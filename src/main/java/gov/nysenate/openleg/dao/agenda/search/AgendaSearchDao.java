@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.dao.agenda.search;
 
+import gov.nysenate.openleg.client.view.agenda.CommAgendaSummaryView;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
@@ -33,6 +34,15 @@ public interface AgendaSearchDao
      */
     public SearchResults<CommitteeAgendaId> searchCommitteeAgendas(QueryBuilder query, FilterBuilder postFilter, String sort, LimitOffset limOff);
 
+    /**
+     * Performs a search across all agendas broken down by committee, returning summaries that are built
+     * from the indexed committee agendas rather than from the agendas themselves.
+     * @see #searchCommitteeAgendas(QueryBuilder, FilterBuilder, String, LimitOffset)
+     * @return SearchResults<CommAgendaSummaryView>
+     */
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(QueryBuilder query, FilterBuilder postFilter,
+                                                                               String sort, LimitOffset limOff);
+
     /**
      * Update the agenda index with the content of the supplied agenda.
      *
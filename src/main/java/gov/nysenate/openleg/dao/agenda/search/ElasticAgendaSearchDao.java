@@ -2,6 +2,7 @@ package gov.nysenate.openleg.dao.agenda.search;
 
 import com.google.common.collect.Lists;
 import gov.nysenate.openleg.client.view.agenda.AgendaCommFlatView;
+import gov.nysenate.openleg.client.view.agenda.CommAgendaSummaryView;
 import gov.nysenate.openleg.dao.base.ElasticBaseDao;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
@@ -23,9 +24,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSearchDao
@@ -34,6 +37,11 @@ public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSear
 
     protected static final String agendaIndexName = SearchIndex.AGENDA.getIndexName();
 
+    /** The indexed fields needed to build a committee agenda summary. */
+    protected static final String[] summarySourceFields =
+        {"agenda.weekOf", "committee.addenda.size", "committee.addenda.items.bills.size",
+         "committee.addenda.items.voteInfo.votesList.size"};
+
     /** {@inheritDoc} */
     @Override
     public SearchResults<AgendaId> searchAgendas(QueryBuilder query, FilterBuilder postFilter, String sort, LimitOffset limOff) {
@@ -55,11 +63,60 @@ public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSear
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(QueryBuilder query, FilterBuilder postFilter,
+                                                                               String sort, LimitOffset limOff) {
+        SearchRequestBuilder searchBuilder =
+            getSearchRequest(agendaIndexName, query, postFilter, null, null, sort, limOff, true)
+                .setFetchSource(summarySourceFields, null);
+        SearchResponse response = searchBuilder.execute().actionGet();
+        logger.debug("Committee Agenda summary search result with query {} took {} ms", query, response.getTookInMillis());
+        return getSearchResults(response, limOff, this::getCommAgendaSummaryFromHit);
+    }
+
     private AgendaId getAgendaIdFromHit(SearchHit hit) {
         String[] type = hit.getType().split("-");
         return new AgendaId(Integer.parseInt(type[1]), Integer.parseInt(type[0]));
     }
 
+    /**
+     * Builds the summary from the indexed {@link AgendaCommFlatView} of the committee agenda.
+     */
+    @SuppressWarnings("unchecked")
+    private CommAgendaSummaryView getCommAgendaSummaryFromHit(SearchHit hit) {
+        CommitteeAgendaId committeeAgendaId =
+            new CommitteeAgendaId(getAgendaIdFromHit(hit), new CommitteeId(Chamber.SENATE, hit.getId()));
+        Map<String, Object> source = hit.getSource();
+        Map<String, Object> agenda = (Map<String, Object>) source.get("agenda");
+        String weekOf = (agenda != null) ? (String) agenda.get("weekOf") : null;
+        long totalAddendum = 0;
+        int totalBillsConsidered = 0;
+        int totalBillsVotedOn = 0;
+        Map<String, Object> committee = (Map<String, Object>) source.get("committee");
+        Map<String, Object> addenda = (committee != null) ? (Map<String, Object>) committee.get("addenda") : null;
+        if (addenda != null) {
+            totalAddendum = getSize(addenda);
+            List<Map<String, Object>> items = (List<Map<String, Object>>) addenda.get("items");
+            if (items != null) {
+                for (Map<String, Object> addendum : items) {
+                    totalBillsConsidered += getSize((Map<String, Object>) addendum.get("bills"));
+                    Map<String, Object> voteInfo = (Map<String, Object>) addendum.get("voteInfo");
+                    if (voteInfo != null) {
+                        totalBillsVotedOn += getSize((Map<String, Object>) voteInfo.get("votesList"));
+                    }
+                }
+            }
+        }
+        return new CommAgendaSummaryView(committeeAgendaId, (weekOf != null) ? LocalDate.parse(weekOf) : null,
+                                         totalAddendum, totalBillsConsidered, totalBillsVotedOn);
+    }
+
+    /** Returns the size of an indexed list view, or 0 if it was not indexed. */
+    private static int getSize(Map<String, Object> listView) {
+        return (listView != null && listView.get("size") != null) ? ((Number) listView.get("size")).intValue() : 0;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateAgendaIndex(Agenda agenda) {
@@ -79,7 +136,7 @@ public class ElasticAgendaSearchDao extends ElasticBaseDao implements AgendaSear
                             searchClient.prepareIndex(agendaIndexName,
                                 agenda.getId().getYear() + "-" + cfv.getAgenda().getId().getNumber(),
                                 cfv.getCommittee().getCommitteeId().getName())
-                            .setSource(OutputUtils.toJson(cfv)))));
+                            .setSource(OutputUtils.toCompactJson(cfv)))));
             safeBulkRequestExecute(bulkRequest);
         }
     }
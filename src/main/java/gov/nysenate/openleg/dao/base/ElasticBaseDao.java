@@ -5,6 +5,7 @@ import com.google.common.primitives.Ints;
 import gov.nysenate.openleg.model.search.SearchResult;
 import gov.nysenate.openleg.model.search.SearchResults;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.admin.indices.create.CreateIndexRequestBuilder;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsRequest;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
@@ -26,9 +27,14 @@ import org.elasticsearch.search.sort.SortBuilders;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
 
 import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +48,9 @@ public abstract class ElasticBaseDao
 {
     private static final Logger logger = LoggerFactory.getLogger(ElasticBaseDao.class);
 
+    /** Classpath directory of the index mapping files. */
+    protected static final String INDEX_MAPPING_PATH = "elastic/mapping";
+
     @Autowired
     protected Client searchClient;
 
@@ -208,8 +217,28 @@ public abstract class ElasticBaseDao
         return searchClient.admin().indices().exists(new IndicesExistsRequest(indices)).actionGet().isExists();
     }
 
+    /**
+     * Creates the index along with its mapping, which is read from {@link #INDEX_MAPPING_PATH}/{indexName}.json
+     * or the default mapping file if the index doesn't have one. The mapping applies to every type in the index.
+     */
     protected void createIndex(String indexName) {
-        searchClient.admin().indices().prepareCreate(indexName).execute().actionGet();
+        CreateIndexRequestBuilder createRequest = searchClient.admin().indices().prepareCreate(indexName);
+        getIndexMapping(indexName).ifPresent(mapping -> createRequest.addMapping("_default_", mapping));
+        createRequest.execute().actionGet();
+    }
+
+    protected Optional<String> getIndexMapping(String indexName) {
+        ClassPathResource mappingResource = new ClassPathResource(INDEX_MAPPING_PATH + "/" + indexName + ".json");
+        if (!mappingResource.exists()) {
+            mappingResource = new ClassPathResource(INDEX_MAPPING_PATH + "/default.json");
+        }
+        try (InputStream mappingStream = mappingResource.getInputStream()) {
+            return Optional.of(StreamUtils.copyToString(mappingStream, StandardCharsets.UTF_8));
+        }
+        catch (IOException ex) {
+            logger.warn("Could not read the mapping for index {}, using dynamic mapping.", indexName, ex);
+            return Optional.empty();
+        }
     }
 
     protected void deleteIndex(String index) {
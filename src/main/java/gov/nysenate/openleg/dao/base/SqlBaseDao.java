@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import javax.annotation.PostConstruct;
 import java.io.File;
@@ -162,6 +163,20 @@ public abstract class SqlBaseDao
             .collect(Collectors.joining(","));
     }
 
+    /** --- Batch Methods --- */
+
+    /**
+     * Executes the query once for each set of params using jdbc batching.
+     * @return int[] - the number of rows affected by each statement in the batch
+     */
+    protected int[] batchUpdate(BasicSqlQuery query, List<? extends SqlParameterSource> batchParams) {
+        if (batchParams.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcNamed.batchUpdate(query.getSql(schema()),
+                                     batchParams.toArray(new SqlParameterSource[batchParams.size()]));
+    }
+
     /** --- Update Dao Methods --- */
 
     protected String getDateColumnForUpdateType(UpdateType updateType) {
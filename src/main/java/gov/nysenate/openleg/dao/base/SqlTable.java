@@ -112,6 +112,8 @@ public enum SqlTable
     TRANSCRIPT                   ("transcript"),
     TRANSCRIPT_FILE              ("transcript_file"),
 
+    UPDATE_TOKEN                 ("update_token"),
+
     PUBLIC_HEARING               ("public_hearing"),
     PUBLIC_HEARING_ATTENDANCE    ("public_hearing_attendance"),
     PUBLIC_HEARING_COMMITTEE     ("public_hearing_committee"),
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_BILL_UPDATE_DIGESTS;
 import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_BILL_UPDATE_TOKENS;
+import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_BILL_UPDATE_TOKENS_FROM_ROLLUP;
 import static gov.nysenate.openleg.dao.bill.data.SqlBillUpdatesQuery.SELECT_UPDATE_DIGESTS_FOR_SPECIFIC_BILL;
 import static gov.nysenate.openleg.model.bill.BillUpdateField.*;
 
@@ -123,9 +124,13 @@ public class SqlBillUpdatesDao extends SqlBaseDao implements BillUpdatesDao
         if (billId != null) {
             sqlQuery = SELECT_UPDATE_DIGESTS_FOR_SPECIFIC_BILL.getSql(schema(), orderBy, limOff);
         }
+        else if (detail) {
+            sqlQuery = SELECT_BILL_UPDATE_DIGESTS.getSql(schema(), orderBy, limOff);
+        }
         else {
-            sqlQuery = (detail) ? SELECT_BILL_UPDATE_DIGESTS.getSql(schema(), orderBy, limOff)
-                                : SELECT_BILL_UPDATE_TOKENS.getSql(schema(), orderBy, limOff);
+            // The update token rollup does not track which fields changed so filtered tokens use the change log
+            sqlQuery = (fieldFilter == null) ? SELECT_BILL_UPDATE_TOKENS_FROM_ROLLUP.getSql(schema(), orderBy, limOff)
+                                             : SELECT_BILL_UPDATE_TOKENS.getSql(schema(), orderBy, limOff);
         }
         sqlQuery = queryReplace(sqlQuery, "dateColumn", dateColumn);
         sqlQuery = queryReplace(sqlQuery, "updateFieldFilter", getUpdateFieldFilter(fieldFilter));
@@ -31,6 +31,17 @@ public enum SqlBillUpdatesQuery implements BasicSqlQuery
             "GROUP BY bill_print_no, bill_session_year")
     ),
 
+    SELECT_BILL_UPDATE_TOKENS_FROM_ROLLUP(
+        "SELECT content_id[2] AS bill_print_no, content_id[4]::smallint AS bill_session_year,\n" +
+        "       MAX(source_id) AS last_fragment_id, MAX(action_date_time) AS last_processed_date_time,\n" +
+        "       MAX(published_date_time) AS last_published_date_time, COUNT(*) OVER () AS total_updated\n" +
+        "FROM ${schema}." + SqlTable.UPDATE_TOKEN + "\n" +
+        "WHERE ${dateColumn} BETWEEN :startDateTime AND :endDateTime\n" +
+        "AND content_type = 'BILL'\n" +
+        // The update token rollup keeps one row per bill and source so this group is small
+        "GROUP BY content_id"
+    ),
+
     SELECT_BILL_UPDATE_DIGESTS(
         String.format(SELECT_BILL_UPDATES_FRAGMENT.sql,
             // Select columns
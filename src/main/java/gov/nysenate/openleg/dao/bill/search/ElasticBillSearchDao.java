@@ -64,7 +64,7 @@ public class ElasticBillSearchDao extends ElasticBaseDao implements BillSearchDa
             billViewList.forEach(b ->
                 bulkRequest.add(
                     searchClient.prepareIndex(billIndexName, Integer.toString(b.getSession()), b.getBasePrintNo())
-                                .setSource(OutputUtils.toJson(b)))
+                                .setSource(OutputUtils.toCompactJson(b)))
             );
             safeBulkRequestExecute(bulkRequest);
         }
@@ -61,6 +61,11 @@ public interface BillTextReferenceDao {
      */
     void insertBillTextReference(BillTextReference ref);
 
+    /**
+     * Inserts or updates each of the given bill text references using batched statements
+     */
+    void insertBillTextReferences(Collection<BillTextReference> refs);
+
     /** Sets all references for the given bill id as checked */
     void setChecked(BaseBillId billId);
 
@@ -13,6 +13,17 @@ public enum SqlBillTextReferenceQuery implements BasicSqlQuery {
               "(bill_print_no, bill_session_year, reference_date_time, bill_amend_version, text, memo, not_found) " +
         "VALUES(:bill_print_no, :bill_session_year, :reference_date_time,:bill_amend_version, :text, :memo, :not_found)"
     ),
+    // The values are cast since their types can't be inferred from a select list
+    INSERT_BILL_TEXT_REFERENCE_IF_MISSING(
+        "INSERT INTO ${schema}."+SqlTable.BILL_TEXT_REFERENCE+"\n" +
+              "(bill_print_no, bill_session_year, reference_date_time, bill_amend_version, text, memo, not_found) " +
+        "SELECT CAST(:bill_print_no AS text), CAST(:bill_session_year AS smallint), " +
+        "       CAST(:reference_date_time AS timestamp), CAST(:bill_amend_version AS character(1)), " +
+        "       CAST(:text AS text), CAST(:memo AS text), CAST(:not_found AS boolean)\n" +
+        "WHERE NOT EXISTS (SELECT 1 FROM ${schema}." + SqlTable.BILL_TEXT_REFERENCE + "\n" +
+        "                  WHERE bill_print_no = :bill_print_no AND bill_session_year = :bill_session_year\n" +
+        "                      AND reference_date_time = :reference_date_time)"
+    ),
     SELECT_UNCHECKED_BTR (
         "SELECT * FROM (\n" +
         "   SELECT bill_print_no, bill_session_year, MAX(reference_date_time) AS reference_date_time\n" +
@@ -11,6 +11,7 @@ import gov.nysenate.openleg.model.spotcheck.billtext.BillTextReference;
 import gov.nysenate.openleg.util.DateUtils;
 import gov.nysenate.openleg.util.FileIOUtils;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,8 +27,12 @@ import javax.annotation.PostConstruct;
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.dao.bill.text.SqlBillTextReferenceQuery.*;
 
@@ -80,6 +85,25 @@ public class SqlFsBillTextReferenceDao extends SqlBaseDao implements BillTextRef
         }
     }
 
+    @Override
+    public void insertBillTextReferences(Collection<BillTextReference> refs) {
+        // Only the last of any references sharing a key is kept, as if they had been inserted one at a time
+        Map<Pair<BaseBillId, LocalDateTime>, BillTextReference> uniqueRefs = new LinkedHashMap<>();
+        refs.forEach(ref -> uniqueRefs.put(Pair.of(ref.getBaseBillId(), ref.getReferenceDate()), ref));
+        List<MapSqlParameterSource> refParams = uniqueRefs.values().stream()
+                .map(this::getParams)
+                .collect(Collectors.toList());
+        int[] updateCounts = batchUpdate(UPDATE_BILL_REFERENCE, refParams);
+        List<MapSqlParameterSource> insertParams = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] <= 0) {
+                insertParams.add(refParams.get(i));
+            }
+        }
+        // Rows that were updated without reporting a count, or inserted concurrently, are skipped
+        batchUpdate(INSERT_BILL_TEXT_REFERENCE_IF_MISSING, insertParams);
+    }
+
     @Override
     public void setChecked(BaseBillId billId) {
         MapSqlParameterSource params = getParams(billId);
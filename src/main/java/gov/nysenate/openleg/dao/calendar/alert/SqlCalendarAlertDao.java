@@ -16,6 +16,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
 import java.sql.ResultSet;
@@ -124,22 +125,21 @@ public class SqlCalendarAlertDao extends SqlBaseDao implements CalendarAlertDao
             Maps.difference(existingCalSupMap, calendar.getSupplementalMap());
         // Delete any supplementals that were not found in the current map or were different.
         Set<Version> deleteSupVersions = Sets.union(diff.entriesDiffering().keySet(), diff.entriesOnlyOnLeft().keySet());
-        for (Version supVersion : deleteSupVersions) {
-            ImmutableParams calSupParams = calParams.add(new MapSqlParameterSource("supVersion", supVersion.getValue()));
-            jdbcNamed.update(SqlCalendarAlertQuery.DELETE_CALENDAR_SUP.getSql(schema()), calSupParams);
-        }
+        batchUpdate(SqlCalendarAlertQuery.DELETE_CALENDAR_SUP, deleteSupVersions.stream()
+            .map(supVersion -> calParams.add(new MapSqlParameterSource("supVersion", supVersion.getValue())))
+            .collect(Collectors.toList()));
         // Insert any new or differing supplementals
         Set<Version> updateSupVersions = Sets.union(diff.entriesDiffering().keySet(), diff.entriesOnlyOnRight().keySet());
+        List<SqlParameterSource> supParams = new ArrayList<>();
+        List<SqlParameterSource> entryParams = new ArrayList<>();
         for (Version supVersion : updateSupVersions) {
             CalendarSupplemental sup = calendar.getSupplemental(supVersion);
-            ImmutableParams supParams = ImmutableParams.from(getCalSupplementalParams(sup, file));
-            jdbcNamed.update(SqlCalendarAlertQuery.INSERT_CALENDAR_SUP.getSql(schema()), supParams);
-            // Insert the calendar entries
-            for (CalendarSupplementalEntry entry : sup.getSectionEntries().values()) {
-                ImmutableParams entryParams = ImmutableParams.from(getCalSupEntryParams(sup, entry, file));
-                jdbcNamed.update(SqlCalendarAlertQuery.INSERT_CALENDAR_SUP_ENTRY.getSql(schema()), entryParams);
-            }
+            supParams.add(getCalSupplementalParams(sup, file));
+            sup.getSectionEntries().values().forEach(entry -> entryParams.add(getCalSupEntryParams(sup, entry, file)));
         }
+        // The entries reference their supplemental, so they are inserted after all of the supplementals
+        batchUpdate(SqlCalendarAlertQuery.INSERT_CALENDAR_SUP, supParams);
+        batchUpdate(SqlCalendarAlertQuery.INSERT_CALENDAR_SUP_ENTRY, entryParams);
     }
 
     /**
@@ -163,22 +163,21 @@ public class SqlCalendarAlertDao extends SqlBaseDao implements CalendarAlertDao
                 Maps.difference(existingActiveListMap, calendar.getActiveListMap());
         // Delete any active lists that were not found in the current map or were different.
         Set<Integer> deleteActListSeqs = Sets.union(diff.entriesDiffering().keySet(), diff.entriesOnlyOnLeft().keySet());
-        for (Integer actListSeq : deleteActListSeqs) {
-            ImmutableParams activeListParams = calParams.add(new MapSqlParameterSource("sequenceNo", actListSeq));
-            jdbcNamed.update(SqlCalendarAlertQuery.DELETE_CALENDAR_ACTIVE_LIST.getSql(schema()), activeListParams);
-        }
+        batchUpdate(SqlCalendarAlertQuery.DELETE_CALENDAR_ACTIVE_LIST, deleteActListSeqs.stream()
+            .map(actListSeq -> calParams.add(new MapSqlParameterSource("sequenceNo", actListSeq)))
+            .collect(Collectors.toList()));
         // Insert any new or differing active lists
         Set<Integer> updateActListSeqs = Sets.union(diff.entriesDiffering().keySet(), diff.entriesOnlyOnRight().keySet());
+        List<SqlParameterSource> actListParams = new ArrayList<>();
+        List<SqlParameterSource> entryParams = new ArrayList<>();
         for (Integer actListSeq : updateActListSeqs) {
             CalendarActiveList actList = calendar.getActiveList(actListSeq);
-            ImmutableParams actListParams = ImmutableParams.from(getCalActiveListParams(actList, file));
-            jdbcNamed.update(SqlCalendarAlertQuery.INSERT_CALENDAR_ACTIVE_LIST.getSql(schema()), actListParams);
-            // Insert the active list entries
-            for (CalendarEntry entry : actList.getEntries()) {
-                ImmutableParams entryParams = ImmutableParams.from(getCalActiveListEntryParams(actList, entry, file));
-                jdbcNamed.update(SqlCalendarAlertQuery.INSERT_CALENDAR_ACTIVE_LIST_ENTRY.getSql(schema()), entryParams);
-            }
+            actListParams.add(getCalActiveListParams(actList, file));
+            actList.getEntries().forEach(entry -> entryParams.add(getCalActiveListEntryParams(actList, entry, file)));
         }
+        // The entries reference their active list, so they are inserted after all of the active lists
+        batchUpdate(SqlCalendarAlertQuery.INSERT_CALENDAR_ACTIVE_LIST, actListParams);
+        batchUpdate(SqlCalendarAlertQuery.INSERT_CALENDAR_ACTIVE_LIST_ENTRY, entryParams);
     }
 
     /** --- Helper Classes --- */
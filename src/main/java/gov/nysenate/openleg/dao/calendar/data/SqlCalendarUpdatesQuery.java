@@ -20,14 +20,14 @@ public enum SqlCalendarUpdatesQuery implements BasicSqlQuery
     ),
 
     SELECT_CALENDAR_UPDATE_TOKENS(
-        String.format(SELECT_CALENDAR_UPDATES_FRAGMENT.sql,
-        // Select columns
-            "       MAX(action_date_time) AS last_processed_date_time, MAX(sobi_fragment_id) AS last_fragment_id,\n" +
-            "       MAX(published_date_time) AS last_published_date_time, COUNT(*) OVER() AS total_updated\n",
-        // No extra where clause
-        "",
-        // Group by calendar id
-        "GROUP BY calendar_no, calendar_year")
+        "SELECT content_id[2]::smallint AS calendar_no, content_id[4]::smallint AS calendar_year,\n" +
+        "       MAX(source_id) AS last_fragment_id, MAX(action_date_time) AS last_processed_date_time,\n" +
+        "       MAX(published_date_time) AS last_published_date_time, COUNT(*) OVER () AS total_updated\n" +
+        "FROM ${schema}." + SqlTable.UPDATE_TOKEN + "\n" +
+        "WHERE ${dateColumn} BETWEEN :startDateTime AND :endDateTime\n" +
+        "AND content_type = 'CALENDAR'\n" +
+        // The update token rollup keeps one row per calendar and source so this group is small
+        "GROUP BY content_id"
     ),
 
     SELECT_CALENDAR_UPDATE_DIGESTS(
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.dao.calendar.search;
 
+import gov.nysenate.openleg.client.view.calendar.SimpleCalendarView;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.calendar.Calendar;
 import gov.nysenate.openleg.model.calendar.CalendarId;
@@ -23,6 +24,19 @@ public interface CalendarSearchDao {
     public SearchResults<CalendarId> searchCalendars(QueryBuilder query, FilterBuilder postFilter,
                                                      String sort, LimitOffset limitOffset);
 
+    /**
+     * Performs a calendar search based on the given query string, returning simple calendar views that are
+     * built from the indexed calendars. This avoids retrieving each matching calendar from the data store.
+     *
+     * @param query
+     * @param postFilter
+     * @param sort
+     * @param limitOffset
+     * @return SearchResults<SimpleCalendarView>
+     */
+    public SearchResults<SimpleCalendarView> searchSimpleCalendars(QueryBuilder query, FilterBuilder postFilter,
+                                                                   String sort, LimitOffset limitOffset);
+
     /**
      * Updates or inserts a single calendar into the index
      *
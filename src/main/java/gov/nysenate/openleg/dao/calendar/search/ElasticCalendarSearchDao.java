@@ -4,8 +4,11 @@ import com.google.common.collect.Lists;
 import gov.nysenate.openleg.client.view.calendar.*;
 import gov.nysenate.openleg.dao.base.ElasticBaseDao;
 import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.calendar.Calendar;
+import gov.nysenate.openleg.model.calendar.CalendarActiveListId;
 import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.calendar.CalendarSupplementalId;
 import gov.nysenate.openleg.model.search.SearchResults;
 import gov.nysenate.openleg.util.OutputUtils;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
@@ -21,8 +24,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Repository
 public class ElasticCalendarSearchDao extends ElasticBaseDao implements CalendarSearchDao {
@@ -36,6 +44,10 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
 
     protected static final String calIndexName = "calendars";
 
+    /** The indexed calendar entries, which are not needed to build a simple calendar view. */
+    protected static final String[] calendarEntryFields =
+        {"floorCalendar.entriesBySection", "supplementalCalendars.items.*.entriesBySection", "activeLists.items.*.entries"};
+
     /** --- Implementations --- */
 
     /**{@inheritDoc}*/
@@ -46,6 +58,17 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
         return getSearchResults(response, limitOffset, this::getCalendarId);
     }
 
+    /**{@inheritDoc}*/
+    @Override
+    public SearchResults<SimpleCalendarView> searchSimpleCalendars(QueryBuilder query, FilterBuilder postFilter,
+                                                                   String sort, LimitOffset limitOffset) {
+        SearchRequestBuilder searchBuilder =
+            getSearchRequest(calIndexName, query, postFilter, null, null, sort, limitOffset, true)
+                .setFetchSource(null, calendarEntryFields);
+        SearchResponse response = searchBuilder.execute().actionGet();
+        return getSearchResults(response, limitOffset, this::getSimpleCalendarView);
+    }
+
     /**{@inheritDoc}*/
     @Override
     public void updateCalendarIndex(Calendar calendar) {
@@ -108,7 +131,7 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
     protected IndexRequestBuilder getCalendarIndexRequest(CalendarView calendarView) {
         return searchClient.prepareIndex(calIndexName,
                 Integer.toString(calendarView.getYear()), Integer.toString(calendarView.getCalendarNumber()))
-                .setSource(OutputUtils.toJson(calendarView));
+                .setSource(OutputUtils.toCompactJson(calendarView));
     }
 
     /** --- Id Mappers --- */
@@ -123,4 +146,56 @@ public class ElasticCalendarSearchDao extends ElasticBaseDao implements Calendar
         return new CalendarId(Integer.parseInt(hit.id()), Integer.parseInt(hit.type()));
     }
 
+    /**
+     * Builds a simple calendar view from the indexed {@link CalendarView} of a search hit
+     *
+     * @param hit
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    protected SimpleCalendarView getSimpleCalendarView(SearchHit hit) {
+        CalendarId calendarId = getCalendarId(hit);
+        Map<String, Object> source = hit.getSource();
+        Map<String, Object> floorSource = (Map<String, Object>) source.get("floorCalendar");
+        SimpleCalendarSupView floorCalendar = (floorSource != null)
+            ? getSimpleCalendarSupView(calendarId, floorSource) : null;
+        Map<String, SimpleCalendarSupView> supplementalCalendars = new TreeMap<>();
+        getMapViewItems(source.get("supplementalCalendars")).forEach((version, supSource) ->
+            supplementalCalendars.put(version, getSimpleCalendarSupView(calendarId, supSource)));
+        Map<Integer, SimpleActiveListView> activeLists = new TreeMap<>();
+        getMapViewItems(source.get("activeLists")).forEach((sequenceNo, activeListSource) ->
+            activeLists.put(Integer.parseInt(sequenceNo), new SimpleActiveListView(
+                new CalendarActiveListId(calendarId, Integer.parseInt(sequenceNo)),
+                getDate(activeListSource.get("calDate")), getDateTime(activeListSource.get("releaseDateTime")),
+                (String) activeListSource.get("notes"), getInt(activeListSource.get("totalEntries")))));
+        return new SimpleCalendarView(calendarId, getDate(source.get("calDate")), floorCalendar,
+                                      supplementalCalendars, activeLists);
+    }
+
+    protected SimpleCalendarSupView getSimpleCalendarSupView(CalendarId calendarId, Map<String, Object> supSource) {
+        String version = (String) supSource.get("version");
+        return new SimpleCalendarSupView(
+            new CalendarSupplementalId(calendarId, "floor".equals(version) ? Version.DEFAULT : Version.of(version)),
+            getDate(supSource.get("calDate")), getDateTime(supSource.get("releaseDateTime")),
+            getInt(supSource.get("totalEntries")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> getMapViewItems(Object mapView) {
+        Object items = (mapView != null) ? ((Map<String, Object>) mapView).get("items") : null;
+        return (items != null) ? (Map<String, Map<String, Object>>) items : Collections.emptyMap();
+    }
+
+    private static LocalDate getDate(Object value) {
+        return (value != null) ? LocalDate.parse((String) value) : null;
+    }
+
+    private static LocalDateTime getDateTime(Object value) {
+        return (value != null) ? LocalDateTime.parse((String) value) : null;
+    }
+
+    private static int getInt(Object value) {
+        return (value != null) ? ((Number) value).intValue() : 0;
+    }
+
 }
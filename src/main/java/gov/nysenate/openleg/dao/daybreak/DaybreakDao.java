@@ -8,11 +8,15 @@ import org.springframework.dao.DataAccessException;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 /**
  * A DaybreakDao allows for the storage and retrieval of Daybreak files
+ *
+ * Daybreak bills returned by the retrieval methods may be shared with other callers, since an implementation
+ * can hold the bills of the latest report in memory. Callers must not modify the returned daybreak bills.
  */
 public interface DaybreakDao
 {
@@ -89,7 +93,8 @@ public interface DaybreakDao
     public Map<BaseBillId, Map<BillId, PageFileEntry>> getAllPageFileEntries(LocalDate reportDate) throws DataAccessException;
 
     /**
-     * Retrieves a Daybreak Bill corresponding to the given daybreak bill id
+     * Retrieves a Daybreak Bill corresponding to the given daybreak bill id.
+     * The returned bill may be shared and must not be modified.
      * @param daybreakBillId
      * @return
      */
@@ -121,7 +126,8 @@ public interface DaybreakDao
     public DaybreakBill getDaybreakBillAtDate(BaseBillId baseBillId, LocalDate referenceDate);
 
     /**
-     * Retrieves all Daybreak Bills from the daybreak report on the given date
+     * Retrieves all Daybreak Bills from the daybreak report on the given date.
+     * The returned bills may be shared and must not be modified.
      * @param reportDate
      * @return
      * @throws DataAccessException
@@ -192,6 +198,12 @@ public interface DaybreakDao
      */
     public void updateDaybreakFragment(DaybreakFragment daybreakFragment);
 
+    /**
+     * Updates or inserts all of the given DaybreakFragments using batched statements
+     * @param daybreakFragments
+     */
+    public void updateDaybreakFragments(Collection<DaybreakFragment> daybreakFragments);
+
     /**
      * Sets the daybreak fragment designated by the given daybreak fragment id as pending processing
      * @param daybreakBillId
@@ -210,6 +222,12 @@ public interface DaybreakDao
      */
     public void setProcessed(DaybreakBillId daybreakBillId);
 
+    /**
+     * Sets each of the daybreak fragments designated by the given daybreak fragment ids as processed
+     * @param daybreakBillIds
+     */
+    public void setProcessed(Collection<DaybreakBillId> daybreakBillIds);
+
     /**
      * Labels the report designaterd by the given report date as processed, sets all fragments as well
      * @param reportDate
@@ -222,12 +240,28 @@ public interface DaybreakDao
      */
     public void updatePageFileEntry(PageFileEntry pageFileEntry);
 
+    /**
+     * Updates or inserts all of the given PageFileEntries using batched statements
+     * @param pageFileEntries
+     */
+    public void updatePageFileEntries(Collection<PageFileEntry> pageFileEntries);
+
     /**
      * Updates or inserts the given daybreak bill
      * @param daybreakBill
      */
     public void updateDaybreakBill(DaybreakBill daybreakBill);
 
+    /**
+     * Updates or inserts all of the given daybreak bills from the report on the given date.
+     * The bills and their actions, amendments and sponsors are written using batched statements.
+     * If the given bills make up the entire report, they are retained in memory as the latest report
+     * so that a subsequent spotcheck can use them without re-reading the store.
+     * @param reportDate
+     * @param daybreakBills
+     */
+    public void updateDaybreakBills(LocalDate reportDate, Collection<DaybreakBill> daybreakBills);
+
     /**
      * Updates or inserts a new daybreak report entry.
      * @param reportDate
@@ -95,6 +95,11 @@ public enum SqlDaybreakQuery implements BasicSqlQuery
         "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_PAGE_FILE_ENTRY + "\n" +
         "WHERE report_date = :reportDate"
     ),
+    SELECT_PAGE_FILE_ENTRIES_FOR_PENDING_FRAGMENTS(
+        "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_PAGE_FILE_ENTRY + "\n" +
+        "WHERE report_date IN (SELECT DISTINCT report_date FROM ${schema}." + SqlTable.DAYBREAK_FRAGMENT + "\n" +
+        "                      WHERE pending_processing = true)"
+    ),
     INSERT_PAGE_FILE_ENTRY(
         "INSERT INTO ${schema}." + SqlTable.DAYBREAK_PAGE_FILE_ENTRY + "\n" +
         "       (  report_date, filename,  bill_session_year, bill_publish_date, page_count, " +
@@ -127,6 +132,10 @@ public enum SqlDaybreakQuery implements BasicSqlQuery
         "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_BILL + "\n" +
         "WHERE report_date = :reportDate"
     ),
+    SELECT_DAYBREAK_BILL_COUNT_BY_REPORT(
+        "SELECT count(*) FROM ${schema}." + SqlTable.DAYBREAK_BILL + "\n" +
+        "WHERE report_date = :reportDate"
+    ),
     INSERT_DAYBREAK_BILL(
         "INSERT INTO ${schema}." + SqlTable.DAYBREAK_BILL + "\n" +
         "   (      report_date, bill_print_no, bill_session_year, " +
@@ -149,6 +158,10 @@ public enum SqlDaybreakQuery implements BasicSqlQuery
         "WHERE bill_print_no = :billPrintNo AND bill_session_year = :billSessionYear " +
         "   AND report_date = :reportDate"
     ),
+    SELECT_DAYBREAK_BILL_ACTIONS_BY_REPORT(
+        "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_BILL_ACTION + "\n" +
+        "WHERE report_date = :reportDate"
+    ),
     INSERT_DAYBREAK_BILL_ACTION(
         "INSERT INTO ${schema}." + SqlTable.DAYBREAK_BILL_ACTION + "\n" +
         "       (  report_date, bill_print_no, bill_session_year, action_date, text,  sequence_no, chamber )" + "\n" +
@@ -167,6 +180,10 @@ public enum SqlDaybreakQuery implements BasicSqlQuery
         "WHERE bill_print_no = :billPrintNo AND bill_session_year = :billSessionYear " +
         "   AND report_date = :reportDate"
     ),
+    SELECT_DAYBREAK_BILL_AMENDMENTS_BY_REPORT(
+        "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_BILL_AMENDMENT + "\n" +
+        "WHERE report_date = :reportDate"
+    ),
     INSERT_DAYBREAK_BILL_AMENDMENT(
         "INSERT INTO ${schema}." + SqlTable.DAYBREAK_BILL_AMENDMENT + "\n" +
         "       (  report_date, bill_print_no, bill_session_year, version,  publish_date, page_count, same_as )" + "\n" +
@@ -192,6 +209,10 @@ public enum SqlDaybreakQuery implements BasicSqlQuery
         "   AND report_date = :reportDate " +
         "   AND type = CAST('multisponsor' AS ${schema}.sponsor_type) "
     ),
+    SELECT_DAYBREAK_BILL_SPONSORS_BY_REPORT(
+        "SELECT * FROM ${schema}." + SqlTable.DAYBREAK_BILL_SPONSOR + "\n" +
+        "WHERE report_date = :reportDate"
+    ),
     INSERT_DAYBREAK_BILL_COSPONSOR(
         "INSERT INTO ${schema}." + SqlTable.DAYBREAK_BILL_SPONSOR + "\n" +
         "       (  report_date, bill_print_no, bill_session_year, member_short_name, type )" + "\n" +
@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
@@ -31,10 +32,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.util.DateUtils.toDate;
 
@@ -53,6 +54,10 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
     /** Directory where daybreak files that have been processed are stored. */
     private File archiveDaybreakDir;
 
+    /** All daybreak bills from the most recent complete report that has been read or written.
+     *  These bills are handed out to every caller as is, so they are never modified once retained. */
+    private final AtomicReference<DaybreakReportBills> latestReportBills = new AtomicReference<>();
+
     @PostConstruct
     protected void init() {
         this.incomingDaybreakDir = new File(environment.getStagingDir(), "daybreak");
@@ -155,33 +160,21 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
     /** {@inheritDoc } */
     @Override
     public List<DaybreakFragment> getPendingDaybreakFragments() {
-        try {
-            // Get a list of all pending daybreak fragments
-            List<DaybreakFragment> pendingFragments = jdbcNamed.query(
-                    SqlDaybreakQuery.SELECT_PENDING_DAYBREAK_FRAGMENTS.getSql(schema()), new DaybreakFragmentRowMapper());
-            // Group The fragments in a map by their report date
-            Map<LocalDate, List<DaybreakFragment>> pendingReportFragments = new HashMap<>();
-            for(DaybreakFragment daybreakFragment : pendingFragments){
-                LocalDate reportDate = daybreakFragment.getReportDate();
-                if(!pendingReportFragments.containsKey(reportDate)){
-                    pendingReportFragments.put(reportDate, new ArrayList<>());
-                }
-                pendingReportFragments.get(reportDate).add(daybreakFragment);
-            }
-            // Get page file entries for each represented report date and apply to each fragment for the report date
-            for(LocalDate reportDate : pendingReportFragments.keySet()){
-                Map<BaseBillId, Map<BillId, PageFileEntry>> pageFileEntries = getAllPageFileEntries(reportDate);
-                for(DaybreakFragment daybreakFragment : pendingReportFragments.get(reportDate)){
-                    daybreakFragment.setPageFileEntries(pageFileEntries.get(BaseBillId.getBaseId(daybreakFragment.getBillId())));
-                }
-            }
-
+        // Get a list of all pending daybreak fragments
+        List<DaybreakFragment> pendingFragments = jdbcNamed.query(
+                SqlDaybreakQuery.SELECT_PENDING_DAYBREAK_FRAGMENTS.getSql(schema()), new DaybreakFragmentRowMapper());
+        if (pendingFragments.isEmpty()) {
             return pendingFragments;
         }
-        catch(EmptyResultDataAccessException ex){
-            // Return an empty list if no pending fragments are found
-            return new ArrayList<>();
+        // Get the page file entries of every report with pending fragments in one query
+        PageFileEntryRowHandler pageFileEntryHandler = new PageFileEntryRowHandler();
+        jdbcNamed.query(SqlDaybreakQuery.SELECT_PAGE_FILE_ENTRIES_FOR_PENDING_FRAGMENTS.getSql(schema()),
+                        pageFileEntryHandler);
+        for (DaybreakFragment daybreakFragment : pendingFragments) {
+            daybreakFragment.setPageFileEntries(pageFileEntryHandler.getPageFileEntries(
+                    daybreakFragment.getReportDate(), BaseBillId.getBaseId(daybreakFragment.getBillId())));
         }
+        return pendingFragments;
     }
 
     /** {@inheritDoc } */
@@ -197,28 +190,25 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
     /** {@inheritDoc } */
     @Override
     public Map<BaseBillId, Map<BillId, PageFileEntry>> getAllPageFileEntries(LocalDate reportDate) throws DataAccessException {
-        // Get a list of all page file entries
+        // Map entries by base print number, then amendment as they are read
         MapSqlParameterSource params = getReportDateParams(reportDate);
-        List<PageFileEntry> pageFileEntries = jdbcNamed.query(
-            SqlDaybreakQuery.SELECT_PAGE_FILE_ENTRIES_BY_REPORT.getSql(schema()), params, new PageFileEntryRowMapper());
-
-        // Map entries by base print number, then amendment
-        Map<BaseBillId, Map<BillId, PageFileEntry>> reportPageFileEntries = new HashMap<>();
-        for(PageFileEntry pageFileEntry : pageFileEntries){
-            // Each entry can be used twice, for senate or assembly
-            for(BillId billId : pageFileEntry.getBillIds()){
-                if(!reportPageFileEntries.containsKey(BillId.getBaseId(billId))){
-                    reportPageFileEntries.put(BillId.getBaseId(billId), new HashMap<>());
-                }
-                reportPageFileEntries.get(BillId.getBaseId(billId)).put(billId, pageFileEntry);
-            }
-        }
-        return reportPageFileEntries;
+        PageFileEntryRowHandler pageFileEntryHandler = new PageFileEntryRowHandler();
+        jdbcNamed.query(SqlDaybreakQuery.SELECT_PAGE_FILE_ENTRIES_BY_REPORT.getSql(schema()), params, pageFileEntryHandler);
+        return pageFileEntryHandler.getReportPageFileEntries(reportDate);
     }
 
     /** {@inheritDoc } */
     @Override
     public DaybreakBill getDaybreakBill(DaybreakBillId daybreakBillId)  throws DataAccessException{
+        DaybreakReportBills reportBills = latestReportBills.get();
+        if (reportBills == null || !daybreakBillId.getReportDate().isBefore(reportBills.reportDate)) {
+            // Load the entire report so that the rest of its bills can be checked without further queries
+            reportBills = getReportBills(daybreakBillId.getReportDate());
+        }
+        if (reportBills.reportDate.equals(daybreakBillId.getReportDate())) {
+            return getReportBill(reportBills, daybreakBillId.getBaseBillId());
+        }
+        // Bills from an older report are read individually
         MapSqlParameterSource params = getDaybreakBillIdParams(daybreakBillId);
         DaybreakBill daybreakBill = jdbcNamed.queryForObject(
                                         SqlDaybreakQuery.SELECT_DAYBREAK_BILL.getSql(schema()),
@@ -233,26 +223,36 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         return getDaybreakBillAtDate(baseBillId, LocalDate.now());
     }
 
+    /** {@inheritDoc }
+     *  The report date is only queried the first time a date range is seen while its report is the latest one. */
     @Override
     public DaybreakBill getCurrentDaybreakBill(BaseBillId baseBillId, Range<LocalDate> dateRange) throws DataAccessException {
-        return getDaybreakBillAtDate(baseBillId, getCurrentReportDate(dateRange));
+        DaybreakReportBills reportBills = latestReportBills.get();
+        if (reportBills != null && reportBills.currentForRanges.contains(dateRange)) {
+            return getReportBill(reportBills, baseBillId);
+        }
+        LocalDate reportDate = getCurrentReportDate(dateRange);
+        if (reportBills == null || !reportDate.isBefore(reportBills.reportDate)) {
+            reportBills = getReportBills(reportDate);
+            reportBills.currentForRanges.add(dateRange);
+            return getReportBill(reportBills, baseBillId);
+        }
+        return getDaybreakBill(new DaybreakBillId(baseBillId, reportDate));
     }
 
     /** {@inheritDoc } */
     @Override
     public DaybreakBill getDaybreakBillAtDate(BaseBillId baseBillId, LocalDate referenceDate) {
-        return getDaybreakBill(new DaybreakBillId(baseBillId, getCurrentReportDate()));
+        return getDaybreakBill(new DaybreakBillId(baseBillId,
+                getCurrentReportDate(Range.closed(DateUtils.LONG_AGO, referenceDate))));
     }
 
     /** {@inheritDoc } */
     @Override
     public List<DaybreakBill> getDaybreakBills(LocalDate reportDate)  throws DataAccessException{
-        MapSqlParameterSource params = getReportDateParams(reportDate);
-        List<DaybreakBill> daybreakBills = jdbcNamed.query(
-                                                SqlDaybreakQuery.SELECT_DAYBREAK_BILL_BY_REPORT.getSql(schema()),
-                                                params, new DaybreakBillRowMapper());
-        daybreakBills.parallelStream().forEach(this::addAdditionalFields);
-        return daybreakBills;
+        return getReportBills(reportDate).bills.values().stream()
+                .map(DaybreakBill::new)
+                .collect(Collectors.toList());
     }
 
     /** {@inheritDoc } */
@@ -331,6 +331,13 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         }
     }
 
+    /** {@inheritDoc } */
+    @Override
+    public void updateDaybreakFragments(Collection<DaybreakFragment> daybreakFragments) {
+        batchUpdateOrInsert(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT, SqlDaybreakQuery.INSERT_DAYBREAK_FRAGMENT,
+                daybreakFragments.stream().map(this::getDaybreakFragmentParams).collect(Collectors.toList()));
+    }
+
     /** {@inheritDoc } */
     @Override
     public void setPendingProcessing(DaybreakBillId daybreakBillId) {
@@ -354,6 +361,14 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         jdbcNamed.update(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT_PROCESSED.getSql(schema()), params);
     }
 
+    /** {@inheritDoc } */
+    @Override
+    public void setProcessed(Collection<DaybreakBillId> daybreakBillIds) {
+        batchUpdate(SqlDaybreakQuery.UPDATE_DAYBREAK_FRAGMENT_PROCESSED, daybreakBillIds.stream()
+                .map(this::getDaybreakBillIdParams)
+                .collect(Collectors.toList()));
+    }
+
     /** {@inheritDoc } */
     @Override
     public void setProcessed(LocalDate reportDate) {
@@ -372,6 +387,13 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         }
     }
 
+    /** {@inheritDoc } */
+    @Override
+    public void updatePageFileEntries(Collection<PageFileEntry> pageFileEntries) {
+        batchUpdateOrInsert(SqlDaybreakQuery.UPDATE_PAGE_FILE_ENTRY, SqlDaybreakQuery.INSERT_PAGE_FILE_ENTRY,
+                pageFileEntries.stream().map(this::getPageFileEntryParams).collect(Collectors.toList()));
+    }
+
     /** {@inheritDoc } */
     @Override
     public void updateDaybreakBill(DaybreakBill daybreakBill) {
@@ -385,6 +407,62 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         updateDaybreakBillAmendments(daybreakBill.getDaybreakBillId(), daybreakBill.getAmendments());
         updateDaybreakBillCoSponsors(daybreakBill.getDaybreakBillId(), daybreakBill.getCosponsors());
         updateDaybreakBillMultiSponsors(daybreakBill.getDaybreakBillId(), daybreakBill.getMultiSponsors());
+        // Keep the in memory report consistent with the store
+        mergeReportBills(daybreakBill.getReportDate(), Collections.singletonList(daybreakBill));
+    }
+
+    /** {@inheritDoc } */
+    @Override
+    public void updateDaybreakBills(LocalDate reportDate, Collection<DaybreakBill> daybreakBills) {
+        if (daybreakBills.isEmpty()) {
+            return;
+        }
+        List<DaybreakBill> billList = new ArrayList<>(daybreakBills);
+        // Update the bill table, inserting the bills that did not already exist
+        List<MapSqlParameterSource> billParams = billList.stream()
+                .map(this::getDaybreakBillParams)
+                .collect(Collectors.toList());
+        batchUpdateOrInsert(SqlDaybreakQuery.UPDATE_DAYBREAK_BILL, SqlDaybreakQuery.INSERT_DAYBREAK_BILL, billParams);
+
+        // Replace the bills' associated table entries
+        List<MapSqlParameterSource> idParams = billList.stream()
+                .map(daybreakBill -> getDaybreakBillIdParams(daybreakBill.getDaybreakBillId()))
+                .collect(Collectors.toList());
+        batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_ACTIONS, idParams);
+        batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_AMENDMENTS, idParams);
+        batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_COSPONSORS, idParams);
+        batchUpdate(SqlDaybreakQuery.DELETE_DAYBREAK_BILL_MULTISPONSORS, idParams);
+
+        List<MapSqlParameterSource> actionParams = new ArrayList<>();
+        List<MapSqlParameterSource> amendmentParams = new ArrayList<>();
+        List<MapSqlParameterSource> coSponsorParams = new ArrayList<>();
+        List<MapSqlParameterSource> multiSponsorParams = new ArrayList<>();
+        for (DaybreakBill daybreakBill : billList) {
+            DaybreakBillId daybreakBillId = daybreakBill.getDaybreakBillId();
+            daybreakBill.getActions().forEach(action ->
+                    actionParams.add(getDaybreakBillActionParams(daybreakBillId, action)));
+            daybreakBill.getAmendments().values().forEach(amendment ->
+                    amendmentParams.add(getDaybreakBillAmendmentParams(daybreakBillId, amendment)));
+            daybreakBill.getCosponsors().forEach(sponsor ->
+                    coSponsorParams.add(getDaybreakBillSponsorParams(daybreakBillId, sponsor)));
+            daybreakBill.getMultiSponsors().forEach(sponsor ->
+                    multiSponsorParams.add(getDaybreakBillSponsorParams(daybreakBillId, sponsor)));
+        }
+        batchUpdate(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_ACTION, actionParams);
+        batchUpdate(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_AMENDMENT, amendmentParams);
+        batchUpdate(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_COSPONSOR, coSponsorParams);
+        batchUpdate(SqlDaybreakQuery.INSERT_DAYBREAK_BILL_MULTISPONSOR, multiSponsorParams);
+
+        // Hold on to the bills if they make up the entire report, otherwise just refresh the ones we have
+        Integer reportBillCount = jdbcNamed.queryForObject(
+                SqlDaybreakQuery.SELECT_DAYBREAK_BILL_COUNT_BY_REPORT.getSql(schema()),
+                getReportDateParams(reportDate), Integer.class);
+        if (reportBillCount != null && reportBillCount == billList.size()) {
+            cacheReportBills(reportDate, billList);
+        }
+        else {
+            mergeReportBills(reportDate, billList);
+        }
     }
 
     /** {@inheritDoc } */
@@ -393,6 +471,9 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         MapSqlParameterSource params = getDaybreakReportParams(reportDate, false, false);
         if(jdbcNamed.update(SqlDaybreakQuery.UPDATE_DAYBREAK_REPORT.getSql(schema()), params) == 0){
             jdbcNamed.update(SqlDaybreakQuery.INSERT_DAYBREAK_REPORT.getSql(schema()), params);
+            // The new report may now be the current report for date ranges that were resolved to the latest report
+            latestReportBills.updateAndGet(current ->
+                    current == null ? null : new DaybreakReportBills(current.reportDate, current.bills.values()));
         }
     }
 
@@ -405,6 +486,116 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
 
     /** --- Internal Methods --- */
 
+    /**
+     * Gets all daybreak bills in the given report, using the latest report held in memory if it is the same report.
+     * Otherwise the report is loaded with a constant number of queries and held as the latest report
+     * if it is not older than the one currently held.
+     * @param reportDate
+     * @return DaybreakReportBills
+     */
+    private DaybreakReportBills getReportBills(LocalDate reportDate) {
+        DaybreakReportBills reportBills = latestReportBills.get();
+        if (reportBills != null && reportBills.reportDate.equals(reportDate)) {
+            return reportBills;
+        }
+        reportBills = new DaybreakReportBills(reportDate, selectDaybreakBills(reportDate));
+        cacheReportBills(reportBills);
+        return reportBills;
+    }
+
+    /**
+     * Gets a copy of a single bill from the given report.
+     * @param reportBills
+     * @param baseBillId
+     * @return DaybreakBill
+     * @throws EmptyResultDataAccessException - If the report does not contain the bill
+     */
+    private DaybreakBill getReportBill(DaybreakReportBills reportBills, BaseBillId baseBillId) {
+        DaybreakBill daybreakBill = reportBills.bills.get(baseBillId);
+        if (daybreakBill == null) {
+            throw new EmptyResultDataAccessException("No daybreak bill found for " +
+                    new DaybreakBillId(baseBillId, reportBills.reportDate), 1);
+        }
+        return new DaybreakBill(daybreakBill);
+    }
+
+    /**
+     * Loads every daybreak bill in the given report along with its actions, amendments and sponsors, using a
+     * single query for each table. Rows are applied to their bills as they are read.
+     * @param reportDate
+     * @return Collection<DaybreakBill>
+     */
+    private Collection<DaybreakBill> selectDaybreakBills(LocalDate reportDate) {
+        MapSqlParameterSource params = getReportDateParams(reportDate);
+        ReportBillsRowHandler billHandler = new ReportBillsRowHandler();
+        jdbcNamed.query(SqlDaybreakQuery.SELECT_DAYBREAK_BILL_BY_REPORT.getSql(schema()), params, billHandler);
+        if (!billHandler.daybreakBills.isEmpty()) {
+            jdbcNamed.query(SqlDaybreakQuery.SELECT_DAYBREAK_BILL_ACTIONS_BY_REPORT.getSql(
+                            schema(), new OrderBy("sequence_no", SortOrder.ASC), null),
+                            params, billHandler.actionHandler());
+            jdbcNamed.query(SqlDaybreakQuery.SELECT_DAYBREAK_BILL_AMENDMENTS_BY_REPORT.getSql(schema()),
+                            params, billHandler.amendmentHandler());
+            jdbcNamed.query(SqlDaybreakQuery.SELECT_DAYBREAK_BILL_SPONSORS_BY_REPORT.getSql(schema()),
+                            params, billHandler.sponsorHandler());
+        }
+        return billHandler.daybreakBills.values();
+    }
+
+    /**
+     * Runs the update query as a batch for the given parameter sources, then inserts the rows that were not updated
+     * as a second batch. Rows whose update count is unknown (SUCCESS_NO_INFO) are treated as not updated.
+     * @param updateQuery
+     * @param insertQuery
+     * @param batchParams
+     */
+    private void batchUpdateOrInsert(SqlDaybreakQuery updateQuery, SqlDaybreakQuery insertQuery,
+                                     List<MapSqlParameterSource> batchParams) {
+        int[] updateCounts = batchUpdate(updateQuery, batchParams);
+        List<MapSqlParameterSource> insertParams = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] <= 0) {
+                insertParams.add(batchParams.get(i));
+            }
+        }
+        batchUpdate(insertQuery, insertParams);
+    }
+
+    /**
+     * Retains the given daybreak bills as the latest report, provided that the report date is not older than
+     * that of the currently retained report.
+     * @param reportDate
+     * @param daybreakBills - all daybreak bills belonging to the report
+     */
+    private void cacheReportBills(LocalDate reportDate, Collection<DaybreakBill> daybreakBills) {
+        cacheReportBills(new DaybreakReportBills(reportDate, daybreakBills.stream()
+                .map(DaybreakBill::new)
+                .collect(Collectors.toList())));
+    }
+
+    private void cacheReportBills(DaybreakReportBills reportBills) {
+        latestReportBills.accumulateAndGet(reportBills, (current, update) ->
+                (current == null || !update.reportDate.isBefore(current.reportDate)) ? update : current);
+    }
+
+    /**
+     * Replaces the corresponding bills in the latest report with the given daybreak bills if the retained report
+     * has the given report date.
+     * @param reportDate
+     * @param daybreakBills
+     */
+    private void mergeReportBills(LocalDate reportDate, Collection<DaybreakBill> daybreakBills) {
+        latestReportBills.updateAndGet(current -> {
+            if (current == null || !current.reportDate.equals(reportDate)) {
+                return current;
+            }
+            Map<BaseBillId, DaybreakBill> merged = new LinkedHashMap<>(current.bills);
+            daybreakBills.forEach(daybreakBill -> merged.put(daybreakBill.getBaseBillId(), new DaybreakBill(daybreakBill)));
+            DaybreakReportBills mergedReportBills = new DaybreakReportBills(reportDate, merged.values());
+            mergedReportBills.currentForRanges.addAll(current.currentForRanges);
+            return mergedReportBills;
+        });
+    }
+
     /**
      * Retrieves and sets all daybreak bill fields that are not in the primary daybreak bill table
      * @param daybreakBill
@@ -567,6 +758,109 @@ public class SqlFsDaybreakDao extends SqlBaseDao implements DaybreakDao
         }
     }
 
+    /** --- Latest Report --- */
+
+    /**
+     * An immutable mapping of all daybreak bills in a single report, along with the date ranges that the
+     * report is known to be the most recent report for. The bills are never handed out directly, callers
+     * get copies so that the retained report can't be modified.
+     */
+    private static class DaybreakReportBills
+    {
+        private final LocalDate reportDate;
+        private final Map<BaseBillId, DaybreakBill> bills;
+        private final Set<Range<LocalDate>> currentForRanges = ConcurrentHashMap.newKeySet();
+
+        private DaybreakReportBills(LocalDate reportDate, Collection<DaybreakBill> daybreakBills) {
+            this.reportDate = reportDate;
+            Map<BaseBillId, DaybreakBill> billMap = new LinkedHashMap<>();
+            daybreakBills.forEach(daybreakBill -> billMap.put(daybreakBill.getBaseBillId(), daybreakBill));
+            this.bills = Collections.unmodifiableMap(billMap);
+        }
+    }
+
+    /** --- Row Handlers --- */
+
+    /**
+     * Collects the daybreak bills of a report, then applies the rows of the bills' associated tables to them.
+     */
+    private class ReportBillsRowHandler implements RowCallbackHandler
+    {
+        private final DaybreakBillRowMapper billRowMapper = new DaybreakBillRowMapper();
+        private final Map<BaseBillId, DaybreakBill> daybreakBills = new LinkedHashMap<>();
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            DaybreakBill daybreakBill = billRowMapper.mapRow(rs, rs.getRow());
+            daybreakBills.put(daybreakBill.getBaseBillId(), daybreakBill);
+        }
+
+        private RowCallbackHandler actionHandler() {
+            DaybreakBillActionRowMapper actionRowMapper = new DaybreakBillActionRowMapper();
+            return rs -> {
+                DaybreakBill daybreakBill = getBill(rs);
+                if (daybreakBill != null) {
+                    daybreakBill.getActions().add(actionRowMapper.mapRow(rs, rs.getRow()));
+                }
+            };
+        }
+
+        private RowCallbackHandler amendmentHandler() {
+            DaybreakBillAmendmentRowMapper amendmentRowMapper = new DaybreakBillAmendmentRowMapper();
+            return rs -> {
+                DaybreakBill daybreakBill = getBill(rs);
+                if (daybreakBill != null) {
+                    DaybreakBillAmendment amendment = amendmentRowMapper.mapRow(rs, rs.getRow());
+                    daybreakBill.getAmendments().put(amendment.getBillId().getVersion(), amendment);
+                }
+            };
+        }
+
+        private RowCallbackHandler sponsorHandler() {
+            DaybreakSponsorRowMapper sponsorRowMapper = new DaybreakSponsorRowMapper();
+            return rs -> {
+                DaybreakBill daybreakBill = getBill(rs);
+                if (daybreakBill != null) {
+                    List<String> sponsors = "multisponsor".equals(rs.getString("type"))
+                            ? daybreakBill.getMultiSponsors() : daybreakBill.getCosponsors();
+                    sponsors.add(sponsorRowMapper.mapRow(rs, rs.getRow()));
+                }
+            };
+        }
+
+        private DaybreakBill getBill(ResultSet rs) throws SQLException {
+            return daybreakBills.get(new BaseBillId(rs.getString("bill_print_no"), rs.getInt("bill_session_year")));
+        }
+    }
+
+    /**
+     * Maps page file entries by report date, base print number and then amendment as they are read.
+     * Each entry can be mapped twice, for the senate and assembly bill.
+     */
+    private class PageFileEntryRowHandler implements RowCallbackHandler
+    {
+        private final PageFileEntryRowMapper pageFileEntryRowMapper = new PageFileEntryRowMapper();
+        private final Map<LocalDate, Map<BaseBillId, Map<BillId, PageFileEntry>>> pageFileEntries = new HashMap<>();
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            PageFileEntry pageFileEntry = pageFileEntryRowMapper.mapRow(rs, rs.getRow());
+            Map<BaseBillId, Map<BillId, PageFileEntry>> reportEntries =
+                    pageFileEntries.computeIfAbsent(getLocalDateFromRs(rs, "report_date"), date -> new HashMap<>());
+            for (BillId billId : pageFileEntry.getBillIds()) {
+                reportEntries.computeIfAbsent(BillId.getBaseId(billId), id -> new HashMap<>()).put(billId, pageFileEntry);
+            }
+        }
+
+        private Map<BaseBillId, Map<BillId, PageFileEntry>> getReportPageFileEntries(LocalDate reportDate) {
+            return pageFileEntries.getOrDefault(reportDate, new HashMap<>());
+        }
+
+        private Map<BillId, PageFileEntry> getPageFileEntries(LocalDate reportDate, BaseBillId baseBillId) {
+            return getReportPageFileEntries(reportDate).get(baseBillId);
+        }
+    }
+
     /** --- Row Mappers --- */
 
     private class DaybreakFileRowMapper implements RowMapper<DaybreakFile>{
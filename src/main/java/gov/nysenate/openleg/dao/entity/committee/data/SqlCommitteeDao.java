@@ -191,13 +191,15 @@ public class SqlCommitteeDao extends SqlBaseDao implements CommitteeDao
     }
 
     /**
-     * Inserts the committee members for a particular version of a committee
+     * Inserts the committee members for a particular version of a committee in a single batch
      * @param committee
      */
     private void insertCommitteeMembers(Committee committee){
-        for (CommitteeMember committeeMember : committee.getMembers()) {
-            MapSqlParameterSource params = getCommitteeMemberParams(committeeMember, committee.getVersionId());
-            jdbcNamed.update(INSERT_COMMITTEE_MEMBER.getSql(schema()), params);
+        MapSqlParameterSource[] batchParams = committee.getMembers().stream()
+                .map(committeeMember -> getCommitteeMemberParams(committeeMember, committee.getVersionId()))
+                .toArray(MapSqlParameterSource[]::new);
+        if (batchParams.length > 0) {
+            jdbcNamed.batchUpdate(INSERT_COMMITTEE_MEMBER.getSql(schema()), batchParams);
         }
     }
 
@@ -128,7 +128,7 @@ public class ElasticCommitteeSearchDao extends ElasticBaseDao implements Committ
         return searchClient.prepareIndex(committeeSearchIndexName,
                 Integer.toString(committee.getSession().getYear()),
                 generateCommitteeVersionSearchId(committee.getVersionId()))
-                .setSource(OutputUtils.toJson(new CommitteeView(committee)));
+                .setSource(OutputUtils.toCompactJson(new CommitteeView(committee)));
     }
 
     /**
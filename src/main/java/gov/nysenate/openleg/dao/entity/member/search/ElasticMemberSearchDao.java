@@ -56,7 +56,7 @@ public class ElasticMemberSearchDao extends ElasticBaseDao implements MemberSear
                             bulkRequest.add(searchClient.prepareIndex(memberIndexName,
                                     String.valueOf(m.getSessionYear()),
                                     String.valueOf(m.getMemberId()))
-                                    .setSource(OutputUtils.toJson(m)))
+                                    .setSource(OutputUtils.toCompactJson(m)))
             );
             safeBulkRequestExecute(bulkRequest);
         }
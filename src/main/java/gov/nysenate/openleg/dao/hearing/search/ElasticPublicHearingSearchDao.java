@@ -60,7 +60,7 @@ public class ElasticPublicHearingSearchDao extends ElasticBaseDao implements Pub
             List<PublicHearingView> publicHearingViews = publicHearings.stream().map(PublicHearingView::new).collect(Collectors.toList());
             publicHearingViews.forEach(ph ->
                     bulkRequest.add(searchClient.prepareIndex(publicHearingIndexName, "hearings", ph.getFilename())
-                            .setSource(OutputUtils.toJson(ph)))
+                            .setSource(OutputUtils.toCompactJson(ph)))
             );
             safeBulkRequestExecute(bulkRequest);
         }
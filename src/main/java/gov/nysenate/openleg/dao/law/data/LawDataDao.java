@@ -7,6 +7,7 @@ import gov.nysenate.openleg.model.law.LawTree;
 import org.springframework.dao.DataAccessException;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -85,12 +86,24 @@ public interface LawDataDao
      */
     public void updateLawDocument(LawFile lawFile, LawDocument lawDocument);
 
+    /**
+     * Updates or inserts a collection of LawDocuments in batches. This has the same effect as calling
+     * {@link #updateLawDocument(LawFile, LawDocument)} for each document, using far fewer round trips.
+     *
+     * @param lawFile LawFile - The law file source that triggered the update.
+     * @param lawDocuments Collection<LawDocument> - The law documents to persist.
+     * @return int - The number of rows written.
+     */
+    public int updateLawDocuments(LawFile lawFile, Collection<LawDocument> lawDocuments);
+
     /**
      * Updates or inserts the tree structure for the laws via the given LawTree. The law id and the published date
-     * in the LawTree will be used as the unique identifiers for the tree.
+     * in the LawTree will be used as the unique identifiers for the tree. Only the nodes that were added, removed,
+     * or moved since the tree was last persisted, or that were last written from a different law file, are written.
      *
      * @param lawFile LawFile - The law file source that triggered the update.
      * @param lawTree LawTree - The law tree to persist.
+     * @return int - The number of tree rows written.
      */
-    public void updateLawTree(LawFile lawFile, LawTree lawTree);
+    public int updateLawTree(LawFile lawFile, LawTree lawTree);
 }
\ No newline at end of file
@@ -17,10 +17,7 @@ import org.springframework.stereotype.Repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static gov.nysenate.openleg.dao.law.data.SqlLawDataQuery.*;
@@ -103,20 +100,95 @@ public class SqlLawDataDao extends SqlBaseDao implements LawDataDao
 
     /** {@inheritDoc} */
     @Override
-    public void updateLawTree(LawFile lawFile, LawTree lawTree) {
+    public int updateLawDocuments(LawFile lawFile, Collection<LawDocument> lawDocuments) {
+        List<MapSqlParameterSource> docParams = lawDocuments.stream()
+            .map(doc -> getLawDocumentParams(lawFile, doc))
+            .collect(Collectors.toList());
+        int[] updateCounts = batchUpdate(SqlLawDataQuery.UPDATE_LAW_DOCUMENT, docParams);
+        // Drivers may report Statement.SUCCESS_NO_INFO instead of a row count, so any document that was not
+        // reported as updated is inserted unless it already exists
+        List<MapSqlParameterSource> insertParams = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] <= 0) {
+                insertParams.add(docParams.get(i));
+            }
+        }
+        batchUpdate(SqlLawDataQuery.INSERT_LAW_DOCUMENT_IF_MISSING, insertParams);
+        return docParams.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int updateLawTree(LawFile lawFile, LawTree lawTree) {
         ImmutableParams lawInfoParams = ImmutableParams.from(getLawInfoParams(lawTree.getLawInfo()));
         // Update the law info or insert it
         if (jdbcNamed.update(SqlLawDataQuery.UPDATE_LAW_INFO.getSql(schema()), lawInfoParams) == 0) {
             jdbcNamed.update(SqlLawDataQuery.INSERT_LAW_INFO.getSql(schema()), lawInfoParams);
         }
         ImmutableParams treeIdParams = ImmutableParams.from(getLawTreeParams(lawTree));
-        // Delete the existing tree if it exists
-        jdbcNamed.update(SqlLawDataQuery.DELETE_TREE.getSql(schema()), treeIdParams);
-        // Insert all the nodes in the tree
-        lawTree.getRootNode().getAllNodes().forEach(n -> {
-            ImmutableParams treeNodeParams = ImmutableParams.from(getLawTreeNodeParams(lawFile, lawTree, n));
-            jdbcNamed.update(SqlLawDataQuery.INSERT_LAW_TREE.getSql(schema()), treeNodeParams);
-        });
+        // Compare against the existing rows of the tree (if any) so that only the changed nodes are written
+        Map<Pair<String, LocalDate>, List<Object>> existingRows = new HashMap<>();
+        jdbcNamed.query(SqlLawDataQuery.SELECT_LAW_TREE_ROWS.getSql(schema()), treeIdParams, (RowCallbackHandler) rs ->
+            existingRows.put(Pair.of(rs.getString("doc_id"), getLocalDateFromRs(rs, "doc_published_date")),
+                             Arrays.asList(rs.getString("parent_doc_id"), getLocalDateFromRs(rs, "parent_doc_published_date"),
+                                           rs.getBoolean("is_root"), rs.getInt("sequence_no"),
+                                           getLocalDateFromRs(rs, "repealed_date"), rs.getString("law_file"))));
+        LawTreeChanges changes = getLawTreeChanges(lawTree, lawFile.getFileName(), existingRows);
+        List<MapSqlParameterSource> insertParams = changes.insertedNodes.stream()
+            .map(node -> getLawTreeNodeParams(lawFile, lawTree, node))
+            .collect(Collectors.toList());
+        List<MapSqlParameterSource> updateParams = changes.updatedNodes.stream()
+            .map(node -> getLawTreeNodeParams(lawFile, lawTree, node))
+            .collect(Collectors.toList());
+        List<MapSqlParameterSource> deleteParams = changes.deletedDocs.stream()
+            .map(docKey -> getLawTreeParams(lawTree)
+                .addValue("docId", docKey.getLeft())
+                .addValue("docPublishedDate", toDate(docKey.getRight())))
+            .collect(Collectors.toList());
+        batchUpdate(SqlLawDataQuery.DELETE_LAW_TREE_NODE, deleteParams);
+        batchUpdate(SqlLawDataQuery.UPDATE_LAW_TREE, updateParams);
+        batchUpdate(SqlLawDataQuery.INSERT_LAW_TREE, insertParams);
+        return deleteParams.size() + updateParams.size() + insertParams.size();
+    }
+
+    /**
+     * Compares the nodes of a law tree with the stored rows of that tree, keyed by document id and published date.
+     * A stored row is updated if any of its values differ, including the law file it was last written from.
+     *
+     * @param lawTree LawTree - The new version of the tree
+     * @param lawFileName String - The name of the law file the tree was processed from
+     * @param existingRows Map<Pair<String, LocalDate>, List<Object>> - The stored rows in the order of
+     *                                                                  {@link #getLawTreeNodeRow}
+     * @return LawTreeChanges
+     */
+    static LawTreeChanges getLawTreeChanges(LawTree lawTree, String lawFileName,
+                                            Map<Pair<String, LocalDate>, List<Object>> existingRows) {
+        LawTreeChanges changes = new LawTreeChanges();
+        Set<Pair<String, LocalDate>> remainingDocs = new HashSet<>(existingRows.keySet());
+        for (LawTreeNode node : lawTree.getRootNode().getAllNodes()) {
+            Pair<String, LocalDate> docKey = Pair.of(node.getDocumentId(), node.getPublishDate());
+            List<Object> existingRow = existingRows.get(docKey);
+            remainingDocs.remove(docKey);
+            if (existingRow == null) {
+                changes.insertedNodes.add(node);
+            }
+            else if (!existingRow.equals(getLawTreeNodeRow(node, lawFileName))) {
+                changes.updatedNodes.add(node);
+            }
+        }
+        // Whatever is left over is no longer part of the tree
+        changes.deletedDocs.addAll(remainingDocs);
+        return changes;
+    }
+
+    /**
+     * The rows that have to be written to bring the stored law tree in line with a new version of the tree.
+     */
+    static class LawTreeChanges
+    {
+        final List<LawTreeNode> insertedNodes = new ArrayList<>();
+        final List<LawTreeNode> updatedNodes = new ArrayList<>();
+        final List<Pair<String, LocalDate>> deletedDocs = new ArrayList<>();
     }
 
     /**
@@ -228,6 +300,18 @@ public class SqlLawDataDao extends SqlBaseDao implements LawDataDao
             .addValue("publishedDate", toDate(lawTree.getPublishedDate()));
     }
 
+    /**
+     * Returns the stored values of a tree node in the order they are read from the tree rows, which is
+     * used to tell if a persisted node has changed.
+     */
+    protected static List<Object> getLawTreeNodeRow(LawTreeNode lawTreeNode, String lawFileName) {
+        LawTreeNode parent = lawTreeNode.getParent();
+        return Arrays.asList((parent != null) ? parent.getDocumentId() : null,
+                             (parent != null) ? parent.getPublishDate() : null,
+                             lawTreeNode.isRootNode(), lawTreeNode.getSequenceNo(), lawTreeNode.getRepealedDate(),
+                             lawFileName);
+    }
+
     protected MapSqlParameterSource getLawTreeNodeParams(LawFile lawFile, LawTree lawTree, LawTreeNode lawTreeNode) {
         return getLawTreeParams(lawTree)
             .addValue("docId", lawTreeNode.getDocumentId())
@@ -30,6 +30,16 @@ public enum SqlLawDataQuery implements BasicSqlQuery
         "(document_id, published_date, document_type, law_id, location_id, document_type_id, title, text, law_file_name)\n" +
         "VALUES (:documentId, :publishedDate, :documentType, :lawId, :locationId, :documentTypeId, :title, :text, :lawFileName)"
     ),
+    // The values are cast since their types can't be inferred from a select list
+    INSERT_LAW_DOCUMENT_IF_MISSING(
+        "INSERT INTO ${schema}." + SqlTable.LAW_DOCUMENT +
+        "(document_id, published_date, document_type, law_id, location_id, document_type_id, title, text, law_file_name)\n" +
+        "SELECT CAST(:documentId AS text), CAST(:publishedDate AS date), CAST(:documentType AS text), CAST(:lawId AS text),\n" +
+        "       CAST(:locationId AS text), CAST(:documentTypeId AS text), CAST(:title AS text), CAST(:text AS text),\n" +
+        "       CAST(:lawFileName AS text)\n" +
+        "WHERE NOT EXISTS (SELECT 1 FROM ${schema}." + SqlTable.LAW_DOCUMENT + "\n" +
+        "                  WHERE document_id = :documentId AND published_date = :publishedDate)"
+    ),
     UPDATE_LAW_DOCUMENT(
         "UPDATE ${schema}." + SqlTable.LAW_DOCUMENT + "\n" +
         "SET document_type = :documentType, law_id = :lawId, location_id = :locationId, document_type_id = :documentTypeId,\n" +
@@ -63,6 +73,12 @@ public enum SqlLawDataQuery implements BasicSqlQuery
         "     ON t.doc_id = d1.document_id AND t.doc_published_date = d1.published_date\n" +
         "WHERE t.law_id = :lawId AND t.published_date = max_date.pub_date"
     ),
+    SELECT_LAW_TREE_ROWS(
+        "SELECT doc_id, doc_published_date, parent_doc_id, parent_doc_published_date, is_root, sequence_no, repealed_date,\n" +
+        "       law_file\n" +
+        "FROM ${schema}." + SqlTable.LAW_TREE + "\n" +
+        "WHERE law_id = :lawId AND published_date = :publishedDate"
+    ),
     INSERT_LAW_TREE(
         "INSERT INTO ${schema}." + SqlTable.LAW_TREE + "\n" +
         "(law_id, published_date, doc_id, doc_published_date, parent_doc_id, parent_doc_published_date, is_root, " +
@@ -77,6 +93,11 @@ public enum SqlLawDataQuery implements BasicSqlQuery
         "WHERE law_id = :lawId AND published_date = :publishedDate AND \n" +
         "      doc_id = :docId AND doc_published_date = :docPublishedDate"
     ),
+    DELETE_LAW_TREE_NODE(
+        "DELETE FROM ${schema}." + SqlTable.LAW_TREE + "\n" +
+        "WHERE law_id = :lawId AND published_date = :publishedDate AND \n" +
+        "      doc_id = :docId AND doc_published_date = :docPublishedDate"
+    ),
     DELETE_TREE(
         "DELETE FROM ${schema}." + SqlTable.LAW_TREE + "\n" +
         "WHERE law_id = :lawId AND published_date = :publishedDate"
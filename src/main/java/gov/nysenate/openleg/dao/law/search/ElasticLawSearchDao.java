@@ -5,6 +5,8 @@ import gov.nysenate.openleg.dao.base.ElasticBaseDao;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
 import gov.nysenate.openleg.model.law.LawDocId;
+import gov.nysenate.openleg.model.law.LawDocInfo;
+import gov.nysenate.openleg.model.law.LawDocumentType;
 import gov.nysenate.openleg.model.law.LawDocument;
 import gov.nysenate.openleg.model.search.SearchResults;
 import gov.nysenate.openleg.util.OutputUtils;
@@ -24,6 +26,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /** {@inheritDoc} */
 @Repository
@@ -37,14 +40,18 @@ public class ElasticLawSearchDao extends ElasticBaseDao implements LawSearchDao
         Arrays.asList(new HighlightBuilder.Field("text").numOfFragments(5),
                       new HighlightBuilder.Field("title").numOfFragments(0));
 
+    /** The document text is only needed for highlighting, the rest of the source makes up the result. */
+    protected static String[] excludedSourceFields = {"text"};
+
     /** {@inheritDoc} */
     @Override
-    public SearchResults<LawDocId> searchLawDocs(QueryBuilder query, FilterBuilder postFilter,
-                                                 RescoreBuilder.Rescorer rescorer, String sort, LimitOffset limOff) {
+    public SearchResults<LawDocInfo> searchLawDocs(QueryBuilder query, FilterBuilder postFilter,
+                                                   RescoreBuilder.Rescorer rescorer, String sort, LimitOffset limOff) {
         SearchRequestBuilder searchBuilder =
-            getSearchRequest(lawIndexName, query, postFilter, highlightFields, rescorer, sort, limOff, true);
+            getSearchRequest(lawIndexName, query, postFilter, highlightFields, rescorer, sort, limOff, true)
+                .setFetchSource(null, excludedSourceFields);
         SearchResponse response = searchBuilder.execute().actionGet();
-        return getSearchResults(response, limOff, this::getLawDocIdFromHit);
+        return getSearchResults(response, limOff, this::getLawDocInfoFromHit);
     }
 
     /** {@inheritDoc} */
@@ -63,7 +70,7 @@ public class ElasticLawSearchDao extends ElasticBaseDao implements LawSearchDao
             lawDocs.stream().map(doc -> new LawDocView(doc)).forEach(docView -> {
                 bulkRequest.add(
                     searchClient.prepareIndex(lawIndexName, docView.getLawId(), createSearchId(docView))
-                                .setSource(OutputUtils.toJson(docView)));
+                                .setSource(OutputUtils.toCompactJson(docView)));
             });
             safeBulkRequestExecute(bulkRequest);
         }
@@ -85,10 +92,13 @@ public class ElasticLawSearchDao extends ElasticBaseDao implements LawSearchDao
 
     /** --- Internal --- */
 
-    private LawDocId getLawDocIdFromHit(SearchHit hit) {
+    private LawDocInfo getLawDocInfoFromHit(SearchHit hit) {
+        String lawId = hit.getType();
         String locationId = hit.getId();
-        String docId = hit.getType() + locationId;
-        return new LawDocId(docId, LocalDate.parse((String) hit.getSource().get("activeDate")));
+        Map<String, Object> source = hit.getSource();
+        return new LawDocInfo(lawId + locationId, lawId, locationId, (String) source.get("title"),
+                              LawDocumentType.valueOf((String) source.get("docType")),
+                              (String) source.get("docLevelId"), LocalDate.parse((String) source.get("activeDate")));
     }
 
     private String createSearchId(LawDocId lawDocId) {
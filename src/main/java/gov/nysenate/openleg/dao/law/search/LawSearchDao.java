@@ -2,6 +2,7 @@ package gov.nysenate.openleg.dao.law.search;
 
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.law.LawDocId;
+import gov.nysenate.openleg.model.law.LawDocInfo;
 import gov.nysenate.openleg.model.law.LawDocument;
 import gov.nysenate.openleg.model.search.SearchResults;
 import org.elasticsearch.index.query.FilterBuilder;
@@ -16,17 +17,18 @@ import java.util.Collection;
 public interface LawSearchDao
 {
     /**
-     * Perform a search against all law documents.
+     * Perform a search against all law documents. The document info of each result is read from the index so
+     * the matching documents do not need to be retrieved afterwards.
      *
      * @param query QueryBuilder
      * @param filter FilterBuilder
      * @param rescorer Rescorer
      * @param sort String
      * @param limOff LimitOffset
-     * @return SearchResults<LawDocId>
+     * @return SearchResults<LawDocInfo>
      */
-    public SearchResults<LawDocId> searchLawDocs(QueryBuilder query, FilterBuilder filter, RescoreBuilder.Rescorer rescorer,
-                                                 String sort, LimitOffset limOff);
+    public SearchResults<LawDocInfo> searchLawDocs(QueryBuilder query, FilterBuilder filter, RescoreBuilder.Rescorer rescorer,
+                                                   String sort, LimitOffset limOff);
 
     /**
      * Update the law index with the supplied law doc.
@@ -60,7 +60,7 @@ public class ElasticNotificationSearchDao extends ElasticBaseDao implements Noti
     public RegisteredNotification registerNotification(Notification notification) {
         RegisteredNotification regNotification = new RegisteredNotification(notification, getNextId());
         searchClient.prepareIndex(notificationIndex, notificationType, Long.toString(regNotification.getId()))
-                .setSource(OutputUtils.toJson(new NotificationView(regNotification)))
+                .setSource(OutputUtils.toCompactJson(new NotificationView(regNotification)))
                 .execute().actionGet();
         return regNotification;
     }
@@ -59,7 +59,7 @@ public class ElasticTranscriptSearchDao extends ElasticBaseDao implements Transc
             transcriptViewList.forEach(t ->
                             bulkRequest.add(
                                     searchClient.prepareIndex(transcriptIndexName, "transcripts", t.getFilename())
-                                            .setSource(OutputUtils.toJson(t)))
+                                            .setSource(OutputUtils.toCompactJson(t)))
             );
             safeBulkRequestExecute(bulkRequest);
         }
@@ -5,10 +5,12 @@ import com.google.common.collect.Range;
 import gov.nysenate.openleg.dao.base.*;
 import gov.nysenate.openleg.model.updates.*;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
 
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -22,11 +24,14 @@ public class SqlAggregateUpdatesDao extends SqlBaseDao implements AggregateUpdat
     public PaginatedList<UpdateToken<Map<String, String>>> getUpdateTokens(Range<LocalDateTime> dateTimeRange,
                                                                            Set<UpdateContentType> types, UpdateType updateType,
                                                                            SortOrder order, LimitOffset limitOffset) {
+        MapSqlParameterSource params = getDateTimeRangeParams(dateTimeRange);
         String query = buildQuery(schema(), limitOffset, order, types, UpdateReturnType.TOKEN, updateType);
-        PaginatedRowHandler<UpdateToken<Map<String, String>>> rowHandler =
-                new PaginatedRowHandler<>(limitOffset, "total_updated", aggregateUpdateTokenRowMapper);
-        jdbcNamed.query(query, getDateTimeRangeParams(dateTimeRange), rowHandler);
-        return rowHandler.getList();
+        List<UpdateToken<Map<String, String>>> tokens = jdbcNamed.query(query, params, aggregateUpdateTokenRowMapper);
+        // A short page already tells us the total, otherwise count it separately so the page itself stays a range scan
+        int total = !tokens.isEmpty() && (!limitOffset.hasLimit() || tokens.size() < limitOffset.getLimit())
+                ? limitOffset.getOffsetStart() - 1 + tokens.size()
+                : jdbcNamed.queryForObject(buildTokenCountQuery(schema(), types, updateType), params, Integer.class);
+        return new PaginatedList<>(total, limitOffset, tokens);
     }
 
     /** {@inheritDoc} */
@@ -9,6 +9,7 @@ import org.apache.commons.lang3.text.StrSubstitutor;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
 
@@ -32,19 +33,12 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
         "\t\tpublished_date_time AS last_published_date_time,\n" +
         "\t\ttable_name, action"
     ),
-    STANDARD_TOKEN_COLUMNS(
-        "MAX(%s) AS last_source_id, MAX(action_date_time) AS last_processed_date_time, \n" +
-        "\t\tMAX(published_date_time) AS last_published_date_time"
-    ),
     SOBI_DIGEST_COLUMNS(
         String.format(STANDARD_DIGEST_COLUMNS.sql, "sobi_fragment_id")
     ),
     SOBI_DETAIL_DIGEST_COLUMNS(
         SOBI_DIGEST_COLUMNS.sql + ", hstore_to_array(data) AS data"
     ),
-    SOBI_TOKEN_COLUMNS(
-        String.format(STANDARD_TOKEN_COLUMNS.sql, "sobi_fragment_id")
-    ),
 
     /** --- Agenda Update Subquery --- */
 
@@ -53,9 +47,6 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
             "ARRAY['agendaNumber', agenda_no::text, 'year', year::text]",
             "AGENDA", "${sobiColumns}", SqlTable.AGENDA_CHANGE_LOG)
     ),
-    AGENDA_UPDATE_TOKEN_SUBQUERY(
-        AGENDA_UPDATE_SUBQUERY.sql + "\n\tGROUP BY agenda_no, year"
-    ),
 
     /** --- Bill Update Subquery --- */
 
@@ -64,9 +55,6 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
             "ARRAY['printNo', bill_print_no, 'session', bill_session_year::text]",
             "BILL", "${sobiColumns}", SqlTable.BILL_CHANGE_LOG)
     ),
-    BILL_UPDATE_TOKEN_SUBQUERY(
-        BILL_UPDATE_SUBQUERY.sql + "\n\tGROUP BY bill_print_no, bill_session_year"
-    ),
 
     /** --- Calendar Update Subquery --- */
 
@@ -75,9 +63,6 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
             "ARRAY['calNo', calendar_no::text, 'year', calendar_year::text]",
             "CALENDAR", "${sobiColumns}", SqlTable.CALENDAR_CHANGE_LOG)
     ),
-    CALENDAR_UPDATE_TOKEN_SUBQUERY(
-        CALENDAR_UPDATE_SUBQUERY.sql + "\n\tGROUP BY calendar_no, calendar_year"
-    ),
 
     /** --- Law Update Subquery --- */
 
@@ -87,19 +72,32 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
     LAW_DETAIL_DIGEST_COLUMNS(
         LAW_DIGEST_COLUMNS.sql + ", ARRAY[]::text[] AS data"
     ),
-    LAW_TOKEN_COLUMNS(
-        String.format(STANDARD_TOKEN_COLUMNS.sql, "law_file_name")
-    ),
 
     LAW_UPDATE_SUBQUERY(
         String.format(STANDARD_UPDATE_SUBQUERY.sql,
             "ARRAY['lawDocId', document_id, 'publishedDate', published_date_time::date::text]",
             "LAW", "${lawColumns}", SqlTable.LAW_CHANGE_LOG)
     ),
-    LAW_UPDATE_TOKEN_SUBQUERY(
-        String.format(STANDARD_UPDATE_SUBQUERY.sql,
-            "ARRAY['lawId', law_id, 'publishedDate', MAX(published_date_time)::date::text]",
-            "LAW", "${lawColumns}", SqlTable.LAW_CHANGE_LOG) + "\n\tGROUP BY law_id"
+
+    /** --- Update Token Rollup Queries --- */
+
+    /** Reads tokens straight off the update token rollup, which holds a row each time a source is applied to a
+     *  content item, so a page is an index range scan on the date column. */
+    SELECT_ROLLUP_UPDATE_TOKENS(
+        "SELECT CASE WHEN content_type = '" + UpdateContentType.LAW + "'\n" +
+        "\t\t\tTHEN content_id || ARRAY['publishedDate', published_date_time::date::text]\n" +
+        "\t\t\tELSE content_id END AS id,\n" +
+        "\t\tcontent_type, source_id AS last_source_id, action_date_time AS last_processed_date_time, \n" +
+        "\t\tpublished_date_time AS last_published_date_time\n" +
+        "FROM ${schema}." + SqlTable.UPDATE_TOKEN + "\n" +
+        "WHERE ${dateColumn} BETWEEN :startDateTime AND :endDateTime\n" +
+        "\tAND content_type IN (%s)\n"
+    ),
+    COUNT_ROLLUP_UPDATE_TOKENS(
+        "SELECT COUNT(*) AS total_updated\n" +
+        "FROM ${schema}." + SqlTable.UPDATE_TOKEN + "\n" +
+        "WHERE ${dateColumn} BETWEEN :startDateTime AND :endDateTime\n" +
+        "\tAND content_type IN (%s)\n"
     ),
     ;
 
@@ -128,15 +126,31 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
     public static String buildQuery(String schema, LimitOffset limOff, SortOrder order,
                                     Set<UpdateContentType> contentTypes, UpdateReturnType returnType, UpdateType updateType) {
         OrderBy orderBy = new OrderBy(updateType == UpdateType.PROCESSED_DATE ? "last_processed_date_time" : "last_published_date_time", order);
-        String aggregateQuery = String.format(
-                SELECT_AGGREGATE_UPDATES.getSql(schema, orderBy, limOff),
-                generateSubquery(contentTypes, returnType, schema));
-        Map<String, String> replaceMap = ImmutableMap.<String, String>builder()
+        String aggregateQuery = (returnType == UpdateReturnType.TOKEN)
+                ? String.format(SELECT_ROLLUP_UPDATE_TOKENS.getSql(schema, orderBy, limOff), getContentTypeList(contentTypes))
+                : String.format(SELECT_AGGREGATE_UPDATES.getSql(schema, orderBy, limOff),
+                                generateSubquery(contentTypes, returnType, schema));
+        return StrSubstitutor.replace(aggregateQuery, getReplaceMap(returnType, updateType));
+    }
+
+    /**
+     * Generates a query that counts the update tokens that would be returned by the token query from
+     * {@link #buildQuery} without a limit.  The count only reads the date column index.
+     */
+    public static String buildTokenCountQuery(String schema, Set<UpdateContentType> contentTypes, UpdateType updateType) {
+        String countQuery = String.format(COUNT_ROLLUP_UPDATE_TOKENS.getSql(schema), getContentTypeList(contentTypes));
+        return StrSubstitutor.replace(countQuery, getReplaceMap(UpdateReturnType.TOKEN, updateType));
+    }
+
+    private static String getContentTypeList(Set<UpdateContentType> contentTypes) {
+        return contentTypes.stream().map(type -> "'" + type.name() + "'").collect(Collectors.joining(", "));
+    }
+
+    private static Map<String, String> getReplaceMap(UpdateReturnType returnType, UpdateType updateType) {
+        return ImmutableMap.<String, String>builder()
                 .putAll(getColumnReplaceMap(returnType))
                 .put("dateColumn", updateType == UpdateType.PROCESSED_DATE ? "action_date_time" : "published_date_time")
                 .build();
-        aggregateQuery = StrSubstitutor.replace(aggregateQuery, replaceMap);
-        return aggregateQuery;
     }
 
     /**
@@ -150,29 +164,17 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
             else { subqueryBuilder.append("\nUNION ALL\n"); }
             switch (contentType) {
                 case AGENDA:
-                    if (returnType == UpdateReturnType.TOKEN) {
-                        subqueryBuilder.append(AGENDA_UPDATE_TOKEN_SUBQUERY.getSql(schema));
-                    } else {
-                        subqueryBuilder.append(AGENDA_UPDATE_SUBQUERY.getSql(schema));
-                    } break;
+                    subqueryBuilder.append(AGENDA_UPDATE_SUBQUERY.getSql(schema));
+                    break;
                 case BILL:
-                    if (returnType == UpdateReturnType.TOKEN) {
-                        subqueryBuilder.append(BILL_UPDATE_TOKEN_SUBQUERY.getSql(schema));
-                    } else {
-                        subqueryBuilder.append(BILL_UPDATE_SUBQUERY.getSql(schema));
-                    } break;
+                    subqueryBuilder.append(BILL_UPDATE_SUBQUERY.getSql(schema));
+                    break;
                 case CALENDAR:
-                    if (returnType == UpdateReturnType.TOKEN) {
-                        subqueryBuilder.append(CALENDAR_UPDATE_TOKEN_SUBQUERY.getSql(schema));
-                    } else {
-                        subqueryBuilder.append(CALENDAR_UPDATE_SUBQUERY.getSql(schema));
-                    } break;
+                    subqueryBuilder.append(CALENDAR_UPDATE_SUBQUERY.getSql(schema));
+                    break;
                 case LAW:
-                    if (returnType == UpdateReturnType.TOKEN) {
-                        subqueryBuilder.append(LAW_UPDATE_TOKEN_SUBQUERY.getSql(schema));
-                    } else {
-                        subqueryBuilder.append(LAW_UPDATE_SUBQUERY.getSql(schema));
-                    } break;
+                    subqueryBuilder.append(LAW_UPDATE_SUBQUERY.getSql(schema));
+                    break;
             }
         }
         return subqueryBuilder.toString();
@@ -183,8 +185,6 @@ public enum SqlAggregateUpdatesQuery implements BasicSqlQuery {
      */
     private static Map<String, String> getColumnReplaceMap(UpdateReturnType returnType) {
         switch (returnType) {
-            case TOKEN:
-                return ImmutableMap.of("sobiColumns", SOBI_TOKEN_COLUMNS.sql, "lawColumns", LAW_TOKEN_COLUMNS.sql);
             case DIGEST:
                 return ImmutableMap.of("sobiColumns", SOBI_DIGEST_COLUMNS.sql, "lawColumns", LAW_DIGEST_COLUMNS.sql);
             case DETAIL_DIGEST:
@@ -1,13 +1,16 @@
 package gov.nysenate.openleg.model.base;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
  * Basic info that is common to all pieces of legislative content.
  */
-abstract public class BaseLegislativeContent
+abstract public class BaseLegislativeContent implements Serializable
 {
+    private static final long serialVersionUID = -1468290123529302519L;
+
     /** The session this object was created in. */
     protected SessionYear session;
 
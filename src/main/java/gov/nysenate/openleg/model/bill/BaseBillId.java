@@ -32,6 +32,14 @@ public class BaseBillId extends BillId implements Serializable
         return new BaseBillId(billId.getBasePrintNo(), billId.getSession());
     }
 
+    /**
+     * Reconstructs a base bill id from a packed id, ignoring the version bits.
+     * @see BillId#getPackedId()
+     */
+    public static BaseBillId fromPackedId(long packedId) {
+        return new BaseBillId(unpackBasePrintNo(packedId), unpackSession(packedId));
+    }
+
     /**
      * Return a new BillId instance with the version set as the supplied 'version'.
      * This can be useful when moving from a non-version context (such as a Bill container)
@@ -8,6 +8,7 @@ import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.entity.CommitteeVersionId;
 import gov.nysenate.openleg.model.entity.Member;
 import gov.nysenate.openleg.service.bill.data.BillAmendNotFoundEx;
+import gov.nysenate.openleg.service.bill.data.BillCodec;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -132,6 +133,15 @@ public class Bill extends BaseLegislativeContent implements Serializable, Compar
         return cloneBill;
     }
 
+    /**
+     * Returns a copy of this bill that shares no mutable state with it, unlike {@link #shallowClone()}.
+     * The copy is made by encoding the bill with the {@link BillCodec}, which is much cheaper than java
+     * serialization since no class descriptors are written or read.
+     */
+    public Bill deepClone() {
+        return BillCodec.decode(BillCodec.encode(this));
+    }
+
     /** --- Functional Getters/Setters --- */
 
     /**
@@ -29,6 +29,26 @@ public class BillId implements Serializable, Comparable<BillId>
     /** The default amendment version letter. */
     public static final Version DEFAULT_VERSION = Version.DEFAULT;
 
+    /** Bit layout of a packed id, from the most significant bits: session year, bill type letter, print number
+     *  and version. Ordering packed ids numerically orders them by session, type, number and version. The version
+     *  is stored by ordinal, so packed ids are meant for in memory use and should not be persisted. */
+    private static final int VERSION_BITS = 5;
+    private static final int NUMBER_BITS = 20;
+    private static final int TYPE_BITS = 5;
+    private static final int SESSION_BITS = 16;
+    private static final long VERSION_MASK = (1L << VERSION_BITS) - 1;
+
+    /** Marks an id that cannot be packed, e.g. a print number with more digits than fit in the number bits. */
+    private static final long UNPACKABLE = -1;
+
+    /** Bill types indexed by their letter designator. */
+    private static final BillType[] billTypesByLetter = new BillType[26];
+    static {
+        for (BillType billType : BillType.values()) {
+            billTypesByLetter[billType.name().charAt(0) - 'A'] = billType;
+        }
+    }
+
     /** A number assigned to a bill when it's introduced in the Legislature. Each printNo begins with a
      *  letter (A for Assembly, S for Senate) followed by 1 to 5 digits. This printNo is valid only for the
      *  2 year session period, after which it will be recycled. */
@@ -40,6 +60,10 @@ public class BillId implements Serializable, Comparable<BillId>
     /** The amendment version of the bill. */
     protected Version version = DEFAULT_VERSION;
 
+    /** The packed form of this id, computed on first use so that hashing and equality checks do not need to
+     *  look at the print number string. Zero until computed. */
+    private transient long packedId;
+
     /* --- Constructors --- */
 
     public BillId(String printNo, int session) {
@@ -56,7 +80,7 @@ public class BillId implements Serializable, Comparable<BillId>
     public BillId(String printNo, SessionYear session) {
         printNo = normalizePrintNo(printNo);
         // Strip out the version from the print no if it exists.
-        if (printNo.matches(".*[A-Z]$")) {
+        if (endsWithLetter(printNo)) {
             this.version = Version.of(printNo.substring(printNo.length() - 1));
             printNo = printNo.substring(0, printNo.length() - 1);
         }
@@ -124,6 +148,51 @@ public class BillId implements Serializable, Comparable<BillId>
         return new BaseBillId(billId.basePrintNo, billId.session);
     }
 
+    /**
+     * Reconstructs a bill id from its packed form, see {@link #getPackedId()}.
+     *
+     * @param packedId long
+     * @return BillId
+     * @throws IllegalArgumentException if the value is not a packed bill id.
+     */
+    public static BillId fromPackedId(long packedId) {
+        Version version = unpackVersion(packedId);
+        return new BillId(unpackBasePrintNo(packedId), unpackSession(packedId), version);
+    }
+
+    /**
+     * Returns the id packed into a single long which can be used as a compact key or sorted as a primitive.
+     * The packed values of ids that differ only by version differ only in the lowest bits, see
+     * {@link #getPackedBaseId()}.
+     *
+     * @return long
+     * @throws IllegalStateException if the print number is too long to be packed, see {@link #isPackable()}.
+     */
+    @JsonIgnore
+    public long getPackedId() {
+        long packed = packedId();
+        if (packed == UNPACKABLE) {
+            throw new IllegalStateException("Bill id " + this + " cannot be packed");
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the packed id with the version bits cleared, i.e. the packed id of the base bill.
+     */
+    @JsonIgnore
+    public long getPackedBaseId() {
+        return getPackedId() & ~VERSION_MASK;
+    }
+
+    /**
+     * Indicates if this id can be represented by {@link #getPackedId()}. All ids of valid print numbers can.
+     */
+    @JsonIgnore
+    public boolean isPackable() {
+        return packedId() != UNPACKABLE;
+    }
+
     /**
      * Returns the full print no including amendment version, e.g. S1234A
      */
@@ -136,7 +205,7 @@ public class BillId implements Serializable, Comparable<BillId>
      */
     @JsonIgnore
     public BillType getBillType() {
-        return BillType.valueOf(this.basePrintNo.substring(0, 1));
+        return billTypesByLetter[this.basePrintNo.charAt(0) - 'A'];
     }
 
     /**
@@ -152,6 +221,9 @@ public class BillId implements Serializable, Comparable<BillId>
      */
     @JsonIgnore
     public int getNumber() {
+        if (isPackable()) {
+            return (int) ((packedId() >>> VERSION_BITS) & ((1L << NUMBER_BITS) - 1));
+        }
         return Integer.parseInt(basePrintNo.replaceAll("[^\\d]", ""));
     }
     /**
@@ -182,6 +254,14 @@ public class BillId implements Serializable, Comparable<BillId>
      */
     @JsonIgnore
     public String getPaddedPrintNumber() {
+        if (isPackable()) {
+            String number = Integer.toString(getNumber());
+            StringBuilder padded = new StringBuilder(7).append(basePrintNo.charAt(0));
+            for (int i = number.length(); i < 5; i++) {
+                padded.append('0');
+            }
+            return padded.append(number).append(version != null ? version.getValue() : "").toString();
+        }
         Matcher billIdMatcher = printNumberPattern.matcher(this.getPrintNo());
         if (billIdMatcher.find()) {
             return String.format("%s%05d%s", billIdMatcher.group(1), Integer.parseInt(billIdMatcher.group(2)),
@@ -208,11 +288,15 @@ public class BillId implements Serializable, Comparable<BillId>
         if (o == null) return false;
         if (!equalsBase(o)) return false;
         BillId oBillId = (BillId) o;
-        return Objects.equals(this.version, oBillId.version);
+        return this.version == oBillId.version;
     }
 
     @Override
     public int hashCode() {
+        long packed = packedId();
+        if (packed != UNPACKABLE) {
+            return Long.hashCode(packed);
+        }
         int result = hashCodeBase();
         return (31 * result + Objects.hash(this.version));
     }
@@ -225,6 +309,11 @@ public class BillId implements Serializable, Comparable<BillId>
         if (this == o) return true;
         if (o == null) return false;
         BillId oBillId = (BillId) o;
+        long packed = packedId();
+        long oPacked = oBillId.packedId();
+        if (packed != UNPACKABLE && oPacked != UNPACKABLE) {
+            return (packed & ~VERSION_MASK) == (oPacked & ~VERSION_MASK);
+        }
         return Objects.equals(this.session, oBillId.session) &&
                Objects.equals(this.basePrintNo, oBillId.basePrintNo);
     }
@@ -234,6 +323,10 @@ public class BillId implements Serializable, Comparable<BillId>
      * for classes that contain a BillId where the version of the bill is not relevant.
      */
     public int hashCodeBase() {
+        long packed = packedId();
+        if (packed != UNPACKABLE) {
+            return Long.hashCode(packed & ~VERSION_MASK);
+        }
         return Objects.hash(this.basePrintNo, this.session);
     }
 
@@ -248,6 +341,72 @@ public class BillId implements Serializable, Comparable<BillId>
 
     /** --- Internal --- */
 
+    /**
+     * Returns the packed id, computing it on first use, or UNPACKABLE.
+     */
+    private long packedId() {
+        long packed = packedId;
+        if (packed == 0) {
+            packed = pack();
+            packedId = packed;
+        }
+        return packed;
+    }
+
+    private long pack() {
+        int year = session.getYear();
+        int length = basePrintNo.length();
+        if (year <= 0 || year >= (1 << SESSION_BITS) || length < 2 || length > 7) {
+            return UNPACKABLE;
+        }
+        long number = 0;
+        for (int i = 1; i < length; i++) {
+            char c = basePrintNo.charAt(i);
+            if (c < '0' || c > '9') {
+                return UNPACKABLE;
+            }
+            number = number * 10 + (c - '0');
+        }
+        if (number >= (1L << NUMBER_BITS)) {
+            return UNPACKABLE;
+        }
+        long type = basePrintNo.charAt(0) - 'A' + 1;
+        long versionNo = (version != null) ? version.ordinal() : 0;
+        return ((long) year << (TYPE_BITS + NUMBER_BITS + VERSION_BITS))
+             | (type << (NUMBER_BITS + VERSION_BITS))
+             | (number << VERSION_BITS)
+             | versionNo;
+    }
+
+    protected static String unpackBasePrintNo(long packedId) {
+        int type = (int) ((packedId >>> (NUMBER_BITS + VERSION_BITS)) & ((1L << TYPE_BITS) - 1));
+        long number = (packedId >>> VERSION_BITS) & ((1L << NUMBER_BITS) - 1);
+        if (packedId <= 0 || type < 1 || type > 26 || billTypesByLetter[type - 1] == null || number == 0) {
+            throw new IllegalArgumentException("Not a packed bill id: " + packedId);
+        }
+        return (char) ('A' + type - 1) + Long.toString(number);
+    }
+
+    protected static SessionYear unpackSession(long packedId) {
+        return SessionYear.of((int) (packedId >>> (TYPE_BITS + NUMBER_BITS + VERSION_BITS)));
+    }
+
+    protected static Version unpackVersion(long packedId) {
+        int versionNo = (int) (packedId & VERSION_MASK);
+        if (versionNo >= Version.values().length) {
+            throw new IllegalArgumentException("Not a packed bill id: " + packedId);
+        }
+        return Version.values()[versionNo];
+    }
+
+    /**
+     * Indicates if the string ends with an (upper case) version letter.
+     */
+    private static boolean endsWithLetter(String printNo) {
+        char last = printNo.charAt(printNo.length() - 1);
+        return last >= 'A' && last <= 'Z';
+    }
+
     /**
      * Converts the printNo into a normalized form (no whitespace, all caps, all alphanumeric) and performs
      * basic checks to ensure that the printNo starts with the correct BillType designator. The normalized
@@ -261,6 +420,9 @@ public class BillId implements Serializable, Comparable<BillId>
         if (printNo == null || printNo.trim().isEmpty()) {
             throw new IllegalArgumentException("PrintNo when constructing BillId cannot be null/empty.");
         }
+        if (isNormalized(printNo)) {
+            return printNo;
+        }
         // Remove all non-alphanumeric characters from the printNo.
         printNo = printNo.trim().toUpperCase().replaceAll("[^0-9A-Z]", "");
         // Check that printNo starts with a valid bill type designator
@@ -275,6 +437,25 @@ public class BillId implements Serializable, Comparable<BillId>
         return printNo;
     }
 
+    /**
+     * Indicates if the printNo is already in normalized form, which is the case for print numbers read from the
+     * database, so the more expensive normalization can be skipped.
+     */
+    private static boolean isNormalized(String printNo) {
+        char first = printNo.charAt(0);
+        if (first < 'A' || first > 'Z' || billTypesByLetter[first - 'A'] == null) {
+            return false;
+        }
+        for (int i = 1; i < printNo.length(); i++) {
+            char c = printNo.charAt(i);
+            boolean valid = (c >= '0' && c <= '9') ? (i > 1 || c != '0') : (c >= 'A' && c <= 'Z');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Check that base print no has no version character at the end. Throw an IllegalArgumentException if
      * there is.
@@ -283,7 +464,7 @@ public class BillId implements Serializable, Comparable<BillId>
      * @throws java.lang.IllegalArgumentException - If basePrintNo has a character appended at the end
      */
     private void checkBasePrintHasNoVersion(String basePrintNo) {
-        if (basePrintNo.matches(".*[A-Z]$")) {
+        if (endsWithLetter(basePrintNo)) {
             throw new IllegalArgumentException("BasePrintNo cannot have a version appended to it. (" + basePrintNo + ")");
         }
     }
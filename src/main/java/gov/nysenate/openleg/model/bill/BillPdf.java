@@ -0,0 +1,79 @@
+package gov.nysenate.openleg.model.bill;
+
+import com.google.common.hash.Hashing;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A rendered PDF of a single bill amendment's full text.
+ */
+public class BillPdf implements Serializable
+{
+    private static final long serialVersionUID = -4523985420751278146L;
+
+    /** The id of the amendment that was rendered. */
+    protected BillId billId;
+
+    /** The publish date time of the amendment at the time it was rendered. */
+    protected LocalDateTime publishDateTime;
+
+    /** A hash of the bill content that the PDF was rendered from. */
+    protected int sourceHash;
+
+    /** The date time when the PDF was rendered. */
+    protected LocalDateTime renderedDateTime;
+
+    /** The rendered PDF document. */
+    protected byte[] content;
+
+    /** An identifier for the content that can be used as an http entity tag. */
+    protected String etag;
+
+    /** --- Constructors --- */
+
+    public BillPdf(BillId billId, LocalDateTime publishDateTime, int sourceHash, byte[] content) {
+        this.billId = billId;
+        this.publishDateTime = publishDateTime;
+        this.sourceHash = sourceHash;
+        this.renderedDateTime = LocalDateTime.now();
+        this.content = content;
+        this.etag = "\"" + Hashing.murmur3_128().hashBytes(content).toString() + "\"";
+    }
+
+    /** --- Functional Getters --- */
+
+    /**
+     * @return true if this PDF was rendered from an amendment with the given publish date time and source hash
+     */
+    public boolean isRenderedFrom(LocalDateTime publishDateTime, int sourceHash) {
+        return Objects.equals(this.publishDateTime, publishDateTime) && this.sourceHash == sourceHash;
+    }
+
+    /** --- Basic Getters --- */
+
+    public BillId getBillId() {
+        return billId;
+    }
+
+    public LocalDateTime getPublishDateTime() {
+        return publishDateTime;
+    }
+
+    public int getSourceHash() {
+        return sourceHash;
+    }
+
+    public LocalDateTime getRenderedDateTime() {
+        return renderedDateTime;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,21 @@
+package gov.nysenate.openleg.model.cache;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Requests that a cache evict all of its content for a single year, or session year for bills,
+ * to free up memory without clearing the rest of the cache.
+ */
+public class CacheEvictYearEvent extends BaseCacheEvent
+{
+    protected int year;
+
+    public CacheEvictYearEvent(ContentCache affectedCache, int year) {
+        super(Sets.newHashSet(affectedCache));
+        this.year = year;
+    }
+
+    public int getYear() {
+        return year;
+    }
+}
@@ -0,0 +1,78 @@
+package gov.nysenate.openleg.model.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * A snapshot of a cache's size along with the cache activity that occurred since the previous snapshot.
+ */
+public class CacheStatsSample
+{
+    protected String cacheName;
+
+    /** The time the sample was taken. */
+    protected LocalDateTime sampleDateTime;
+
+    /** Number of entries in the cache. */
+    protected long size;
+
+    /** Heap used by the cache in bytes. */
+    protected long heapSizeBytes;
+
+    /** Number of cache hits, misses and evictions since the previous sample. */
+    protected long hitCount;
+    protected long missCount;
+    protected long evictedCount;
+
+    /** --- Constructors --- */
+
+    public CacheStatsSample(String cacheName, LocalDateTime sampleDateTime, long size, long heapSizeBytes,
+                            long hitCount, long missCount, long evictedCount) {
+        this.cacheName = cacheName;
+        this.sampleDateTime = sampleDateTime;
+        this.size = size;
+        this.heapSizeBytes = heapSizeBytes;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictedCount = evictedCount;
+    }
+
+    /** --- Functional Getters --- */
+
+    /**
+     * @return double - ratio of hits to requests since the previous sample, 0 if there were no requests
+     */
+    public double getHitRatio() {
+        long requests = hitCount + missCount;
+        return (requests == 0) ? 0 : (double) hitCount / requests;
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public LocalDateTime getSampleDateTime() {
+        return sampleDateTime;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getHeapSizeBytes() {
+        return heapSizeBytes;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+}
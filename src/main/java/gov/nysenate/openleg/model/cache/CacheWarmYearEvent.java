@@ -0,0 +1,21 @@
+package gov.nysenate.openleg.model.cache;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Requests that a cache pre-load the content for a single year, or session year for bills,
+ * without clearing the rest of the cache.
+ */
+public class CacheWarmYearEvent extends BaseCacheEvent
+{
+    protected int year;
+
+    public CacheWarmYearEvent(ContentCache affectedCache, int year) {
+        super(Sets.newHashSet(affectedCache));
+        this.year = year;
+    }
+
+    public int getYear() {
+        return year;
+    }
+}
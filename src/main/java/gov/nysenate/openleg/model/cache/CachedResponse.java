@@ -0,0 +1,80 @@
+package gov.nysenate.openleg.model.cache;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A pre-serialized json api response, optionally gzip compressed, along with the validators that are
+ * used to answer conditional requests for it.
+ */
+public class CachedResponse implements Serializable
+{
+    private static final long serialVersionUID = -2187446613402750321L;
+
+    /** The serialized response body. */
+    protected byte[] content;
+
+    /** True if the content is gzip compressed. */
+    protected boolean gzipped;
+
+    /** An identifier for the uncompressed content that can be used as an http entity tag. */
+    protected String etag;
+
+    /** The date time when the response was serialized. */
+    protected LocalDateTime lastModified;
+
+    /** --- Constructors --- */
+
+    public CachedResponse(byte[] json, byte[] content, boolean gzipped) {
+        this.content = content;
+        this.gzipped = gzipped;
+        this.etag = "\"" + Hashing.murmur3_128().hashBytes(json).toString() + "\"";
+        this.lastModified = LocalDateTime.now();
+    }
+
+    /** --- Functional Getters --- */
+
+    /**
+     * Returns the uncompressed response body, decompressing the content if needed.
+     */
+    public byte[] getJson() throws IOException {
+        if (!gzipped) {
+            return content;
+        }
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return ByteStreams.toByteArray(gzipStream);
+        }
+    }
+
+    /**
+     * Returns the entity tag for the body as it is sent. The gzip encoded body is a different representation
+     * so its tag gets a '-gzip' suffix.
+     */
+    public String getEtag(boolean gzipEncoded) {
+        return gzipEncoded ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    /** --- Basic Getters --- */
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
@@ -10,6 +10,8 @@ import com.google.common.collect.ImmutableSet;
 public enum ContentCache
 {
     BILL,
+    BILL_PDF,
+    RESPONSE,
     AGENDA,
     CALENDAR,
     LAW,
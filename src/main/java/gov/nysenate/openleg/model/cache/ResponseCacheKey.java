@@ -0,0 +1,88 @@
+package gov.nysenate.openleg.model.cache;
+
+import gov.nysenate.openleg.model.base.SessionYear;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifies a serialized api response in the response cache. A response is derived from a single piece of
+ * content (e.g. a bill) rendered at a given view level. Responses that also embed data from other bills
+ * are flagged so that they can be invalidated when any bill from the same session is updated.
+ */
+public class ResponseCacheKey implements Serializable
+{
+    private static final long serialVersionUID = 3461096820517823476L;
+
+    /** The type of content the response was built from. */
+    protected ContentCache contentType;
+
+    /** The id of the content, e.g. a BaseBillId, AgendaId, or CalendarId. */
+    protected Serializable contentId;
+
+    /** Identifies how the content was rendered, e.g. the view level and any other request parameters. */
+    protected String view;
+
+    /** The session year that the content belongs to. */
+    protected SessionYear session;
+
+    /** True if the response embeds data from bills other than the content itself. */
+    protected boolean includesBills;
+
+    /** --- Constructors --- */
+
+    public ResponseCacheKey(ContentCache contentType, Serializable contentId, String view, SessionYear session,
+                            boolean includesBills) {
+        this.contentType = contentType;
+        this.contentId = contentId;
+        this.view = view;
+        this.session = session;
+        this.includesBills = includesBills;
+    }
+
+    /** --- Overrides --- */
+
+    @Override
+    public String toString() {
+        return contentType + " " + contentId + " (" + view + ")";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResponseCacheKey that = (ResponseCacheKey) o;
+        return includesBills == that.includesBills &&
+               contentType == that.contentType &&
+               Objects.equals(contentId, that.contentId) &&
+               Objects.equals(view, that.view) &&
+               Objects.equals(session, that.session);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentType, contentId, view, session, includesBills);
+    }
+
+    /** --- Basic Getters --- */
+
+    public ContentCache getContentType() {
+        return contentType;
+    }
+
+    public Serializable getContentId() {
+        return contentId;
+    }
+
+    public String getView() {
+        return view;
+    }
+
+    public SessionYear getSession() {
+        return session;
+    }
+
+    public boolean includesBills() {
+        return includesBills;
+    }
+}
@@ -4,6 +4,7 @@ import gov.nysenate.openleg.model.base.BaseLegislativeContent;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.base.Version;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -13,8 +14,10 @@ import java.util.TreeMap;
  * that have been reported for consideration, split into sections based on their type and
  * status information.
  */
-public class Calendar extends BaseLegislativeContent
+public class Calendar extends BaseLegislativeContent implements Serializable
 {
+    private static final long serialVersionUID = -5464251939022350280L;
+
     /** The calendar id */
     private CalendarId id;
 
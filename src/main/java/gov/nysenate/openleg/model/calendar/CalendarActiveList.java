@@ -3,14 +3,17 @@ package gov.nysenate.openleg.model.calendar;
 import gov.nysenate.openleg.model.base.BaseLegislativeContent;
 import gov.nysenate.openleg.model.base.SessionYear;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-public class CalendarActiveList extends BaseLegislativeContent
+public class CalendarActiveList extends BaseLegislativeContent implements Serializable
 {
+    private static final long serialVersionUID = -1803695832753870103L;
+
     /** A sequence number that identifies this active list. */
     private Integer sequenceNo;
 
@@ -2,10 +2,13 @@ package gov.nysenate.openleg.model.calendar;
 
 import gov.nysenate.openleg.model.bill.BillId;
 
+import java.io.Serializable;
 import java.util.Objects;
 
-public class CalendarEntry
+public class CalendarEntry implements Serializable
 {
+    private static final long serialVersionUID = 5757277226335185782L;
+
     /** This calendar number refers to a specific entry on the calendar.
      *  This value is consistent for this entry across all calendars during a year. */
     protected Integer billCalNo;
@@ -5,13 +5,16 @@ import gov.nysenate.openleg.model.base.BaseLegislativeContent;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.base.Version;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
-public class CalendarSupplemental extends BaseLegislativeContent
+public class CalendarSupplemental extends BaseLegislativeContent implements Serializable
 {
+    private static final long serialVersionUID = -3825972113253186948L;
+
     /** The identifier for this calendar supplemental. Typically a single character. */
     private Version version;
 
@@ -6,6 +6,8 @@ import java.util.Objects;
 
 public class CalendarSupplementalEntry extends CalendarEntry
 {
+    private static final long serialVersionUID = 4220568130683191368L;
+
     /** The section this calendar entry belongs in. */
     private CalendarSectionType sectionType;
 
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * A DaybreakBill serves as a model to store extracted bill content from the DaybreakFragments.
@@ -52,6 +53,28 @@ public class DaybreakBill
         this.reportDate = daybreakBillId.getReportDate();
     }
 
+    /**
+     * Copy constructor. The collections, actions and amendments are copied so the new instance can be modified
+     * without affecting the original.
+     */
+    public DaybreakBill(DaybreakBill other) {
+        this.reportDate = other.reportDate;
+        this.baseBillId = other.baseBillId;
+        this.activeVersion = other.activeVersion;
+        this.title = other.title;
+        this.sponsor = other.sponsor;
+        this.cosponsors = new ArrayList<>(other.cosponsors);
+        this.multiSponsors = new ArrayList<>(other.multiSponsors);
+        this.lawCodeAndSummary = other.lawCodeAndSummary;
+        this.lawSection = other.lawSection;
+        this.actions = other.actions.stream()
+                .map(a -> new BillAction(a.getDate(), a.getText(), a.getChamber(), a.getSequenceNo(), a.getBillId()))
+                .collect(Collectors.toList());
+        this.amendments = new HashMap<>();
+        other.amendments.forEach((version, a) -> this.amendments.put(version,
+                new DaybreakBillAmendment(a.getBillId(), a.getSameAs(), a.getPageCount(), a.getPublishDate())));
+    }
+
     /** --- Functional Getters/Setters --- */
 
     public DaybreakBillId getDaybreakBillId(){
@@ -4,7 +4,6 @@ import com.google.common.collect.Collections2;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.TreeMultiset;
 import gov.nysenate.openleg.model.base.BaseLegislativeContent;
-import javafx.collections.transformation.SortedList;
 
 import java.io.Serializable;
 import java.time.DayOfWeek;
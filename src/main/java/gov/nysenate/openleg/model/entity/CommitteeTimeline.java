@@ -0,0 +1,134 @@
+package gov.nysenate.openleg.model.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * The membership timeline of a committee for a single session, i.e. each version of the committee keyed by the
+ * date it was created. Committee updates are applied with the same rules used to store committee versions,
+ * so that a timeline held in memory stays in step with the stored history as committee updates are processed.
+ */
+public class CommitteeTimeline implements Serializable
+{
+    private static final long serialVersionUID = -3519640356283925872L;
+
+    /** The committee and session this timeline covers. */
+    private final CommitteeSessionId sessionId;
+
+    /** Committee versions keyed by their created date time. */
+    private final TreeMap<LocalDateTime, Committee> versions = new TreeMap<>();
+
+    /** --- Constructors --- */
+
+    public CommitteeTimeline(CommitteeSessionId sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public CommitteeTimeline(CommitteeSessionId sessionId, Collection<Committee> history) {
+        this(sessionId);
+        history.forEach(committee -> versions.put(committee.getCreated(), committee));
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Applies a committee update to the timeline. Versions created after the update are dropped. If the members
+     * of the committee changed, a new version is started and the version it replaces is marked as reformed,
+     * otherwise the meeting info of the existing version is updated.
+     *
+     * @param committee Committee - A committee for this timeline's session, created at its published date time
+     */
+    public synchronized void update(Committee committee) {
+        if (!sessionId.equals(committee.getSessionId())) {
+            throw new IllegalArgumentException("Cannot apply " + committee.getSessionId() + " to timeline of " + sessionId);
+        }
+        Committee update = new Committee(committee);
+        versions.tailMap(update.getCreated(), false).clear();
+        Committee existing = findVersion(update.getCreated());
+        if (existing == null) {
+            versions.put(update.getCreated(), update);
+        }
+        else if (!update.membersEquals(existing)) {
+            if (update.getCreated().equals(existing.getCreated())) {
+                versions.remove(existing.getCreated());
+                Map.Entry<LocalDateTime, Committee> previous = versions.lowerEntry(existing.getCreated());
+                if (previous != null && update.membersEquals(previous.getValue())) {
+                    // Merge with the previous version since the membership did not actually change
+                    Committee merged = new Committee(previous.getValue());
+                    merged.updateMeetingInfo(update);
+                    merged.setReformed(update.getReformed());
+                    versions.put(merged.getCreated(), merged);
+                }
+                else {
+                    versions.put(update.getCreated(), update);
+                }
+            }
+            else {
+                Committee reformed = new Committee(existing);
+                reformed.setReformed(update.getCreated());
+                versions.put(reformed.getCreated(), reformed);
+                versions.put(update.getCreated(), update);
+            }
+        }
+        else if (!update.meetingEquals(existing)) {
+            Committee updated = new Committee(existing);
+            updated.updateMeetingInfo(update);
+            versions.put(updated.getCreated(), updated);
+        }
+    }
+
+    /**
+     * Returns the version of the committee that was in effect at the given date time, if any.
+     *
+     * @param referenceDate LocalDateTime
+     * @return Optional<Committee>
+     */
+    public synchronized Optional<Committee> getCommittee(LocalDateTime referenceDate) {
+        return Optional.ofNullable(findVersion(referenceDate));
+    }
+
+    /**
+     * @return Optional<Committee> - The most recently created version of the committee, if any
+     */
+    public synchronized Optional<Committee> getLatest() {
+        return versions.isEmpty() ? Optional.empty() : Optional.of(versions.lastEntry().getValue());
+    }
+
+    /**
+     * @return List<Committee> - All versions of the committee in descending order of creation
+     */
+    public synchronized List<Committee> getHistory() {
+        return new ArrayList<>(versions.descendingMap().values());
+    }
+
+    public synchronized int size() {
+        return versions.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return versions.isEmpty();
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Finds the latest version created on or before the reference date that was not reformed by then.
+     * This is normally the first version checked.
+     */
+    private Committee findVersion(LocalDateTime referenceDate) {
+        for (Committee committee : versions.headMap(referenceDate, true).descendingMap().values()) {
+            if (committee.getCreated().equals(referenceDate) ||
+                    committee.getReformed() == null || committee.getReformed().isAfter(referenceDate)) {
+                return committee;
+            }
+        }
+        return null;
+    }
+
+    /** --- Basic Getters/Setters --- */
+
+    public CommitteeSessionId getSessionId() {
+        return sessionId;
+    }
+}
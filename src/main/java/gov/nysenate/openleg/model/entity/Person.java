@@ -91,6 +91,15 @@ public class Person
                 '}';
     }
 
+    /** --- Functional Getters/Setters --- */
+
+    /**
+     * Makeshift members that were not matched against the member table do not have a person id.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
     /** --- Basic Getters/Setters --- */
 
     public int getId() {
@@ -0,0 +1,45 @@
+package gov.nysenate.openleg.model.process;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Posted when the content updates from a source fragment have been saved and broadcast, i.e. when they
+ * become visible through the api.
+ */
+public class DataProcessLagEvent
+{
+    private String sourceType;
+    private String sourceId;
+    private LocalDateTime publishedDateTime;
+    private LocalDateTime visibleDateTime;
+
+    public DataProcessLagEvent(String sourceType, String sourceId, LocalDateTime publishedDateTime,
+                               LocalDateTime visibleDateTime) {
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+        this.publishedDateTime = publishedDateTime;
+        this.visibleDateTime = visibleDateTime;
+    }
+
+    /** The time between when the source was published and when its content became visible. */
+    public Duration getLag() {
+        return Duration.between(publishedDateTime, visibleDateTime);
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public LocalDateTime getPublishedDateTime() {
+        return publishedDateTime;
+    }
+
+    public LocalDateTime getVisibleDateTime() {
+        return visibleDateTime;
+    }
+}
@@ -0,0 +1,25 @@
+package gov.nysenate.openleg.model.process;
+
+/**
+ * The distinct phases of a data processing run that are timed separately.
+ */
+public enum DataProcessPhase
+{
+    /** Splitting incoming source files into fragments and recording them in the backing store. */
+    COLLATE,
+
+    /** Parsing a fragment's text into SOBI blocks or an XML document. */
+    PARSE,
+
+    /** Applying the parsed data of a fragment to the content held in the ingest caches. */
+    APPLY,
+
+    /** Saving the content in the ingest caches to the backing store. */
+    FLUSH,
+
+    /** Broadcasting the flushed content updates, including the work done by any synchronous subscribers. */
+    EVENT_DISPATCH,
+
+    /** Updating the search indices with the flushed content. */
+    INDEX
+}
@@ -0,0 +1,66 @@
+package gov.nysenate.openleg.model.process;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accumulated timings for one phase of one source type within a data process run.
+ */
+public class DataProcessPhaseStats
+{
+    protected String sourceType;
+    protected DataProcessPhase phase;
+
+    protected LongAdder spanCount = new LongAdder();
+    protected LongAdder totalNanos = new LongAdder();
+    protected LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+    protected LongAdder itemCount = new LongAdder();
+    protected LongAdder byteCount = new LongAdder();
+
+    /** --- Constructors --- */
+
+    public DataProcessPhaseStats(String sourceType, DataProcessPhase phase) {
+        this.sourceType = sourceType;
+        this.phase = phase;
+    }
+
+    /** --- Methods --- */
+
+    public void record(long elapsedNanos, int items, long bytes) {
+        spanCount.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        itemCount.add(items);
+        byteCount.add(bytes);
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public DataProcessPhase getPhase() {
+        return phase;
+    }
+
+    public long getSpanCount() {
+        return spanCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getItemCount() {
+        return itemCount.sum();
+    }
+
+    public long getByteCount() {
+        return byteCount.sum();
+    }
+}
@@ -26,6 +26,9 @@ public class DataProcessRun
     /** Preserve any exception messages here. */
     private StringBuilder exceptions = new StringBuilder();
 
+    /** Time spent in each processing phase. These are only held in memory and are not persisted. */
+    private DataProcessTimings timings = new DataProcessTimings();
+
     /** --- Constructors --- */
 
     public DataProcessRun() {}
@@ -89,4 +92,12 @@ public class DataProcessRun
     public StringBuilder getExceptions() {
         return exceptions;
     }
-}
\ No newline at end of file
+
+    public DataProcessTimings getTimings() {
+        return timings;
+    }
+
+    public void setTimings(DataProcessTimings timings) {
+        this.timings = timings;
+    }
+}
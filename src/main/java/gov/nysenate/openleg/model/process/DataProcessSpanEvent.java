@@ -0,0 +1,47 @@
+package gov.nysenate.openleg.model.process;
+
+/**
+ * Posted when a timed phase of data processing completes so that it can be rolled up on the current run.
+ */
+public class DataProcessSpanEvent
+{
+    /** Identifies the processor or content type that the time was spent on, e.g. SOBI-BILL. */
+    private String sourceType;
+    private DataProcessPhase phase;
+    private long elapsedNanos;
+
+    /** The number of fragments or content items handled during the span. */
+    private int itemCount;
+
+    /** The size of the source data handled during the span, if known. */
+    private long byteCount;
+
+    public DataProcessSpanEvent(String sourceType, DataProcessPhase phase, long elapsedNanos,
+                                int itemCount, long byteCount) {
+        this.sourceType = sourceType;
+        this.phase = phase;
+        this.elapsedNanos = elapsedNanos;
+        this.itemCount = itemCount;
+        this.byteCount = byteCount;
+    }
+
+    public String getSourceType() {
+        return sourceType;
+    }
+
+    public DataProcessPhase getPhase() {
+        return phase;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+}
@@ -0,0 +1,66 @@
+package gov.nysenate.openleg.model.process;
+
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rolls up the time spent in each phase of a data process run per source type, along with the lag
+ * between when source data was published and when its content became visible through the api.
+ */
+public class DataProcessTimings
+{
+    /** Phase stats keyed by source type. */
+    protected ConcurrentMap<String, Map<DataProcessPhase, DataProcessPhaseStats>> phaseStats =
+        new ConcurrentHashMap<>();
+
+    /** Publish to visible lag keyed by source type. Values are recorded in milliseconds. */
+    protected ConcurrentMap<String, LatencyHistogram> lagMillis = new ConcurrentHashMap<>();
+
+    /** --- Methods --- */
+
+    public void recordSpan(String sourceType, DataProcessPhase phase, long elapsedNanos, int items, long bytes) {
+        phaseStats.computeIfAbsent(sourceType, t -> Collections.synchronizedMap(new EnumMap<>(DataProcessPhase.class)))
+            .computeIfAbsent(phase, p -> new DataProcessPhaseStats(sourceType, p))
+            .record(elapsedNanos, items, bytes);
+    }
+
+    public void recordSpan(DataProcessSpanEvent spanEvent) {
+        recordSpan(spanEvent.getSourceType(), spanEvent.getPhase(), spanEvent.getElapsedNanos(),
+                   spanEvent.getItemCount(), spanEvent.getByteCount());
+    }
+
+    public void recordLag(String sourceType, Duration lag) {
+        lagMillis.computeIfAbsent(sourceType, t -> new LatencyHistogram()).record(lag.toMillis());
+    }
+
+    /**
+     * @return List<DataProcessPhaseStats> - The stats for every source type and phase that was recorded,
+     *                                       ordered by source type and then phase.
+     */
+    public List<DataProcessPhaseStats> getPhaseStats() {
+        List<DataProcessPhaseStats> stats = new ArrayList<>();
+        new TreeMap<>(phaseStats).values().forEach(phaseMap -> {
+            synchronized (phaseMap) {
+                stats.addAll(phaseMap.values());
+            }
+        });
+        return stats;
+    }
+
+    /** @return long - The total time recorded for the given phase across all source types. */
+    public long getTotalNanos(DataProcessPhase phase) {
+        return getPhaseStats().stream()
+            .filter(stats -> stats.getPhase() == phase)
+            .mapToLong(DataProcessPhaseStats::getTotalNanos)
+            .sum();
+    }
+
+    /** @return SortedMap<String, LatencyHistogram> - Lag histograms (in milliseconds) keyed by source type. */
+    public SortedMap<String, LatencyHistogram> getLagMillis() {
+        return new TreeMap<>(lagMillis);
+    }
+}
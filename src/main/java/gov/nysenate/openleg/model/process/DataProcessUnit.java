@@ -37,6 +37,14 @@ public class DataProcessUnit
      */
     private List<String> errors = new ArrayList<>();
 
+    /** The size of the source data in bytes, if known. */
+    private long sourceBytes;
+
+    /** Timings relative to the creation of this unit, -1 if the mark was not reached. */
+    private final long startNanos = System.nanoTime();
+    private long parsedNanos = -1;
+    private long processedNanos = -1;
+
     /** --- Constructors --- */
 
     public DataProcessUnit(String sourceType, String sourceId, LocalDateTime startDateTime,
@@ -76,8 +84,35 @@ public class DataProcessUnit
         logger.error(errorMessage);
     }
     
+    /**
+     * Marks the point at which the source data has been parsed. Any time after this is considered to be
+     * spent applying the parsed data.
+     */
+    public void markParsed() {
+        this.parsedNanos = System.nanoTime() - startNanos;
+    }
+
+    /** Marks the point at which processing of the source data has completed. */
+    public void markProcessed() {
+        this.processedNanos = System.nanoTime() - startNanos;
+    }
+
     /** --- Functional Getters / Setters --- */
 
+    /**
+     * @return long - Nanoseconds spent parsing the source data, 0 if parsing was not marked.
+     */
+    public long getParseNanos() {
+        return Math.max(parsedNanos, 0);
+    }
+
+    /**
+     * @return long - Nanoseconds spent after parsing until processing completed, -1 if processing was not marked.
+     */
+    public long getApplyNanos() {
+        return (processedNanos < 0) ? -1 : processedNanos - getParseNanos();
+    }
+
     public StringBuilder getErrorsBuilder() {
         StringBuilder builder = new StringBuilder();
         errors.forEach(builder::append);
@@ -145,4 +180,12 @@ public class DataProcessUnit
     public void setErrors(List<String> errors) {
         this.errors = errors;
     }
+
+    public long getSourceBytes() {
+        return sourceBytes;
+    }
+
+    public void setSourceBytes(long sourceBytes) {
+        this.sourceBytes = sourceBytes;
+    }
 }
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.model.spotcheck;
 
+import gov.nysenate.openleg.util.BillTextDiffer;
 import gov.nysenate.openleg.util.StringDiffer;
 
 import java.util.LinkedList;
@@ -53,10 +54,9 @@ public class SpotCheckMismatch
      * @return LinkedList<StringDiffer.Diff>
      */
     public LinkedList<StringDiffer.Diff> getDiff(boolean simple) {
-        StringDiffer stringDiffer = new StringDiffer();
-        LinkedList<StringDiffer.Diff> diffs = stringDiffer.diff_main(referenceData, observedData);
+        LinkedList<StringDiffer.Diff> diffs = BillTextDiffer.diff(referenceData, observedData);
         if (simple) {
-            stringDiffer.diff_cleanupSemantic(diffs);
+            new StringDiffer().diff_cleanupSemantic(diffs);
         }
         return diffs;
     }
@@ -0,0 +1,64 @@
+package gov.nysenate.openleg.model.stats;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests made with a single api key.
+ */
+public class ApiKeyStats
+{
+    protected String apiKey;
+
+    protected LongAdder requestCount = new LongAdder();
+
+    /** The time of the first request made with the key since the stats were reset. */
+    protected LocalDateTime firstRequestDateTime = LocalDateTime.now();
+
+    /** Epoch millis of the most recent request made with the key. */
+    protected volatile long lastRequestMillis = System.currentTimeMillis();
+
+    /** --- Constructors --- */
+
+    public ApiKeyStats(String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    /** --- Methods --- */
+
+    public void record() {
+        requestCount.increment();
+        lastRequestMillis = System.currentTimeMillis();
+    }
+
+    /** --- Functional Getters --- */
+
+    /**
+     * @return double - average number of requests per minute between the first request and now
+     */
+    public double getRequestsPerMinute() {
+        long minutes = Math.max(1, Duration.between(firstRequestDateTime, LocalDateTime.now()).toMinutes());
+        return (double) getRequestCount() / minutes;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public LocalDateTime getLastRequestDateTime() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastRequestMillis), ZoneId.systemDefault());
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getApiKey() {
+        return apiKey;
+    }
+
+    public LocalDateTime getFirstRequestDateTime() {
+        return firstRequestDateTime;
+    }
+}
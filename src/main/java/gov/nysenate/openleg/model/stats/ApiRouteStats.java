@@ -0,0 +1,69 @@
+package gov.nysenate.openleg.model.stats;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counts, response statuses, response sizes and latencies for a single api route.
+ * All counters can be updated concurrently without locking.
+ */
+public class ApiRouteStats
+{
+    /** The http method and normalized path template of the route, e.g. GET /api/3/bills/{sessionYear}/{printNo} */
+    protected String route;
+
+    protected LongAdder requestCount = new LongAdder();
+
+    protected LongAdder responseBytes = new LongAdder();
+
+    protected ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    protected LatencyHistogram latency = new LatencyHistogram();
+
+    /** --- Constructors --- */
+
+    public ApiRouteStats(String route) {
+        this.route = route;
+    }
+
+    /** --- Methods --- */
+
+    public void record(int status, long bytes, long latencyMicros) {
+        requestCount.increment();
+        responseBytes.add(bytes);
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+        latency.record(latencyMicros);
+    }
+
+    /** --- Functional Getters --- */
+
+    /**
+     * @return Map<Integer, Long> - the number of responses sent for each http status code
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
@@ -0,0 +1,98 @@
+package gov.nysenate.openleg.model.stats;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queue depth and handler latency for a subscriber that receives events asynchronously.
+ * All counters can be updated concurrently without locking.
+ */
+public class EventSubscriberStats
+{
+    /** The class name of the subscribing object. */
+    protected String subscriber;
+
+    /** The maximum number of events that can be queued for the subscriber. */
+    protected int queueCapacity;
+
+    protected AtomicInteger queueDepth = new AtomicInteger();
+
+    protected LongAccumulator maxQueueDepth = new LongAccumulator(Long::max, 0);
+
+    protected LongAdder handledCount = new LongAdder();
+
+    /** Events that were handled on the posting thread because the queue was full. */
+    protected LongAdder overflowCount = new LongAdder();
+
+    /** Time spent by the subscriber handling each event, in microseconds. */
+    protected LatencyHistogram handlerLatency = new LatencyHistogram();
+
+    /** Time each event spent waiting in the queue before it was handled, in microseconds. */
+    protected LatencyHistogram queueLatency = new LatencyHistogram();
+
+    /** --- Constructors --- */
+
+    public EventSubscriberStats(String subscriber, int queueCapacity) {
+        this.subscriber = subscriber;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * @param currentDepth int - The size of the queue just after the event was added.
+     */
+    public void recordEnqueued(int currentDepth) {
+        queueDepth.incrementAndGet();
+        maxQueueDepth.accumulate(currentDepth);
+    }
+
+    public void recordDequeued(long queueMicros) {
+        queueDepth.decrementAndGet();
+        queueLatency.record(queueMicros);
+    }
+
+    public void recordHandled(long handlerMicros) {
+        handledCount.increment();
+        handlerLatency.record(handlerMicros);
+    }
+
+    public void recordOverflow() {
+        overflowCount.increment();
+    }
+
+    /** --- Basic Getters --- */
+
+    public String getSubscriber() {
+        return subscriber;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    public LatencyHistogram getHandlerLatency() {
+        return handlerLatency;
+    }
+
+    public LatencyHistogram getQueueLatency() {
+        return queueLatency;
+    }
+}
@@ -0,0 +1,100 @@
+package gov.nysenate.openleg.model.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latency values (in microseconds) that can be recorded to concurrently.
+ * Values are counted in log-linear buckets, each power of two range being split into 8 sub-buckets,
+ * so that percentiles are reported within 12.5% of the recorded values while using a fixed amount of
+ * memory regardless of how many values are recorded.
+ */
+public class LatencyHistogram
+{
+    /** Number of bits used to split each power of two range into sub-buckets. */
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Values above this (about 12 days in microseconds) are counted in the last bucket. */
+    private static final long MAX_TRACKABLE_VALUE = (1L << 40) - 1;
+
+    private static final int BUCKET_COUNT = getBucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Long::max, 0);
+
+    /** --- Methods --- */
+
+    /**
+     * Records a single value.
+     *
+     * @param value long - a value in microseconds, negative values are recorded as 0
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        counts.incrementAndGet(getBucketIndex(Math.min(value, MAX_TRACKABLE_VALUE)));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+    /**
+     * Returns the value at the given percentile. The returned value is the upper bound of the bucket
+     * that contains the percentile, so it will be at most 12.5% higher than the actual recorded value.
+     *
+     * @param percentile double - between 0 and 100
+     * @return long - value in microseconds, 0 if no values were recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(getBucketUpperBound(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getMaxValue() {
+        return maxValue.get();
+    }
+
+    public double getMean() {
+        long total = getTotalCount();
+        return (total == 0) ? 0 : (double) totalValue.sum() / total;
+    }
+
+    /** --- Internal --- */
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // The top SUB_BUCKET_BITS + 1 bits of the value select the sub-bucket within its power of two range
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
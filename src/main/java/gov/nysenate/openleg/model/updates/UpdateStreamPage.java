@@ -0,0 +1,43 @@
+package gov.nysenate.openleg.model.updates;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A batch of update tokens read from the in-memory update stream along with the cursor that
+ * should be supplied to resume reading after the last token in this batch.
+ */
+public class UpdateStreamPage
+{
+    /** The update tokens in the order that they were posted. */
+    protected List<UpdateToken<Map<String, String>>> tokens;
+
+    /** Opaque cursor that identifies the position in the stream following these tokens. */
+    protected String cursor;
+
+    /** True if the requested cursor is no longer held in the replay buffer (or belongs to a previous
+     *  server run) and the client must catch up via the date range based updates api. */
+    protected boolean resync;
+
+    /** --- Constructors --- */
+
+    public UpdateStreamPage(List<UpdateToken<Map<String, String>>> tokens, String cursor, boolean resync) {
+        this.tokens = tokens;
+        this.cursor = cursor;
+        this.resync = resync;
+    }
+
+    /** --- Basic Getters --- */
+
+    public List<UpdateToken<Map<String, String>>> getTokens() {
+        return tokens;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+}
@@ -50,7 +50,7 @@ public class DataProcessor
     private List<ProcessService> processServices;
 
     /** Hold a reference to the current data process run instance for event-based logging purposes. */
-    private DataProcessRun currentRun;
+    private volatile DataProcessRun currentRun;
 
     @PostConstruct
     public void init() {
@@ -128,6 +128,23 @@ public class DataProcessor
             if (!unit.getErrors().isEmpty()) {
                 eventBus.post(new DataProcessWarnEvent(currentRun.getProcessId(), unit));
             }
+            recordUnitTimings(currentRun.getTimings(), unit);
+        }
+    }
+
+    @Subscribe
+    public void handleDataProcessSpanEvent(DataProcessSpanEvent ev) {
+        DataProcessRun run = currentRun;
+        if (run != null) {
+            run.getTimings().recordSpan(ev);
+        }
+    }
+
+    @Subscribe
+    public void handleDataProcessLagEvent(DataProcessLagEvent ev) {
+        DataProcessRun run = currentRun;
+        if (run != null) {
+            run.getTimings().recordLag(ev.getSourceType(), ev.getLag());
         }
     }
 
@@ -138,7 +155,12 @@ public class DataProcessor
         Map<String, Integer> collatedCounts = new LinkedHashMap<>();
         for (ProcessService processor : processServices) {
             if (env.isProcessingEnabled()) {
+                long collateStart = System.nanoTime();
                 int collatedCount = processor.collate();
+                if (currentRun != null) {
+                    currentRun.getTimings().recordSpan(processor.getCollateType(), DataProcessPhase.COLLATE,
+                                                       System.nanoTime() - collateStart, collatedCount, 0);
+                }
                 if (collatedCount > 0) {
                     collatedCounts.put(processor.getCollateType(), collatedCount);
                 }
@@ -175,7 +197,21 @@ public class DataProcessor
     }
 
     public Optional<DataProcessRun> getCurrentRun() {
-        return Optional.of(currentRun);
+        return Optional.ofNullable(currentRun);
+    }
+
+    /**
+     * Rolls up the parse and apply times of an ingested unit. Units that were not timed are skipped.
+     */
+    private static void recordUnitTimings(DataProcessTimings timings, DataProcessUnit unit) {
+        if (unit.getAction() == DataProcessAction.INGEST && unit.getApplyNanos() >= 0) {
+            if (unit.getParseNanos() > 0) {
+                timings.recordSpan(unit.getSourceType(), DataProcessPhase.PARSE, unit.getParseNanos(), 1,
+                                   unit.getSourceBytes());
+            }
+            timings.recordSpan(unit.getSourceType(), DataProcessPhase.APPLY, unit.getApplyNanos(), 1,
+                               unit.getSourceBytes());
+        }
     }
 
     private void logCounts(Map<String, Integer> counts) {
@@ -53,6 +53,7 @@ public class AgendaProcessor extends AbstractDataProcessor implements SobiProces
         DataProcessUnit unit = createProcessUnit(sobiFragment);
         try {
             Document doc = xml.parse(sobiFragment.getText());
+            unit.markParsed();
             Node xmlAgenda = xml.getNode("SENATEDATA/senagenda", doc);
             Integer agendaNo = xml.getInteger("@no", xmlAgenda);
             Integer year = xml.getInteger("@year", xmlAgenda);
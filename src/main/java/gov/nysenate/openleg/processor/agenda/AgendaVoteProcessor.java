@@ -51,6 +51,7 @@ public class AgendaVoteProcessor extends AbstractDataProcessor implements SobiPr
         DataProcessUnit unit = createProcessUnit(sobiFragment);
         try {
             Document doc = xml.parse(sobiFragment.getText());
+            unit.markParsed();
             Node xmlAgendaVote = xml.getNode("SENATEDATA/senagendavote", doc);
             Integer agendaNo = xml.getInteger("@no", xmlAgendaVote);
             SessionYear session = new SessionYear(xml.getInteger("@sessyr", xmlAgendaVote));
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.processor.base;
 
+import com.google.common.base.Utf8;
 import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.AgendaId;
@@ -15,9 +16,7 @@ import gov.nysenate.openleg.model.calendar.CalendarId;
 import gov.nysenate.openleg.model.entity.Chamber;
 import gov.nysenate.openleg.model.entity.Member;
 import gov.nysenate.openleg.model.law.LawFile;
-import gov.nysenate.openleg.model.process.DataProcessAction;
-import gov.nysenate.openleg.model.process.DataProcessUnit;
-import gov.nysenate.openleg.model.process.DataProcessUnitEvent;
+import gov.nysenate.openleg.model.process.*;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.service.agenda.data.AgendaDataService;
 import gov.nysenate.openleg.service.agenda.event.BulkAgendaUpdateEvent;
@@ -31,12 +30,14 @@ import gov.nysenate.openleg.service.calendar.event.BulkCalendarUpdateEvent;
 import gov.nysenate.openleg.service.entity.committee.data.CommitteeDataService;
 import gov.nysenate.openleg.service.entity.member.data.MemberService;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.annotation.Resource;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -80,8 +81,10 @@ public abstract class AbstractDataProcessor
     /** --- Common Methods --- */
 
     protected DataProcessUnit createProcessUnit(SobiFragment sobiFragment) {
-        return new DataProcessUnit("SOBI-" + sobiFragment.getType().name(), sobiFragment.getFragmentId(),
-            LocalDateTime.now(), DataProcessAction.INGEST);
+        DataProcessUnit unit = new DataProcessUnit("SOBI-" + sobiFragment.getType().name(),
+            sobiFragment.getFragmentId(), LocalDateTime.now(), DataProcessAction.INGEST);
+        unit.setSourceBytes(Utf8.encodedLength(sobiFragment.getText()));
+        return unit;
     }
 
     protected DataProcessUnit createDataProcessUnit(LawFile lawFile) {
@@ -89,10 +92,38 @@ public abstract class AbstractDataProcessor
     }
 
     protected void postDataUnitEvent(DataProcessUnit unit) {
+        unit.markProcessed();
         unit.setEndDateTime(LocalDateTime.now());
         eventBus.post(new DataProcessUnitEvent(unit));
     }
 
+    /**
+     * Notifies the data processor of the time spent in a processing phase since the given start time.
+     *
+     * @param sourceType String - The type of content that was processed
+     * @param phase DataProcessPhase
+     * @param startNanos long - Value of System.nanoTime() when the phase began
+     * @param itemCount int - The number of content items that were processed
+     */
+    protected void postSpanEvent(String sourceType, DataProcessPhase phase, long startNanos, int itemCount) {
+        eventBus.post(new DataProcessSpanEvent(sourceType, phase, System.nanoTime() - startNanos, itemCount, 0));
+    }
+
+    /**
+     * Notifies the data processor that the content from the fragments referenced by the given ingest cache
+     * entries is now visible, so that the lag from when each fragment was published can be recorded.
+     */
+    protected void postLagEvents(Collection<? extends Pair<?, SobiFragment>> cacheEntries) {
+        LocalDateTime visibleDateTime = LocalDateTime.now();
+        cacheEntries.stream()
+            .map(Pair::getRight)
+            .filter(fragment -> fragment != null && fragment.getPublishedDateTime() != null)
+            .collect(Collectors.toMap(SobiFragment::getFragmentId, fragment -> fragment, (a, b) -> a))
+            .values()
+            .forEach(fragment -> eventBus.post(new DataProcessLagEvent("SOBI-" + fragment.getType().name(),
+                fragment.getFragmentId(), fragment.getPublishedDateTime(), visibleDateTime)));
+    }
+
     /** --- Bill Methods --- */
 
     /**
@@ -167,12 +198,17 @@ public abstract class AbstractDataProcessor
     protected void flushBillUpdates() {
         if (billIngestCache.getSize() > 0) {
             logger.info("Flushing {} bills", billIngestCache.getSize());
+            long flushStart = System.nanoTime();
             billIngestCache.getCurrentCache().forEach(entry ->
                 billDataService.saveBill(entry.getLeft(), entry.getRight(), false));
+            postSpanEvent("BILL", DataProcessPhase.FLUSH, flushStart, billIngestCache.getSize());
             logger.debug("Broadcasting bill updates...");
             List<Bill> bills =
                 billIngestCache.getCurrentCache().stream().map(entry -> entry.getLeft()).collect(Collectors.toList());
+            long dispatchStart = System.nanoTime();
             eventBus.post(new BulkBillUpdateEvent(bills, LocalDateTime.now()));
+            postSpanEvent("BILL", DataProcessPhase.EVENT_DISPATCH, dispatchStart, bills.size());
+            postLagEvents(billIngestCache.getCurrentCache());
             billIngestCache.clearCache();
         }
     }
@@ -220,11 +256,16 @@ public abstract class AbstractDataProcessor
     protected void flushAgendaUpdates() {
         if (agendaIngestCache.getSize() > 0) {
             logger.info("Flushing {} agendas", agendaIngestCache.getSize());
+            long flushStart = System.nanoTime();
             agendaIngestCache.getCurrentCache().forEach(
                 entry -> agendaDataService.saveAgenda(entry.getLeft(), entry.getRight(), false));
+            postSpanEvent("AGENDA", DataProcessPhase.FLUSH, flushStart, agendaIngestCache.getSize());
             List<Agenda> agendas =
                 agendaIngestCache.getCurrentCache().stream().map(entry -> entry.getLeft()).collect(Collectors.toList());
+            long dispatchStart = System.nanoTime();
             eventBus.post(new BulkAgendaUpdateEvent(agendas, LocalDateTime.now()));
+            postSpanEvent("AGENDA", DataProcessPhase.EVENT_DISPATCH, dispatchStart, agendas.size());
+            postLagEvents(agendaIngestCache.getCurrentCache());
             agendaIngestCache.clearCache();
         }
     }
@@ -263,11 +304,16 @@ public abstract class AbstractDataProcessor
     protected void flushCalendarUpdates() {
         if (calendarIngestCache.getSize() > 0) {
             logger.info("Flushing {} calendars", calendarIngestCache.getSize());
+            long flushStart = System.nanoTime();
             calendarIngestCache.getCurrentCache().forEach(
                 entry -> calendarDataService.saveCalendar(entry.getLeft(), entry.getRight(), false));
+            postSpanEvent("CALENDAR", DataProcessPhase.FLUSH, flushStart, calendarIngestCache.getSize());
             List<Calendar> calendars =
                 calendarIngestCache.getCurrentCache().stream().map(entry -> entry.getLeft()).collect(Collectors.toList());
+            long dispatchStart = System.nanoTime();
             eventBus.post(new BulkCalendarUpdateEvent(calendars, LocalDateTime.now()));
+            postSpanEvent("CALENDAR", DataProcessPhase.EVENT_DISPATCH, dispatchStart, calendars.size());
+            postLagEvents(calendarIngestCache.getCurrentCache());
             calendarIngestCache.clearCache();
         }
     }
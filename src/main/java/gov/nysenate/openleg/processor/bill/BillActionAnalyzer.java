@@ -20,36 +20,42 @@ import static gov.nysenate.openleg.model.bill.BillStatusType.*;
 /**
  * Performs pattern matching against a list of BillActions to determine various derived properties
  * such as the status of a bill, same as references, etc.
+ *
+ * The analysis is a single pass over the actions in order. Since each bill event block re-sends the full
+ * action list, an analyzer can be {@link #extend extended} with the updated list so that only the newly
+ * appended actions are analyzed.
  */
 public class BillActionAnalyzer
 {
     private static final Logger logger = LoggerFactory.getLogger(BillActionAnalyzer.class);
 
     /** Pattern for extracting the committee from matching bill events. */
-    private static final Pattern committeeEventTextPattern =
-        Pattern.compile("(REFERRED|COMMITTED|RECOMMIT) TO ([A-Z, ]*[A-Z]+)\\s?([0-9]+[A-Z]?)?");
+    private static final ActionPattern committeeEventTextPattern =
+        new ActionPattern(" TO ", "(REFERRED|COMMITTED|RECOMMIT) TO ([A-Z, ]*[A-Z]+)\\s?([0-9]+[A-Z]?)?");
 
     /** Pattern that indicates that the bill has passed a certain house. */
-    private static final Pattern passedHousePattern = Pattern.compile("PASSED (ASSEMBLY|SENATE)");
+    private static final ActionPattern passedHousePattern = new ActionPattern("PASSED ", "PASSED (ASSEMBLY|SENATE)");
 
     /** Pattern that indicates that the resolution has been adopted. */
-    private static final Pattern adoptedPattern = Pattern.compile("ADOPTED");
+    private static final ActionPattern adoptedPattern = new ActionPattern("ADOPTED", "ADOPTED");
 
     /** Pattern for detecting calendar events in bill action lists. */
-    private static final Pattern floorEventPattern = Pattern.compile("(REPORT CAL|THIRD READING|3RD READING|RULES REPORT)");
+    private static final ActionPattern floorEventPattern =
+        new ActionPattern(null, "(REPORT CAL|THIRD READING|3RD READING|RULES REPORT)");
 
     /** Pattern for matching the bill calendar number from a floor calendar event. */
-    private static final Pattern floorCalPattern = Pattern.compile("CAL\\.(\\d+)");
+    private static final ActionPattern floorCalPattern = new ActionPattern("CAL.", "CAL\\.(\\d+)");
 
     /** Pattern that indicates that bill has been delivered to the governor. */
-    private static final Pattern deliveredGovPattern = Pattern.compile("DELIVERED TO GOVERNOR");
+    private static final ActionPattern deliveredGovPattern =
+        new ActionPattern("DELIVERED TO GOVERNOR", "DELIVERED TO GOVERNOR");
 
     /** Pattern for when bill has been signed into law by the governor. */
-    private static final Pattern signedPattern = Pattern.compile("SIGNED CHAP\\.(\\d+)");
+    private static final ActionPattern signedPattern = new ActionPattern("SIGNED CHAP.", "SIGNED CHAP\\.(\\d+)");
 
     /** Pattern for when the bill is vetoed. */
-    private static final Pattern vetoedPattern = Pattern.compile("VETO(?:ED)? MEMO");
-    private static final Pattern pocketVetoPattern = Pattern.compile("POCKET VETO");
+    private static final ActionPattern vetoedPattern = new ActionPattern("VETO", "VETO(?:ED)? MEMO");
+    private static final ActionPattern pocketVetoPattern = new ActionPattern("POCKET VETO", "POCKET VETO");
 
     /** Pattern to detect a bill being delivered/returned from one chamber to another */
     private static final Pattern chamberDeliverPattern = Pattern.compile("(DELIVERED|RETURNED) TO (SENATE|ASSEMBLY)");
@@ -58,25 +64,26 @@ public class BillActionAnalyzer
     private static final Pattern chamberRecallPattern = Pattern.compile("RECALLED FROM (SENATE|ASSEMBLY)");
 
     /** Pattern for extracting the substituting bill printNo from matching bill events. */
-    private static final Pattern substitutionPattern = Pattern.compile("SUBSTITUTED (FOR|BY) (.*)");
+    private static final ActionPattern substitutionPattern = new ActionPattern("SUBSTITUTED ", "SUBSTITUTED (FOR|BY) (.*)");
 
     /** Pattern for removing prior substitution. */
-    private static final Pattern subsReconsideredPattern = Pattern.compile("SUBSTITUTION RECONSIDERED");
+    private static final ActionPattern subsReconsideredPattern =
+        new ActionPattern("SUBSTITUTION RECONSIDERED", "SUBSTITUTION RECONSIDERED");
 
     /** Pattern to extract bill number and version when in the format 1234A. */
     private static final String simpleBillRegex = "([0-9]{2,})([ a-zA-Z]?)";
 
     /** Patterns for bill actions that indicate that the specified bill amendment should be published. */
-    private static final List<Pattern> publishBillEventPatterns = Arrays.asList(
-        Pattern.compile("PRINT NUMBER " + simpleBillRegex),
-        Pattern.compile("AMEND(?:ED)? (?:ON THIRD READING )?(?:\\(T\\) )?" + simpleBillRegex),
-        Pattern.compile("AMEND(?:ED)? (?:\\(T\\) )?AND RECOMMIT(?:TED)? TO RULES " + simpleBillRegex)
+    private static final List<ActionPattern> publishBillEventPatterns = Arrays.asList(
+        new ActionPattern("PRINT NUMBER ", "PRINT NUMBER " + simpleBillRegex),
+        new ActionPattern("AMEND", "AMEND(?:ED)? (?:ON THIRD READING )?(?:\\(T\\) )?" + simpleBillRegex),
+        new ActionPattern("AMEND", "AMEND(?:ED)? (?:\\(T\\) )?AND RECOMMIT(?:TED)? TO RULES " + simpleBillRegex)
     );
 
     /** Patterns for bill actions that indicate that the specified bill amendment should be unpublished. */
-    private static final List<Pattern> unpublishBillEventPatterns = Arrays.asList(
-        Pattern.compile("AMEND(?:ED)? BY RESTORING TO PREVIOUS PRINT " + simpleBillRegex),
-        Pattern.compile("AMEND(?:ED)? BY RESTORING TO ORIGINAL PRINT " + simpleBillRegex)
+    private static final List<ActionPattern> unpublishBillEventPatterns = Arrays.asList(
+        new ActionPattern("RESTORING TO ", "AMEND(?:ED)? BY RESTORING TO PREVIOUS PRINT " + simpleBillRegex),
+        new ActionPattern("RESTORING TO ", "AMEND(?:ED)? BY RESTORING TO ORIGINAL PRINT " + simpleBillRegex)
     );
 
     private static final List<BillStatusType> senateMilestones = Arrays.asList(
@@ -91,8 +98,12 @@ public class BillActionAnalyzer
 
     /** --- Input --- */
 
-    private final List<BillAction> actions;
+    private List<BillAction> actions;
     private BillId billId;
+    private final Optional<PublishStatus> defaultPubStatus;
+
+    /** The number of actions from the start of the actions list that have been analyzed. */
+    private int analyzedCount = 0;
 
     /** --- Derived properties --- */
 
@@ -143,6 +154,7 @@ public class BillActionAnalyzer
     public BillActionAnalyzer(BillId billId, List<BillAction> actions, Optional<PublishStatus> defaultPubStatus) {
         this.actions = actions;
         this.billId = billId;
+        this.defaultPubStatus = defaultPubStatus;
         if (defaultPubStatus.isPresent()) {
             this.publishStatusMap.put(Version.DEFAULT, defaultPubStatus.get());
             this.billStatus = new BillStatus(INTRODUCED, defaultPubStatus.get().getEffectDateTime().toLocalDate());
@@ -151,12 +163,34 @@ public class BillActionAnalyzer
 
     /** --- Methods --- */
 
+    /**
+     * Analyzes each action that has not been analyzed yet.
+     */
     public void analyze() {
-        this.actions.forEach(a -> {
-            updatePublishStatus(a);
-            updateBillStatus(a);
-            updateSubstituted(a);
-        });
+        for (BillAction action : actions.subList(analyzedCount, actions.size())) {
+            updatePublishStatus(action);
+            updateBillStatus(action);
+            updateSubstituted(action);
+        }
+        analyzedCount = actions.size();
+    }
+
+    /**
+     * Replaces the actions list with an updated actions list for the same bill so that a subsequent call
+     * to {@link #analyze()} only processes the new actions. This is only possible if the analyzed actions are
+     * a prefix of the updated list and the default amendment publish status has not changed.
+     *
+     * @param updatedActions List<BillAction> - The full list of actions for the bill
+     * @param defaultPubStatus Optional<PublishStatus> - The current default amendment publish status
+     * @return boolean - true if this analyzer was extended, false if a new analyzer must be used instead.
+     */
+    public boolean extend(List<BillAction> updatedActions, Optional<PublishStatus> defaultPubStatus) {
+        if (updatedActions.size() < analyzedCount || !this.defaultPubStatus.equals(defaultPubStatus)
+                || !updatedActions.subList(0, analyzedCount).equals(actions.subList(0, analyzedCount))) {
+            return false;
+        }
+        this.actions = updatedActions;
+        return true;
     }
 
     /**
@@ -175,9 +209,9 @@ public class BillActionAnalyzer
         boolean foundPublishPattern = false;
         Version publishVersion = this.activeVersion;
         // Check if the action matches a publish event
-        for (Pattern pattern : publishBillEventPatterns) {
-            Matcher matcher = pattern.matcher(action.getText());
-            if (matcher.find()) {
+        for (ActionPattern pattern : publishBillEventPatterns) {
+            Matcher matcher = pattern.find(action.getText());
+            if (matcher != null) {
                 foundPublishPattern = true;
                 // Mark this version as published
                 publishVersion = Version.of(matcher.group(2));
@@ -195,9 +229,9 @@ public class BillActionAnalyzer
         }
         // Otherwise check if it's an un-publish event
         if (!foundPublishPattern) {
-            for (Pattern pattern : unpublishBillEventPatterns) {
-                Matcher matcher = pattern.matcher(action.getText());
-                if (matcher.find()) {
+            for (ActionPattern pattern : unpublishBillEventPatterns) {
+                Matcher matcher = pattern.find(action.getText());
+                if (matcher != null) {
                     // The version matched here refers to the latest version that should be published after the revert.
                     publishVersion = Version.of(matcher.group(2));
                     // All versions after this one should be marked as unpublished.
@@ -223,13 +257,11 @@ public class BillActionAnalyzer
         String text = action.getText();
         BillStatus currStatus = null;
         int year = action.getDate().getYear();
-        Matcher committeeMatcher = committeeEventTextPattern.matcher(text);
-        Matcher passedHouseMatcher = passedHousePattern.matcher(text);
-        Matcher signedMatcher =  signedPattern.matcher(text);
-        if (billId.getBillType().isResolution() && adoptedPattern.matcher(text).find()) {
+        Matcher committeeMatcher, passedHouseMatcher, signedMatcher;
+        if (billId.getBillType().isResolution() && adoptedPattern.matches(text)) {
             currStatus = new BillStatus(ADOPTED, action.getDate());
         }
-        else if (committeeMatcher.find()) {
+        else if ((committeeMatcher = committeeEventTextPattern.find(text)) != null) {
             this.currentCommittee = new CommitteeVersionId(action.getChamber(),
                 committeeMatcher.group(2), action.getBillId().getSession(), action.getDate().atStartOfDay());
             this.pastCommittees.add(this.currentCommittee);
@@ -237,15 +269,15 @@ public class BillActionAnalyzer
                 (action.getChamber().equals(Chamber.SENATE)) ? IN_SENATE_COMM : IN_ASSEMBLY_COMM, action.getDate());
             currStatus.setCommitteeId(this.currentCommittee);
         }
-        else if (floorEventPattern.matcher(text).find()) {
+        else if (floorEventPattern.matches(text)) {
             // Once reported to the floor, the bill is no longer held in a committee
             this.currentCommittee = null;
             currStatus = new BillStatus(
                 (action.getChamber().equals(Chamber.SENATE)) ? SENATE_FLOOR : ASSEMBLY_FLOOR, action.getDate());
-            Matcher calMatcher = floorCalPattern.matcher(text);
+            Matcher calMatcher = floorCalPattern.find(text);
             // Set the bill calendar number that's referenced either in this action or a prior floor action
             // within the same year and chamber.
-            if (calMatcher.find()) {
+            if (calMatcher != null) {
                 currStatus.setCalendarNo(Integer.parseInt(calMatcher.group(1)));
                 calNoTable.put(year, action.getChamber(), currStatus.getCalendarNo());
             }
@@ -253,15 +285,15 @@ public class BillActionAnalyzer
                 currStatus.setCalendarNo(calNoTable.get(year, action.getChamber()));
             }
         }
-        else if (passedHouseMatcher.find()) {
+        else if ((passedHouseMatcher = passedHousePattern.find(text)) != null) {
             Chamber chamber = Chamber.getValue(passedHouseMatcher.group(1));
             currStatus = new BillStatus(
                 (chamber.equals(Chamber.SENATE)) ? PASSED_SENATE : PASSED_ASSEMBLY, action.getDate());
         }
-        else if (deliveredGovPattern.matcher(text).find()) {
+        else if (deliveredGovPattern.matches(text)) {
             currStatus = new BillStatus(DELIVERED_TO_GOV, action.getDate());
         }
-        else if (signedMatcher.find()) {
+        else if ((signedMatcher = signedPattern.find(text)) != null) {
             currStatus = new BillStatus(SIGNED_BY_GOV, action.getDate());
             if (signedMatcher.group(1) != null) {
                 Integer chapNum = Integer.parseInt(signedMatcher.group(1));
@@ -269,7 +301,7 @@ public class BillActionAnalyzer
                 chapterYearAndNum = Optional.of(Pair.of(chapYear, chapNum));
             }
         }
-        else if (vetoedPattern.matcher(text).find() || pocketVetoPattern.matcher(text).find()) {
+        else if (vetoedPattern.matches(text) || pocketVetoPattern.matches(text)) {
             // Ignore line item vetoes, since the bill would still have been signed.
             if (!text.contains("LINE")) {
                 currStatus = new BillStatus(VETOED, action.getDate());
@@ -297,8 +329,8 @@ public class BillActionAnalyzer
      * @param action BillAction
      */
     protected void updateSubstituted(BillAction action) {
-        Matcher matcher = substitutionPattern.matcher(action.getText());
-        if (matcher.find()) {
+        Matcher matcher = substitutionPattern.find(action.getText());
+        if (matcher != null) {
             this.sameAsMap.put(this.activeVersion, new BillId(matcher.group(2), action.getBillId().getSession()));
             if (matcher.group(1).equals("BY")) {
                 substitutedBy = Optional.of(new BaseBillId(matcher.group(2), action.getBillId().getSession()));
@@ -306,8 +338,7 @@ public class BillActionAnalyzer
         }
         else {
             // A substitution reconsidered action will nullify the prior substitution
-            matcher = subsReconsideredPattern.matcher(action.getText());
-            if (matcher.find()) {
+            if (subsReconsideredPattern.matches(action.getText())) {
                 substitutedBy = Optional.empty();
             }
         }
@@ -408,4 +439,40 @@ public class BillActionAnalyzer
     public Optional<Pair<Integer, Integer>> getChapterYearAndNum() {
         return chapterYearAndNum;
     }
+
+    /** --- Internal --- */
+
+    /**
+     * A compiled pattern paired with a literal that must appear in any text that the pattern matches. Most
+     * actions only match one or two of the patterns, so checking for the literal first lets the analyzer skip
+     * running the regex against the majority of the action text.
+     */
+    private static class ActionPattern
+    {
+        private final String literal;
+        private final Pattern pattern;
+
+        /**
+         * @param literal String - A substring of every match of the regex, or null if there isn't one
+         * @param regex String - The pattern to find within the action text
+         */
+        ActionPattern(String literal, String regex) {
+            this.literal = literal;
+            this.pattern = Pattern.compile(regex);
+        }
+
+        /** Returns a matcher positioned at the first match within the text, or null if there is no match. */
+        Matcher find(String text) {
+            if (literal != null && !text.contains(literal)) {
+                return null;
+            }
+            Matcher matcher = pattern.matcher(text);
+            return matcher.find() ? matcher : null;
+        }
+
+        /** Returns true if the pattern can be found within the text. */
+        boolean matches(String text) {
+            return find(text) != null;
+        }
+    }
 }
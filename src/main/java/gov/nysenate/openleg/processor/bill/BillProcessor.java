@@ -71,6 +71,19 @@ public class BillProcessor extends AbstractDataProcessor implements SobiProcesso
     protected static final String vetoApprovalSplitter =
         "(?<=00000.SO DOC (?:VETO\\d{4}|APPR\\d{3}\\s)\\s{8}(?:\\*END\\*.{3}|\\*DELETE\\*).{42})\\n";
 
+    /** The maximum number of bills for which the action analysis is retained between bill event blocks. */
+    private static final int MAX_RETAINED_ACTION_ANALYZERS = 5000;
+
+    /** Retains the action analysis of recently updated bills. Bill event blocks re-send the full actions list
+     *  so retaining the analyzer allows only the newly appended actions to be analyzed. */
+    private final Map<BaseBillId, BillActionAnalyzer> actionAnalyzers =
+        new LinkedHashMap<BaseBillId, BillActionAnalyzer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BaseBillId, BillActionAnalyzer> eldest) {
+                return size() > MAX_RETAINED_ACTION_ANALYZERS;
+            }
+        };
+
     /** --- Constructors --- */
 
     public BillProcessor() {}
@@ -95,9 +108,10 @@ public class BillProcessor extends AbstractDataProcessor implements SobiProcesso
     @Override
     public void process(SobiFragment sobiFragment) {
         LocalDateTime date = sobiFragment.getPublishedDateTime();
+        DataProcessUnit unit = createProcessUnit(sobiFragment);
         List<SobiBlock> blocks = sobiFragment.getSobiBlocks();
+        unit.markParsed();
         logger.info("Processing " + sobiFragment.getFragmentId() + " with (" + blocks.size() + ") blocks.");
-        DataProcessUnit unit = createProcessUnit(sobiFragment);
         for (SobiBlock block : blocks) {
             String data = block.getData();
             BillId billId = block.getBillId();
@@ -285,8 +299,13 @@ public class BillProcessor extends AbstractDataProcessor implements SobiProcesso
         List<BillAction> billActions = BillActionParser.parseActionsList(specifiedAmendment.getBillId(), data);
         baseBill.setActions(billActions);
         // Use the BillActionAnalyzer to derive other data from the actions list.
+        // If the actions extend the previously analyzed actions for this bill, only the new actions are analyzed.
         Optional<PublishStatus> defaultPubStatus = baseBill.getPublishStatus(Version.DEFAULT);
-        BillActionAnalyzer analyzer = new BillActionAnalyzer(specifiedAmendment.getBillId(), billActions, defaultPubStatus);
+        BillActionAnalyzer analyzer = actionAnalyzers.get(baseBill.getBaseBillId());
+        if (analyzer == null || !analyzer.extend(billActions, defaultPubStatus)) {
+            analyzer = new BillActionAnalyzer(specifiedAmendment.getBillId(), billActions, defaultPubStatus);
+            actionAnalyzers.put(baseBill.getBaseBillId(), analyzer);
+        }
         analyzer.analyze();
 
         // Apply the results to the bill
@@ -294,7 +313,7 @@ public class BillProcessor extends AbstractDataProcessor implements SobiProcesso
         baseBill.setActiveVersion(analyzer.getActiveVersion());
         baseBill.setStatus(analyzer.getBillStatus());
         baseBill.setMilestones(analyzer.getMilestones());
-        baseBill.setPastCommittees(analyzer.getPastCommittees());
+        baseBill.setPastCommittees(new TreeSet<>(analyzer.getPastCommittees()));
         baseBill.setPublishStatuses(analyzer.getPublishStatusMap());
         analyzer.getSameAsMap().forEach((k, v) -> {
             if (baseBill.hasAmendment(k)) {
@@ -52,6 +52,7 @@ public class ActiveListProcessor extends AbstractDataProcessor implements SobiPr
         DataProcessUnit unit = createProcessUnit(sobiFragment);
         try {
             Document doc = xml.parse(sobiFragment.getText());
+            unit.markParsed();
             Node xmlCalendarActive = xml.getNode("SENATEDATA/sencalendaractive", doc);
             Integer calendarNo = xml.getInteger("@no", xmlCalendarActive);
             Integer sessionYear = xml.getInteger("@sessyr", xmlCalendarActive);
@@ -50,6 +50,7 @@ public class CalendarProcessor extends AbstractDataProcessor implements SobiProc
         DataProcessUnit unit = createProcessUnit(sobiFragment);
         try {
             Document doc = xml.parse(sobiFragment.getText());
+            unit.markParsed();
             Node xmlCalendar = xml.getNode("SENATEDATA/sencalendar", doc);
             Integer calendarNo = xml.getInteger("@no", xmlCalendar);
             Integer sessionYear = xml.getInteger("@sessyr", xmlCalendar);
@@ -19,8 +19,10 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -68,6 +70,27 @@ public class DaybreakFragmentParser {
         return daybreakBill;
     }
 
+    /**
+     * Parses the given daybreak fragments into daybreak bills in parallel.
+     * Fragments that cannot be parsed are logged and omitted from the result.
+     * @param daybreakFragments
+     * @return List<DaybreakBill>
+     */
+    public static List<DaybreakBill> extractDaybreakBills(Collection<DaybreakFragment> daybreakFragments) {
+        return daybreakFragments.parallelStream()
+                .map(daybreakFragment -> {
+                    try {
+                        return extractDaybreakBill(daybreakFragment);
+                    }
+                    catch (RuntimeException ex) {
+                        logger.error("Could not parse daybreak fragment " + daybreakFragment.getDaybreakBillId(), ex);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Given a line containing sponsor data, calls the correct parser depending on the bill's chamber
      * @param daybreakBill
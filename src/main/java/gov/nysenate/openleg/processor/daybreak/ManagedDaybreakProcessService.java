@@ -2,20 +2,22 @@ package gov.nysenate.openleg.processor.daybreak;
 
 import gov.nysenate.openleg.dao.daybreak.DaybreakDao;
 import gov.nysenate.openleg.model.daybreak.*;
-import gov.nysenate.openleg.util.OpenlegThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class ManagedDaybreakProcessService implements DaybreakProcessService{
@@ -25,7 +27,8 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
     @Autowired
     private DaybreakDao daybreakDao;
 
-    private ThreadFactory threadFactory = new OpenlegThreadFactory("daybreak-process");
+    @Resource(name = "daybreakParseExecutor")
+    private ExecutorService parseExecutor;
 
     /** --- Interfaced Methods --- */
 
@@ -93,18 +96,11 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
     @Override
     public int processFragments(List<DaybreakFragment> fragments) {
         if (fragments.size() > 0) {
-            ExecutorService executorService = Executors.newFixedThreadPool(4, threadFactory);
             logger.info("Processing " + fragments.size() + " daybreak fragments");
-            for (DaybreakFragment daybreakFragment : fragments) {
-                executorService.submit(() -> processFragment(daybreakFragment));
-            }
-            executorService.shutdown();
-            try {
-                // Allow maximum of 30 minutes before un-blocking
-                executorService.awaitTermination(30, TimeUnit.MINUTES);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            // Process the fragments one report at a time so that each report's bills can be saved as a batch
+            Map<LocalDate, List<DaybreakFragment>> reportFragments = fragments.stream()
+                    .collect(Collectors.groupingBy(DaybreakFragment::getReportDate, TreeMap::new, Collectors.toList()));
+            reportFragments.forEach(this::processReportFragments);
         }
         return fragments.size();
     }
@@ -150,32 +146,42 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
 
         logger.info("Collating " + daybreakReport.getReportDate());
 
-        for (DaybreakFile daybreakFile : daybreakReport.getReportDocs().values()) {
-            // Add each file reference to the store
-            daybreakDao.updateDaybreakFile(daybreakFile);
-
-            logger.debug("Parsing " + daybreakFile.getFileName());
-            // Get daybreak fragments or page file entries from the daybreak file depending on the type
-            try {
-                if(daybreakFile.getDaybreakDocType()==DaybreakDocType.PAGE_FILE){
-                    pageFileEntries.addAll(DaybreakPageFileParser.extractPageFileEntries(daybreakFile));
-                }
-                else{
-                    daybreakFragments.addAll(DaybreakFileParser.extractDaybreakFragments(daybreakFile));
-                }
-            }
-            catch(IOException ex){
-                logger.error("Could not parse daybreak file " + daybreakFile.getFileName());
-            }
-        }
+        // Add each file reference to the store
+        daybreakReport.getReportDocs().values().forEach(daybreakDao::updateDaybreakFile);
+
+        // Parse the report files in parallel
+        // Get daybreak fragments or page file entries from each daybreak file depending on the type
+        List<CompletableFuture<Void>> parsed = daybreakReport.getReportDocs().values().stream()
+                .map(daybreakFile -> CompletableFuture.runAsync(() -> {
+                    logger.debug("Parsing " + daybreakFile.getFileName());
+                    try {
+                        if (daybreakFile.getDaybreakDocType() == DaybreakDocType.PAGE_FILE) {
+                            List<PageFileEntry> fileEntries = DaybreakPageFileParser.extractPageFileEntries(daybreakFile);
+                            synchronized (pageFileEntries) {
+                                pageFileEntries.addAll(fileEntries);
+                            }
+                        }
+                        else {
+                            List<DaybreakFragment> fileFragments = DaybreakFileParser.extractDaybreakFragments(daybreakFile);
+                            synchronized (daybreakFragments) {
+                                daybreakFragments.addAll(fileFragments);
+                            }
+                        }
+                    }
+                    catch (IOException ex) {
+                        logger.error("Could not parse daybreak file " + daybreakFile.getFileName());
+                    }
+                }, parseExecutor))
+                .collect(Collectors.toList());
+        parsed.forEach(CompletableFuture::join);
 
         // Add a new report entry
         daybreakDao.updateDaybreakReport(daybreakReport.getReportDate());
         // Add all fragments and entries to the store
-        logger.info("Saving daybreak fragments");
-        daybreakFragments.parallelStream().forEach(daybreakDao::updateDaybreakFragment);
-        logger.info("Saving page file entries");
-        pageFileEntries.parallelStream().forEach(daybreakDao::updatePageFileEntry);
+        logger.info("Saving " + daybreakFragments.size() + " daybreak fragments");
+        daybreakDao.updateDaybreakFragments(daybreakFragments);
+        logger.info("Saving " + pageFileEntries.size() + " page file entries");
+        daybreakDao.updatePageFileEntries(pageFileEntries);
 
         // Archive the report files
         daybreakReport.getReportDocs().values().forEach(daybreakFile ->{
@@ -189,15 +195,21 @@ public class ManagedDaybreakProcessService implements DaybreakProcessService{
     }
 
     /**
-     * Processes an individual daybreak fragment and updates teh persistence layer
-     * @param daybreakFragment
+     * Parses the given fragments from a single daybreak report into daybreak bills and saves them
+     * to the persistence layer in bulk
+     * @param reportDate
+     * @param daybreakFragments
      */
-    private void processFragment(DaybreakFragment daybreakFragment){
-        // Parse the fragment into a bill
-        DaybreakBill daybreakBill = DaybreakFragmentParser.extractDaybreakBill(daybreakFragment);
+    private void processReportFragments(LocalDate reportDate, List<DaybreakFragment> daybreakFragments) {
+        logger.info("Parsing " + daybreakFragments.size() + " daybreak fragments for report " + reportDate);
+        // Parse the fragments into bills
+        List<DaybreakBill> daybreakBills = DaybreakFragmentParser.extractDaybreakBills(daybreakFragments);
         // Update the persistence layer
-        daybreakDao.updateDaybreakBill(daybreakBill);
-        // Set the fragment as processed
-        daybreakDao.setProcessed(daybreakFragment.getDaybreakBillId());
+        logger.info("Saving " + daybreakBills.size() + " daybreak bills for report " + reportDate);
+        daybreakDao.updateDaybreakBills(reportDate, daybreakBills);
+        // Set the successfully parsed fragments as processed
+        daybreakDao.setProcessed(daybreakBills.stream()
+                .map(DaybreakBill::getDaybreakBillId)
+                .collect(Collectors.toList()));
     }
 }
@@ -1,19 +1,27 @@
 package gov.nysenate.openleg.processor.hearing;
 
+import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.hearing.PublicHearingFileDao;
+import gov.nysenate.openleg.model.hearing.PublicHearing;
 import gov.nysenate.openleg.model.hearing.PublicHearingFile;
 import gov.nysenate.openleg.model.hearing.PublicHearingId;
+import gov.nysenate.openleg.service.hearing.data.PublicHearingDataService;
+import gov.nysenate.openleg.service.hearing.event.BulkPublicHearingUpdateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.stream.Collectors.toList;
 
 @Service
 public class ManagedPublicHearingProcessService implements PublicHearingProcessService
@@ -26,6 +34,19 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
     @Autowired
     private PublicHearingParser publicHearingParser;
 
+    @Autowired
+    private PublicHearingDataService publicHearingDataService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Resource(name = "transcriptParseExecutor")
+    private ExecutorService parseExecutor;
+
+    /** Parse pending files in parallel and index them in bulk. */
+    @Value("${transcript.parallel.process.enabled:true}")
+    private boolean parallelProcessEnabled;
+
     /** --- Implemented Methods --- */
 
     /** {@inheritDoc} */
@@ -80,19 +101,20 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
     /** {@inheritDoc} */
     @Override
     public int processPublicHearingFiles(List<PublicHearingFile> publicHearingFiles) {
+        if (parallelProcessEnabled) {
+            return processPublicHearingFilesInParallel(publicHearingFiles);
+        }
         int processCount = 0;
         for (PublicHearingFile file : publicHearingFiles) {
             try {
                 logger.info("Processing PublicHearingFile: " + file.getFileName());
                 publicHearingParser.process(file);
-                file.setProcessedCount(file.getProcessedCount() + 1);
-                file.setPendingProcessing(false);
-                file.setProcessedDateTime(LocalDateTime.now());
-                publicHearingFileDao.updatePublicHearingFile(file);
+                updateProcessedFile(file);
                 processCount++;
             }
-            catch (IOException ex) {
+            catch (IOException | RuntimeException ex) {
                 logger.error("Error reading from PublicHearingFile: " + file.getFileName(), ex);
+                updateFailedFile(file);
             }
         }
         return processCount;
@@ -101,13 +123,18 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
     /** {@inheritDoc} */
     @Override
     public int processPendingPublicHearingFiles() {
-        List<PublicHearingFile> publicHearingFiles;
+        Set<String> attemptedFiles = new HashSet<>();
+        List<PublicHearingFile> publicHearingFiles = getPendingPublicHearingFiles(LimitOffset.FIFTY);
         int processCount = 0;
-        do {
-            publicHearingFiles = getPendingPublicHearingFiles(LimitOffset.FIFTY);
+        // Stop once a batch holds no new files, so files that stay pending can't keep the loop going forever
+        while (attemptedFiles.addAll(
+                publicHearingFiles.stream().map(PublicHearingFile::getFileName).collect(toList()))) {
             processCount += processPublicHearingFiles(publicHearingFiles);
+            publicHearingFiles = getPendingPublicHearingFiles(LimitOffset.FIFTY);
+        }
+        if (!publicHearingFiles.isEmpty()) {
+            logger.warn("{} public hearing files are still pending after processing", publicHearingFiles.size());
         }
-        while (!publicHearingFiles.isEmpty());
         return processCount;
     }
 
@@ -116,4 +143,64 @@ public class ManagedPublicHearingProcessService implements PublicHearingProcessS
     public void updatePendingProcessing(PublicHearingId publicHearingId, boolean pendingProcessing) {
         throw new UnsupportedOperationException();
     }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Parses the public hearing files concurrently, then saves the hearings in file order and posts a single
+     * bulk update event so that they are indexed together.
+     */
+    private int processPublicHearingFilesInParallel(List<PublicHearingFile> publicHearingFiles) {
+        List<CompletableFuture<PublicHearing>> parsed = publicHearingFiles.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> parsePublicHearingFile(file), parseExecutor))
+            .collect(toList());
+        List<PublicHearing> publicHearings = new ArrayList<>();
+        for (int i = 0; i < publicHearingFiles.size(); i++) {
+            PublicHearingFile file = publicHearingFiles.get(i);
+            PublicHearing publicHearing = parsed.get(i).join();
+            if (publicHearing != null) {
+                publicHearingDataService.savePublicHearing(publicHearing, file, false);
+                updateProcessedFile(file);
+                publicHearings.add(publicHearing);
+            }
+            else {
+                updateFailedFile(file);
+            }
+        }
+        if (!publicHearings.isEmpty()) {
+            eventBus.post(new BulkPublicHearingUpdateEvent(publicHearings, LocalDateTime.now()));
+        }
+        return publicHearings.size();
+    }
+
+    /**
+     * Parses a public hearing file, returning null if it could not be parsed so that the rest of the batch is
+     * still processed.
+     */
+    private PublicHearing parsePublicHearingFile(PublicHearingFile file) {
+        try {
+            logger.info("Processing PublicHearingFile: " + file.getFileName());
+            return publicHearingParser.parse(file);
+        }
+        catch (IOException | RuntimeException ex) {
+            logger.error("Error reading from PublicHearingFile: " + file.getFileName(), ex);
+            return null;
+        }
+    }
+
+    private void updateProcessedFile(PublicHearingFile file) {
+        file.setProcessedCount(file.getProcessedCount() + 1);
+        file.setPendingProcessing(false);
+        file.setProcessedDateTime(LocalDateTime.now());
+        publicHearingFileDao.updatePublicHearingFile(file);
+    }
+
+    /**
+     * Takes a file that could not be processed out of the pending files so that it is not fetched again on
+     * every pass. Its processed count is left as is, so it can be told apart from files that were processed.
+     */
+    private void updateFailedFile(PublicHearingFile file) {
+        file.setPendingProcessing(false);
+        publicHearingFileDao.updatePublicHearingFile(file);
+    }
 }
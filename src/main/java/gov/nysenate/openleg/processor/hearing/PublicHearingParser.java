@@ -6,14 +6,18 @@ import gov.nysenate.openleg.model.hearing.PublicHearingFile;
 import gov.nysenate.openleg.model.hearing.PublicHearingId;
 import gov.nysenate.openleg.service.hearing.data.PublicHearingDataService;
 import gov.nysenate.openleg.util.PublicHearingTextUtils;
-import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -39,13 +43,36 @@ public class PublicHearingParser
 
     /**
      * Parses a {@link PublicHearingFile}, extracting a
-     * {@link gov.nysenate.openleg.model.hearing.PublicHearing PublicHearing}.
+     * {@link gov.nysenate.openleg.model.hearing.PublicHearing PublicHearing}, and saves it.
      * @param publicHearingFile
      * @throws IOException
      */
     public void process(PublicHearingFile publicHearingFile) throws IOException {
-        final List<List<String>> pages = PublicHearingTextUtils.getPages(FileUtils.readFileToString(publicHearingFile.getFile()));
-        final List<String> firstPage = pages.get(0);
+        dataService.savePublicHearing(parse(publicHearingFile), publicHearingFile, true);
+    }
+
+    /**
+     * Parses a {@link PublicHearingFile} into a {@link PublicHearing} without saving it. The file is read a page
+     * at a time and only the first page is kept, so this can be called for several files at once.
+     * @param publicHearingFile
+     * @return PublicHearing
+     * @throws IOException
+     */
+    public PublicHearing parse(PublicHearingFile publicHearingFile) throws IOException {
+        final List<List<String>> firstPageHolder = new ArrayList<>(1);
+        final StringBuilder text = new StringBuilder();
+        try (Reader reader = new InputStreamReader(new FileInputStream(publicHearingFile.getFile()), Charset.defaultCharset())) {
+            PublicHearingTextUtils.readPages(reader, page -> {
+                if (firstPageHolder.isEmpty()) {
+                    firstPageHolder.add(page);
+                }
+                textParser.appendPage(text, page);
+            });
+        }
+        if (firstPageHolder.isEmpty()) {
+            throw new IOException("No pages found in public hearing file " + publicHearingFile.getFileName());
+        }
+        final List<String> firstPage = firstPageHolder.get(0);
 
         String title = titleParser.parse(firstPage);
         String address = addressParser.parse(firstPage);
@@ -53,10 +80,9 @@ public class PublicHearingParser
         LocalTime startTime = dateTimeParser.parseStartTime(firstPage);
         LocalTime endTime = dateTimeParser.parseEndTime(firstPage);
         List<PublicHearingCommittee> committees = committeeParser.parse(firstPage);
-        String text = textParser.parse(pages);
 
         PublicHearingId id = new PublicHearingId(publicHearingFile.getFileName());
-        PublicHearing publicHearing = new PublicHearing(id, date, text);
+        PublicHearing publicHearing = new PublicHearing(id, date, text.toString());
         publicHearing.setTitle(title);
         publicHearing.setAddress(address);
         publicHearing.setStartTime(startTime);
@@ -66,7 +92,6 @@ public class PublicHearingParser
         LocalDateTime now = LocalDateTime.now();
         publicHearing.setModifiedDateTime(now);
         publicHearing.setPublishedDateTime(now);
-
-        dataService.savePublicHearing(publicHearing, publicHearingFile, true);
+        return publicHearing;
     }
 }
@@ -21,4 +21,12 @@ public class PublicHearingTextParser
 
         return text.toString();
     }
+
+    /** Appends a page of PublicHearing text, giving the same text as {@link #parse(List)} once all pages are added. */
+    public void appendPage(StringBuilder text, List<String> page) {
+        for (String line : page) {
+            text.append(line);
+            text.append("\n");
+        }
+    }
 }
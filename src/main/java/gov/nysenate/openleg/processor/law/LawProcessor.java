@@ -181,7 +181,7 @@ public class LawProcessor extends AbstractDataProcessor
         lawBuilders.forEach((lawId, lawBuilder) ->{
             logger.info("Persisting law documents for {}", lawId);
             eventBus.post(new BulkLawUpdateEvent(lawBuilder.getProcessedLawDocuments()));
-            lawBuilder.getProcessedLawDocuments().forEach(d -> lawDataService.saveLawDocument(lawFile, d));
+            lawDataService.saveLawDocuments(lawFile, lawBuilder.getProcessedLawDocuments());
             logger.info("Persisting law tree for {}", lawId);
             lawDataService.saveLawTree(lawFile, lawBuilder.getProcessedLawTree());
         });
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.processor.law;
 
+import com.google.common.collect.ImmutableSet;
 import gov.nysenate.openleg.model.law.LawChapterCode;
 import gov.nysenate.openleg.model.law.LawDocInfo;
 import org.apache.commons.lang3.StringUtils;
@@ -7,17 +8,32 @@ import org.apache.commons.lang3.text.WordUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.regex.Matcher;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Extracts the titles of law documents from their text. The text of a law document marks its line breaks with
+ * a backslash followed by an 'n'. Titles are found by scanning from the start of the text, so only the portion of
+ * the text before the end of the title is read. The methods are stateless and can be used from multiple threads.
+ */
 public class LawTitleParser
 {
     private static final Logger logger = LoggerFactory.getLogger(LawTitleParser.class);
 
-    protected static String sectionTitlePattern = "(?i)((?:Section|§)\\s*%s).?\\s(.+?)\\.(.*)";
-    protected static Pattern articleTitlePattern = Pattern.compile("((ARTICLE|TITLE).+?\\\\n)(.+?)\\\\n(Section)?");
+    /** An escaped line break within the law text. */
+    private static final String LINE_BREAK = "\\n";
+
+    private static final String[] articleTitleKeywords = {"ARTICLE", "TITLE"};
+    private static final String sectionKeyword = "Section";
+
+    private static final Pattern hyphenatedLineBreakPattern = Pattern.compile("-\\\\n\\s*");
+    private static final Pattern lineBreakPattern = Pattern.compile("\\\\n?\\s*");
+    private static final Pattern articleLineBreakPattern = Pattern.compile("\\\\n");
+    private static final Pattern multiSpacePattern = Pattern.compile("\\s{2,}");
+
+    private static final Set<String> lowerCaseTitleWords = ImmutableSet.of("Of", "Or", "The", "For", "A", "And", "An");
 
     /** --- Methods --- */
 
@@ -64,19 +80,38 @@ public class LawTitleParser
 
     /**
      * Parses the title for an article by assuming that most article titles are presented in all caps.
+     * The title is the line following the first line that contains 'ARTICLE' or 'TITLE'.
      */
     protected static String extractTitleFromArticle(LawDocInfo lawDocInfo, String bodyText) {
-        Matcher articleTitleMatcher = articleTitlePattern.matcher(bodyText);
-        if (articleTitleMatcher.find()) {
-            String title = articleTitleMatcher.group(3).replaceAll("\\\\n", "").replaceAll("\\s{2,}", " ");
-            return capitalizeTitle(title.trim());
+        int keywordIdx = -1;
+        int keywordEnd = -1;
+        for (String keyword : articleTitleKeywords) {
+            int idx = bodyText.indexOf(keyword);
+            if (idx != -1 && (keywordIdx == -1 || idx < keywordIdx)) {
+                keywordIdx = idx;
+                keywordEnd = idx + keyword.length();
+            }
+        }
+        if (keywordIdx != -1) {
+            // The keyword line is not empty after the keyword and neither is the title line
+            int titleStart = bodyText.indexOf(LINE_BREAK, keywordEnd + 1);
+            if (titleStart != -1) {
+                titleStart += LINE_BREAK.length();
+                int titleEnd = bodyText.indexOf(LINE_BREAK, titleStart + 1);
+                if (titleEnd != -1) {
+                    String title = articleLineBreakPattern.matcher(bodyText.substring(titleStart, titleEnd)).replaceAll("");
+                    title = multiSpacePattern.matcher(title).replaceAll(" ");
+                    return capitalizeTitle(title.trim());
+                }
+            }
         }
         return "";
     }
 
     /**
      * Extract the title from the section document using a common pattern if applicable or just getting the
-     * first line or so.
+     * first line or so. The common pattern is '§ {location id}. {title}. {text}' where the section symbol may also
+     * be spelled out as 'Section'.
      */
     protected static String extractTitleFromSection(LawDocInfo docInfo, String text) {
         String title = "";
@@ -84,26 +119,82 @@ public class LawTitleParser
             int asteriskLoc = docInfo.getLocationId().indexOf("*");
             String locationId = (asteriskLoc != -1)
                                 ? docInfo.getLocationId().substring(0, asteriskLoc) : docInfo.getLocationId();
-            Pattern titlePattern = Pattern.compile(String.format(sectionTitlePattern, locationId.toLowerCase()));
             int sectionIdx = text.indexOf("§");
-            String trimText = (sectionIdx != -1) ? text.substring(sectionIdx).trim() : text.trim();
-            Matcher titleMatcher = titlePattern.matcher(trimText);
-            if (titleMatcher.matches()) {
-                title = titleMatcher.group(2).replaceAll("-\\\\n\\s*", "").replaceAll("\\\\n?\\s*", " ");
+            int start = (sectionIdx != -1) ? sectionIdx : 0;
+            while (start < text.length() && text.charAt(start) <= ' ') {
+                start++;
+            }
+            int titleStart = findSectionTitleStart(text, start, locationId);
+            if (titleStart != -1) {
+                title = text.substring(titleStart, text.indexOf('.', titleStart + 1));
+                title = hyphenatedLineBreakPattern.matcher(title).replaceAll("");
+                title = lineBreakPattern.matcher(title).replaceAll(" ");
             }
             else {
                 logger.warn("Section title pattern mismatch for document id {}", docInfo.getDocumentId());
-                title = trimText;
+                int end = text.length();
+                while (end > start && text.charAt(end - 1) <= ' ') {
+                    end--;
+                }
+                // Only the abbreviated portion of the text is needed
+                title = text.substring(start, Math.min(end, start + 141));
             }
         }
         return StringUtils.abbreviate(title, 140);
     }
 
+    /**
+     * Returns the index of the first character of the section title, or -1 if the text starting at 'start' does not
+     * begin with the section symbol (or 'Section'), followed by the location id, an optional separator character,
+     * a single whitespace character, and then the title terminated by a period.
+     */
+    private static int findSectionTitleStart(String text, int start, String locationId) {
+        int locStart;
+        if (text.startsWith("§", start)) {
+            locStart = start + 1;
+        }
+        else if (text.regionMatches(true, start, sectionKeyword, 0, sectionKeyword.length())) {
+            locStart = start + sectionKeyword.length();
+        }
+        else {
+            return -1;
+        }
+        int spaceEnd = locStart;
+        while (spaceEnd < text.length() && isRegexWhitespace(text.charAt(spaceEnd))) {
+            spaceEnd++;
+        }
+        // Prefer the most whitespace before the location id
+        for (int locIdx = spaceEnd; locIdx >= locStart; locIdx--) {
+            if (!text.regionMatches(true, locIdx, locationId, 0, locationId.length())) {
+                continue;
+            }
+            int locEnd = locIdx + locationId.length();
+            // Prefer consuming a separator character (e.g. a period) before the whitespace
+            for (int separatorLength = 1; separatorLength >= 0; separatorLength--) {
+                int spaceIdx = locEnd + separatorLength;
+                if (spaceIdx < text.length() && isRegexWhitespace(text.charAt(spaceIdx))
+                        && (separatorLength == 0 || !isLineTerminator(text.charAt(locEnd)))
+                        && text.indexOf('.', spaceIdx + 2) != -1) {
+                    return spaceIdx + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
     protected static String capitalizeTitle(String title) {
         if (title != null && !title.isEmpty()) {
             String capStr = WordUtils.capitalizeFully(title);
             return Stream.of(capStr.split(" "))
-                    .map(s -> (s.matches("(Of|Or|The|For|A|And|An)")) ? s.toLowerCase() : s)
+                    .map(s -> (lowerCaseTitleWords.contains(s)) ? s.toLowerCase() : s)
                     .collect(Collectors.joining(" "));
         }
         return title;
@@ -60,7 +60,13 @@ public class CalendarAlertProcessor extends BaseCalendarAlertParser {
         return calendar;
     }
 
-    private CalendarId parseCalendarId(File file) {
+    /**
+     * Parses the id of the calendar that an LRS alert email file belongs to.
+     *
+     * @param file
+     * @return
+     */
+    public CalendarId parseCalendarId(File file) {
         int year = Integer.valueOf(splitFileName(file)[1]);
         String calNo = parseCalNo(file);
         return new CalendarId(Integer.valueOf(calNo), year);
@@ -1,17 +1,30 @@
 package gov.nysenate.openleg.processor.transcript;
 
+import com.google.common.eventbus.EventBus;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.transcript.TranscriptFileDao;
+import gov.nysenate.openleg.model.transcript.Transcript;
 import gov.nysenate.openleg.model.transcript.TranscriptFile;
 import gov.nysenate.openleg.model.transcript.TranscriptId;
+import gov.nysenate.openleg.service.transcript.data.TranscriptDataService;
+import gov.nysenate.openleg.service.transcript.event.BulkTranscriptUpdateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.stream.Collectors.toList;
 
 @Service
 public class ManagedTranscriptProcessService implements TranscriptProcessService
@@ -24,6 +37,18 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
     @Autowired
     private TranscriptParser transcriptParser;
 
+    @Autowired
+    private TranscriptDataService transcriptDataService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Resource(name = "transcriptParseExecutor")
+    private ExecutorService parseExecutor;
+
+    /** Parse pending files in parallel and index them in bulk. */
+    @Value("${transcript.parallel.process.enabled:true}")
+    private boolean parallelProcessEnabled;
 
     /** --- Implemented Methods --- */
 
@@ -77,19 +102,20 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
     /** {@inheritDoc} */
     @Override
     public int processTranscriptFiles(List<TranscriptFile> transcriptFiles) {
+        if (parallelProcessEnabled) {
+            return processTranscriptFilesInParallel(transcriptFiles);
+        }
         int processCount = 0;
         for (TranscriptFile file : transcriptFiles) {
             try {
                 logger.info("Processing transcript file {}", file.getFileName());
                 transcriptParser.process(file);
-                file.setProcessedCount(file.getProcessedCount() + 1);
-                file.setPendingProcessing(false);
-                file.setProcessedDateTime(LocalDateTime.now());
-                transcriptFileDao.updateTranscriptFile(file);
+                updateProcessedFile(file);
                 processCount++;
             }
-            catch (IOException ex) {
+            catch (IOException | RuntimeException ex) {
                 logger.error("Error processing TranscriptFile " + file.getFileName() + ".", ex);
+                updateFailedFile(file);
             }
         }
         return processCount;
@@ -98,13 +124,17 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
     /** {@inheritDoc} */
     @Override
     public int processPendingTranscriptFiles() {
-        List<TranscriptFile> transcriptFiles;
+        Set<String> attemptedFiles = new HashSet<>();
+        List<TranscriptFile> transcriptFiles = getPendingTranscriptFiles(LimitOffset.FIFTY);
         int processCount = 0;
-        do {
-            transcriptFiles = getPendingTranscriptFiles(LimitOffset.FIFTY);
+        // Stop once a batch holds no new files, so files that stay pending can't keep the loop going forever
+        while (attemptedFiles.addAll(transcriptFiles.stream().map(TranscriptFile::getFileName).collect(toList()))) {
             processCount += processTranscriptFiles(transcriptFiles);
+            transcriptFiles = getPendingTranscriptFiles(LimitOffset.FIFTY);
+        }
+        if (!transcriptFiles.isEmpty()) {
+            logger.warn("{} transcript files are still pending after processing", transcriptFiles.size());
         }
-        while (!transcriptFiles.isEmpty());
         return processCount;
     }
 
@@ -113,4 +143,64 @@ public class ManagedTranscriptProcessService implements TranscriptProcessService
     public void updatePendingProcessing(TranscriptId transcriptId, boolean pendingProcessing) {
         throw new UnsupportedOperationException("Not implemented");
     }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Parses the transcript files concurrently since each file is independent of the others. The transcripts
+     * are then saved in file order and a single bulk update event is posted so that they are indexed together.
+     */
+    private int processTranscriptFilesInParallel(List<TranscriptFile> transcriptFiles) {
+        List<CompletableFuture<Transcript>> parsed = transcriptFiles.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> parseTranscriptFile(file), parseExecutor))
+            .collect(toList());
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int i = 0; i < transcriptFiles.size(); i++) {
+            TranscriptFile file = transcriptFiles.get(i);
+            Transcript transcript = parsed.get(i).join();
+            if (transcript != null) {
+                transcriptDataService.saveTranscript(transcript, file, false);
+                updateProcessedFile(file);
+                transcripts.add(transcript);
+            }
+            else {
+                updateFailedFile(file);
+            }
+        }
+        if (!transcripts.isEmpty()) {
+            eventBus.post(new BulkTranscriptUpdateEvent(transcripts, LocalDateTime.now()));
+        }
+        return transcripts.size();
+    }
+
+    /**
+     * Parses a transcript file, returning null if it could not be parsed so that the rest of the batch is
+     * still processed.
+     */
+    private Transcript parseTranscriptFile(TranscriptFile file) {
+        try {
+            logger.info("Processing transcript file {}", file.getFileName());
+            return transcriptParser.parse(file);
+        }
+        catch (IOException | RuntimeException ex) {
+            logger.error("Error processing TranscriptFile " + file.getFileName() + ".", ex);
+            return null;
+        }
+    }
+
+    private void updateProcessedFile(TranscriptFile file) {
+        file.setProcessedCount(file.getProcessedCount() + 1);
+        file.setPendingProcessing(false);
+        file.setProcessedDateTime(LocalDateTime.now());
+        transcriptFileDao.updateTranscriptFile(file);
+    }
+
+    /**
+     * Takes a file that could not be processed out of the pending files so that it is not fetched again on
+     * every pass. Its processed count is left as is, so it can be told apart from files that were processed.
+     */
+    private void updateFailedFile(TranscriptFile file) {
+        file.setPendingProcessing(false);
+        transcriptFileDao.updateTranscriptFile(file);
+    }
 }
@@ -26,7 +26,18 @@ public class TranscriptParser
     @Autowired
     private TranscriptDataService transcriptDataService;
 
+    /**
+     * Parses the transcript file and saves the resulting transcript.
+     */
     public void process(TranscriptFile transcriptFile) throws IOException {
+        transcriptDataService.saveTranscript(parse(transcriptFile), transcriptFile, true);
+    }
+
+    /**
+     * Parses the transcript file line by line into a transcript without saving it, so this can be called
+     * for several files at once.
+     */
+    public Transcript parse(TranscriptFile transcriptFile) throws IOException {
         String sessionType = null;
         String location = null;
         String date = null;
@@ -40,8 +51,8 @@ public class TranscriptParser
         boolean skipFirstThreeLines = false;
 
         String lineText;
-        BufferedReader reader = new BufferedReader(new InputStreamReader(
-            new FileInputStream(transcriptFile.getFile()), TRANSCRIPT_ENCODING));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new FileInputStream(transcriptFile.getFile()), TRANSCRIPT_ENCODING))) {
 
         while ((lineText = reader.readLine()) != null) {
             TranscriptLine line = new TranscriptLine(lineText);
@@ -78,16 +89,13 @@ public class TranscriptParser
             firstLineParsed = true;
             transcriptText.append(line.fullText()).append("\n");
         }
-
-        reader.close();
+        }
 
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("MMMM d yyyy hmma");
         LocalDateTime dateTime = LocalDateTime.parse(date + " " + time, dtf);
 
         TranscriptId transcriptId = new TranscriptId(transcriptFile.getFileName());
-        Transcript transcript = new Transcript(transcriptId, sessionType, dateTime, location, transcriptText.toString());
-
-        transcriptDataService.saveTranscript(transcript, transcriptFile, true);
+        return new Transcript(transcriptId, sessionType, dateTime, location, transcriptText.toString());
     }
 
     private boolean areWeDoneWithFirstPage(String sessionType, String location, String date, String time) {
@@ -8,10 +8,13 @@ import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.model.agenda.AgendaId;
 import gov.nysenate.openleg.model.agenda.AgendaNotFoundEx;
 import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictYearEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmYearEvent;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
 import gov.nysenate.openleg.service.agenda.event.AgendaUpdateEvent;
+import gov.nysenate.openleg.service.base.data.CacheStatsService;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import net.sf.ehcache.Cache;
@@ -33,6 +36,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class CachedAgendaDataService implements AgendaDataService, CachingService<AgendaId>
@@ -42,6 +47,7 @@ public class CachedAgendaDataService implements AgendaDataService, CachingServic
     @Autowired private CacheManager cacheManager;
     @Autowired private AgendaDao agendaDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheStatsService cacheStatsService;
 
     @Value("${agenda.cache.size}") private long agendaCacheSizeMb;
 
@@ -125,6 +131,32 @@ public class CachedAgendaDataService implements AgendaDataService, CachingServic
         }
     }
 
+    /**
+     * Loads all agendas from the given year into the agenda cache.
+     */
+    @Subscribe
+    public void handleCacheWarmYearEvent(CacheWarmYearEvent warmYearEvent) {
+        if (warmYearEvent.affects(ContentCache.AGENDA)) {
+            logger.info("Fetching agendas for year {}", warmYearEvent.getYear());
+            getAgendaIds(warmYearEvent.getYear(), SortOrder.ASC).forEach(this::getAgenda);
+        }
+    }
+
+    /**
+     * Evicts all agendas from the given year.
+     */
+    @Subscribe
+    public void handleCacheEvictYearEvent(CacheEvictYearEvent evictYearEvent) {
+        if (evictYearEvent.affects(ContentCache.AGENDA)) {
+            Ehcache cache = agendaCache.getNativeCache();
+            @SuppressWarnings("unchecked")
+            List<AgendaId> agendaIds = cache.getKeys();
+            cache.removeAll(agendaIds.stream()
+                .filter(agendaId -> agendaId.getYear() == evictYearEvent.getYear())
+                .collect(Collectors.toList()));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public Agenda getAgenda(AgendaId agendaId) throws AgendaNotFoundEx {
@@ -135,8 +167,10 @@ public class CachedAgendaDataService implements AgendaDataService, CachingServic
             Agenda agenda = (agendaCache.get(agendaId) != null) ? (Agenda) agendaCache.get(agendaId).get() : null;
             if (agenda == null) {
                 logger.debug("Fetching agenda {}", agendaId);
+                long loadStart = System.nanoTime();
                 agenda = agendaDao.getAgenda(agendaId);
                 agendaCache.put(agendaId, agenda);
+                cacheStatsService.recordLoad(agendaCacheName, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - loadStart));
             }
             return agenda;
         }
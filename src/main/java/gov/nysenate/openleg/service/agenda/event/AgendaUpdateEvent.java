@@ -2,6 +2,7 @@ package gov.nysenate.openleg.service.agenda.event;
 
 import gov.nysenate.openleg.model.agenda.Agenda;
 import gov.nysenate.openleg.service.base.data.ContentUpdateEvent;
+import org.apache.commons.lang3.SerializationUtils;
 
 import java.time.LocalDateTime;
 
@@ -16,6 +17,17 @@ public class AgendaUpdateEvent extends ContentUpdateEvent
         this.agenda = agenda;
     }
 
+    /** --- Overrides --- */
+
+    /**
+     * The posted agenda is the cached instance, which is modified in place as later fragments are processed,
+     * so the copy holds a snapshot of the agenda.
+     */
+    @Override
+    public AgendaUpdateEvent copy() {
+        return new AgendaUpdateEvent(SerializationUtils.clone(agenda), updateDateTime);
+    }
+
     /** --- Basic Getters --- */
 
     public Agenda getAgenda() {
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.service.agenda.search;
 
+import gov.nysenate.openleg.client.view.agenda.CommAgendaSummaryView;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
 import gov.nysenate.openleg.model.search.SearchException;
@@ -34,6 +35,27 @@ public interface AgendaSearchService
     public SearchResults<CommitteeAgendaId> searchCommitteeAgendas(String query, int year, String sort, LimitOffset limOff)
         throws SearchException;
 
+    /**
+     * Performs a search across all committee agendas, returning summaries read from the search index.
+     * @see #searchCommitteeAgendaSummaries(String, int, String, gov.nysenate.openleg.dao.base.LimitOffset)
+     */
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(String query, String sort, LimitOffset limOff)
+        throws SearchException;
+
+    /**
+     * Search for committee agendas during a given year, returning summaries read from the search index.
+     * This avoids loading each matching agenda when only the summaries are needed.
+     *
+     * @param query String - Lucene Query string
+     * @param year int - Filter retrieved committee agendas by year
+     * @param sort String - Lucene sort string
+     * @param limOff LimitOffset - Limit the result set.
+     * @return SearchResults<CommAgendaSummaryView>
+     * @throws SearchException
+     */
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(String query, int year, String sort,
+                                                                               LimitOffset limOff) throws SearchException;
+
     /**
      * Handle an agenda update event by indexing the supplied agenda in the update.
      *
@@ -2,6 +2,7 @@ package gov.nysenate.openleg.service.agenda.search;
 
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.client.view.agenda.CommAgendaSummaryView;
 import gov.nysenate.openleg.dao.agenda.search.ElasticAgendaSearchDao;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
@@ -11,6 +12,8 @@ import gov.nysenate.openleg.model.agenda.AgendaId;
 import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
 import gov.nysenate.openleg.config.Environment;
 import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.process.DataProcessPhase;
+import gov.nysenate.openleg.model.process.DataProcessSpanEvent;
 import gov.nysenate.openleg.model.search.ClearIndexEvent;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
 import gov.nysenate.openleg.model.search.SearchException;
@@ -70,6 +73,22 @@ public class ElasticAgendaSearchService implements AgendaSearchService, IndexedS
                 null, sort, limOff);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(String query, String sort, LimitOffset limOff)
+                                                                               throws SearchException {
+        return agendaSearchDao.searchCommitteeAgendaSummaries(QueryBuilders.queryString(query), null, sort, limOff);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<CommAgendaSummaryView> searchCommitteeAgendaSummaries(String query, int year, String sort,
+                                                                               LimitOffset limOff) throws SearchException {
+        return agendaSearchDao.searchCommitteeAgendaSummaries(
+                QueryBuilders.filteredQuery(QueryBuilders.queryString(query), FilterBuilders.termFilter("agenda.id.year", year)),
+                null, sort, limOff);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void updateIndex(Agenda agenda) {
@@ -145,7 +164,10 @@ public class ElasticAgendaSearchService implements AgendaSearchService, IndexedS
     @Override
     public synchronized void handleBulkAgendaUpdateEvent(BulkAgendaUpdateEvent bulkAgendaUpdateEvent) {
         if (bulkAgendaUpdateEvent != null && !bulkAgendaUpdateEvent.getAgendas().isEmpty()) {
+            long indexStart = System.nanoTime();
             updateIndex(bulkAgendaUpdateEvent.getAgendas());
+            eventBus.post(new DataProcessSpanEvent("AGENDA", DataProcessPhase.INDEX, System.nanoTime() - indexStart,
+                                                   bulkAgendaUpdateEvent.getAgendas().size(), 0));
         }
     }
 }
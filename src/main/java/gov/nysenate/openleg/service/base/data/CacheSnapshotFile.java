@@ -0,0 +1,184 @@
+package gov.nysenate.openleg.service.base.data;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A file containing the serialized entries of a cache along with a watermark, which is a time before the
+ * entries were read from the cache. Content that changed after the watermark may be stale in the snapshot.
+ *
+ * Layout: magic, file format version, content version, watermark, entry count, then each entry as a utf-8 key
+ * and a length prefixed value. The content version is chosen by the caching service (e.g. the version of the
+ * codec used for the values) so that snapshots written by an incompatible build are ignored.
+ */
+public class CacheSnapshotFile
+{
+    private static final int MAGIC = 0x4F4C4353; // "OLCS"
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    private final Path path;
+    private final int contentVersion;
+    private final LocalDateTime watermark;
+    private final int entryCount;
+
+    /** The mapped file, positioned at the first entry. */
+    private final MappedByteBuffer entries;
+
+    private CacheSnapshotFile(Path path, int contentVersion, LocalDateTime watermark, int entryCount,
+                              MappedByteBuffer entries) {
+        this.path = path;
+        this.contentVersion = contentVersion;
+        this.watermark = watermark;
+        this.entryCount = entryCount;
+        this.entries = entries;
+    }
+
+    /**
+     * Memory maps and reads the header of an existing snapshot file.
+     *
+     * @param path Path
+     * @return CacheSnapshotFile
+     * @throws IOException if the file cannot be read or is not a cache snapshot.
+     */
+    public static CacheSnapshotFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping remains valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != FILE_FORMAT_VERSION) {
+                throw new IOException(path + " is not a cache snapshot of a supported version");
+            }
+            int contentVersion = buffer.getInt();
+            LocalDateTime watermark = LocalDateTime.parse(readString(buffer));
+            int entryCount = buffer.getInt();
+            return new CacheSnapshotFile(path, contentVersion, watermark, entryCount, buffer);
+        }
+        catch (RuntimeException ex) {
+            throw new IOException("Failed to read the header of cache snapshot " + path, ex);
+        }
+    }
+
+    /**
+     * Creates a writer for a new snapshot. The snapshot replaces any existing file at the path once the
+     * writer is closed, so readers never see a partially written snapshot.
+     *
+     * @param path Path
+     * @param contentVersion int - Version of the format of the entry values
+     * @param watermark LocalDateTime - Changes made before this time are reflected in the entries
+     * @return Writer
+     */
+    public static Writer create(Path path, int contentVersion, LocalDateTime watermark) throws IOException {
+        return new Writer(path, contentVersion, watermark);
+    }
+
+    /**
+     * Passes each entry in the snapshot to the given consumer, in the order they were written.
+     *
+     * @throws IOException if the snapshot is truncated.
+     */
+    public void forEach(BiConsumer<String, byte[]> consumer) throws IOException {
+        ByteBuffer buffer = entries.duplicate();
+        try {
+            for (int i = 0; i < entryCount; i++) {
+                String key = readString(buffer);
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                consumer.accept(key, value);
+            }
+        }
+        catch (BufferUnderflowException ex) {
+            throw new IOException("Cache snapshot " + path + " is truncated", ex);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** --- Basic Getters --- */
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /** --- Writer --- */
+
+    public static class Writer implements Closeable
+    {
+        private final Path path;
+        private final Path tempPath;
+
+        private final DataOutputStream out;
+        private final long entryCountOffset;
+        private int entryCount = 0;
+        private boolean closed = false;
+
+        private Writer(Path path, int contentVersion, LocalDateTime watermark) throws IOException {
+            this.path = path;
+            this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)));
+            out.writeInt(MAGIC);
+            out.writeInt(FILE_FORMAT_VERSION);
+            out.writeInt(contentVersion);
+            out.writeUTF(watermark.toString());
+            // The entry count is filled in when the writer is closed
+            this.entryCountOffset = out.size();
+            out.writeInt(0);
+        }
+
+        public void write(String key, byte[] value) throws IOException {
+            out.writeUTF(key);
+            out.writeInt(value.length);
+            out.write(value);
+            entryCount++;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        /**
+         * Completes the snapshot and moves it into place. If writing entries failed part way, the snapshot holds
+         * the entries written so far, which is still consistent with the watermark.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            out.close();
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                ByteBuffer count = ByteBuffer.allocate(4).putInt(0, entryCount);
+                channel.write(count, entryCountOffset);
+            }
+            Files.move(tempPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package gov.nysenate.openleg.service.base.data;
+
+import com.google.common.base.Stopwatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically writes the contents of the snapshot capable caches to files, and restores the caches from
+ * those files on startup. After a snapshot is loaded, only the content that changed since the snapshot was
+ * written is fetched from the database, so a restarted node is warm within seconds.
+ */
+@Service
+public class CacheSnapshotService
+{
+    private static final Logger logger = LoggerFactory.getLogger(CacheSnapshotService.class);
+
+    /** Subtracted from the time a snapshot is started to allow for clock differences with the database. */
+    private static final long WATERMARK_MARGIN_MINUTES = 5;
+
+    @Autowired(required = false) private List<SnapshotCachingService<?>> snapshotCachingServices = new ArrayList<>();
+
+    @Value("${cache.snapshot.enabled:false}") private boolean snapshotEnabled;
+    @Value("${cache.snapshot.dir:/data/openleg/cache-snapshots}") private String snapshotDir;
+
+    /** Set once the scheduled snapshot has run, which only happens in the web application. */
+    private volatile boolean scheduledWriteRan = false;
+
+    @PostConstruct
+    private void init() {
+        if (snapshotEnabled) {
+            snapshotCachingServices.forEach(this::loadSnapshot);
+        }
+    }
+
+    /**
+     * Writes a final snapshot so that the next startup has as little as possible to replay. Short lived
+     * processes such as scripts never run the scheduled write and do not overwrite the snapshots on exit.
+     */
+    @PreDestroy
+    private void cleanUp() {
+        if (scheduledWriteRan) {
+            writeSnapshots();
+        }
+    }
+
+    /** --- Scheduled Methods --- */
+
+    @Scheduled(cron = "${cache.snapshot.cron:0 0 * * * *}")
+    public void writeSnapshots() {
+        if (snapshotEnabled) {
+            scheduledWriteRan = true;
+            snapshotCachingServices.forEach(this::writeSnapshot);
+        }
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * Writes the snapshot of a single caching service. Failures are logged since a missing snapshot only
+     * means a slower startup.
+     *
+     * @param service SnapshotCachingService
+     */
+    public synchronized void writeSnapshot(SnapshotCachingService<?> service) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        LocalDateTime watermark = LocalDateTime.now().minusMinutes(WATERMARK_MARGIN_MINUTES);
+        try (CacheSnapshotFile.Writer writer = CacheSnapshotFile.create(
+                getSnapshotPath(service), service.getSnapshotContentVersion(), watermark)) {
+            service.writeSnapshot(writer);
+            logger.info("Wrote {} entries to the {} cache snapshot in {}",
+                        writer.getEntryCount(), service.getSnapshotName(), stopwatch);
+        }
+        catch (IOException | RuntimeException ex) {
+            logger.error("Failed to write the " + service.getSnapshotName() + " cache snapshot", ex);
+        }
+    }
+
+    /**
+     * Loads the snapshot of a single caching service if one exists and replays the changes made since it
+     * was written.
+     *
+     * @param service SnapshotCachingService
+     * @return boolean - True if a snapshot was loaded.
+     */
+    public boolean loadSnapshot(SnapshotCachingService<?> service) {
+        Path path = getSnapshotPath(service);
+        if (!Files.exists(path)) {
+            logger.info("No {} cache snapshot found at {}", service.getSnapshotName(), path);
+            return false;
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try {
+            CacheSnapshotFile snapshot = CacheSnapshotFile.open(path);
+            if (snapshot.getContentVersion() != service.getSnapshotContentVersion()) {
+                logger.info("Ignoring {} cache snapshot with content version {}, expected {}",
+                            service.getSnapshotName(), snapshot.getContentVersion(),
+                            service.getSnapshotContentVersion());
+                return false;
+            }
+            AtomicInteger loaded = new AtomicInteger();
+            snapshot.forEach((key, value) -> {
+                if (service.loadSnapshotEntry(key, value)) {
+                    loaded.incrementAndGet();
+                }
+            });
+            logger.info("Loaded {} of {} entries from the {} cache snapshot in {}", loaded, snapshot.getEntryCount(),
+                        service.getSnapshotName(), stopwatch);
+            int replayed = service.replayChangesSince(snapshot.getWatermark());
+            logger.info("Refreshed {} {} changed since {}, {} cache ready in {}", replayed, service.getSnapshotName(),
+                        snapshot.getWatermark(), service.getSnapshotName(), stopwatch);
+            return true;
+        }
+        catch (IOException | RuntimeException ex) {
+            logger.error("Failed to load the " + service.getSnapshotName() + " cache snapshot, clearing the cache", ex);
+            service.evictCaches();
+            return false;
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    private Path getSnapshotPath(SnapshotCachingService<?> service) {
+        return Paths.get(snapshotDir, service.getSnapshotName() + ".snapshot");
+    }
+}
@@ -0,0 +1,29 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.CacheStatsSample;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+
+import java.util.List;
+
+public interface CacheStatsService
+{
+    /**
+     * Records the time taken to load an entry into a cache after a cache miss.
+     *
+     * @param cacheName String - name of the cache the entry was loaded into
+     * @param loadMicros long - time taken to load the entry in microseconds
+     */
+    public void recordLoad(String cacheName, long loadMicros);
+
+    /**
+     * @param cacheName String
+     * @return LatencyHistogram - the load times recorded for the given cache, empty if none were recorded
+     */
+    public LatencyHistogram getLoadLatency(String cacheName);
+
+    /**
+     * @param cacheName String
+     * @return List<CacheStatsSample> - the periodic stats samples retained for the given cache, oldest first
+     */
+    public List<CacheStatsSample> getStatsHistory(String cacheName);
+}
@@ -12,6 +12,18 @@ public class ContentUpdateEvent
         this.updateDateTime = updateDateTime;
     }
 
+    /** --- Methods --- */
+
+    /**
+     * Returns an event that can be handled after this one was posted, i.e. one that does not share content that
+     * processing may still modify. Events whose content is modified after they are posted should return a copy.
+     *
+     * @return ContentUpdateEvent - This event by default
+     */
+    public ContentUpdateEvent copy() {
+        return this;
+    }
+
     /** --- Basic Getters --- */
 
     public LocalDateTime getUpdateDateTime() {
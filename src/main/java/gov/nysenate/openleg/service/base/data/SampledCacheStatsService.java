@@ -0,0 +1,99 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.CacheStatsSample;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.statistics.StatisticsGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Periodically samples the statistics of every cache in the cache manager and retains a fixed number
+ * of the most recent samples per cache so that cache activity can be viewed over time.
+ */
+@Service
+public class SampledCacheStatsService implements CacheStatsService
+{
+    private static final Logger logger = LoggerFactory.getLogger(SampledCacheStatsService.class);
+
+    @Autowired private CacheManager cacheManager;
+
+    @Value("${cache.stats.sample.count:60}") private int sampleCount;
+
+    /** Retained samples for each cache, oldest first. */
+    private final Map<String, Deque<CacheStatsSample>> sampleHistory = new HashMap<>();
+
+    /** The cumulative counts from the previous sample of each cache, used to compute the interval counts. */
+    private final Map<String, long[]> previousCounts = new HashMap<>();
+
+    private final ConcurrentMap<String, LatencyHistogram> loadLatencies = new ConcurrentHashMap<>();
+
+    /** --- CacheStatsService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordLoad(String cacheName, long loadMicros) {
+        LatencyHistogram histogram = loadLatencies.get(cacheName);
+        if (histogram == null) {
+            histogram = loadLatencies.computeIfAbsent(cacheName, name -> new LatencyHistogram());
+        }
+        histogram.record(loadMicros);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LatencyHistogram getLoadLatency(String cacheName) {
+        return loadLatencies.getOrDefault(cacheName, new LatencyHistogram());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized List<CacheStatsSample> getStatsHistory(String cacheName) {
+        return new ArrayList<>(sampleHistory.getOrDefault(cacheName, new ArrayDeque<>()));
+    }
+
+    /** --- Scheduled Methods --- */
+
+    /**
+     * Takes a stats sample of every cache.
+     */
+    @Scheduled(cron = "${cache.stats.sample.cron:0 * * * * *}")
+    public synchronized void sampleStats() {
+        LocalDateTime sampleDateTime = LocalDateTime.now();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Ehcache cache = cacheManager.getEhcache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            StatisticsGateway stats = cache.getStatistics();
+            long[] counts = {stats.cacheHitCount(), stats.cacheMissCount(), stats.cacheEvictedCount()};
+            long[] previous = previousCounts.getOrDefault(cacheName, new long[counts.length]);
+            previousCounts.put(cacheName, counts);
+            Deque<CacheStatsSample> samples = sampleHistory.computeIfAbsent(cacheName, name -> new ArrayDeque<>());
+            // Counts are cumulative, a drop means the cache was re-created so the interval starts from zero
+            samples.addLast(new CacheStatsSample(cacheName, sampleDateTime, stats.getSize(),
+                stats.getLocalHeapSizeInBytes(), getDelta(counts[0], previous[0]),
+                getDelta(counts[1], previous[1]), getDelta(counts[2], previous[2])));
+            while (samples.size() > sampleCount) {
+                samples.removeFirst();
+            }
+        }
+        logger.debug("Sampled stats for {} caches", cacheManager.getCacheNames().length);
+    }
+
+    /** --- Internal --- */
+
+    private static long getDelta(long count, long previousCount) {
+        return (count >= previousCount) ? count - previousCount : count;
+    }
+}
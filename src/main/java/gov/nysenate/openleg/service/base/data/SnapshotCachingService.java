@@ -0,0 +1,47 @@
+package gov.nysenate.openleg.service.base.data;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * A caching service whose cache contents can be written to a snapshot file and restored from it on startup,
+ * which is much faster than warming the caches from the database.
+ */
+public interface SnapshotCachingService<ContentId> extends CachingService<ContentId>
+{
+    /**
+     * @return String - A name for the snapshot that is unique among the caching services.
+     */
+    public String getSnapshotName();
+
+    /**
+     * @return int - The version of the format of the snapshot entries. Snapshots with a different version
+     *               are not loaded.
+     */
+    public int getSnapshotContentVersion();
+
+    /**
+     * Writes every cached entry to the snapshot.
+     *
+     * @param writer CacheSnapshotFile.Writer
+     */
+    public void writeSnapshot(CacheSnapshotFile.Writer writer) throws IOException;
+
+    /**
+     * Puts an entry from a snapshot into the cache.
+     *
+     * @param key String - The entry key, as given to the snapshot writer
+     * @param value byte[] - The entry value, as given to the snapshot writer
+     * @return boolean - True if the entry was cached.
+     */
+    public boolean loadSnapshotEntry(String key, byte[] value);
+
+    /**
+     * Brings the cache up to date after a snapshot was loaded by refreshing any content that has changed
+     * since the snapshot watermark.
+     *
+     * @param watermark LocalDateTime
+     * @return int - The number of content items that were refreshed.
+     */
+    public int replayChangesSince(LocalDateTime watermark);
+}
@@ -0,0 +1,773 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
+import gov.nysenate.openleg.model.base.BaseLegislativeContent;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.CommitteeVersionId;
+import gov.nysenate.openleg.model.entity.Member;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * A compact binary format for {@link Bill} instances, used to hold bills in the caches as byte arrays and to
+ * write them to snapshot files. Compared to java serialization of the same bill, the encoded form is a fraction
+ * of the size since no class descriptors are written, and it does not depend on the serialVersionUIDs of the
+ * model classes.
+ *
+ * Members, bill ids and short repeated strings (enum names, committee names, etc) are written in full the first
+ * time they occur in a bill and as a back reference afterwards, so a vote roll is mostly a list of small integers.
+ * Dates are written as day offsets and the dates and sequence numbers of the bill actions are delta encoded.
+ *
+ * Enums are stored by name so reordering enum constants does not invalidate encoded bills. Any other change to
+ * the layout written here must increment {@link #FORMAT_VERSION}. Instances of this class hold no state and
+ * can be shared between threads.
+ */
+public final class BillCodec
+{
+    /** Marks the start of an encoded bill ("OLBC"). */
+    private static final int MAGIC = 0x4F4C4243;
+
+    /** The version of the encoded layout. Bills encoded with a different version cannot be decoded. */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Back reference tags, see {@link Encoder#writeRef(Map, Object)}. */
+    private static final int NULL_REF = 0;
+    private static final int NEW_REF = 1;
+
+    private BillCodec() {}
+
+    /**
+     * Encodes the given bill, including the text and memo of each amendment.
+     *
+     * @param bill Bill
+     * @return byte[]
+     */
+    public static byte[] encode(Bill bill) {
+        if (bill == null) {
+            throw new IllegalArgumentException("Bill cannot be null");
+        }
+        Encoder encoder = new Encoder();
+        encoder.out.writeInt(MAGIC);
+        encoder.out.writeByte(FORMAT_VERSION);
+        encoder.writeBill(bill);
+        return encoder.out.toByteArray();
+    }
+
+    /**
+     * Decodes a bill previously encoded via {@link #encode(Bill)}. The returned bill does not share any mutable
+     * state with other decoded bills.
+     *
+     * @param data byte[]
+     * @return Bill
+     * @throws IllegalArgumentException if the data is not an encoded bill of the current format version.
+     */
+    public static Bill decode(byte[] data) {
+        Decoder decoder = new Decoder(data);
+        try {
+            if (decoder.in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Data is not an encoded bill");
+            }
+            int formatVersion = decoder.in.readUnsignedByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Cannot decode bill with format version " + formatVersion +
+                                                   ", expected " + FORMAT_VERSION);
+            }
+            return decoder.readBill();
+        }
+        catch (IllegalStateException ex) {
+            throw new IllegalArgumentException("Encoded bill is truncated", ex);
+        }
+    }
+
+    /** --- Encoding --- */
+
+    private static class Encoder
+    {
+        private final ByteArrayDataOutput out = ByteStreams.newDataOutput(4096);
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Map<Object, Integer> billIds = new HashMap<>();
+        private final Map<List<Object>, Integer> members = new HashMap<>();
+
+        private void writeBill(Bill bill) {
+            writeBaseBillId(bill.getBaseBillId());
+            writeBaseContent(bill);
+            writeString(bill.getTitle());
+            writeString(bill.getSummary());
+            writeEnum(bill.getActiveVersion());
+            writeBillStatus(bill.getStatus());
+            writeVarInt(bill.getMilestones().size());
+            bill.getMilestones().forEach(this::writeBillStatus);
+
+            writeVarInt(bill.getAmendmentMap().size());
+            bill.getAmendmentMap().values().forEach(this::writeAmendment);
+            writeVarInt(bill.getAmendPublishStatusMap().size());
+            bill.getAmendPublishStatusMap().forEach((version, status) -> {
+                writeEnum(version);
+                writePublishStatus(status);
+            });
+
+            writeVarInt(bill.getVetoMessages().size());
+            bill.getVetoMessages().values().forEach(this::writeVetoMessage);
+            writeBoolean(bill.getApprovalMessage() != null);
+            if (bill.getApprovalMessage() != null) {
+                writeApprovalMessage(bill.getApprovalMessage());
+            }
+
+            writeSponsor(bill.getSponsor());
+            writeMembers(bill.getAdditionalSponsors());
+            writeVarInt(bill.getPastCommittees().size());
+            bill.getPastCommittees().forEach(this::writeCommitteeVersionId);
+            writeActions(bill.getActions());
+            writeBaseBillId(bill.getSubstitutedBy());
+            writeVarInt(bill.getPreviousVersions().size());
+            bill.getPreviousVersions().forEach(this::writeBillId);
+
+            writeBoolean(bill.getProgramInfo() != null);
+            if (bill.getProgramInfo() != null) {
+                writeString(bill.getProgramInfo().getInfo());
+                writeVarInt(bill.getProgramInfo().getNumber());
+            }
+            writeVarInt(bill.getCommitteeAgendas().size());
+            bill.getCommitteeAgendas().forEach(agendaId -> {
+                writeVarLong(agendaId.getAgendaId().getNumber());
+                writeVarInt(agendaId.getAgendaId().getYear());
+                writeCommitteeId(agendaId.getCommitteeId());
+            });
+            writeVarInt(bill.getCalendars().size());
+            bill.getCalendars().forEach(calendarId -> {
+                writeVarInt(calendarId.getCalNo());
+                writeVarInt(calendarId.getYear());
+            });
+            writeNullableInt(bill.getChapterNum());
+            writeNullableInt(bill.getChapterYear());
+        }
+
+        private void writeAmendment(BillAmendment amendment) {
+            writeEnum(amendment.getVersion());
+            writeBaseBillId(amendment.getBaseBillId());
+            writeVarInt(amendment.getSameAs().size());
+            amendment.getSameAs().forEach(this::writeBillId);
+            writeString(amendment.getMemo());
+            writeInterned(amendment.getLawSection());
+            writeString(amendment.getLaw());
+            writeString(amendment.getActClause());
+            writeString(amendment.getFullText());
+            writeBoolean(amendment.getCurrentCommittee() != null);
+            if (amendment.getCurrentCommittee() != null) {
+                writeCommitteeVersionId(amendment.getCurrentCommittee());
+            }
+            writeMembers(amendment.getCoSponsors());
+            writeMembers(amendment.getMultiSponsors());
+            writeNullableBoolean(amendment.isStricken());
+            writeNullableBoolean(amendment.isUniBill());
+            writeVarInt(amendment.getVotesMap().size());
+            amendment.getVotesMap().values().forEach(this::writeVote);
+        }
+
+        private void writeVote(BillVote vote) {
+            writeBillId(vote.getBillId());
+            writeBaseContent(vote);
+            writeEnum(vote.getVoteType());
+            writeDate(vote.getVoteDate());
+            writeVarInt(vote.getSequenceNo());
+            writeCommitteeId(vote.getCommitteeId());
+            Map<BillVoteCode, Collection<Member>> votesByCode = vote.getMemberVotes().asMap();
+            writeVarInt(votesByCode.size());
+            votesByCode.forEach((code, voters) -> {
+                writeEnum(code);
+                writeVarInt(voters.size());
+                voters.forEach(this::writeMember);
+            });
+        }
+
+        /** Action dates and sequence numbers are written as the difference from the previous action. */
+        private void writeActions(List<BillAction> actions) {
+            writeVarInt(actions.size());
+            long prevEpochDay = 0;
+            int prevSequenceNo = 0;
+            for (BillAction action : actions) {
+                writeBillId(action.getBillId());
+                writeBoolean(action.getDate() != null);
+                if (action.getDate() != null) {
+                    long epochDay = action.getDate().toEpochDay();
+                    writeSignedVarLong(epochDay - prevEpochDay);
+                    prevEpochDay = epochDay;
+                }
+                writeSignedVarLong(action.getSequenceNo() - prevSequenceNo);
+                prevSequenceNo = action.getSequenceNo();
+                writeEnum(action.getChamber());
+                writeString(action.getText());
+            }
+        }
+
+        private void writeBillStatus(BillStatus status) {
+            writeBoolean(status != null);
+            if (status != null) {
+                writeEnum(status.getStatusType());
+                writeVarInt(status.getActionSequenceNo());
+                writeDate(status.getActionDate());
+                writeCommitteeId(status.getCommitteeId());
+                writeNullableInt(status.getCalendarNo());
+            }
+        }
+
+        private void writePublishStatus(PublishStatus status) {
+            writeBoolean(status.isPublished());
+            writeDateTime(status.getEffectDateTime());
+            writeBoolean(status.isOverride());
+            writeString(status.getNotes());
+        }
+
+        private void writeVetoMessage(VetoMessage veto) {
+            writeBaseContent(veto);
+            writeBaseBillId(veto.getBillId());
+            writeVarInt(veto.getVetoNumber());
+            writeString(veto.getMemoText());
+            writeEnum(veto.getType());
+            writeVarInt(veto.getChapter());
+            writeVarInt(veto.getBillPage());
+            writeVarInt(veto.getLineStart());
+            writeVarInt(veto.getLineEnd());
+            writeInterned(veto.getSigner());
+            writeDate(veto.getSignedDate());
+        }
+
+        private void writeApprovalMessage(ApprovalMessage approval) {
+            writeBaseContent(approval);
+            writeBillId(approval.getBillId());
+            writeVarInt(approval.getApprovalNumber());
+            writeString(approval.getMemoText());
+            writeVarInt(approval.getChapter());
+            writeInterned(approval.getSigner());
+        }
+
+        private void writeSponsor(BillSponsor sponsor) {
+            writeBoolean(sponsor != null);
+            if (sponsor != null) {
+                writeMember(sponsor.getMember());
+                writeBoolean(sponsor.isBudget());
+                writeBoolean(sponsor.isRules());
+            }
+        }
+
+        private void writeMembers(List<Member> memberList) {
+            writeVarInt(memberList.size());
+            memberList.forEach(this::writeMember);
+        }
+
+        private void writeMember(Member member) {
+            if (writeRef(members, member != null ? memberKey(member) : null)) {
+                writeNullableInt(member.hasId() ? member.getId() : null);
+                writeVarInt(member.getMemberId());
+                writeVarInt(member.getSessionMemberId());
+                writeInterned(member.getLbdcShortName());
+                writeSessionYear(member.getSessionYear());
+                writeEnum(member.getChamber());
+                writeBoolean(member.isIncumbent());
+                writeNullableInt(member.getDistrictCode());
+                writeInterned(member.getPrefix());
+                writeInterned(member.getFullName());
+                writeInterned(member.getFirstName());
+                writeInterned(member.getMiddleName());
+                writeInterned(member.getLastName());
+                writeInterned(member.getSuffix());
+                writeInterned(member.getEmail());
+                writeInterned(member.getImgName());
+            }
+        }
+
+        /** Members are interned on every field that is written, since Member.equals ignores some of them. */
+        private List<Object> memberKey(Member member) {
+            return Arrays.asList(member.hasId() ? member.getId() : null, member.getMemberId(),
+                member.getSessionMemberId(), member.getLbdcShortName(), member.getSessionYear(), member.getChamber(),
+                member.isIncumbent(), member.getDistrictCode(), member.getPrefix(), member.getFullName(),
+                member.getFirstName(), member.getMiddleName(), member.getLastName(), member.getSuffix(),
+                member.getEmail(), member.getImgName());
+        }
+
+        private void writeBaseBillId(BaseBillId baseBillId) {
+            writeBillId(baseBillId);
+        }
+
+        /** BaseBillIds and BillIds can be equal, so the type is part of the interned key. */
+        private void writeBillId(BillId billId) {
+            Object key = billId != null ? Arrays.asList(billId.getClass(), billId) : null;
+            if (writeRef(billIds, key)) {
+                writeBoolean(billId instanceof BaseBillId);
+                writeInterned(billId.getBasePrintNo());
+                writeSessionYear(billId.getSession());
+                writeEnum(billId.getVersion());
+            }
+        }
+
+        private void writeCommitteeId(CommitteeId committeeId) {
+            writeBoolean(committeeId != null);
+            if (committeeId != null) {
+                writeEnum(committeeId.getChamber());
+                writeInterned(committeeId.getName());
+            }
+        }
+
+        private void writeCommitteeVersionId(CommitteeVersionId committeeVersionId) {
+            writeCommitteeId(committeeVersionId);
+            writeSessionYear(committeeVersionId.getSession());
+            writeDateTime(committeeVersionId.getReferenceDate());
+        }
+
+        private void writeBaseContent(BaseLegislativeContent content) {
+            writeSessionYear(content.getSession());
+            writeVarInt(content.getYear());
+            writeDateTime(content.getModifiedDateTime());
+            writeDateTime(content.getPublishedDateTime());
+        }
+
+        /** --- Primitives --- */
+
+        /**
+         * Writes a null or back reference tag for the given key, or the new value tag if the key has not been
+         * written before, in which case the caller must write the value itself.
+         *
+         * @return boolean - true if the caller must write the value.
+         */
+        private <T> boolean writeRef(Map<T, Integer> refs, T key) {
+            if (key == null) {
+                writeVarInt(NULL_REF);
+                return false;
+            }
+            Integer ref = refs.get(key);
+            if (ref != null) {
+                writeVarInt(ref + 2);
+                return false;
+            }
+            refs.put(key, refs.size());
+            writeVarInt(NEW_REF);
+            return true;
+        }
+
+        private void writeInterned(String value) {
+            if (writeRef(strings, value)) {
+                writeString(value);
+            }
+        }
+
+        private void writeEnum(Enum<?> value) {
+            writeInterned(value != null ? value.name() : null);
+        }
+
+        private void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+            }
+            else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(bytes.length + 1);
+                out.write(bytes);
+            }
+        }
+
+        private void writeSessionYear(SessionYear sessionYear) {
+            writeVarInt(sessionYear != null ? sessionYear.getYear() : 0);
+        }
+
+        private void writeDate(LocalDate date) {
+            writeBoolean(date != null);
+            if (date != null) {
+                writeSignedVarLong(date.toEpochDay());
+            }
+        }
+
+        private void writeDateTime(LocalDateTime dateTime) {
+            writeBoolean(dateTime != null);
+            if (dateTime != null) {
+                writeSignedVarLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                writeVarInt(dateTime.getNano());
+            }
+        }
+
+        private void writeBoolean(boolean value) {
+            out.writeBoolean(value);
+        }
+
+        private void writeNullableBoolean(Boolean value) {
+            out.writeByte(value == null ? 0 : (value ? 2 : 1));
+        }
+
+        private void writeNullableInt(Integer value) {
+            writeBoolean(value != null);
+            if (value != null) {
+                writeSignedVarLong(value);
+            }
+        }
+
+        private void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+    }
+
+    /** --- Decoding --- */
+
+    private static class Decoder
+    {
+        private final ByteArrayDataInput in;
+
+        private final List<String> strings = new ArrayList<>();
+        private final List<BillId> billIds = new ArrayList<>();
+        private final List<Member> members = new ArrayList<>();
+
+        private Decoder(byte[] data) {
+            this.in = ByteStreams.newDataInput(data);
+        }
+
+        private Bill readBill() {
+            Bill bill = new Bill(readBaseBillId());
+            readBaseContent(bill);
+            bill.setTitle(readString());
+            bill.setSummary(readString());
+            Version activeVersion = readEnum(Version.class);
+            bill.setStatus(readBillStatus());
+            LinkedList<BillStatus> milestones = new LinkedList<>();
+            for (int i = readVarInt(); i > 0; i--) {
+                milestones.add(readBillStatus());
+            }
+            bill.setMilestones(milestones);
+
+            for (int i = readVarInt(); i > 0; i--) {
+                bill.addAmendment(readAmendment());
+            }
+            // Set after the amendments are added, otherwise an empty amendment would be created.
+            bill.setActiveVersion(activeVersion);
+            for (int i = readVarInt(); i > 0; i--) {
+                bill.updatePublishStatus(readEnum(Version.class), readPublishStatus());
+            }
+
+            for (int i = readVarInt(); i > 0; i--) {
+                VetoMessage veto = readVetoMessage();
+                bill.getVetoMessages().put(veto.getVetoId(), veto);
+            }
+            if (in.readBoolean()) {
+                bill.setApprovalMessage(readApprovalMessage());
+            }
+
+            bill.setSponsor(readSponsor());
+            bill.setAdditionalSponsors(readMembers());
+            for (int i = readVarInt(); i > 0; i--) {
+                bill.addPastCommittee(readCommitteeVersionId());
+            }
+            bill.setActions(readActions());
+            bill.setSubstitutedBy(readBaseBillId());
+            for (int i = readVarInt(); i > 0; i--) {
+                bill.addPreviousVersion(readBillId());
+            }
+
+            if (in.readBoolean()) {
+                bill.setProgramInfo(new ProgramInfo(readString(), readVarInt()));
+            }
+            for (int i = readVarInt(); i > 0; i--) {
+                AgendaId agendaId = new AgendaId(readVarLong(), readVarInt());
+                bill.getCommitteeAgendas().add(new CommitteeAgendaId(agendaId, readCommitteeId()));
+            }
+            for (int i = readVarInt(); i > 0; i--) {
+                bill.getCalendars().add(new CalendarId(readVarInt(), readVarInt()));
+            }
+            bill.setChapterNum(readNullableInt());
+            bill.setChapterYear(readNullableInt());
+            return bill;
+        }
+
+        private BillAmendment readAmendment() {
+            Version version = readEnum(Version.class);
+            BillAmendment amendment = new BillAmendment(readBaseBillId(), version);
+            for (int i = readVarInt(); i > 0; i--) {
+                amendment.getSameAs().add(readBillId());
+            }
+            amendment.setMemo(readString());
+            amendment.setLawSection(readInterned());
+            amendment.setLaw(readString());
+            amendment.setActClause(readString());
+            amendment.setFullText(readString());
+            if (in.readBoolean()) {
+                amendment.setCurrentCommittee(readCommitteeVersionId());
+            }
+            amendment.setCoSponsors(readMembers());
+            amendment.setMultiSponsors(readMembers());
+            amendment.setStricken(readNullableBoolean());
+            amendment.setUniBill(readNullableBoolean());
+            List<BillVote> votes = new ArrayList<>();
+            for (int i = readVarInt(); i > 0; i--) {
+                votes.add(readVote());
+            }
+            amendment.setVotesMap(votes);
+            return amendment;
+        }
+
+        private BillVote readVote() {
+            BillVote vote = new BillVote();
+            vote.setBillId(readBillId());
+            readBaseContent(vote);
+            vote.setVoteType(readEnum(BillVoteType.class));
+            vote.setVoteDate(readDate());
+            vote.setSequenceNo(readVarInt());
+            vote.setCommitteeId(readCommitteeId());
+            for (int i = readVarInt(); i > 0; i--) {
+                BillVoteCode code = readEnum(BillVoteCode.class);
+                for (int j = readVarInt(); j > 0; j--) {
+                    vote.addMemberVote(code, readMember());
+                }
+            }
+            return vote;
+        }
+
+        private List<BillAction> readActions() {
+            int size = readVarInt();
+            List<BillAction> actions = new ArrayList<>(size);
+            long prevEpochDay = 0;
+            int prevSequenceNo = 0;
+            for (int i = 0; i < size; i++) {
+                BillId billId = readBillId();
+                LocalDate date = null;
+                if (in.readBoolean()) {
+                    prevEpochDay += readSignedVarLong();
+                    date = LocalDate.ofEpochDay(prevEpochDay);
+                }
+                prevSequenceNo += (int) readSignedVarLong();
+                Chamber chamber = readEnum(Chamber.class);
+                actions.add(new BillAction(date, readString(), chamber, prevSequenceNo, billId));
+            }
+            return actions;
+        }
+
+        private BillStatus readBillStatus() {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            BillStatusType statusType = readEnum(BillStatusType.class);
+            int actionSequenceNo = readVarInt();
+            BillStatus status = new BillStatus(statusType, readDate());
+            status.setActionSequenceNo(actionSequenceNo);
+            status.setCommitteeId(readCommitteeId());
+            status.setCalendarNo(readNullableInt());
+            return status;
+        }
+
+        private PublishStatus readPublishStatus() {
+            boolean published = in.readBoolean();
+            LocalDateTime effectDateTime = readDateTime();
+            return new PublishStatus(published, effectDateTime, in.readBoolean(), readString());
+        }
+
+        private VetoMessage readVetoMessage() {
+            VetoMessage veto = new VetoMessage();
+            readBaseContent(veto);
+            veto.setBillId(readBaseBillId());
+            veto.setVetoNumber(readVarInt());
+            veto.setMemoText(readString());
+            veto.setType(readEnum(VetoType.class));
+            veto.setChapter(readVarInt());
+            veto.setBillPage(readVarInt());
+            veto.setLineStart(readVarInt());
+            veto.setLineEnd(readVarInt());
+            veto.setSigner(readInterned());
+            veto.setSignedDate(readDate());
+            return veto;
+        }
+
+        private ApprovalMessage readApprovalMessage() {
+            ApprovalMessage approval = new ApprovalMessage();
+            readBaseContent(approval);
+            approval.setBillId(readBillId());
+            approval.setApprovalNumber(readVarInt());
+            approval.setMemoText(readString());
+            approval.setChapter(readVarInt());
+            approval.setSigner(readInterned());
+            return approval;
+        }
+
+        private BillSponsor readSponsor() {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            BillSponsor sponsor = new BillSponsor(readMember());
+            sponsor.setBudget(in.readBoolean());
+            sponsor.setRules(in.readBoolean());
+            return sponsor;
+        }
+
+        private List<Member> readMembers() {
+            int size = readVarInt();
+            List<Member> memberList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                memberList.add(readMember());
+            }
+            return memberList;
+        }
+
+        private Member readMember() {
+            int ref = readVarInt();
+            if (ref != NEW_REF) {
+                return ref == NULL_REF ? null : members.get(ref - 2);
+            }
+            Member member = new Member();
+            member.setId(readNullableInt());
+            member.setMemberId(readVarInt());
+            member.setSessionMemberId(readVarInt());
+            member.setLbdcShortName(readInterned());
+            member.setSessionYear(readSessionYear());
+            member.setChamber(readEnum(Chamber.class));
+            member.setIncumbent(in.readBoolean());
+            member.setDistrictCode(readNullableInt());
+            member.setPrefix(readInterned());
+            member.setFullName(readInterned());
+            member.setFirstName(readInterned());
+            member.setMiddleName(readInterned());
+            member.setLastName(readInterned());
+            member.setSuffix(readInterned());
+            member.setEmail(readInterned());
+            member.setImgName(readInterned());
+            members.add(member);
+            return member;
+        }
+
+        private BaseBillId readBaseBillId() {
+            return (BaseBillId) readBillId();
+        }
+
+        private BillId readBillId() {
+            int ref = readVarInt();
+            if (ref != NEW_REF) {
+                return ref == NULL_REF ? null : billIds.get(ref - 2);
+            }
+            boolean base = in.readBoolean();
+            String basePrintNo = readInterned();
+            SessionYear session = readSessionYear();
+            Version version = readEnum(Version.class);
+            BillId billId = base ? new BaseBillId(basePrintNo, session)
+                                 : new BillId(basePrintNo, session, version);
+            billIds.add(billId);
+            return billId;
+        }
+
+        private CommitteeId readCommitteeId() {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            Chamber chamber = readEnum(Chamber.class);
+            return new CommitteeId(chamber, readInterned());
+        }
+
+        private CommitteeVersionId readCommitteeVersionId() {
+            CommitteeId committeeId = readCommitteeId();
+            SessionYear session = readSessionYear();
+            return new CommitteeVersionId(committeeId, session, readDateTime());
+        }
+
+        private void readBaseContent(BaseLegislativeContent content) {
+            content.setSession(readSessionYear());
+            int year = readVarInt();
+            content.setModifiedDateTime(readDateTime());
+            content.setPublishedDateTime(readDateTime());
+            // Bill derives the year when the published date is set, so the stored year is applied afterwards.
+            content.setYear(year);
+        }
+
+        /** --- Primitives --- */
+
+        private String readInterned() {
+            int ref = readVarInt();
+            if (ref != NEW_REF) {
+                return ref == NULL_REF ? null : strings.get(ref - 2);
+            }
+            String value = readString();
+            strings.add(value);
+            return value;
+        }
+
+        private <E extends Enum<E>> E readEnum(Class<E> enumType) {
+            String name = readInterned();
+            return name != null ? Enum.valueOf(enumType, name) : null;
+        }
+
+        private String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length - 1];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private SessionYear readSessionYear() {
+            int year = readVarInt();
+            return year != 0 ? SessionYear.of(year) : null;
+        }
+
+        private LocalDate readDate() {
+            return in.readBoolean() ? LocalDate.ofEpochDay(readSignedVarLong()) : null;
+        }
+
+        private LocalDateTime readDateTime() {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            long epochSecond = readSignedVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+        }
+
+        private Boolean readNullableBoolean() {
+            int value = in.readUnsignedByte();
+            return value == 0 ? null : value == 2;
+        }
+
+        private Integer readNullableInt() {
+            return in.readBoolean() ? (int) readSignedVarLong() : null;
+        }
+
+        private int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        private long readSignedVarLong() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable length number in encoded bill");
+        }
+    }
+}
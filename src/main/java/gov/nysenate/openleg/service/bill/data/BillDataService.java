@@ -28,6 +28,17 @@ public interface BillDataService
      */
     public Bill getBill(BaseBillId billId) throws BillNotFoundEx;
 
+    /**
+     * Retrieve a Bill instance for the matching BillId, optionally without the full text and memos
+     * of its amendments. Skipping the text avoids reading it from the database when the bill is cached.
+     *
+     * @param billId BaseBillId
+     * @param withText boolean - If false, the amendments' full text and memos may be left empty
+     * @return Bill
+     * @throws BillNotFoundEx - If no Bill matching the BillId was found.
+     */
+    public Bill getBill(BaseBillId billId, boolean withText) throws BillNotFoundEx;
+
     /**
      * Retrieve a BillInfo instance for the matching BillId. This contains
      * less information that the Bill for purposes of displaying in listings.
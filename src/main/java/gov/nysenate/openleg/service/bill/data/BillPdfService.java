@@ -0,0 +1,18 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.bill.BillPdf;
+
+public interface BillPdfService
+{
+    /**
+     * Retrieves the rendered PDF of the full text of the given bill amendment. The version of the
+     * bill id determines which amendment is rendered.
+     *
+     * @param billId BillId
+     * @return BillPdf
+     * @throws BillNotFoundEx if the bill could not be found.
+     * @throws BillAmendNotFoundEx if the bill does not have the specified amendment.
+     */
+    public BillPdf getBillPdf(BillId billId) throws BillNotFoundEx, BillAmendNotFoundEx;
+}
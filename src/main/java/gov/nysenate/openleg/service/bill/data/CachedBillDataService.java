@@ -6,18 +6,26 @@ import com.google.common.eventbus.Subscribe;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.bill.data.BillDao;
+import gov.nysenate.openleg.dao.bill.data.BillUpdatesDao;
 import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.base.Version;
 import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.bill.BillInfo;
 import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictYearEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmYearEvent;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
-import gov.nysenate.openleg.service.base.data.CachingService;
+import gov.nysenate.openleg.service.base.data.CacheStatsService;
+import gov.nysenate.openleg.service.base.data.CacheSnapshotFile;
+import gov.nysenate.openleg.service.base.data.SnapshotCachingService;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.model.updates.UpdateToken;
+import gov.nysenate.openleg.model.updates.UpdateType;
+import gov.nysenate.openleg.util.DateUtils;
 import gov.nysenate.openleg.util.OutputUtils;
 import net.sf.ehcache.*;
 import net.sf.ehcache.Cache;
@@ -34,27 +42,35 @@ import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Data service layer for retrieving and updating bill data. This implementation makes use of
  * in-memory caches to reduce the number of database queries involved in retrieving bill data.
  */
 @Service
-public class CachedBillDataService implements BillDataService, CachingService<BaseBillId>
+public class CachedBillDataService implements BillDataService, SnapshotCachingService<BaseBillId>
 {
     private static final Logger logger = LoggerFactory.getLogger(CachedBillDataService.class);
 
     @Autowired private CacheManager cacheManager;
     @Autowired private BillDao billDao;
+    @Autowired private BillUpdatesDao billUpdatesDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheStatsService cacheStatsService;
 
     @Value("${bill.cache.size}") private long billCacheSizeMb;
     @Value("${bill-info.cache.size}") private long billInfoCacheSizeMb;
 
+    /** Store bills in the bill cache encoded via BillCodec instead of as object graphs. */
+    @Value("${bill.cache.binary:false}") private boolean binaryBillCache;
+
     private static final String billCacheName = "bills";
     private static final String billInfoCacheName = "billInfos";
 
@@ -163,24 +179,133 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
         }
     }
 
+    /**
+     * Loads all bills from the given session year into the bill cache.
+     */
+    @Subscribe
+    public synchronized void handleCacheWarmYearEvent(CacheWarmYearEvent warmYearEvent) {
+        if (warmYearEvent.affects(ContentCache.BILL)) {
+            SessionYear sessionYear = SessionYear.of(warmYearEvent.getYear());
+            logger.info("Caching Bill instances for session year: {}", sessionYear);
+            getBillIds(sessionYear, LimitOffset.ALL).forEach(this::getBill);
+        }
+    }
+
+    /**
+     * Evicts all bills and bill infos from the given session year.
+     */
+    @Subscribe
+    public void handleCacheEvictYearEvent(CacheEvictYearEvent evictYearEvent) {
+        if (evictYearEvent.affects(ContentCache.BILL)) {
+            SessionYear sessionYear = SessionYear.of(evictYearEvent.getYear());
+            logger.info("Evicting bills for session year: {}", sessionYear);
+            getCaches().forEach(cache -> {
+                @SuppressWarnings("unchecked")
+                List<BaseBillId> billIds = cache.getKeys();
+                cache.removeAll(billIds.stream()
+                    .filter(billId -> billId.getSession().equals(sessionYear))
+                    .collect(Collectors.toList()));
+            });
+        }
+    }
+
+    /** --- SnapshotCachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSnapshotName() {
+        return billCacheName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSnapshotContentVersion() {
+        return BillCodec.FORMAT_VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Only the bill cache is written. Bill infos are cheap to load individually.
+     */
+    @Override
+    public void writeSnapshot(CacheSnapshotFile.Writer writer) throws IOException {
+        @SuppressWarnings("unchecked")
+        List<BaseBillId> billIds = billCache.getKeys();
+        for (BaseBillId billId : billIds) {
+            Element element = billCache.getQuiet(billId);
+            if (element != null) {
+                Object value = element.getObjectValue();
+                writer.write(billId.getBasePrintNo() + "-" + billId.getSession().getYear(),
+                             (value instanceof byte[]) ? (byte[]) value : BillCodec.encode((Bill) value));
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean loadSnapshotEntry(String key, byte[] value) {
+        int separator = key.lastIndexOf('-');
+        BaseBillId billId = new BaseBillId(key.substring(0, separator), Integer.parseInt(key.substring(separator + 1)));
+        billCache.put(new Element(billId, binaryBillCache ? value : BillCodec.decode(value)));
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Bills that were updated after the watermark are evicted, and reloaded if they were in the snapshot.
+     */
+    @Override
+    public int replayChangesSince(LocalDateTime watermark) {
+        Range<LocalDateTime> updateRange = Range.closed(watermark, DateUtils.THE_FUTURE.atStartOfDay());
+        List<BaseBillId> updatedBillIds = billUpdatesDao.getUpdates(updateRange, UpdateType.PROCESSED_DATE, null,
+                                                                    SortOrder.ASC, LimitOffset.ALL)
+            .getResults().stream()
+            .map(UpdateToken::getId)
+            .distinct()
+            .collect(Collectors.toList());
+        for (BaseBillId billId : updatedBillIds) {
+            boolean cached = billCache.isKeyInCache(billId);
+            evictContent(billId);
+            if (cached) {
+                try {
+                    getBill(billId);
+                }
+                catch (BillNotFoundEx ex) {
+                    logger.warn("Bill {} from the snapshot no longer exists", billId);
+                }
+            }
+        }
+        return updatedBillIds.size();
+    }
+
     /** --- BillDataService implementation --- */
 
     /** {@inheritDoc} */
     @Override
     public Bill getBill(BaseBillId billId) throws BillNotFoundEx {
+        return getBill(billId, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Bill getBill(BaseBillId billId, boolean withText) throws BillNotFoundEx {
         if (billId == null) {
             throw new IllegalArgumentException("BillId cannot be null");
         }
         try {
             Bill bill;
             if (billCache.get(billId) != null) {
-                bill = constructBillFromCache(billId);
+                bill = constructBillFromCache(billId, withText);
                 logger.debug("Cache hit for bill {}", bill);
             }
             else {
                 logger.debug("Fetching bill {}..", billId);
+                long loadStart = System.nanoTime();
                 bill = billDao.getBill(billId);
                 putStrippedBillInCache(bill);
+                cacheStatsService.recordLoad(billCacheName, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - loadStart));
             }
             return bill;
         }
@@ -200,14 +325,16 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
             throw new IllegalArgumentException("BillId cannot be null");
         }
         if (billCache.get(billId) != null) {
-            return new BillInfo((Bill) billCache.get(billId).getObjectValue());
+            return new BillInfo(readCachedBill(billCache.get(billId)));
         }
         if (billInfoCache.get(billId) != null) {
             return (BillInfo) billInfoCache.get(billId).getObjectValue();
         }
         try {
+            long loadStart = System.nanoTime();
             BillInfo billInfo = billDao.getBillInfo(billId);
             billInfoCache.put(new Element(billId, billInfo));
+            cacheStatsService.recordLoad(billInfoCacheName, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - loadStart));
             return billInfo;
         }
         catch (EmptyResultDataAccessException ex) {
@@ -277,19 +404,34 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
 
     /**
      * Retrieves the bill from the cache. You must check that the bill exists prior to calling this
-     * method. The fulltext and memo are put back into a copy of the cached bill.
+     * method. The fulltext and memo are put back into a copy of the cached bill if requested.
      *
      * @param billId BaseBillId
+     * @param withText boolean - If true, the fulltext and memo are read from the database
      * @return Bill
      * @throws CloneNotSupportedException
      */
-    private Bill constructBillFromCache(BaseBillId billId) throws CloneNotSupportedException {
-        Bill cachedBill = (Bill) billCache.get(billId).getObjectValue();
-        cachedBill = cachedBill.shallowClone();
-        billDao.applyText(cachedBill);
+    private Bill constructBillFromCache(BaseBillId billId, boolean withText) throws CloneNotSupportedException {
+        Element element = billCache.get(billId);
+        // A decoded bill is already a private copy
+        Bill cachedBill = element.getObjectValue() instanceof byte[]
+            ? readCachedBill(element)
+            : readCachedBill(element).shallowClone();
+        if (withText) {
+            billDao.applyText(cachedBill);
+        }
         return cachedBill;
     }
 
+    /**
+     * Reads the bill held by a bill cache element, which is either a Bill or a Bill encoded via BillCodec.
+     * A Bill read from the element is shared with the cache and must not be modified.
+     */
+    private Bill readCachedBill(Element element) {
+        Object value = element.getObjectValue();
+        return (value instanceof byte[]) ? BillCodec.decode((byte[]) value) : (Bill) value;
+    }
+
     /**
      * In order to cache bills effectively, we strip out the memos and full text from the bill first
      * to save some heap space.
@@ -303,7 +445,8 @@ public class CachedBillDataService implements BillDataService, CachingService<Ba
                     ba.setMemo("");
                     ba.setFullText("");
                 });
-                this.billCache.put(new Element(cacheBill.getBaseBillId(), cacheBill));
+                this.billCache.put(new Element(cacheBill.getBaseBillId(),
+                    binaryBillCache ? BillCodec.encode(cacheBill) : cacheBill));
                 // Remove entry from the bill info cache if it exists
                 this.billInfoCache.remove(cacheBill.getBaseBillId());
             }
@@ -0,0 +1,280 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.client.view.bill.BillPdfView;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.bill.BillPdf;
+import gov.nysenate.openleg.model.cache.CacheEvictEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.service.bill.event.BulkBillUpdateEvent;
+import gov.nysenate.openleg.util.OpenlegThreadFactory;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheException;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.MemoryUnit;
+import net.sf.ehcache.config.PersistenceConfiguration;
+import org.apache.pdfbox.exceptions.COSVisitorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static net.sf.ehcache.config.PersistenceConfiguration.Strategy.LOCALTEMPSWAP;
+
+/**
+ * Renders bill PDFs and memoizes the results in a cache that overflows to disk. When a bill is updated, only the
+ * cached PDFs whose publish date time or rendered text changed are evicted. Stale amendments that were published
+ * recently are rendered again in the background so that the first request for a newly published amendment does not
+ * have to wait on rendering.
+ */
+@Service
+public class CachedBillPdfService implements BillPdfService, CachingService<BaseBillId>
+{
+    private static final Logger logger = LoggerFactory.getLogger(CachedBillPdfService.class);
+
+    /** Amendments published within this many days of a bill update are pre-rendered. */
+    private static final int PRERENDER_PUBLISH_WINDOW_DAYS = 7;
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private BillDataService billDataService;
+    @Autowired private EventBus eventBus;
+
+    @Value("${bill-pdf.cache.size:50}") private long billPdfCacheSizeMb;
+    @Value("${bill-pdf.cache.disk.size:500}") private long billPdfCacheDiskSizeMb;
+
+    private static final String billPdfCacheName = "billPdfs";
+
+    private Cache billPdfCache;
+
+    /** Renders that are currently in progress, used to avoid rendering the same amendment concurrently. */
+    private final ConcurrentMap<BillId, CompletableFuture<BillPdf>> pendingRenders = new ConcurrentHashMap<>();
+
+    /** Executes the background pre-rendering of newly published amendments. */
+    private ExecutorService prerenderExecutor;
+
+    @PostConstruct
+    private void init() {
+        setupCaches();
+        prerenderExecutor = Executors.newFixedThreadPool(2, new OpenlegThreadFactory("bill-pdf"));
+        eventBus.register(this);
+    }
+
+    @PreDestroy
+    private void cleanUp() {
+        prerenderExecutor.shutdownNow();
+        evictCaches();
+        cacheManager.removeCache(billPdfCacheName);
+    }
+
+    /** --- BillPdfService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public BillPdf getBillPdf(BillId billId) throws BillNotFoundEx, BillAmendNotFoundEx {
+        if (billId == null) {
+            throw new IllegalArgumentException("BillId cannot be null");
+        }
+        BillId cacheKey = getCacheKey(billId);
+        Element element = billPdfCache.get(cacheKey);
+        if (element != null) {
+            logger.debug("Cache hit for bill pdf {}", billId);
+            return (BillPdf) element.getObjectValue();
+        }
+        Bill bill = billDataService.getBill(BaseBillId.of(billId));
+        if (!bill.hasAmendment(billId.getVersion())) {
+            throw new BillAmendNotFoundEx(billId);
+        }
+        return render(bill, billId.getVersion());
+    }
+
+    /** --- CachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void setupCaches() {
+        // The rendered documents are plain byte arrays so the least recently used ones can be swapped to disk.
+        this.billPdfCache = new Cache(new CacheConfiguration().name(billPdfCacheName)
+            .eternal(true)
+            .maxBytesLocalHeap(billPdfCacheSizeMb, MemoryUnit.MEGABYTES)
+            .maxBytesLocalDisk(billPdfCacheDiskSizeMb, MemoryUnit.MEGABYTES)
+            .persistence(new PersistenceConfiguration().strategy(LOCALTEMPSWAP))
+            .sizeOfPolicy(defaultSizeOfPolicy()));
+        cacheManager.addCache(this.billPdfCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Ehcache> getCaches() {
+        return Collections.singletonList(billPdfCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictContent(BaseBillId baseBillId) {
+        logger.debug("evicting pdfs for {}", baseBillId);
+        for (Version version : Version.values()) {
+            BillId cacheKey = getCacheKey(baseBillId.withVersion(version));
+            pendingRenders.remove(cacheKey);
+            billPdfCache.remove(cacheKey);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public synchronized void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (evictEvent.affects(ContentCache.BILL_PDF)) {
+            evictCaches();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<BaseBillId> evictIdEvent) {
+        if (evictIdEvent.affects(ContentCache.BILL_PDF)) {
+            evictContent(evictIdEvent.getContentId());
+        }
+    }
+
+    /**
+     * PDFs are rendered on demand and when amendments are published so there is nothing to pre-load here.
+     */
+    @Override
+    public void warmCaches() {
+        evictCaches();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public synchronized void handleCacheWarmEvent(CacheWarmEvent warmEvent) {
+        if (warmEvent.affects(ContentCache.BILL_PDF)) {
+            warmCaches();
+        }
+    }
+
+    /** --- Event Handlers --- */
+
+    @Subscribe
+    public void handleBillUpdate(BillUpdateEvent billUpdateEvent) {
+        refreshBillPdfs(billUpdateEvent.getBill());
+    }
+
+    @Subscribe
+    public void handleBulkBillUpdate(BulkBillUpdateEvent bulkBillUpdateEvent) {
+        bulkBillUpdateEvent.getBills().forEach(this::refreshBillPdfs);
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Evicts the PDFs of the updated bill that no longer match its amendments and queues up rendering of any of
+     * those amendments that were recently published.
+     */
+    private void refreshBillPdfs(Bill bill) {
+        BaseBillId baseBillId = bill.getBaseBillId();
+        LocalDateTime publishCutoff = LocalDateTime.now().minusDays(PRERENDER_PUBLISH_WINDOW_DAYS);
+        for (Version version : Version.values()) {
+            BillId cacheKey = getCacheKey(baseBillId.withVersion(version));
+            Element element = billPdfCache.getQuiet(cacheKey);
+            Optional<PublishStatus> pubStatus = bill.getPublishStatus(version);
+            if (element != null && bill.hasAmendment(version) && ((BillPdf) element.getObjectValue()).isRenderedFrom(
+                    pubStatus.map(PublishStatus::getEffectDateTime).orElse(null), getSourceHash(bill, version))) {
+                continue;
+            }
+            // Renders in progress may be using the bill from before this update
+            pendingRenders.remove(cacheKey);
+            billPdfCache.remove(cacheKey);
+            if (bill.hasAmendment(version) && pubStatus.isPresent() && pubStatus.get().isPublished()
+                    && pubStatus.get().getEffectDateTime().isAfter(publishCutoff)) {
+                prerenderExecutor.execute(() -> {
+                    try {
+                        getBillPdf(cacheKey);
+                    }
+                    catch (RuntimeException ex) {
+                        logger.warn("Failed to pre-render pdf for {}: {}", cacheKey, ex.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Renders the pdf for the given bill amendment and caches the result. If the amendment is already
+     * being rendered, the result of that render is used instead.
+     */
+    private BillPdf render(Bill bill, Version version) {
+        BillId billId = bill.getBaseBillId().withVersion(version);
+        BillId cacheKey = getCacheKey(billId);
+        CompletableFuture<BillPdf> future = new CompletableFuture<>();
+        CompletableFuture<BillPdf> pendingRender = pendingRenders.putIfAbsent(cacheKey, future);
+        if (pendingRender != null) {
+            try {
+                return pendingRender.join();
+            }
+            catch (CompletionException ex) {
+                throw (ex.getCause() instanceof RuntimeException) ? (RuntimeException) ex.getCause() : ex;
+            }
+        }
+        try {
+            ByteArrayOutputStream pdfBytes = new ByteArrayOutputStream();
+            new BillPdfView(bill, version, pdfBytes);
+            LocalDateTime publishDateTime =
+                bill.getPublishStatus(version).map(PublishStatus::getEffectDateTime).orElse(null);
+            BillPdf billPdf = new BillPdf(billId, publishDateTime, getSourceHash(bill, version), pdfBytes.toByteArray());
+            // Only cache the result if the bill's pdfs were not evicted while rendering
+            if (pendingRenders.remove(cacheKey, future)) {
+                billPdfCache.put(new Element(cacheKey, billPdf));
+            }
+            future.complete(billPdf);
+            return billPdf;
+        }
+        catch (IOException | COSVisitorException ex) {
+            CacheException cacheEx = new CacheException("Failed to render pdf for " + billId + ": " + ex.getMessage());
+            future.completeExceptionally(cacheEx);
+            throw cacheEx;
+        }
+        catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+        finally {
+            pendingRenders.remove(cacheKey, future);
+        }
+    }
+
+    /** Hashes the parts of the bill that are rendered into the pdf of the given amendment. */
+    private static int getSourceHash(Bill bill, Version version) {
+        return Objects.hash(bill.isResolution(), bill.getAmendment(version).getFullText());
+    }
+
+    /** Cache keys are plain BillIds so that base and versioned ids of the same amendment are equal. */
+    private static BillId getCacheKey(BillId billId) {
+        return new BillId(billId.getBasePrintNo(), billId.getSession(), billId.getVersion());
+    }
+}
@@ -16,6 +16,16 @@ public class BillUpdateEvent extends ContentUpdateEvent
         this.bill = bill;
     }
 
+    /** --- Overrides --- */
+
+    /**
+     * Bills are modified in place as later fragments are processed, so the copy holds a deep copy of the bill.
+     */
+    @Override
+    public BillUpdateEvent copy() {
+        return new BillUpdateEvent(bill.deepClone(), updateDateTime);
+    }
+
     /** --- Basic Getters/Setters --- */
 
     public Bill getBill() {
@@ -5,6 +5,7 @@ import gov.nysenate.openleg.service.base.data.ContentUpdateEvent;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.stream.Collectors;
 
 public class BulkBillUpdateEvent extends ContentUpdateEvent
 {
@@ -15,6 +16,15 @@ public class BulkBillUpdateEvent extends ContentUpdateEvent
         this.bills = bills;
     }
 
+    /**
+     * Bills are modified in place as later fragments are processed, so the copy holds deep copies of the bills.
+     */
+    @Override
+    public BulkBillUpdateEvent copy() {
+        return new BulkBillUpdateEvent(bills.stream().map(Bill::deepClone).collect(Collectors.toList()),
+                                       updateDateTime);
+    }
+
     public Collection<Bill> getBills() {
         return bills;
     }
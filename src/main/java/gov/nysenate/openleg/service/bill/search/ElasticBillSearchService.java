@@ -11,6 +11,8 @@ import gov.nysenate.openleg.model.base.SessionYear;
 import gov.nysenate.openleg.model.bill.BaseBillId;
 import gov.nysenate.openleg.model.bill.Bill;
 import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.process.DataProcessPhase;
+import gov.nysenate.openleg.model.process.DataProcessSpanEvent;
 import gov.nysenate.openleg.model.search.ClearIndexEvent;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
 import gov.nysenate.openleg.model.search.SearchException;
@@ -122,7 +124,10 @@ public class ElasticBillSearchService implements BillSearchService, IndexedSearc
     @Subscribe
     public void handleBulkBillUpdate(BulkBillUpdateEvent bulkBillUpdateEvent) {
         if (bulkBillUpdateEvent.getBills() != null) {
+            long indexStart = System.nanoTime();
             updateIndex(bulkBillUpdateEvent.getBills());
+            eventBus.post(new DataProcessSpanEvent("BILL", DataProcessPhase.INDEX, System.nanoTime() - indexStart,
+                                                   bulkBillUpdateEvent.getBills().size(), 0));
         }
     }
 
@@ -7,11 +7,14 @@ import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.calendar.data.CalendarDao;
 import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CacheEvictYearEvent;
+import gov.nysenate.openleg.model.cache.CacheWarmYearEvent;
 import gov.nysenate.openleg.model.cache.ContentCache;
 import gov.nysenate.openleg.model.calendar.*;
 import gov.nysenate.openleg.model.sobi.SobiFragment;
 import gov.nysenate.openleg.model.cache.CacheEvictEvent;
 import gov.nysenate.openleg.model.cache.CacheWarmEvent;
+import gov.nysenate.openleg.service.base.data.CacheStatsService;
 import gov.nysenate.openleg.service.base.data.CachingService;
 import gov.nysenate.openleg.service.calendar.event.CalendarUpdateEvent;
 import net.sf.ehcache.Cache;
@@ -33,6 +36,7 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,6 +47,7 @@ public class CachedCalendarDataService implements CalendarDataService, CachingSe
     @Autowired private CacheManager cacheManager;
     @Autowired private CalendarDao calendarDao;
     @Autowired private EventBus eventBus;
+    @Autowired private CacheStatsService cacheStatsService;
 
     @Value("${calendar.cache.size}") private long calendarCacheSizeMb;
 
@@ -120,6 +125,30 @@ public class CachedCalendarDataService implements CalendarDataService, CachingSe
         }
     }
 
+    /**
+     * Loads all calendars from the given year into the calendar cache.
+     */
+    @Subscribe
+    public synchronized void handleCacheWarmYearEvent(CacheWarmYearEvent warmYearEvent) {
+        if (warmYearEvent.affects(ContentCache.CALENDAR)) {
+            getCalendars(warmYearEvent.getYear(), SortOrder.ASC, LimitOffset.ALL);
+        }
+    }
+
+    /**
+     * Evicts all calendars from the given year.
+     */
+    @Subscribe
+    public void handleCacheEvictYearEvent(CacheEvictYearEvent evictYearEvent) {
+        if (evictYearEvent.affects(ContentCache.CALENDAR)) {
+            @SuppressWarnings("unchecked")
+            List<CalendarId> calendarIds = calendarCache.getKeys();
+            calendarCache.removeAll(calendarIds.stream()
+                .filter(calendarId -> calendarId.getYear() == evictYearEvent.getYear())
+                .collect(Collectors.toList()));
+        }
+    }
+
     /** --- CalendarDataService implementation --- */
 
     /** {@inheritDoc} */
@@ -135,8 +164,10 @@ public class CachedCalendarDataService implements CalendarDataService, CachingSe
             return (Calendar) element.getObjectValue();
         }
         try {
+            long loadStart = System.nanoTime();
             Calendar calendar = calendarDao.getCalendar(calendarId);
             calendarCache.put(new Element(calendarId, calendar));
+            cacheStatsService.recordLoad(calendarDataCache, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - loadStart));
             return calendar;
         }
         catch (DataAccessException ex) {
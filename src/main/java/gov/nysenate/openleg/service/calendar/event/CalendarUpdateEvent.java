@@ -2,6 +2,7 @@ package gov.nysenate.openleg.service.calendar.event;
 
 import gov.nysenate.openleg.model.calendar.Calendar;
 import gov.nysenate.openleg.service.base.data.ContentUpdateEvent;
+import org.apache.commons.lang3.SerializationUtils;
 
 import java.time.LocalDateTime;
 
@@ -18,6 +19,15 @@ public class CalendarUpdateEvent extends ContentUpdateEvent {
         this(calendar, LocalDateTime.now());
     }
 
+    /**
+     * The posted calendar is the cached instance, which is modified in place as later fragments are processed,
+     * so the copy holds a snapshot of the calendar.
+     */
+    @Override
+    public CalendarUpdateEvent copy() {
+        return new CalendarUpdateEvent(SerializationUtils.clone(calendar), updateDateTime);
+    }
+
     public Calendar getCalendar() {
         return calendar;
     }
@@ -1,5 +1,6 @@
 package gov.nysenate.openleg.service.calendar.search;
 
+import gov.nysenate.openleg.client.view.calendar.SimpleCalendarView;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.model.calendar.Calendar;
 import gov.nysenate.openleg.model.calendar.CalendarActiveListId;
@@ -36,6 +37,31 @@ public interface CalendarSearchService extends IndexedSearchService<Calendar> {
     public SearchResults<CalendarId> searchForCalendarsByYear(Integer year, String query, String sort, LimitOffset limitOffset)
             throws SearchException;
 
+    /**
+     * Performs a generic search of all calendar types, returning simple views of the matching calendars
+     * that are read from the search index.
+     *
+     * @param query
+     * @param sort
+     * @return SearchResults<SimpleCalendarView> Simple views of the calendars that match the given search parameters
+     * @throws SearchException When there is a search related error
+     */
+    public SearchResults<SimpleCalendarView> searchForSimpleCalendars(String query, String sort, LimitOffset limitOffset)
+            throws SearchException;
+
+    /**
+     * Performs a search of all calendar types that were published on a given year, returning simple views of the
+     * matching calendars that are read from the search index.
+     *
+     * @param year
+     * @param query
+     * @param sort
+     * @return SearchResults<SimpleCalendarView> Simple views of the calendars that match the given search parameters
+     * @throws SearchException When there is a search related error
+     */
+    public SearchResults<SimpleCalendarView> searchForSimpleCalendarsByYear(Integer year, String query, String sort,
+                                                                            LimitOffset limitOffset) throws SearchException;
+
     /**
      * Handles a calendar update event by indexing the updated calendar into the search index
      *
@@ -3,6 +3,7 @@ package gov.nysenate.openleg.service.calendar.search;
 import com.google.common.collect.Range;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.client.view.calendar.SimpleCalendarView;
 import gov.nysenate.openleg.config.Environment;
 import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
@@ -10,6 +11,8 @@ import gov.nysenate.openleg.dao.base.SortOrder;
 import gov.nysenate.openleg.dao.calendar.search.ElasticCalendarSearchDao;
 import gov.nysenate.openleg.model.calendar.Calendar;
 import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.process.DataProcessPhase;
+import gov.nysenate.openleg.model.process.DataProcessSpanEvent;
 import gov.nysenate.openleg.model.search.ClearIndexEvent;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
 import gov.nysenate.openleg.model.search.SearchException;
@@ -57,6 +60,22 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
         return searchCalendars(getCalendarYearQuery(year, smartSearch(query)), null, sort, limitOffset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<SimpleCalendarView> searchForSimpleCalendars(String query, String sort, LimitOffset limitOffset)
+            throws SearchException {
+        return search(QueryBuilders.queryString(smartSearch(query)), null, sort, limitOffset,
+                      calendarSearchDao::searchSimpleCalendars);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SearchResults<SimpleCalendarView> searchForSimpleCalendarsByYear(Integer year, String query, String sort,
+                                                                            LimitOffset limitOffset) throws SearchException {
+        return search(getCalendarYearQuery(year, smartSearch(query)), null, sort, limitOffset,
+                      calendarSearchDao::searchSimpleCalendars);
+    }
+
     /** {@inheritDoc} */
     @Subscribe
     @Override
@@ -69,7 +88,10 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
     @Subscribe
     @Override
     public void handleBulkCalendarUpdateEvent(BulkCalendarUpdateEvent bulkCalendarUpdateEvent) {
+        long indexStart = System.nanoTime();
         updateIndex(bulkCalendarUpdateEvent.getCalendars());
+        eventBus.post(new DataProcessSpanEvent("CALENDAR", DataProcessPhase.INDEX, System.nanoTime() - indexStart,
+                                               bulkCalendarUpdateEvent.getCalendars().size(), 0));
     }
 
     /** {@inheritDoc} */
@@ -154,11 +176,27 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
      */
     private SearchResults<CalendarId> searchCalendars(QueryBuilder query, FilterBuilder postFilter,
                                              String sort, LimitOffset limitOffset) throws SearchException {
+        return search(query, postFilter, sort, limitOffset, calendarSearchDao::searchCalendars);
+    }
+
+    /**
+     * Performs a search on the calendar index with the given search dao method, handling any exceptions that may arise
+     *
+     * @param query
+     * @param postFilter
+     * @param sort
+     * @param limitOffset
+     * @param searchMethod
+     * @return
+     * @throws SearchException
+     */
+    private <R> SearchResults<R> search(QueryBuilder query, FilterBuilder postFilter, String sort, LimitOffset limitOffset,
+                                        CalendarSearchMethod<R> searchMethod) throws SearchException {
         if (limitOffset == null) {
             limitOffset = LimitOffset.ALL;
         }
         try {
-            return calendarSearchDao.searchCalendars(query, postFilter, sort, limitOffset);
+            return searchMethod.search(query, postFilter, sort, limitOffset);
         } catch (SearchParseException ex) {
             throw new SearchException("There was a problem parsing the supplied query string.", ex);
         } catch (Exception ex) {
@@ -166,6 +204,12 @@ public class ElasticCalendarSearchService implements CalendarSearchService {
         }
     }
 
+    @FunctionalInterface
+    private interface CalendarSearchMethod<R>
+    {
+        SearchResults<R> search(QueryBuilder query, FilterBuilder postFilter, String sort, LimitOffset limitOffset);
+    }
+
     private String smartSearch(String query) {
         if (query != null && !query.contains(":")) {
             Matcher matcher = CalendarId.calendarIdPattern.matcher(query.replace("\\s+", ""));
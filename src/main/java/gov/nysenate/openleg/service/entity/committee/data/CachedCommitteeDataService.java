@@ -141,11 +141,8 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
         if (committeeSessionId == null) {
             throw new IllegalArgumentException("committeeSessionId cannot be null!");
         }
-        try {
-            return getCommitteeHistory(committeeSessionId).get(0);
-        } catch (IndexOutOfBoundsException ex) {
-            throw new CommitteeNotFoundEx(committeeSessionId, ex);
-        }
+        return getCommitteeTimeline(committeeSessionId).getLatest()
+            .orElseThrow(() -> new CommitteeNotFoundEx(committeeSessionId, null));
     }
 
     /** {@inheritDoc} */
@@ -154,15 +151,8 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
         if (committeeVersionId == null) {
             throw new IllegalArgumentException("committeeVersionId cannot be null!");
         }
-        LocalDateTime refDate = committeeVersionId.getReferenceDate();
-        for (Committee committee : getCommitteeHistory(committeeVersionId)) {
-            if ( committee.getCreated().equals(refDate) ||
-                     committee.getCreated().isBefore(refDate)  &&
-                    (committee.getReformed()==null || committee.getReformed().isAfter(refDate)) ) {
-                return committee;
-            }
-        }
-        throw new CommitteeNotFoundEx(committeeVersionId, null);
+        return getCommitteeTimeline(committeeVersionId).getCommittee(committeeVersionId.getReferenceDate())
+            .orElseThrow(() -> new CommitteeNotFoundEx(committeeVersionId, null));
     }
 
     /**
@@ -210,7 +200,6 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
     }
 
     /** {@inheritDoc} */
-    @SuppressWarnings("unchecked")
     @Override
     public List<Committee> getCommitteeHistory(CommitteeSessionId committeeSessionId,
                                                LimitOffset limitOffset, SortOrder order) throws CommitteeNotFoundEx {
@@ -218,25 +207,12 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
             throw new IllegalArgumentException("CommitteeSessionId cannot be null!");
         }
 
-        List<Committee> committeeHistory;
-
-        Element element = committeeCache.get(committeeSessionId);
-        if (element != null) {
-            logger.debug("Committee cache hit for {}", committeeSessionId);
-            committeeHistory = (List<Committee>) element.getObjectValue();
-        }
-        else {
-            try {
-                committeeHistory = committeeDao.getCommitteeHistory(committeeSessionId);
-                committeeCache.put(new Element(committeeSessionId, committeeHistory));
-                logger.debug("Added committee history {} to cache", committeeSessionId);
-            }
-            catch (EmptyResultDataAccessException ex){
-                throw new CommitteeNotFoundEx(committeeSessionId, ex);
-            }
+        List<Committee> committeeHistory = getCommitteeTimeline(committeeSessionId).getHistory();
+        if (committeeHistory.isEmpty()) {
+            throw new CommitteeNotFoundEx(committeeSessionId, null);
         }
 
-        // The dao provides the result already in DESC order by created date
+        // The timeline provides the history in DESC order by created date
         if (order != null && order.equals(SortOrder.ASC)) {
             committeeHistory = Lists.reverse(committeeHistory);
         }
@@ -264,7 +240,13 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
             throw new IllegalArgumentException("Committee cannot be null.");
         }
         committeeDao.updateCommittee(committee, sobiFragment);
-        committeeCache.remove(committee.getSessionId());
+        // Apply the update to a cached timeline rather than reloading the whole history on the next read
+        Element element = committeeCache.get(committee.getSessionId());
+        if (element != null) {
+            CommitteeTimeline timeline = (CommitteeTimeline) element.getObjectValue();
+            timeline.update(committee);
+            committeeCache.put(new Element(committee.getSessionId(), timeline));
+        }
         eventBus.post(new CommitteeUpdateEvent(committee, LocalDateTime.now()));
     }
 
@@ -276,4 +258,28 @@ public class CachedCommitteeDataService implements CommitteeDataService, Caching
         }
         committeeDao.deleteCommittee(committeeId);
     }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Gets the membership timeline of a committee session from the cache, loading it from the stored
+     * committee history if it is not cached.
+     */
+    private CommitteeTimeline getCommitteeTimeline(CommitteeSessionId committeeSessionId) throws CommitteeNotFoundEx {
+        CommitteeSessionId timelineId = new CommitteeSessionId(committeeSessionId, committeeSessionId.getSession());
+        Element element = committeeCache.get(timelineId);
+        if (element != null) {
+            logger.debug("Committee cache hit for {}", timelineId);
+            return (CommitteeTimeline) element.getObjectValue();
+        }
+        try {
+            CommitteeTimeline timeline = new CommitteeTimeline(timelineId, committeeDao.getCommitteeHistory(timelineId));
+            committeeCache.put(new Element(timelineId, timeline));
+            logger.debug("Added committee timeline {} to cache", timelineId);
+            return timeline;
+        }
+        catch (EmptyResultDataAccessException ex) {
+            throw new CommitteeNotFoundEx(timelineId, ex);
+        }
+    }
 }
@@ -206,7 +206,8 @@ public class CachedLawDataService implements LawDataService, CachingService<LawV
     @Override
     public void saveLawTree(LawFile lawFile, LawTree lawTree) {
         if (lawTree == null) throw new IllegalArgumentException("Supplied lawTree cannot be null");
-        lawDataDao.updateLawTree(lawFile, lawTree);
+        int rowCount = lawDataDao.updateLawTree(lawFile, lawTree);
+        logger.info("Wrote {} law tree rows for {}", rowCount, lawTree.getLawVersionId());
         lawTreeCache.put(lawTree.getLawVersionId(), lawTree);
         maxPubDates.clear();
     }
@@ -218,4 +219,13 @@ public class CachedLawDataService implements LawDataService, CachingService<LawV
         if (lawFile == null) throw new IllegalArgumentException("Supplied lawFile cannot be null");
         lawDataDao.updateLawDocument(lawFile, lawDocument);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void saveLawDocuments(LawFile lawFile, Collection<LawDocument> lawDocuments) {
+        if (lawDocuments == null) throw new IllegalArgumentException("Supplied lawDocuments cannot be null");
+        if (lawFile == null) throw new IllegalArgumentException("Supplied lawFile cannot be null");
+        int rowCount = lawDataDao.updateLawDocuments(lawFile, lawDocuments);
+        logger.info("Wrote {} law document rows from {}", rowCount, lawFile.getFileName());
+    }
 }
@@ -3,6 +3,7 @@ package gov.nysenate.openleg.service.law.data;
 import gov.nysenate.openleg.model.law.*;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -74,4 +75,13 @@ public interface LawDataService
      * @param lawDocument LawDocument - The LawDocument to persist.
      */
     public void saveLawDocument(LawFile lawFile, LawDocument lawDocument);
+
+    /**
+     * Persists a collection of LawDocuments into the backing store in bulk, with LawFile used as a reference
+     * to the source data.
+     *
+     * @param lawFile LawFile - The LawFile instance that represents the source data.
+     * @param lawDocuments Collection<LawDocument> - The LawDocuments to persist.
+     */
+    public void saveLawDocuments(LawFile lawFile, Collection<LawDocument> lawDocuments);
 }
@@ -18,6 +18,7 @@ public class LawUpdateEvent extends ContentUpdateEvent
 
     public LawUpdateEvent(LawDocument lawDoc, LocalDateTime updateDateTime) {
         super(updateDateTime);
+        this.lawDoc = lawDoc;
     }
 
     /** --- Basic Getters --- */
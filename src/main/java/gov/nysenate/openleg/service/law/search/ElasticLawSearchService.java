@@ -7,7 +7,7 @@ import gov.nysenate.openleg.dao.base.LimitOffset;
 import gov.nysenate.openleg.dao.base.SearchIndex;
 import gov.nysenate.openleg.dao.law.data.LawDataDao;
 import gov.nysenate.openleg.dao.law.search.ElasticLawSearchDao;
-import gov.nysenate.openleg.model.law.LawDocId;
+import gov.nysenate.openleg.model.law.LawDocInfo;
 import gov.nysenate.openleg.model.law.LawDocument;
 import gov.nysenate.openleg.model.search.ClearIndexEvent;
 import gov.nysenate.openleg.model.search.RebuildIndexEvent;
@@ -51,13 +51,13 @@ public class ElasticLawSearchService implements LawSearchService, IndexedSearchS
 
     /** {@inheritDoc} */
     @Override
-    public SearchResults<LawDocId> searchLawDocs(String query, String sort, LimitOffset limOff) throws SearchException {
+    public SearchResults<LawDocInfo> searchLawDocs(String query, String sort, LimitOffset limOff) throws SearchException {
         return searchLawDocs(query, null, sort, limOff);
     }
 
     /** {@inheritDoc} */
     @Override
-    public SearchResults<LawDocId> searchLawDocs(String query, String lawId, String sort, LimitOffset limOff) throws SearchException {
+    public SearchResults<LawDocInfo> searchLawDocs(String query, String lawId, String sort, LimitOffset limOff) throws SearchException {
         QueryBuilder queryBuilder = QueryBuilders.queryString(query);
         if (lawId != null) {
             queryBuilder = QueryBuilders.filteredQuery(queryBuilder, FilterBuilders.typeFilter(lawId));
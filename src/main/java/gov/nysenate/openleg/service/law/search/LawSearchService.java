@@ -2,7 +2,7 @@ package gov.nysenate.openleg.service.law.search;
 
 import com.google.common.collect.Range;
 import gov.nysenate.openleg.dao.base.LimitOffset;
-import gov.nysenate.openleg.model.law.LawDocId;
+import gov.nysenate.openleg.model.law.LawDocInfo;
 import gov.nysenate.openleg.model.search.SearchException;
 import gov.nysenate.openleg.model.search.SearchResults;
 import gov.nysenate.openleg.service.law.event.BulkLawUpdateEvent;
@@ -16,7 +16,7 @@ public interface LawSearchService
      * Search across all law documents.
      * @see #searchLawDocs(String, String, String, LimitOffset)
      */
-    public SearchResults<LawDocId> searchLawDocs(String query, String sort, LimitOffset limOff) throws SearchException;
+    public SearchResults<LawDocInfo> searchLawDocs(String query, String sort, LimitOffset limOff) throws SearchException;
 
     /**
      * Search across all documents within a specific law volume.
@@ -25,10 +25,10 @@ public interface LawSearchService
      * @param lawId String - The law id to search within. (set to null to search all laws).
      * @param sort String - Optional sort
      * @param limOff LimitOffset - Pagination
-     * @return SearchResults<LawDocId>
+     * @return SearchResults<LawDocInfo>
      * @throws SearchException
      */
-    public SearchResults<LawDocId> searchLawDocs(String query, String lawId, String sort, LimitOffset limOff) throws SearchException;
+    public SearchResults<LawDocInfo> searchLawDocs(String query, String lawId, String sort, LimitOffset limOff) throws SearchException;
 
     /**
      * Handle a law update by indexing the supplied law.
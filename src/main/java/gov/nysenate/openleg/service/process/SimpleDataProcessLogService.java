@@ -8,6 +8,7 @@ import gov.nysenate.openleg.dao.process.DataProcessLogDao;
 import gov.nysenate.openleg.dao.process.SqlDataProcessLogDao;
 import gov.nysenate.openleg.config.Environment;
 import gov.nysenate.openleg.model.process.DataProcessRun;
+import gov.nysenate.openleg.model.process.DataProcessTimings;
 import gov.nysenate.openleg.model.process.DataProcessUnit;
 import org.apache.shiro.dao.DataAccessException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +16,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 public class SimpleDataProcessLogService implements DataProcessLogService
@@ -27,11 +26,27 @@ public class SimpleDataProcessLogService implements DataProcessLogService
     @Autowired private Environment env;
     @Autowired private DataProcessLogDao processLogDao;
 
+    /** The number of recent runs for which phase timings are kept in memory. */
+    @Value("${process.timings.retain.count:100}") private int timingsRetainCount;
+
+    /** Phase timings of the most recent runs keyed by process id. */
+    private Map<Integer, DataProcessTimings> recentTimings;
+
+    @PostConstruct
+    private void init() {
+        recentTimings = Collections.synchronizedMap(new LinkedHashMap<Integer, DataProcessTimings>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, DataProcessTimings> eldest) {
+                return size() > timingsRetainCount;
+            }
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public Optional<DataProcessRun> getRun(int processId) {
         try {
-            return Optional.of(processLogDao.getRun(processId));
+            return Optional.of(attachTimings(processLogDao.getRun(processId)));
         }
         catch (EmptyResultDataAccessException ex) {
             return Optional.empty();
@@ -42,7 +57,10 @@ public class SimpleDataProcessLogService implements DataProcessLogService
     @Override
     public PaginatedList<DataProcessRun> getRuns(Range<LocalDateTime> dateTimeRange, LimitOffset limOff,
                                                  boolean showActivityOnly) {
-        return processLogDao.getRuns(dateTimeRange, showActivityOnly, SortOrder.DESC, limOff);
+        PaginatedList<DataProcessRun> runs =
+            processLogDao.getRuns(dateTimeRange, showActivityOnly, SortOrder.DESC, limOff);
+        runs.getResults().forEach(this::attachTimings);
+        return runs;
     }
 
     /** {@inheritDoc} */
@@ -58,6 +76,7 @@ public class SimpleDataProcessLogService implements DataProcessLogService
         if (env.isProcessLoggingEnabled()) {
             processLogDao.insertRun(run);
         }
+        recentTimings.put(run.getProcessId(), run.getTimings());
         return run;
     }
 
@@ -77,4 +96,15 @@ public class SimpleDataProcessLogService implements DataProcessLogService
             processLogDao.updateRun(run);
         }
     }
-}
\ No newline at end of file
+
+    /** --- Internal Methods --- */
+
+    /** Sets the in-memory phase timings on a run retrieved from the backing store, if they are still retained. */
+    private DataProcessRun attachTimings(DataProcessRun run) {
+        DataProcessTimings timings = recentTimings.get(run.getProcessId());
+        if (timings != null) {
+            run.setTimings(timings);
+        }
+        return run;
+    }
+}
@@ -0,0 +1,421 @@
+package gov.nysenate.openleg.service.response;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.model.agenda.Agenda;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.cache.*;
+import gov.nysenate.openleg.model.calendar.Calendar;
+import gov.nysenate.openleg.service.agenda.event.AgendaUpdateEvent;
+import gov.nysenate.openleg.service.agenda.event.BulkAgendaUpdateEvent;
+import gov.nysenate.openleg.service.base.data.CachingService;
+import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.service.bill.event.BulkBillUpdateEvent;
+import gov.nysenate.openleg.service.calendar.event.BulkCalendarUpdateEvent;
+import gov.nysenate.openleg.service.calendar.event.CalendarUpdateEvent;
+import gov.nysenate.openleg.util.OutputUtils;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheException;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.MemoryUnit;
+import net.sf.ehcache.event.CacheEventListenerAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores serialized json responses so that requests for content that has not changed skip building
+ * the view tree and serializing it. Cached responses are evicted whenever the content they were built
+ * from is updated or evicted from its own content cache.
+ *
+ * Cached keys are indexed by the content they were built from, so that an update only touches the responses
+ * for the updated content. Evictions are counted per content, and a response is only cached if no eviction
+ * affecting it happened while it was being built, so that a response built from outdated content is never
+ * put back after the update evicted it.
+ */
+@Service
+public class CachedResponseService implements ResponseCacheService, CachingService<ResponseCacheKey>
+{
+    private static final Logger logger = LoggerFactory.getLogger(CachedResponseService.class);
+
+    /** Responses smaller than this (in bytes) are not worth compressing. */
+    private static final int GZIP_MIN_SIZE = 1024;
+
+    /** The content caches whose responses are stored here. */
+    private static final Set<ContentCache> responseContentTypes =
+        EnumSet.of(ContentCache.BILL, ContentCache.AGENDA, ContentCache.CALENDAR);
+
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EventBus eventBus;
+
+    @Value("${response.cache.size:50}") private long responseCacheSizeMb;
+    @Value("${response.cache.gzip:true}") private boolean gzipResponses;
+
+    private static final String responseCacheName = "responses";
+
+    /** The number of counters that content evictions are spread over. Must be a power of two. */
+    private static final int EVICTION_STRIPES = 1024;
+
+    private Cache responseCache;
+
+    /** The cached keys for each piece of content, identified by its content type and id. */
+    private final ConcurrentMap<List<Serializable>, Set<ResponseCacheKey>> keysByContent = new ConcurrentHashMap<>();
+
+    /** The cached keys for responses that embed bill data, by the session of that data. */
+    private final ConcurrentMap<SessionYear, Set<ResponseCacheKey>> billKeysBySession = new ConcurrentHashMap<>();
+
+    /** Eviction counts for content, where each piece of content (or bill session) shares a counter by hash. */
+    private final AtomicLongArray evictionCounts = new AtomicLongArray(EVICTION_STRIPES);
+
+    /** Counts the evictions that are not specific to a piece of content, e.g. evicting an entire content type. */
+    private final AtomicLong globalEvictionCount = new AtomicLong();
+
+    /** Responses are put while holding the read lock, evictions hold the write lock. */
+    private final ReadWriteLock evictionLock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    private void init() {
+        setupCaches();
+        eventBus.register(this);
+    }
+
+    @PreDestroy
+    private void cleanUp() {
+        evictCaches();
+        cacheManager.removeCache(responseCacheName);
+    }
+
+    /** --- ResponseCacheService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public CachedResponse getResponse(ResponseCacheKey key, Supplier<BaseResponse> responseSupplier) {
+        Element element = responseCache.get(key);
+        if (element != null) {
+            logger.debug("Cache hit for response {}", key);
+            return (CachedResponse) element.getObjectValue();
+        }
+        long[] evictionStamp = getEvictionStamp(key);
+        CachedResponse cachedResponse = serialize(key, responseSupplier.get());
+        evictionLock.readLock().lock();
+        try {
+            if (Arrays.equals(evictionStamp, getEvictionStamp(key))) {
+                indexKey(key);
+                responseCache.put(new Element(key, cachedResponse));
+            }
+            else {
+                logger.debug("Not caching response {} since its content was evicted while it was built", key);
+            }
+        }
+        finally {
+            evictionLock.readLock().unlock();
+        }
+        return cachedResponse;
+    }
+
+    /** --- CachingService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void setupCaches() {
+        this.responseCache = new Cache(new CacheConfiguration().name(responseCacheName)
+            .eternal(true)
+            .maxBytesLocalHeap(responseCacheSizeMb, MemoryUnit.MEGABYTES)
+            .sizeOfPolicy(defaultSizeOfPolicy()));
+        cacheManager.addCache(this.responseCache);
+        this.responseCache.getCacheEventNotificationService().registerListener(new KeyIndexListener());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Ehcache> getCaches() {
+        return Collections.singletonList(responseCache);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictContent(ResponseCacheKey key) {
+        if (key != null) {
+            responseCache.remove(key);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictCaches() {
+        evictionLock.writeLock().lock();
+        try {
+            globalEvictionCount.incrementAndGet();
+            responseCache.removeAll();
+        }
+        finally {
+            evictionLock.writeLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public synchronized void handleCacheEvictEvent(CacheEvictEvent evictEvent) {
+        if (evictEvent.affects(ContentCache.RESPONSE)) {
+            evictCaches();
+        }
+        else {
+            // Responses can't outlive the content caches they were built from
+            evictKeys(key -> evictEvent.affects(key.getContentType()));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public void handleCacheEvictIdEvent(CacheEvictIdEvent<ResponseCacheKey> evictIdEvent) {
+        if (evictIdEvent.affects(ContentCache.RESPONSE)) {
+            evictContent(evictIdEvent.getContentId());
+        }
+    }
+
+    /**
+     * Evicts the responses for a piece of content when it is evicted from its own content cache.
+     */
+    @Subscribe
+    public void handleContentEvictIdEvent(CacheEvictIdEvent<?> evictIdEvent) {
+        if (evictIdEvent.getContentId() instanceof Serializable) {
+            Set<Serializable> contentIds = Collections.singleton((Serializable) evictIdEvent.getContentId());
+            responseContentTypes.stream()
+                .filter(evictIdEvent::affects)
+                .forEach(contentType -> evictContent(contentType, contentIds, Collections.emptySet()));
+        }
+    }
+
+    /**
+     * Evicts the responses for content from a year that was evicted from its content cache.
+     */
+    @Subscribe
+    public void handleContentEvictYearEvent(CacheEvictYearEvent evictYearEvent) {
+        SessionYear session = SessionYear.of(evictYearEvent.getYear());
+        evictKeys(key -> evictYearEvent.affects(key.getContentType()) && key.getSession().equals(session));
+    }
+
+    /**
+     * Responses are built on demand so there is nothing to pre-load here.
+     */
+    @Override
+    public void warmCaches() {
+        evictCaches();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @Subscribe
+    public synchronized void handleCacheWarmEvent(CacheWarmEvent warmEvent) {
+        if (warmEvent.affects(ContentCache.RESPONSE)) {
+            warmCaches();
+        }
+    }
+
+    /** --- Event Handlers --- */
+
+    @Subscribe
+    public void handleBillUpdate(BillUpdateEvent billUpdateEvent) {
+        evictBills(Collections.singletonList(billUpdateEvent.getBill()));
+    }
+
+    @Subscribe
+    public void handleBulkBillUpdate(BulkBillUpdateEvent bulkBillUpdateEvent) {
+        evictBills(bulkBillUpdateEvent.getBills());
+    }
+
+    @Subscribe
+    public void handleAgendaUpdate(AgendaUpdateEvent agendaUpdateEvent) {
+        evictContent(ContentCache.AGENDA, Collections.singleton(agendaUpdateEvent.getAgenda().getId()));
+    }
+
+    @Subscribe
+    public void handleBulkAgendaUpdate(BulkAgendaUpdateEvent bulkAgendaUpdateEvent) {
+        evictContent(ContentCache.AGENDA, bulkAgendaUpdateEvent.getAgendas().stream()
+            .map(Agenda::getId).collect(Collectors.toSet()));
+    }
+
+    @Subscribe
+    public void handleCalendarUpdate(CalendarUpdateEvent calendarUpdateEvent) {
+        evictContent(ContentCache.CALENDAR, Collections.singleton(calendarUpdateEvent.getCalendar().getId()));
+    }
+
+    @Subscribe
+    public void handleBulkCalendarUpdate(BulkCalendarUpdateEvent bulkCalendarUpdateEvent) {
+        evictContent(ContentCache.CALENDAR, bulkCalendarUpdateEvent.getCalendars().stream()
+            .map(Calendar::getId).collect(Collectors.toSet()));
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Evicts the responses for the given bills as well as any response that embeds data from bills
+     * in the same session.
+     */
+    private void evictBills(Collection<Bill> bills) {
+        Set<Serializable> billIds = bills.stream().map(Bill::getBaseBillId).collect(Collectors.toSet());
+        Set<SessionYear> sessions = bills.stream().map(Bill::getSession).collect(Collectors.toSet());
+        evictContent(ContentCache.BILL, billIds, sessions);
+    }
+
+    private void evictContent(ContentCache contentType, Set<? extends Serializable> contentIds) {
+        evictContent(contentType, contentIds, Collections.emptySet());
+    }
+
+    /**
+     * Removes the cached responses for the given content, along with the responses that embed bill data from
+     * the given sessions. The indexed keys are looked up, so no other keys are visited.
+     */
+    private void evictContent(ContentCache contentType, Set<? extends Serializable> contentIds,
+                              Set<SessionYear> billSessions) {
+        evictionLock.writeLock().lock();
+        try {
+            Set<ResponseCacheKey> evictKeys = new HashSet<>();
+            for (Serializable contentId : contentIds) {
+                List<Serializable> contentKey = getContentKey(contentType, contentId);
+                evictionCounts.incrementAndGet(getStripe(contentKey));
+                evictKeys.addAll(keysByContent.getOrDefault(contentKey, Collections.emptySet()));
+            }
+            for (SessionYear session : billSessions) {
+                evictionCounts.incrementAndGet(getStripe(session));
+                evictKeys.addAll(billKeysBySession.getOrDefault(session, Collections.emptySet()));
+            }
+            if (!evictKeys.isEmpty()) {
+                logger.debug("evicting {} responses", evictKeys.size());
+                responseCache.removeAll(evictKeys);
+            }
+        }
+        finally {
+            evictionLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every cached response whose key matches the given predicate. Every key is scanned, so this is
+     * only used for evictions that cover entire content types or years, which are requested by admins.
+     */
+    @SuppressWarnings("unchecked")
+    private void evictKeys(Predicate<ResponseCacheKey> predicate) {
+        evictionLock.writeLock().lock();
+        try {
+            globalEvictionCount.incrementAndGet();
+            List<ResponseCacheKey> keys = responseCache.getKeys();
+            List<ResponseCacheKey> evictKeys = keys.stream().filter(predicate).collect(Collectors.toList());
+            if (!evictKeys.isEmpty()) {
+                logger.debug("evicting {} responses", evictKeys.size());
+                responseCache.removeAll(evictKeys);
+            }
+        }
+        finally {
+            evictionLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the eviction counts that apply to the response with the given key. If they differ before and after
+     * building the response, the content of the response may have been updated in the meantime.
+     */
+    private long[] getEvictionStamp(ResponseCacheKey key) {
+        return new long[] {
+            globalEvictionCount.get(),
+            evictionCounts.get(getStripe(getContentKey(key.getContentType(), key.getContentId()))),
+            key.includesBills() ? evictionCounts.get(getStripe(key.getSession())) : 0
+        };
+    }
+
+    private void indexKey(ResponseCacheKey key) {
+        keysByContent.computeIfAbsent(getContentKey(key.getContentType(), key.getContentId()),
+                                      k -> ConcurrentHashMap.newKeySet()).add(key);
+        if (key.includesBills()) {
+            billKeysBySession.computeIfAbsent(key.getSession(), k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    private void unindexKey(ResponseCacheKey key) {
+        keysByContent.computeIfPresent(getContentKey(key.getContentType(), key.getContentId()),
+                                       (k, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+        if (key.includesBills()) {
+            billKeysBySession.computeIfPresent(key.getSession(),
+                                               (k, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+        }
+    }
+
+    private static List<Serializable> getContentKey(ContentCache contentType, Serializable contentId) {
+        return Arrays.asList(contentType, contentId);
+    }
+
+    private static int getStripe(Object evictionKey) {
+        return evictionKey.hashCode() & (EVICTION_STRIPES - 1);
+    }
+
+    /**
+     * Keeps the key index in step with the cache, including entries that the cache removes on its own
+     * when it runs out of space.
+     */
+    private class KeyIndexListener extends CacheEventListenerAdapter
+    {
+        @Override
+        public void notifyElementRemoved(Ehcache cache, Element element) {
+            unindexKey((ResponseCacheKey) element.getObjectKey());
+        }
+
+        @Override
+        public void notifyElementExpired(Ehcache cache, Element element) {
+            unindexKey((ResponseCacheKey) element.getObjectKey());
+        }
+
+        @Override
+        public void notifyElementEvicted(Ehcache cache, Element element) {
+            unindexKey((ResponseCacheKey) element.getObjectKey());
+        }
+
+        @Override
+        public void notifyRemoveAll(Ehcache cache) {
+            keysByContent.clear();
+            billKeysBySession.clear();
+        }
+    }
+
+    private CachedResponse serialize(ResponseCacheKey key, BaseResponse response) {
+        try {
+            byte[] json = OutputUtils.getJsonMapper().writeValueAsBytes(response);
+            if (gzipResponses && json.length >= GZIP_MIN_SIZE) {
+                ByteArrayOutputStream gzipBytes = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzipBytes)) {
+                    gzipStream.write(json);
+                }
+                return new CachedResponse(json, gzipBytes.toByteArray(), true);
+            }
+            return new CachedResponse(json, json, false);
+        }
+        catch (IOException ex) {
+            throw new CacheException("Failed to serialize response for " + key + ": " + ex.getMessage());
+        }
+    }
+}
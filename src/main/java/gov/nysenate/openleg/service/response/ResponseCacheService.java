@@ -0,0 +1,21 @@
+package gov.nysenate.openleg.service.response;
+
+import gov.nysenate.openleg.client.response.base.BaseResponse;
+import gov.nysenate.openleg.model.cache.CachedResponse;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
+
+import java.util.function.Supplier;
+
+public interface ResponseCacheService
+{
+    /**
+     * Retrieves the serialized response identified by the given key. If the response is not cached, it is
+     * built using the given supplier, serialized, and cached until the underlying content is updated.
+     *
+     * @param key ResponseCacheKey
+     * @param responseSupplier Supplier<BaseResponse> - Builds the response on a cache miss. Any exception
+     *                         thrown by the supplier is propagated and nothing is cached.
+     * @return CachedResponse
+     */
+    public CachedResponse getResponse(ResponseCacheKey key, Supplier<BaseResponse> responseSupplier);
+}
@@ -6,7 +6,17 @@ import gov.nysenate.openleg.model.spotcheck.SpotCheckReferenceEvent;
 import gov.nysenate.openleg.processor.base.ProcessService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import gov.nysenate.openleg.util.OpenlegThreadFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public abstract class BaseSpotcheckProcessService<ContentId> implements ProcessService
 {
@@ -16,6 +26,9 @@ public abstract class BaseSpotcheckProcessService<ContentId> implements ProcessS
 
     @Autowired EventBus eventBus;
 
+    /** The maximum number of reference files that are parsed at once during ingest. */
+    @Value("${spotcheck.ingest.threads:4}") private int ingestThreads;
+
     /**
      * {@inheritDoc}
      */
@@ -61,6 +74,51 @@ public abstract class BaseSpotcheckProcessService<ContentId> implements ProcessS
 
     protected abstract int getUncheckedRefCount();
 
+    /**
+     * Applies the ingest function to each of the given items on a pool of at most spotcheck.ingest.threads
+     * threads, which is shut down once all items are done. This is meant for parsing reference files, which
+     * are independent of each other.
+     *
+     * @param items Collection<T> - The items to ingest
+     * @param ingestFunction IngestFunction<T, R> - Applied to each item
+     * @return List<R> - The results, in the iteration order of items
+     * @throws Exception - The first exception thrown by the ingest function, in the iteration order of items
+     */
+    protected <T, R> List<R> ingestInParallel(Collection<T> items, IngestFunction<T, R> ingestFunction) throws Exception {
+        if (items.size() <= 1 || ingestThreads <= 1) {
+            List<R> results = new ArrayList<>(items.size());
+            for (T item : items) {
+                results.add(ingestFunction.apply(item));
+            }
+            return results;
+        }
+        ExecutorService ingestPool = Executors.newFixedThreadPool(Math.min(ingestThreads, items.size()),
+                                                                  new OpenlegThreadFactory("spotcheck-ingest"));
+        try {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(ingestPool.submit(() -> ingestFunction.apply(item)));
+            }
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException ex) {
+                    throw (ex.getCause() instanceof Exception) ? (Exception) ex.getCause() : ex;
+                }
+            }
+            return results;
+        } finally {
+            ingestPool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    protected interface IngestFunction<T, R>
+    {
+        R apply(T item) throws Exception;
+    }
+
     private void registerReferenceEvent() {
         if (getUncheckedRefCount() > 0) {
             eventBus.post(new SpotCheckReferenceEvent(getRefType()));
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -52,11 +51,9 @@ public class BillTextSpotcheckProcessService extends BaseSpotcheckProcessService
     @Override
     public int doIngest() throws Exception {
         Collection<File> incomingScrapedBills = dao.getIncomingScrapedBills();
-        List<BillTextReference> billTextReferences = new ArrayList<>();
-        for (File file : incomingScrapedBills) {
-            billTextReferences.add(scrapedBillTextParser.parseReference(file));
-        }
-        billTextReferences.forEach(dao::insertBillTextReference);
+        List<BillTextReference> billTextReferences =
+            ingestInParallel(incomingScrapedBills, scrapedBillTextParser::parseReference);
+        dao.insertBillTextReferences(billTextReferences);
         // This second file loop is intentional so that no files are archived in the event of an exception
         for (File file : incomingScrapedBills) {
             dao.archiveScrapedBill(file);
@@ -15,7 +15,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class CalendarSpotCheckProcessService extends BaseSpotcheckProcessService<CalendarId> {
@@ -52,17 +55,26 @@ public class CalendarSpotCheckProcessService extends BaseSpotcheckProcessService
 
     @Override
     protected int doIngest() throws Exception {
-        int processedCount = 0;
         List<CalendarAlertFile> files = fileDao.getPendingCalendarAlertFiles(LimitOffset.THOUSAND);
         logger.info("Processing " + files.size() + " files.");
-        for (CalendarAlertFile file : files) {
+        // Each file is merged into the stored alert calendar it belongs to, so the files of a calendar are
+        // processed in order while different calendars are processed in parallel.
+        Map<CalendarId, List<CalendarAlertFile>> filesByCalendar = files.stream()
+                .collect(Collectors.groupingBy(file -> processor.parseCalendarId(file.getFile()),
+                                               LinkedHashMap::new, Collectors.toList()));
+        return ingestInParallel(filesByCalendar.values(), this::processCalendarFiles).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    private int processCalendarFiles(List<CalendarAlertFile> calendarFiles) {
+        for (CalendarAlertFile file : calendarFiles) {
             logger.info("Processing calendar from file: " + file.getFile().getName());
             Calendar calendar = processor.process(file.getFile());
             updateCalendarFile(file);
             calendarAlertDao.updateCalendar(calendar, file);
-            processedCount++;
         }
-        return processedCount;
+        return calendarFiles.size();
     }
 
     private void updateCalendarFile(CalendarAlertFile file) {
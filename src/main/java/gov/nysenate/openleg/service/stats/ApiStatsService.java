@@ -0,0 +1,41 @@
+package gov.nysenate.openleg.service.stats;
+
+import gov.nysenate.openleg.model.stats.ApiKeyStats;
+import gov.nysenate.openleg.model.stats.ApiRouteStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApiStatsService
+{
+    /**
+     * Records a completed api request.
+     *
+     * @param route String - the http method and normalized path template that handled the request
+     * @param apiKey String - the api key used for the request, null if no key was used
+     * @param status int - the http status of the response
+     * @param responseBytes long - the size of the response body
+     * @param latencyMicros long - the time taken to handle the request in microseconds
+     */
+    public void recordRequest(String route, String apiKey, int status, long responseBytes, long latencyMicros);
+
+    /**
+     * @return List<ApiRouteStats> - stats for each route that received a request, busiest routes first
+     */
+    public List<ApiRouteStats> getRouteStats();
+
+    /**
+     * @return List<ApiKeyStats> - stats for each api key that made a request, busiest keys first
+     */
+    public List<ApiKeyStats> getApiKeyStats();
+
+    /**
+     * @return LocalDateTime - the time from which the current stats were collected
+     */
+    public LocalDateTime getStatsStartDateTime();
+
+    /**
+     * Discards all recorded stats.
+     */
+    public void resetStats();
+}
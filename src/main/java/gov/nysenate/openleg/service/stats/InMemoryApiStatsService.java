@@ -0,0 +1,117 @@
+package gov.nysenate.openleg.service.stats;
+
+import gov.nysenate.openleg.model.stats.ApiKeyStats;
+import gov.nysenate.openleg.model.stats.ApiRouteStats;
+import gov.nysenate.openleg.model.stats.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps api request stats in memory. When enabled, the stats are periodically written to the log and
+ * reset so that each logged snapshot covers a single interval.
+ */
+@Service
+public class InMemoryApiStatsService implements ApiStatsService
+{
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryApiStatsService.class);
+
+    /** Requests made without a validated api key (e.g. from the ui, whitelisted addresses or rejected requests)
+     *  are counted under this key. */
+    private static final String NO_KEY = "none";
+
+    @Value("${api.stats.flush.enabled:false}") private boolean flushEnabled;
+
+    /** The stats are swapped out as a whole on reset so that recording never has to lock. */
+    private volatile StatsSnapshot stats = new StatsSnapshot();
+
+    /** --- ApiStatsService implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public void recordRequest(String route, String apiKey, int status, long responseBytes, long latencyMicros) {
+        StatsSnapshot current = stats;
+        getOrCreate(current.routeStats, route, ApiRouteStats::new).record(status, responseBytes, latencyMicros);
+        getOrCreate(current.keyStats, apiKey != null ? apiKey : NO_KEY, ApiKeyStats::new).record();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ApiRouteStats> getRouteStats() {
+        return stats.routeStats.values().stream()
+            .sorted(Comparator.comparing(ApiRouteStats::getRequestCount).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ApiKeyStats> getApiKeyStats() {
+        return stats.keyStats.values().stream()
+            .sorted(Comparator.comparing(ApiKeyStats::getRequestCount).reversed())
+            .collect(Collectors.toList());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LocalDateTime getStatsStartDateTime() {
+        return stats.startDateTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetStats() {
+        stats = new StatsSnapshot();
+    }
+
+    /** --- Scheduled Methods --- */
+
+    /**
+     * Writes the stats collected since the last flush to the log and resets them.
+     */
+    @Scheduled(cron = "${api.stats.flush.cron:0 0 * * * *}")
+    public void flushStats() {
+        if (!flushEnabled) {
+            return;
+        }
+        StatsSnapshot flushed = stats;
+        resetStats();
+        LocalDateTime endDateTime = LocalDateTime.now();
+        flushed.routeStats.values().forEach(route -> {
+            LatencyHistogram latency = route.getLatency();
+            logger.info("api route stats {} to {}: route={} requests={} bytes={} statuses={} " +
+                        "mean_us={} p50_us={} p90_us={} p99_us={} max_us={}",
+                flushed.startDateTime, endDateTime, route.getRoute(), route.getRequestCount(),
+                route.getResponseBytes(), route.getStatusCounts(), (long) latency.getMean(),
+                latency.getValueAtPercentile(50), latency.getValueAtPercentile(90),
+                latency.getValueAtPercentile(99), latency.getMaxValue());
+        });
+        flushed.keyStats.values().forEach(key ->
+            logger.info("api key stats {} to {}: key={} requests={}",
+                flushed.startDateTime, endDateTime, key.getApiKey(), key.getRequestCount()));
+    }
+
+    /** --- Internal --- */
+
+    /** Checks for an existing entry first since computeIfAbsent locks even when the key is present. */
+    private static <T> T getOrCreate(ConcurrentMap<String, T> map, String key, Function<String, T> constructor) {
+        T value = map.get(key);
+        return (value != null) ? value : map.computeIfAbsent(key, constructor);
+    }
+
+    private static class StatsSnapshot
+    {
+        private final LocalDateTime startDateTime = LocalDateTime.now();
+        private final ConcurrentMap<String, ApiRouteStats> routeStats = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ApiKeyStats> keyStats = new ConcurrentHashMap<>();
+    }
+}
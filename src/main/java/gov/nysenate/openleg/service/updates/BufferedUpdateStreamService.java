@@ -0,0 +1,275 @@
+package gov.nysenate.openleg.service.updates;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.model.agenda.Agenda;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.calendar.Calendar;
+import gov.nysenate.openleg.model.law.LawDocument;
+import gov.nysenate.openleg.model.updates.UpdateContentType;
+import gov.nysenate.openleg.model.updates.UpdateStreamPage;
+import gov.nysenate.openleg.model.updates.UpdateToken;
+import gov.nysenate.openleg.service.agenda.event.AgendaUpdateEvent;
+import gov.nysenate.openleg.service.agenda.event.BulkAgendaUpdateEvent;
+import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.service.bill.event.BulkBillUpdateEvent;
+import gov.nysenate.openleg.service.calendar.event.BulkCalendarUpdateEvent;
+import gov.nysenate.openleg.service.calendar.event.CalendarUpdateEvent;
+import gov.nysenate.openleg.service.law.event.BulkLawUpdateEvent;
+import gov.nysenate.openleg.service.law.event.LawUpdateEvent;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the most recent update tokens posted via the event bus in a fixed size ring buffer.
+ *
+ * Each token is assigned a sequence number and cursors take the form '{streamId}-{sequence}' where the
+ * stream id is the startup time of this service. Cursors from a previous server run or cursors that have
+ * fallen out of the buffer are answered with a resync page instead of an error.
+ */
+@Service
+public class BufferedUpdateStreamService implements UpdateStreamService
+{
+    private static final Logger logger = LoggerFactory.getLogger(BufferedUpdateStreamService.class);
+
+    @Autowired private EventBus eventBus;
+
+    @Value("${updates.stream.buffer.size:10000}") private int bufferSize;
+
+    /** Identifies this run of the stream so that stale cursors can be detected after a restart. */
+    private final long streamId = System.currentTimeMillis();
+
+    /** Ring buffer of tokens where the token with sequence number n is stored at index n % bufferSize. */
+    private UpdateToken<Map<String, String>>[] buffer;
+
+    /** The sequence number that will be assigned to the next token. Sequence numbers start at 1. */
+    private long nextSeq = 1;
+
+    /** Long poll requests that are waiting on new tokens. */
+    private final List<PendingRequest> pendingRequests = new LinkedList<>();
+
+    private static class PendingRequest
+    {
+        final long afterSeq;
+        final Set<UpdateContentType> contentTypes;
+        final int limit;
+        final CompletableFuture<UpdateStreamPage> future = new CompletableFuture<>();
+
+        PendingRequest(long afterSeq, Set<UpdateContentType> contentTypes, int limit) {
+            this.afterSeq = afterSeq;
+            this.contentTypes = contentTypes;
+            this.limit = limit;
+        }
+    }
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void init() {
+        if (bufferSize <= 0) {
+            throw new IllegalStateException("updates.stream.buffer.size must be positive");
+        }
+        buffer = new UpdateToken[bufferSize];
+        eventBus.register(this);
+    }
+
+    /** --- UpdateStreamService Implementation --- */
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized UpdateStreamPage getUpdates(String cursor, Set<UpdateContentType> contentTypes, int limit) {
+        Optional<Long> afterSeq = parseCursor(cursor);
+        if (!afterSeq.isPresent()) {
+            return new UpdateStreamPage(Collections.emptyList(), toCursor(nextSeq - 1), true);
+        }
+        return readPage(afterSeq.get(), contentTypes, limit);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized CompletableFuture<UpdateStreamPage> awaitUpdates(String cursor, Set<UpdateContentType> contentTypes,
+                                                                         int limit) {
+        Optional<Long> afterSeq = parseCursor(cursor);
+        if (!afterSeq.isPresent()) {
+            return CompletableFuture.completedFuture(
+                new UpdateStreamPage(Collections.emptyList(), toCursor(nextSeq - 1), true));
+        }
+        UpdateStreamPage page = readPage(afterSeq.get(), contentTypes, limit);
+        if (!page.getTokens().isEmpty() || page.isResync()) {
+            return CompletableFuture.completedFuture(page);
+        }
+        // Nothing to report yet, park the request until a matching token is posted
+        pendingRequests.removeIf(pending -> pending.future.isDone());
+        PendingRequest pending = new PendingRequest(afterSeq.get(), contentTypes, limit);
+        pendingRequests.add(pending);
+        return pending.future;
+    }
+
+    /** --- Event Handlers --- */
+
+    @Subscribe
+    public void handleBillUpdate(BillUpdateEvent event) {
+        append(Collections.singletonList(getBillToken(event.getBill(), event.getUpdateDateTime())));
+    }
+
+    @Subscribe
+    public void handleBulkBillUpdate(BulkBillUpdateEvent event) {
+        append(event.getBills().stream()
+            .map(bill -> getBillToken(bill, event.getUpdateDateTime()))
+            .collect(Collectors.toList()));
+    }
+
+    @Subscribe
+    public void handleAgendaUpdate(AgendaUpdateEvent event) {
+        append(Collections.singletonList(getAgendaToken(event.getAgenda(), event.getUpdateDateTime())));
+    }
+
+    @Subscribe
+    public void handleBulkAgendaUpdate(BulkAgendaUpdateEvent event) {
+        append(event.getAgendas().stream()
+            .map(agenda -> getAgendaToken(agenda, event.getUpdateDateTime()))
+            .collect(Collectors.toList()));
+    }
+
+    @Subscribe
+    public void handleCalendarUpdate(CalendarUpdateEvent event) {
+        append(Collections.singletonList(getCalendarToken(event.getCalendar(), event.getUpdateDateTime())));
+    }
+
+    @Subscribe
+    public void handleBulkCalendarUpdate(BulkCalendarUpdateEvent event) {
+        append(event.getCalendars().stream()
+            .map(calendar -> getCalendarToken(calendar, event.getUpdateDateTime()))
+            .collect(Collectors.toList()));
+    }
+
+    @Subscribe
+    public void handleLawUpdate(LawUpdateEvent event) {
+        append(Collections.singletonList(getLawToken(event.getLawDoc(), event.getUpdateDateTime())));
+    }
+
+    @Subscribe
+    public void handleBulkLawUpdate(BulkLawUpdateEvent event) {
+        append(event.getLawDocuments().stream()
+            .map(lawDoc -> getLawToken(lawDoc, event.getUpdateDateTime()))
+            .collect(Collectors.toList()));
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Adds the given tokens to the buffer, overwriting the oldest tokens if it is full, and completes
+     * any pending requests that are interested in the new tokens.
+     */
+    private void append(List<UpdateToken<Map<String, String>>> tokens) {
+        List<Map.Entry<PendingRequest, UpdateStreamPage>> completed = new ArrayList<>();
+        synchronized (this) {
+            for (UpdateToken<Map<String, String>> token : tokens) {
+                buffer[(int) (nextSeq % bufferSize)] = token;
+                nextSeq++;
+            }
+            Iterator<PendingRequest> pendingIterator = pendingRequests.iterator();
+            while (pendingIterator.hasNext()) {
+                PendingRequest pending = pendingIterator.next();
+                if (pending.future.isDone()) {
+                    pendingIterator.remove();
+                    continue;
+                }
+                UpdateStreamPage page = readPage(pending.afterSeq, pending.contentTypes, pending.limit);
+                if (!page.getTokens().isEmpty() || page.isResync()) {
+                    completed.add(new AbstractMap.SimpleEntry<>(pending, page));
+                    pendingIterator.remove();
+                }
+            }
+        }
+        logger.debug("Appended {} tokens to the update stream, completing {} pending requests",
+            tokens.size(), completed.size());
+        // Complete outside of the lock since completion may trigger response dispatch
+        completed.forEach(entry -> entry.getKey().future.complete(entry.getValue()));
+    }
+
+    /**
+     * Reads up to 'limit' tokens of the given content types that follow the given sequence number.
+     * Must be called while holding the lock on this instance.
+     */
+    private UpdateStreamPage readPage(long afterSeq, Set<UpdateContentType> contentTypes, int limit) {
+        long lastSeq = nextSeq - 1;
+        if (afterSeq > lastSeq) {
+            throw new IllegalArgumentException("Update stream cursor is ahead of the stream");
+        }
+        long oldestSeq = Math.max(1, nextSeq - bufferSize);
+        if (afterSeq < oldestSeq - 1) {
+            return new UpdateStreamPage(Collections.emptyList(), toCursor(lastSeq), true);
+        }
+        List<UpdateToken<Map<String, String>>> tokens = new ArrayList<>();
+        long seq = afterSeq + 1;
+        for (; seq <= lastSeq && tokens.size() < limit; seq++) {
+            UpdateToken<Map<String, String>> token = buffer[(int) (seq % bufferSize)];
+            if (contentTypes.contains(token.getContentType())) {
+                tokens.add(token);
+            }
+        }
+        return new UpdateStreamPage(tokens, toCursor(seq - 1), false);
+    }
+
+    /**
+     * Returns the sequence number referenced by the given cursor or an empty optional if the cursor
+     * belongs to a previous run of the stream. A null cursor refers to the current position.
+     */
+    private Optional<Long> parseCursor(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return Optional.of(nextSeq - 1);
+        }
+        String[] parts = cursor.split("-");
+        if (parts.length != 2 || !StringUtils.isNumeric(parts[0]) || !StringUtils.isNumeric(parts[1])) {
+            throw new IllegalArgumentException("Malformed update stream cursor: " + cursor);
+        }
+        if (Long.parseLong(parts[0]) != streamId) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.parseLong(parts[1]));
+    }
+
+    private String toCursor(long seq) {
+        return streamId + "-" + seq;
+    }
+
+    private static UpdateToken<Map<String, String>> getBillToken(Bill bill, LocalDateTime updateDateTime) {
+        return new UpdateToken<>(
+            ImmutableMap.of("printNo", bill.getBaseBillId().getBasePrintNo(),
+                            "session", Integer.toString(bill.getSession().getYear())),
+            UpdateContentType.BILL, null, bill.getModifiedDateTime(), updateDateTime);
+    }
+
+    private static UpdateToken<Map<String, String>> getAgendaToken(Agenda agenda, LocalDateTime updateDateTime) {
+        return new UpdateToken<>(
+            ImmutableMap.of("agendaNumber", agenda.getId().getNumber().toString(),
+                            "year", Integer.toString(agenda.getId().getYear())),
+            UpdateContentType.AGENDA, null, agenda.getModifiedDateTime(), updateDateTime);
+    }
+
+    private static UpdateToken<Map<String, String>> getCalendarToken(Calendar calendar, LocalDateTime updateDateTime) {
+        return new UpdateToken<>(
+            ImmutableMap.of("calNo", Integer.toString(calendar.getId().getCalNo()),
+                            "year", Integer.toString(calendar.getId().getYear())),
+            UpdateContentType.CALENDAR, null, calendar.getModifiedDateTime(), updateDateTime);
+    }
+
+    private static UpdateToken<Map<String, String>> getLawToken(LawDocument lawDoc, LocalDateTime updateDateTime) {
+        return new UpdateToken<>(
+            ImmutableMap.of("lawId", lawDoc.getLawId(),
+                            "lawDocId", lawDoc.getDocumentId(),
+                            "publishedDate", lawDoc.getPublishedDate().toString()),
+            UpdateContentType.LAW, null, lawDoc.getPublishedDate().atStartOfDay(), updateDateTime);
+    }
+}
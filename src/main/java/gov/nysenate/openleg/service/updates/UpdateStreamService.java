@@ -0,0 +1,36 @@
+package gov.nysenate.openleg.service.updates;
+
+import gov.nysenate.openleg.model.updates.UpdateContentType;
+import gov.nysenate.openleg.model.updates.UpdateStreamPage;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides a push style alternative to the date range based update apis. Content updates that are posted
+ * to the event bus are held in a bounded replay buffer so that clients can resume from a cursor without
+ * querying the database.
+ */
+public interface UpdateStreamService
+{
+    /**
+     * Retrieves the update tokens that were posted after the given cursor.
+     *
+     * @param cursor String - A cursor returned by a previous call, or null to start from the current position.
+     * @param contentTypes Set<UpdateContentType> - Only return tokens of these content types.
+     * @param limit int - The maximum number of tokens to return.
+     * @return UpdateStreamPage
+     * @throws IllegalArgumentException if the cursor is malformed or ahead of the stream.
+     */
+    public UpdateStreamPage getUpdates(String cursor, Set<UpdateContentType> contentTypes, int limit);
+
+    /**
+     * Same as {@link #getUpdates} except that if there are no matching updates after the cursor, the returned
+     * future will be completed once a matching update is posted. Callers should cancel the future if they
+     * stop waiting on it.
+     *
+     * @see #getUpdates
+     * @return CompletableFuture<UpdateStreamPage>
+     */
+    public CompletableFuture<UpdateStreamPage> awaitUpdates(String cursor, Set<UpdateContentType> contentTypes, int limit);
+}
@@ -0,0 +1,209 @@
+package gov.nysenate.openleg.util;
+
+import gov.nysenate.openleg.util.StringDiffer.Diff;
+import gov.nysenate.openleg.util.StringDiffer.Operation;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+/**
+ * Diffs bill text line by line before diffing characters. Running {@link StringDiffer#diff_main(String, String)}
+ * over an entire amendment text can take up to its full timeout on large bills, after which it settles for a
+ * coarse diff. Bill text is laid out in numbered lines that rarely change between amendments, so the lines
+ * are matched up first and only the blocks of changed lines are diffed character by character. Those blocks
+ * are independent of each other and are diffed in parallel.
+ *
+ * The line numbers at the start of LBDC text lines are ignored when matching lines since they shift whenever
+ * lines are added or removed above them. Where matched lines have different numbers, only the numbers are
+ * reported as changed, so both texts can still be rebuilt from the diff.
+ */
+public class BillTextDiffer
+{
+    /** Changed blocks are diffed in parallel once there are at least this many of them. */
+    private static final int PARALLEL_BLOCK_THRESHOLD = 4;
+
+    /**
+     * Returns the differences between the two texts. The result has the same form as that of
+     * {@link StringDiffer#diff_main(String, String)} and can be cleaned up and rendered the same way.
+     *
+     * @param text1 String - Old text
+     * @param text2 String - New text
+     * @return LinkedList<StringDiffer.Diff>
+     */
+    public static LinkedList<Diff> diff(String text1, String text2) {
+        text1 = (text1 == null) ? "" : text1;
+        text2 = (text2 == null) ? "" : text2;
+        List<String> lines1 = splitLines(text1);
+        List<String> lines2 = splitLines(text2);
+
+        // Encode each distinct line as a single character so that the line diff is cheap
+        Map<String, Character> lineCodes = new HashMap<>();
+        String codes1 = encodeLines(lines1, lineCodes);
+        String codes2 = encodeLines(lines2, lineCodes);
+        if (lineCodes.size() > Character.MAX_VALUE) {
+            // Too many distinct lines to encode, which is not expected for bill text
+            return new StringDiffer().diff_main(text1, text2);
+        }
+        StringDiffer lineDiffer = new StringDiffer();
+        lineDiffer.Diff_Timeout = 0;
+        LinkedList<Diff> lineDiffs = lineDiffer.diff_main(codes1, codes2, false);
+
+        // Map the line diffs back to text, grouping adjacent deletes and inserts into changed blocks
+        List<Object> parts = new ArrayList<>();
+        StringBuilder deleted = new StringBuilder();
+        StringBuilder inserted = new StringBuilder();
+        int index1 = 0;
+        int index2 = 0;
+        for (Diff lineDiff : lineDiffs) {
+            int count = lineDiff.text.length();
+            switch (lineDiff.operation) {
+                case DELETE:
+                    appendLines(deleted, lines1, index1, count);
+                    index1 += count;
+                    break;
+                case INSERT:
+                    appendLines(inserted, lines2, index2, count);
+                    index2 += count;
+                    break;
+                case EQUAL:
+                    addChangedBlock(parts, deleted, inserted);
+                    addMatchedLines(parts, lines1, index1, lines2, index2, count);
+                    index1 += count;
+                    index2 += count;
+                    break;
+            }
+        }
+        addChangedBlock(parts, deleted, inserted);
+
+        List<ChangedBlock> blocks = parts.stream()
+            .filter(part -> part instanceof ChangedBlock)
+            .map(part -> (ChangedBlock) part)
+            .collect(Collectors.toList());
+        (blocks.size() >= PARALLEL_BLOCK_THRESHOLD ? blocks.parallelStream() : blocks.stream())
+            .forEach(ChangedBlock::computeDiffs);
+
+        LinkedList<Diff> diffs = new LinkedList<>();
+        for (Object part : parts) {
+            if (part instanceof ChangedBlock) {
+                diffs.addAll(((ChangedBlock) part).diffs);
+            }
+            else {
+                diffs.add((Diff) part);
+            }
+        }
+        new StringDiffer().diff_cleanupMerge(diffs);
+        return diffs;
+    }
+
+    /** --- Internal Methods --- */
+
+    /**
+     * Splits the text into lines, keeping the line breaks so that the lines can be joined back together.
+     */
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf('\n', start);
+            end = (end == -1) ? text.length() : end + 1;
+            lines.add(text.substring(start, end));
+            start = end;
+        }
+        return lines;
+    }
+
+    private static String encodeLines(List<String> lines, Map<String, Character> lineCodes) {
+        StringBuilder codes = new StringBuilder(lines.size());
+        for (String line : lines) {
+            // Lines past the encodable range fall back to a full diff in the caller
+            codes.append(lineCodes.computeIfAbsent(getLineKey(line), k -> (char) lineCodes.size()));
+        }
+        return codes.toString();
+    }
+
+    /**
+     * Returns the content of a line without its LBDC line number.
+     */
+    private static String getLineKey(String line) {
+        return line.substring(getLineNumberLength(line));
+    }
+
+    /**
+     * Returns the length of the LBDC line number at the start of the line, 0 if it has none.
+     */
+    private static int getLineNumberLength(String line) {
+        Matcher lineMatcher = BillTextUtils.textLinePattern.matcher(line);
+        return lineMatcher.find() ? lineMatcher.end() : 0;
+    }
+
+    /**
+     * Adds lines whose content matched. Lines that are identical are unchanged, otherwise they only differ by
+     * their line numbers, which are diffed on their own.
+     */
+    private static void addMatchedLines(List<Object> parts, List<String> lines1, int index1,
+                                        List<String> lines2, int index2, int count) {
+        StringBuilder equal = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String line1 = lines1.get(index1 + i);
+            String line2 = lines2.get(index2 + i);
+            if (line1.equals(line2)) {
+                equal.append(line1);
+                continue;
+            }
+            if (equal.length() > 0) {
+                parts.add(new Diff(Operation.EQUAL, equal.toString()));
+                equal.setLength(0);
+            }
+            int numberLength1 = getLineNumberLength(line1);
+            int numberLength2 = getLineNumberLength(line2);
+            parts.addAll(new StringDiffer().diff_main(line1.substring(0, numberLength1),
+                                                      line2.substring(0, numberLength2), false));
+            equal.append(line1.substring(numberLength1));
+        }
+        if (equal.length() > 0) {
+            parts.add(new Diff(Operation.EQUAL, equal.toString()));
+        }
+    }
+
+    private static StringBuilder appendLines(StringBuilder text, List<String> lines, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            text.append(lines.get(i));
+        }
+        return text;
+    }
+
+    private static void addChangedBlock(List<Object> parts, StringBuilder deleted, StringBuilder inserted) {
+        if (deleted.length() > 0 || inserted.length() > 0) {
+            parts.add(new ChangedBlock(deleted.toString(), inserted.toString()));
+            deleted.setLength(0);
+            inserted.setLength(0);
+        }
+    }
+
+    /**
+     * A run of lines that were removed and/or added between two unchanged parts of the text.
+     */
+    private static class ChangedBlock
+    {
+        private final String deleted;
+        private final String inserted;
+        private LinkedList<Diff> diffs;
+
+        private ChangedBlock(String deleted, String inserted) {
+            this.deleted = deleted;
+            this.inserted = inserted;
+        }
+
+        private void computeDiffs() {
+            if (deleted.isEmpty() || inserted.isEmpty()) {
+                diffs = new LinkedList<>();
+                diffs.add(deleted.isEmpty() ? new Diff(Operation.INSERT, inserted) : new Diff(Operation.DELETE, deleted));
+            }
+            else {
+                // Each block gets its own differ and timeout
+                diffs = new StringDiffer().diff_main(deleted, inserted, false);
+            }
+        }
+    }
+}
@@ -25,10 +25,17 @@ public abstract class OutputUtils
         jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
+    /** Writes the same json as the mapper above without any whitespace, for documents that are stored in bulk. */
+    private static ObjectMapper compactJsonMapper = jsonMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+
     public static ObjectMapper getJsonMapper() {
         return jsonMapper;
     }
 
+    public static ObjectMapper getCompactJsonMapper() {
+        return compactJsonMapper;
+    }
+
     /**
      * Given an object, this method will attempt to serialize it into JSON.
      * @param object Object
@@ -49,4 +56,20 @@ public abstract class OutputUtils
         }
         return "";
     }
+
+    /**
+     * Serializes the object into compact JSON encoded as UTF-8 bytes. This is used for search index documents,
+     * which are never read by a person and are sent to the search cluster as bytes anyway.
+     * @param object Object
+     * @return byte[] - Json or an empty array if failed.
+     */
+    public static byte[] toCompactJson(Object object) {
+        try {
+            return compactJsonMapper.writeValueAsBytes(object);
+        }
+        catch(Exception ex){
+            logger.error("Failed to generate compact json: " + ex.getMessage());
+        }
+        return new byte[0];
+    }
 }
@@ -2,8 +2,11 @@ package gov.nysenate.openleg.util;
 
 import com.google.common.base.Splitter;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class PublicHearingTextUtils
 {
@@ -28,6 +31,46 @@ public class PublicHearingTextUtils
         return pages;
     }
 
+    /**
+     * Reads public hearing text, passing each page to the page consumer as soon as its last line is read.
+     * The pages are the same as those returned by {@link #getPages(String)}, including that lines after
+     * the last page break are not part of any page, but the full text and list of pages are never held in memory.
+     * @param reader Reader - The text is read until the end but the reader is not closed.
+     * @param pageConsumer Consumer<List<String>>
+     * @throws IOException
+     */
+    public static void readPages(Reader reader, Consumer<List<String>> pageConsumer) throws IOException {
+        List<String> page = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    // Mirror the replacement of \r\n with \n
+                    if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                        line.setLength(line.length() - 1);
+                    }
+                    page = addLine(page, line.toString(), pageConsumer);
+                    line.setLength(0);
+                }
+                else {
+                    line.append(buffer[i]);
+                }
+            }
+        }
+        addLine(page, line.toString(), pageConsumer);
+    }
+
+    private static List<String> addLine(List<String> page, String line, Consumer<List<String>> pageConsumer) {
+        page.add(line);
+        if (endOfPage(line)) {
+            pageConsumer.accept(page);
+            return new ArrayList<>();
+        }
+        return page;
+    }
+
     private static String replaceCarriageReturns(String fullText) {
         return fullText.replaceAll("\r\n", "\n");
     }
@@ -0,0 +1,291 @@
+package gov.nysenate.openleg.util;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.eventbus.SubscriberExceptionHandler;
+import com.google.common.reflect.TypeToken;
+import gov.nysenate.openleg.model.stats.EventSubscriberStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * An EventBus that delivers selected event types asynchronously to selected subscribers, while all other
+ * deliveries are made synchronously on the posting thread, as with a plain EventBus. Routing by subscriber
+ * keeps handlers that must finish before the poster moves on (e.g. cache eviction) synchronous, while slow
+ * handlers of the same events (e.g. search indexing) are queued.
+ *
+ * Queued subscribers receive a copy of the event made by the given copier, so that they never see content
+ * that the poster goes on to modify. The copy is made once per post and shared by the queued subscribers.
+ *
+ * Each asynchronous subscriber is given its own bounded queue, which is drained
+ * in order on a shared thread pool. A slow subscriber (e.g. search indexing) therefore does not hold up
+ * the others, and each subscriber sees events in the order they were posted so that updates to the same
+ * content are never reordered. When a subscriber's queue is full, the posting thread blocks until there
+ * is room, which applies back pressure to the ingestion that is producing the events.
+ */
+public class RoutingEventBus extends EventBus
+{
+    private static final Logger logger = LoggerFactory.getLogger(RoutingEventBus.class);
+
+    /** The maximum number of events a subscriber handles before yielding its pool thread. */
+    private static final int MAX_DRAIN_BATCH = 64;
+
+    /** Set on pool threads while they are delivering events. */
+    private static final ThreadLocal<Boolean> dispatching = ThreadLocal.withInitial(() -> false);
+
+    private final SubscriberExceptionHandler exceptionHandler;
+
+    /** Subscribers that are instances of these types receive asynchronous events on the pool. */
+    private final Set<Class<?>> asyncSubscriberTypes;
+
+    /** Events that are instances of these types are delivered asynchronously. */
+    private final Set<Class<?>> asyncEventTypes;
+
+    /** Copies events before they are queued. */
+    private final UnaryOperator<Object> asyncEventCopier;
+
+    private final ExecutorService executor;
+
+    private final int queueCapacity;
+
+    private final List<AsyncSubscriber> asyncSubscribers = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<Class<?>, Boolean> asyncTypeCache = new ConcurrentHashMap<>();
+
+    /** --- Constructors --- */
+
+    /**
+     * @param exceptionHandler SubscriberExceptionHandler - Handles exceptions thrown by subscribers
+     * @param asyncSubscriberTypes Collection<Class<?>> - Subscribers that are instances of these types
+     *                                                    receive asynchronous events on the pool
+     * @param asyncEventTypes Collection<Class<?>> - Events that are instances of these types are asynchronous
+     * @param asyncEventCopier UnaryOperator<Object> - Copies asynchronous events before they are queued
+     * @param executor ExecutorService - Pool used to deliver asynchronous events
+     * @param queueCapacity int - The maximum number of asynchronous events that can be queued per subscriber
+     */
+    public RoutingEventBus(SubscriberExceptionHandler exceptionHandler, Collection<Class<?>> asyncSubscriberTypes,
+                           Collection<Class<?>> asyncEventTypes, UnaryOperator<Object> asyncEventCopier,
+                           ExecutorService executor, int queueCapacity) {
+        super(exceptionHandler);
+        this.exceptionHandler = exceptionHandler;
+        this.asyncSubscriberTypes = ImmutableSet.copyOf(asyncSubscriberTypes);
+        this.asyncEventTypes = ImmutableSet.copyOf(asyncEventTypes);
+        this.asyncEventCopier = asyncEventCopier;
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** --- Overrides --- */
+
+    /**
+     * Registers asynchronous subscribers with their own queue, all other subscribers are registered
+     * as with a plain EventBus.
+     */
+    @Override
+    public void register(Object object) {
+        Set<Class<?>> handledTypes = getHandledTypes(object);
+        if (isAsyncSubscriber(object) && handledTypes.stream().anyMatch(this::mayBeAsync)) {
+            asyncSubscribers.add(new AsyncSubscriber(object, handledTypes));
+        }
+        else {
+            super.register(object);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unregister(Object object) {
+        if (!asyncSubscribers.removeIf(subscriber -> subscriber.target == object)) {
+            super.unregister(object);
+        }
+    }
+
+    /**
+     * Delivers the event to the synchronous subscribers immediately. Asynchronous subscribers that handle
+     * the event have a copy of it queued if it is an asynchronous event type, otherwise they also receive
+     * the event immediately.
+     */
+    @Override
+    public void post(Object event) {
+        super.post(event);
+        boolean async = isAsync(event.getClass());
+        Object queuedEvent = null;
+        for (AsyncSubscriber subscriber : asyncSubscribers) {
+            if (subscriber.handles(event)) {
+                if (!async) {
+                    subscriber.delegate.post(event);
+                    continue;
+                }
+                if (queuedEvent == null) {
+                    queuedEvent = asyncEventCopier.apply(event);
+                }
+                subscriber.enqueue(queuedEvent);
+            }
+        }
+    }
+
+    /** --- Methods --- */
+
+    /**
+     * @return List<EventSubscriberStats> - Queue and latency stats for each asynchronous subscriber.
+     */
+    public List<EventSubscriberStats> getSubscriberStats() {
+        return asyncSubscribers.stream().map(subscriber -> subscriber.stats).collect(toList());
+    }
+
+    /** Stops delivering asynchronous events, waiting a short time for queued events to be handled. */
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Discarding undelivered events");
+            executor.shutdownNow();
+        }
+    }
+
+    /** --- Internal Methods --- */
+
+    private boolean isAsync(Class<?> eventType) {
+        return asyncTypeCache.computeIfAbsent(eventType,
+            type -> asyncEventTypes.stream().anyMatch(asyncType -> asyncType.isAssignableFrom(type)));
+    }
+
+    private boolean isAsyncSubscriber(Object object) {
+        return asyncSubscriberTypes.stream().anyMatch(type -> type.isInstance(object));
+    }
+
+    /** Returns true if events of the given handled type may be instances of an asynchronous event type. */
+    private boolean mayBeAsync(Class<?> eventType) {
+        return asyncEventTypes.stream().anyMatch(asyncType ->
+            asyncType.isAssignableFrom(eventType) || eventType.isAssignableFrom(asyncType));
+    }
+
+    /**
+     * Finds the parameter types of the object's subscriber methods.
+     */
+    private Set<Class<?>> getHandledTypes(Object object) {
+        Set<Class<?>> handledTypes = new HashSet<>();
+        for (Class<?> type : TypeToken.of(object.getClass()).getTypes().rawTypes()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterTypes().length == 1) {
+                    handledTypes.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        return handledTypes;
+    }
+
+    /**
+     * Delivers events to a single subscriber, asynchronous events in the order they were queued.
+     */
+    private class AsyncSubscriber
+    {
+        private final Object target;
+        private final Set<Class<?>> handledTypes;
+
+        /** Delivers events to the target using the regular EventBus dispatch rules. */
+        private final EventBus delegate;
+
+        private final BlockingQueue<QueuedEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final EventSubscriberStats stats;
+
+        private AsyncSubscriber(Object target, Set<Class<?>> handledTypes) {
+            this.target = target;
+            this.handledTypes = handledTypes;
+            this.delegate = new EventBus(exceptionHandler);
+            this.delegate.register(target);
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+            this.stats = new EventSubscriberStats(target.getClass().getName(), queueCapacity);
+        }
+
+        private boolean handles(Object event) {
+            return handledTypes.stream().anyMatch(type -> type.isInstance(event));
+        }
+
+        private void enqueue(Object event) {
+            QueuedEvent queuedEvent = new QueuedEvent(event);
+            if (dispatching.get()) {
+                // Blocking a pool thread on a full queue could deadlock if that queue is waiting for the thread
+                if (!queue.offer(queuedEvent)) {
+                    logger.warn("Event queue for {} is full, handling {} inline", stats.getSubscriber(), event);
+                    stats.recordOverflow();
+                    deliver(event);
+                    return;
+                }
+            }
+            else {
+                try {
+                    queue.put(queuedEvent);
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    stats.recordOverflow();
+                    deliver(event);
+                    return;
+                }
+            }
+            stats.recordEnqueued(queue.size());
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                }
+                catch (RejectedExecutionException ex) {
+                    scheduled.set(false);
+                    logger.warn("Event pool is shut down, {} events for {} were not delivered",
+                                queue.size(), stats.getSubscriber());
+                }
+            }
+        }
+
+        private void drain() {
+            dispatching.set(true);
+            try {
+                for (int i = 0; i < MAX_DRAIN_BATCH; i++) {
+                    QueuedEvent queuedEvent = queue.poll();
+                    if (queuedEvent == null) {
+                        break;
+                    }
+                    stats.recordDequeued(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - queuedEvent.queuedNanos));
+                    deliver(queuedEvent.event);
+                }
+            }
+            finally {
+                dispatching.set(false);
+                scheduled.set(false);
+            }
+            // Events may have been queued after the last poll, or the batch limit was reached
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void deliver(Object event) {
+            long handleStart = System.nanoTime();
+            delegate.post(event);
+            stats.recordHandled(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - handleStart));
+        }
+    }
+
+    private static class QueuedEvent
+    {
+        private final Object event;
+        private final long queuedNanos = System.nanoTime();
+
+        private QueuedEvent(Object event) {
+            this.event = event;
+        }
+    }
+}
@@ -452,6 +452,80 @@ END;$$;
 
 ALTER FUNCTION master.log_law_updates() OWNER TO postgres;
 
+--
+-- Name: update_token_window(); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION update_token_window() RETURNS interval
+    LANGUAGE sql IMMUTABLE
+    AS $$SELECT interval '5 minutes'$$;
+
+
+ALTER FUNCTION master.update_token_window() OWNER TO postgres;
+
+--
+-- Name: FUNCTION update_token_window(); Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON FUNCTION update_token_window() IS 'Changes from the same source within this interval of its latest update token are treated as one application of the source. Redefine with CREATE OR REPLACE to change it';
+
+
+--
+-- Name: log_update_token(); Type: FUNCTION; Schema: master; Owner: postgres
+--
+
+CREATE FUNCTION log_update_token() RETURNS trigger
+    LANGUAGE plpgsql
+    AS $$DECLARE
+  token_content_type text;     -- The type of content that was updated
+  token_content_id text[];     -- Key/value array that identifies the updated content
+  token_source_id text;        -- The sobi fragment or law file that caused the update
+BEGIN
+
+  -- Rolls the change log rows up into a single row for each time a source is applied to a content item.
+  -- The first change from a source records the update and changes made while applying the same source, i.e. within
+  -- update_token_window() of the latest row, are ignored. Rows are never updated, so if the source is applied again
+  -- at a later time (i.e. reprocessed) a new row is appended and the earlier row stays in its date range.
+
+  IF TG_TABLE_NAME = 'bill_change_log' THEN
+    token_content_type := 'BILL';
+    token_content_id := ARRAY['printNo', NEW.bill_print_no, 'session', NEW.bill_session_year::text];
+    token_source_id := NEW.sobi_fragment_id;
+  ELSIF TG_TABLE_NAME = 'agenda_change_log' THEN
+    token_content_type := 'AGENDA';
+    token_content_id := ARRAY['agendaNumber', NEW.agenda_no::text, 'year', NEW.year::text];
+    token_source_id := NEW.sobi_fragment_id;
+  ELSIF TG_TABLE_NAME = 'calendar_change_log' THEN
+    token_content_type := 'CALENDAR';
+    token_content_id := ARRAY['calNo', NEW.calendar_no::text, 'year', NEW.calendar_year::text];
+    token_source_id := NEW.sobi_fragment_id;
+  ELSIF TG_TABLE_NAME = 'law_change_log' THEN
+    token_content_type := 'LAW';
+    token_content_id := ARRAY['lawId', NEW.law_id];
+    token_source_id := NEW.law_file_name;
+  ELSE
+    RETURN NEW;
+  END IF;
+
+  -- Serialize writers for the same content item and source so they can't both append a row
+  PERFORM pg_advisory_xact_lock(hashtext(token_content_type || token_content_id::text),
+                                hashtext(COALESCE(token_source_id, '')));
+
+  INSERT INTO master.update_token (content_type, content_id, source_id, action_date_time, published_date_time)
+  SELECT token_content_type, token_content_id, token_source_id, NEW.action_date_time, NEW.published_date_time
+  WHERE NOT EXISTS (
+    SELECT 1 FROM master.update_token
+    WHERE content_type = token_content_type AND content_id = token_content_id
+      AND COALESCE(source_id, '') = COALESCE(token_source_id, '')
+      AND action_date_time >= NEW.action_date_time - master.update_token_window());
+
+  RETURN NEW;
+
+END;$$;
+
+
+ALTER FUNCTION master.log_update_token() OWNER TO postgres;
+
 SET search_path = public, pg_catalog;
 
 --
@@ -4056,6 +4130,66 @@ COMMENT ON COLUMN transcript_file.pending_processing IS 'Indicates if this trans
 COMMENT ON COLUMN transcript_file.archived IS 'Indicates if this transcript file has been moved to the archive directory.';
 
 
+--
+-- Name: update_token; Type: TABLE; Schema: master; Owner: postgres; Tablespace: 
+--
+
+CREATE TABLE update_token (
+    id integer NOT NULL,
+    content_type text NOT NULL,
+    content_id text[] NOT NULL,
+    source_id text,
+    action_date_time timestamp without time zone NOT NULL,
+    published_date_time timestamp without time zone
+);
+
+
+ALTER TABLE master.update_token OWNER TO postgres;
+
+--
+-- Name: TABLE update_token; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON TABLE update_token IS 'Append-only rollup of the change logs with one row each time a source is applied to a content item';
+
+
+--
+-- Name: COLUMN update_token.content_id; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN update_token.content_id IS 'Key/value array identifying the updated content, e.g. {printNo,S1234,session,2015}';
+
+
+--
+-- Name: COLUMN update_token.source_id; Type: COMMENT; Schema: master; Owner: postgres
+--
+
+COMMENT ON COLUMN update_token.source_id IS 'The sobi fragment id or law file name that caused the update';
+
+
+--
+-- Name: update_token_id_seq; Type: SEQUENCE; Schema: master; Owner: postgres
+--
+
+CREATE SEQUENCE update_token_id_seq
+    START WITH 1
+    INCREMENT BY 1
+    NO MINVALUE
+    NO MAXVALUE
+    CACHE 1;
+
+
+ALTER TABLE master.update_token_id_seq OWNER TO postgres;
+
+--
+-- Name: update_token_id_seq; Type: SEQUENCE OWNED BY; Schema: master; Owner: postgres
+--
+
+ALTER SEQUENCE update_token_id_seq OWNED BY update_token.id;
+
+ALTER TABLE ONLY update_token ALTER COLUMN id SET DEFAULT nextval('update_token_id_seq'::regclass);
+
+
 SET search_path = public, pg_catalog;
 
 --
@@ -5581,6 +5715,35 @@ CREATE INDEX law_change_log_published_date_idx ON law_change_log USING btree (pu
 CREATE INDEX law_change_log_sobi_fragment_id_idx ON law_change_log USING btree (law_file_name);
 
 
+--
+-- Name: update_token_pkey; Type: CONSTRAINT; Schema: master; Owner: postgres; Tablespace: 
+--
+
+ALTER TABLE ONLY update_token
+    ADD CONSTRAINT update_token_pkey PRIMARY KEY (id);
+
+
+--
+-- Name: update_token_content_source_idx; Type: INDEX; Schema: master; Owner: postgres; Tablespace: 
+--
+
+CREATE UNIQUE INDEX update_token_content_source_idx ON update_token USING btree (content_type, content_id, (COALESCE(source_id, '')), action_date_time);
+
+
+--
+-- Name: update_token_action_date_time_idx; Type: INDEX; Schema: master; Owner: postgres; Tablespace: 
+--
+
+CREATE INDEX update_token_action_date_time_idx ON update_token USING btree (action_date_time, content_type);
+
+
+--
+-- Name: update_token_published_date_time_idx; Type: INDEX; Schema: master; Owner: postgres; Tablespace: 
+--
+
+CREATE INDEX update_token_published_date_time_idx ON update_token USING btree (published_date_time, content_type);
+
+
 --
 -- Name: law_tree_doc_id_idx; Type: INDEX; Schema: master; Owner: postgres; Tablespace: 
 --
@@ -5763,6 +5926,34 @@ CREATE TRIGGER log_law_document_updates_to_change_log BEFORE INSERT OR DELETE OR
 CREATE TRIGGER log_law_tree_updates_to_change_log BEFORE INSERT OR DELETE OR UPDATE ON law_tree FOR EACH ROW EXECUTE PROCEDURE log_law_updates();
 
 
+--
+-- Name: log_agenda_change_log_update_tokens; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_agenda_change_log_update_tokens AFTER INSERT ON agenda_change_log FOR EACH ROW EXECUTE PROCEDURE log_update_token();
+
+
+--
+-- Name: log_bill_change_log_update_tokens; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_bill_change_log_update_tokens AFTER INSERT ON bill_change_log FOR EACH ROW EXECUTE PROCEDURE log_update_token();
+
+
+--
+-- Name: log_calendar_change_log_update_tokens; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_calendar_change_log_update_tokens AFTER INSERT ON calendar_change_log FOR EACH ROW EXECUTE PROCEDURE log_update_token();
+
+
+--
+-- Name: log_law_change_log_update_tokens; Type: TRIGGER; Schema: master; Owner: postgres
+--
+
+CREATE TRIGGER log_law_change_log_update_tokens AFTER INSERT ON law_change_log FOR EACH ROW EXECUTE PROCEDURE log_update_token();
+
+
 --
 -- Name: active_list_reference_entry_calendar_active_list_id_fkey; Type: FK CONSTRAINT; Schema: master; Owner: postgres
 --
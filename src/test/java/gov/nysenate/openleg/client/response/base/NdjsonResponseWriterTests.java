@@ -0,0 +1,100 @@
+package gov.nysenate.openleg.client.response.base;
+
+import gov.nysenate.openleg.client.view.base.ListView;
+import gov.nysenate.openleg.client.view.base.StringView;
+import gov.nysenate.openleg.client.view.base.ViewObject;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class NdjsonResponseWriterTests
+{
+    /** A view that fails part way through being serialized. */
+    public static class FailingView implements ViewObject
+    {
+        public String getA() {
+            return "a";
+        }
+
+        public String getB() {
+            throw new IllegalStateException("Could not load b");
+        }
+
+        @Override
+        public String getViewType() {
+            return "failing";
+        }
+    }
+
+    @Test
+    public void writeTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonResponseWriter writer = new NdjsonResponseWriter(out)) {
+            writer.write(new StringView("line one"));
+            writer.write(ListView.of(Arrays.asList(new StringView("a"), new StringView("b\nc"))));
+            assertEquals(2, writer.getCount());
+        }
+        assertEquals("{\"text\":\"line one\"}\n{\"items\":[{\"text\":\"a\"},{\"text\":\"b\\nc\"}],\"size\":2}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void trailerTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonResponseWriter writer = new NdjsonResponseWriter(out)) {
+            writer.write(new StringView("a"));
+            writer.writeComplete();
+        }
+        assertEquals("{\"text\":\"a\"}\n{\"complete\":true,\"count\":1}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        out = new ByteArrayOutputStream();
+        try (NdjsonResponseWriter writer = new NdjsonResponseWriter(out)) {
+            writer.write(new StringView("a"));
+            writer.writeError("failed");
+        }
+        assertEquals("{\"text\":\"a\"}\n{\"complete\":false,\"count\":1,\"error\":\"failed\"}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void gzipTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonResponseWriter writer = new NdjsonResponseWriter(new GZIPOutputStream(out))) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(new StringView(Integer.toString(i)));
+            }
+        }
+        byte[] content = IOUtils.toByteArray(
+            new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())));
+        String[] lines = new String(content, StandardCharsets.UTF_8).split("\n");
+        assertEquals(100, lines.length);
+        assertEquals("{\"text\":\"99\"}", lines[99]);
+    }
+
+    @Test
+    public void failedViewLeavesNoPartialLineTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonResponseWriter writer = new NdjsonResponseWriter(out)) {
+            writer.write(new StringView("a"));
+            try {
+                writer.write(new FailingView());
+                fail("The failing view should not have been written");
+            }
+            catch (IOException expected) {}
+            writer.writeError("failed");
+        }
+        assertEquals("{\"text\":\"a\"}\n{\"complete\":false,\"count\":1,\"error\":\"failed\"}\n",
+                     new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,100 @@
+package gov.nysenate.openleg.client.view.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import gov.nysenate.openleg.client.view.bill.BillActionView;
+import gov.nysenate.openleg.client.view.bill.BillInfoView;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class ViewFieldsTests
+{
+    private static JsonNode json(String json) throws IOException {
+        return OutputUtils.getJsonMapper().readTree(json.replace('\'', '"'));
+    }
+
+    @Test
+    public void parseTest() {
+        assertTrue(ViewFields.of(null).isAll());
+        assertTrue(ViewFields.of(" , ").isAll());
+
+        ViewFields fields = ViewFields.of("title, amendments.fullText,status,amendments.memo");
+        assertEquals("amendments.fullText,amendments.memo,status,title", fields.toString());
+        assertEquals(fields, ViewFields.of("status,title,amendments.memo,amendments.fullText"));
+        assertTrue(fields.includes("amendments"));
+        assertFalse(fields.includes("votes"));
+        assertTrue(fields.get("amendments").includes("fullText"));
+        assertFalse(fields.get("amendments").includes("coSponsors"));
+        assertTrue(fields.get("title").isAll());
+        assertTrue(fields.isWithin(Arrays.asList("amendments", "status", "title", "votes")));
+        assertFalse(fields.isWithin(Arrays.asList("status", "title")));
+
+        // Selecting a property in full takes precedence over selecting some of its properties
+        assertEquals("actions", ViewFields.of("actions.text,actions").toString());
+        assertEquals("actions", ViewFields.of("actions,actions.text").toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getUnselectedTest() {
+        ViewFields.of("title").get("status");
+    }
+
+    @Test
+    public void projectTest() throws IOException {
+        JsonNode view = json("{'title':'A bill','status':{'statusType':'IN_SENATE_COMM','actionDate':'2015-01-01'}," +
+                             "'actions':{'items':[{'text':'REFERRED','sequenceNo':1}],'size':1}," +
+                             "'amendments':{'items':{'':{'fullText':'text','memo':'memo'}},'size':1}}");
+        assertSame(view, ViewFields.ALL.project(view));
+        assertEquals(json("{'title':'A bill','status':{'actionDate':'2015-01-01'}," +
+                          "'actions':{'items':[{'text':'REFERRED'}],'size':1}," +
+                          "'amendments':{'items':{'':{'fullText':'text'}},'size':1}}"),
+                     ViewFields.of("title,status.actionDate,actions.text,amendments.fullText,votes").project(view));
+    }
+
+    @Test
+    public void projectedViewTest() throws IOException {
+        ViewObject view = MapView.of(Collections.singletonMap("A", new StringView("text")));
+        assertSame(view, ProjectedView.of(view, ViewFields.ALL));
+        ViewObject projected = ProjectedView.of(view, ViewFields.of("missing"));
+        assertEquals(view.getViewType(), projected.getViewType());
+        assertEquals(json("{'items':{'A':{}},'size':1}"), json(OutputUtils.toJson(projected)));
+    }
+
+    @Test
+    public void projectedViewMatchesProjectionTest() throws IOException {
+        BillActionView action = new BillActionView(
+            new BillAction(LocalDate.of(2015, 3, 1), "REFERRED TO RULES", Chamber.SENATE, 1, new BillId("S1234", 2015)));
+        ViewObject view = MapView.of(Collections.singletonMap("actions", ListView.of(Arrays.asList(action, action))));
+        for (String fieldsParam : Arrays.asList("text", "billId.printNo,date", "billId,sequenceNo", "missing")) {
+            ViewFields fields = ViewFields.of(fieldsParam);
+            assertEquals(fieldsParam, fields.project(OutputUtils.getJsonMapper().valueToTree(view)),
+                         json(OutputUtils.toJson(ProjectedView.of(view, fields))));
+        }
+    }
+
+    @Test
+    public void unknownPathsTest() {
+        assertTrue(ViewFields.ALL.getUnknownPaths(BillView.class).isEmpty());
+        assertTrue(ViewFields.of("title,status.actionDate,amendments.fullText,actions.text,votes.memberVotes.shortName")
+                       .getUnknownPaths(BillView.class).isEmpty());
+        assertEquals(Arrays.asList("amendments.items", "status.missing", "titel", "title.length"),
+                     ViewFields.of("titel,title.length,status.missing,status.actionDate,amendments.items")
+                         .getUnknownPaths(BillView.class));
+    }
+
+    @Test
+    public void propertiesOfTest() {
+        assertTrue(ViewFields.propertiesOf(BillInfoView.class).containsAll(Arrays.asList("title", "status", "summary")));
+        assertFalse(ViewFields.propertiesOf(BillInfoView.class).contains("viewType"));
+    }
+}
@@ -0,0 +1,74 @@
+package gov.nysenate.openleg.controller.api.base;
+
+import com.google.common.collect.Sets;
+import gov.nysenate.openleg.model.stats.ApiKeyStats;
+import gov.nysenate.openleg.model.stats.ApiRouteStats;
+import gov.nysenate.openleg.service.stats.InMemoryApiStatsService;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ApiLogFilterTests
+{
+    @Test
+    public void routeTemplateTest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/3/bills/2015/S1234");
+        assertEquals("unmatched", ApiLogFilter.getRoute(request));
+
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                             "/api/3/bills/{sessionYear:[\\d]{4}}/{printNo}");
+        assertEquals("GET /api/3/bills/{sessionYear}/{printNo}", ApiLogFilter.getRoute(request));
+
+        request.setParameter("view", "WITH_REFS");
+        assertEquals("GET /api/3/bills/{sessionYear}/{printNo}?view=with_refs", ApiLogFilter.getRoute(request));
+
+        request.setParameter("view", "not a view");
+        assertEquals("GET /api/3/bills/{sessionYear}/{printNo}?view=other", ApiLogFilter.getRoute(request));
+
+        // Arbitrary view names don't create new routes
+        request.setParameter("view", "made_up_view");
+        assertEquals("GET /api/3/bills/{sessionYear}/{printNo}?view=other", ApiLogFilter.getRoute(request));
+    }
+
+    @Test
+    public void writerBytesCountedTest() throws Exception {
+        ApiLogFilter filter = new ApiLogFilter();
+        filter.apiStatsService = new InMemoryApiStatsService();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/3/bills/2015/S1234");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        // Two of the characters take two bytes each in UTF-8
+        filter.doFilter(request, response, (req, res) -> res.getWriter().print("{\"text\":\"\u00a7 1.\u00b6\"}"));
+
+        List<ApiRouteStats> routeStats = filter.apiStatsService.getRouteStats();
+        assertEquals(1, routeStats.size());
+        assertEquals(response.getContentAsByteArray().length, routeStats.get(0).getResponseBytes());
+        assertEquals(18, routeStats.get(0).getResponseBytes());
+    }
+
+    @Test
+    public void onlyValidatedKeysRecordedTest() throws Exception {
+        ApiLogFilter filter = new ApiLogFilter();
+        filter.apiStatsService = new InMemoryApiStatsService();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/3/bills/2015/S1234");
+        request.setParameter("key", "not a real key");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {});
+
+        MockHttpServletRequest validRequest = new MockHttpServletRequest("GET", "/api/3/bills/2015/S1234");
+        validRequest.setParameter("key", "validKey");
+        filter.doFilter(validRequest, new MockHttpServletResponse(),
+                        (req, res) -> req.setAttribute(ApiAuthFilter.VALID_API_KEY_ATTRIBUTE, "validKey"));
+
+        Set<String> keys = filter.apiStatsService.getApiKeyStats().stream()
+            .map(ApiKeyStats::getApiKey)
+            .collect(Collectors.toSet());
+        assertEquals(Sets.newHashSet("none", "validKey"), keys);
+    }
+}
@@ -0,0 +1,59 @@
+package gov.nysenate.openleg.dao.law.data;
+
+import gov.nysenate.openleg.dao.law.data.SqlLawDataDao.LawTreeChanges;
+import gov.nysenate.openleg.model.law.*;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class SqlLawDataDaoTests
+{
+    private static final LocalDate publishedDate = LocalDate.of(2015, 1, 2);
+    private static final String lawFile = "DATABASE.LAW.20150102";
+
+    @Test
+    public void lawTreeChangesTest() {
+        LawTreeNode chapter = node("ABC-CH", LawDocumentType.CHAPTER, 1);
+        LawTreeNode article = node("ABCA1", LawDocumentType.ARTICLE, 2);
+        LawTreeNode section1 = node("ABC1", LawDocumentType.SECTION, 3);
+        LawTreeNode section2 = node("ABC2", LawDocumentType.SECTION, 4);
+        chapter.addChild(article);
+        article.addChild(section1);
+        article.addChild(section2);
+        LawTree lawTree = new LawTree(new LawVersionId("ABC", publishedDate), chapter, new LawInfo());
+
+        Map<Pair<String, LocalDate>, List<Object>> existingRows = new HashMap<>();
+        // Unchanged rows
+        existingRows.put(key(chapter), SqlLawDataDao.getLawTreeNodeRow(chapter, lawFile));
+        existingRows.put(key(article), SqlLawDataDao.getLawTreeNodeRow(article, lawFile));
+        // Moved from the chapter to the article
+        existingRows.put(key(section1), Arrays.asList("ABC-CH", publishedDate, false, 3, null, lawFile));
+        // A removed section
+        existingRows.put(Pair.of("ABC3", publishedDate), Arrays.asList("ABCA1", publishedDate, false, 5, null, lawFile));
+
+        LawTreeChanges changes = SqlLawDataDao.getLawTreeChanges(lawTree, lawFile, existingRows);
+        assertEquals(Collections.singletonList(section2), changes.insertedNodes);
+        assertEquals(Collections.singletonList(section1), changes.updatedNodes);
+        assertEquals(Collections.singletonList(Pair.of("ABC3", publishedDate)), changes.deletedDocs);
+
+        // Rows written from an earlier law file are updated even if nothing else changed
+        changes = SqlLawDataDao.getLawTreeChanges(lawTree, "DATABASE.LAW.20150109", existingRows);
+        assertEquals(Arrays.asList(chapter, article, section1), changes.updatedNodes);
+        assertEquals(Collections.singletonList(section2), changes.insertedNodes);
+    }
+
+    /** --- Internal --- */
+
+    private static LawTreeNode node(String docId, LawDocumentType docType, int sequenceNo) {
+        return new LawTreeNode(new LawDocInfo(docId, "ABC", docId.substring(3), docId, docType, docId.substring(3),
+                                              publishedDate), sequenceNo);
+    }
+
+    private static Pair<String, LocalDate> key(LawTreeNode node) {
+        return Pair.of(node.getDocumentId(), node.getPublishDate());
+    }
+}
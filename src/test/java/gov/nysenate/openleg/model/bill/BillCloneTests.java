@@ -0,0 +1,93 @@
+package gov.nysenate.openleg.model.bill;
+
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.CommitteeVersionId;
+import gov.nysenate.openleg.model.entity.Member;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class BillCloneTests
+{
+    private static final SessionYear session = SessionYear.of(2015);
+    private static final LocalDateTime updateDateTime = LocalDateTime.of(2015, 3, 2, 10, 30);
+
+    @Test
+    public void deepCloneSharesNoStateTest() {
+        Bill bill = createBill();
+        Bill clone = bill.deepClone();
+
+        assertEquals(bill.getBaseBillId(), clone.getBaseBillId());
+        assertEquals(bill.getSession(), clone.getSession());
+        assertEquals(bill.getPublishedDateTime(), clone.getPublishedDateTime());
+        assertEquals(bill.getTitle(), clone.getTitle());
+        assertEquals(bill.getActions(), clone.getActions());
+        assertEquals(bill.getAdditionalSponsors(), clone.getAdditionalSponsors());
+        assertEquals(bill.getVetoMessages().keySet(), clone.getVetoMessages().keySet());
+        assertEquals(bill.getAmendment(Version.DEFAULT).getSameAs(), clone.getAmendment(Version.DEFAULT).getSameAs());
+        assertEquals(bill.getAmendment(Version.DEFAULT).getVotesList(),
+                     clone.getAmendment(Version.DEFAULT).getVotesList());
+
+        // Changes made while processing later fragments don't reach the clone
+        bill.getAmendment(Version.DEFAULT).getSameAs().clear();
+        bill.getAdditionalSponsors().clear();
+        bill.getVetoMessages().clear();
+        bill.addAction(new BillAction(LocalDate.of(2015, 3, 3), "AMENDED", Chamber.SENATE, 2,
+                                      bill.getBaseBillId().withVersion(Version.DEFAULT)));
+        assertEquals(1, clone.getAmendment(Version.DEFAULT).getSameAs().size());
+        assertEquals(1, clone.getAdditionalSponsors().size());
+        assertEquals(1, clone.getVetoMessages().size());
+        assertEquals(1, clone.getActions().size());
+    }
+
+    /** --- Internal --- */
+
+    private static Bill createBill() {
+        BaseBillId baseBillId = new BaseBillId("S1234", 2015);
+        Bill bill = new Bill(baseBillId);
+        bill.setTitle("An act to amend the tax law");
+        bill.setPublishedDateTime(updateDateTime);
+        bill.setModifiedDateTime(updateDateTime);
+        bill.setStatus(new BillStatus(BillStatusType.IN_SENATE_COMM, LocalDate.of(2015, 3, 2)));
+        bill.updatePublishStatus(Version.DEFAULT, new PublishStatus(true, updateDateTime));
+        bill.setProgramInfo(new ProgramInfo("Governor", 12));
+        bill.setCalendars(Collections.singletonList(new CalendarId(20, 2015)));
+        CommitteeId committeeId = new CommitteeId(Chamber.SENATE, "Finance");
+        bill.setCommitteeAgendas(Collections.singletonList(new CommitteeAgendaId(new AgendaId(4, 2015), committeeId)));
+        bill.addPastCommittee(new CommitteeVersionId(committeeId, session, updateDateTime));
+
+        Member member = new Member(371, session);
+        bill.setSponsor(new BillSponsor(member));
+        bill.getAdditionalSponsors().add(new Member(372, session));
+        bill.addAction(new BillAction(LocalDate.of(2015, 3, 2), "REFERRED TO FINANCE", Chamber.SENATE, 1,
+                                      baseBillId.withVersion(Version.DEFAULT)));
+
+        VetoMessage vetoMessage = new VetoMessage();
+        vetoMessage.setYear(2015);
+        vetoMessage.setVetoNumber(3);
+        vetoMessage.setBillId(baseBillId);
+        vetoMessage.setMemoText("Vetoed");
+        bill.getVetoMessages().put(vetoMessage.getVetoId(), vetoMessage);
+
+        BillAmendment amendment = new BillAmendment(baseBillId, Version.DEFAULT);
+        amendment.setFullText("The people of the state of New York ...");
+        amendment.getSameAs().add(new BillId("A4321", 2015));
+        BillVote vote = new BillVote(baseBillId.withVersion(Version.DEFAULT), LocalDate.of(2015, 3, 2),
+                                     BillVoteType.COMMITTEE, 1);
+        vote.addMemberVote(BillVoteCode.AYE, member);
+        amendment.updateVote(vote);
+        bill.addAmendment(amendment);
+        return bill;
+    }
+}
@@ -3,7 +3,11 @@ package gov.nysenate.openleg.model.bill;
 import gov.nysenate.openleg.model.base.Version;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
 
 public class BillIdTests
 {
@@ -42,4 +46,57 @@ public class BillIdTests
         BaseBillId id3 = new BaseBillId("S1234", 2013);
         assertEquals(id3.hashCode(), id2.hashCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPackedIdRoundTrip() throws Exception {
+        for (String printNo : new String[]{"S1", "S1234A", "A99999Z", "J700", "K12B", "L999999"}) {
+            BillId id = new BillId(printNo, 2015);
+            assertEquals(id, BillId.fromPackedId(id.getPackedId()));
+            assertEquals(BaseBillId.of(id), BaseBillId.fromPackedId(id.getPackedId()));
+            assertEquals(new BaseBillId(printNo, 2015).getPackedId(), id.getPackedBaseId());
+        }
+    }
+
+    @Test
+    public void testPackedIdOrder() throws Exception {
+        List<BillId> ids = Arrays.asList(new BillId("S9", 2015), new BillId("S10", 2013), new BillId("A10", 2015),
+                                         new BillId("S9A", 2015), new BillId("S10", 2015));
+        List<BillId> sorted = ids.stream()
+            .mapToLong(BillId::getPackedId)
+            .sorted()
+            .mapToObj(BillId::fromPackedId)
+            .collect(toList());
+        assertEquals(Arrays.asList(new BillId("S10", 2013), new BillId("A10", 2015), new BillId("S9", 2015),
+                                   new BillId("S9A", 2015), new BillId("S10", 2015)), sorted);
+    }
+
+    @Test
+    public void testPackedEqualityMatchesStringEquality() throws Exception {
+        BillId packable = new BillId("S1234A", 2013);
+        assertTrue(packable.isPackable());
+        assertEquals(packable, new BillId("s01234-a", 2013));
+        assertEquals(packable.hashCode(), new BillId("S01234A", 2013).hashCode());
+        assertNotEquals(packable, new BillId("S1234B", 2013));
+        assertTrue(packable.equalsBase(new BaseBillId("S1234", 2013)));
+        assertNotEquals(packable, new BillId("S1234A", 2015));
+        assertEquals(packable.hashCodeBase(), new BaseBillId("S1234", 2013).hashCodeBase());
+
+        BillId unpackable = new BillId("S12345678", 2013);
+        assertFalse(unpackable.isPackable());
+        assertEquals(unpackable, new BillId("S012345678", 2013));
+        assertEquals(12345678, unpackable.getNumber());
+    }
+
+    @Test
+    public void testPaddedPrintNumber() throws Exception {
+        assertEquals("S01234A", new BillId("S1234A", 2013).getPaddedPrintNumber());
+        assertEquals("A00001", new BillId("A1", 2013).getPaddedPrintNumber());
+        assertEquals("S1234-2013", new BaseBillId("S1234A", 2013).toString());
+        assertEquals(BillType.J, new BillId("J12", 2013).getBillType());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromPackedId_invalid() throws Exception {
+        BillId.fromPackedId(12345L);
+    }
+}
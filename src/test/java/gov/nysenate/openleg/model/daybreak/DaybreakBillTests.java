@@ -0,0 +1,41 @@
+package gov.nysenate.openleg.model.daybreak;
+
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+public class DaybreakBillTests
+{
+    @Test
+    public void copySharesNoStateTest() {
+        DaybreakBill daybreakBill = new DaybreakBill(
+                new DaybreakBillId(new BaseBillId("S1234", 2015), LocalDate.of(2015, 3, 2)));
+        daybreakBill.setSponsor("SMITH");
+        daybreakBill.getCosponsors().add("JONES");
+        daybreakBill.getActions().add(
+                new BillAction(LocalDate.of(2015, 3, 1), "REFERRED TO RULES", Chamber.SENATE, 1, new BillId("S1234", 2015)));
+        daybreakBill.getAmendments().put(Version.DEFAULT,
+                new DaybreakBillAmendment(new BillId("S1234", 2015), null, 3, LocalDate.of(2015, 3, 1)));
+
+        DaybreakBill copy = new DaybreakBill(daybreakBill);
+        assertEquals(daybreakBill.getBaseBillId(), copy.getBaseBillId());
+        assertEquals(daybreakBill.getReportDate(), copy.getReportDate());
+        assertEquals(daybreakBill.getSponsor(), copy.getSponsor());
+        assertEquals(daybreakBill.getCosponsors(), copy.getCosponsors());
+        assertEquals(daybreakBill.getActions(), copy.getActions());
+
+        copy.getCosponsors().add("DOE");
+        copy.getActions().clear();
+        copy.getAmendments().get(Version.DEFAULT).setPageCount(10);
+        assertEquals(1, daybreakBill.getCosponsors().size());
+        assertEquals(1, daybreakBill.getActions().size());
+        assertEquals(3, daybreakBill.getAmendments().get(Version.DEFAULT).getPageCount());
+    }
+}
@@ -0,0 +1,118 @@
+package gov.nysenate.openleg.model.entity;
+
+import gov.nysenate.openleg.model.base.SessionYear;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CommitteeTimelineTests
+{
+    private static final SessionYear session = SessionYear.of(2015);
+    private static final CommitteeSessionId sessionId = new CommitteeSessionId(Chamber.SENATE, "Finance", session);
+
+    private static LocalDateTime day(int dayOfMonth) {
+        return LocalDateTime.of(2015, 1, dayOfMonth, 12, 0);
+    }
+
+    private static Committee committee(LocalDateTime created, int memberCount, DayOfWeek meetDay) {
+        Committee committee = new Committee("Finance", Chamber.SENATE);
+        committee.setSession(session);
+        committee.setPublishedDateTime(created);
+        committee.setMeetDay(meetDay);
+        for (int i = 1; i <= memberCount; i++) {
+            CommitteeMember committeeMember = new CommitteeMember();
+            committeeMember.setSequenceNo(i);
+            committeeMember.setMember(new Member(i, session));
+            committeeMember.setTitle(CommitteeMemberTitle.MEMBER);
+            committee.addMember(committeeMember);
+        }
+        return committee;
+    }
+
+    private static List<LocalDateTime> createdDates(CommitteeTimeline timeline) {
+        return timeline.getHistory().stream().map(Committee::getCreated).collect(Collectors.toList());
+    }
+
+    @Test
+    public void membershipChangeStartsNewVersionTest() {
+        CommitteeTimeline timeline = new CommitteeTimeline(sessionId);
+        timeline.update(committee(day(5), 3, DayOfWeek.MONDAY));
+        timeline.update(committee(day(10), 3, DayOfWeek.MONDAY));
+        timeline.update(committee(day(15), 4, DayOfWeek.MONDAY));
+
+        assertEquals(Arrays.asList(day(15), day(5)), createdDates(timeline));
+        assertEquals(day(15), timeline.getHistory().get(1).getReformed());
+        assertNull(timeline.getLatest().get().getReformed());
+        assertEquals(day(5), timeline.getCommittee(day(14)).get().getCreated());
+        assertEquals(day(15), timeline.getCommittee(day(15)).get().getCreated());
+        assertEquals(day(15), timeline.getCommittee(day(30)).get().getCreated());
+        assertFalse(timeline.getCommittee(day(4)).isPresent());
+    }
+
+    @Test
+    public void meetingChangeUpdatesVersionTest() {
+        Committee original = committee(day(5), 3, DayOfWeek.MONDAY);
+        CommitteeTimeline timeline = new CommitteeTimeline(sessionId);
+        timeline.update(original);
+        Committee cached = timeline.getLatest().get();
+        timeline.update(committee(day(10), 3, DayOfWeek.TUESDAY));
+
+        assertEquals(1, timeline.size());
+        assertEquals(DayOfWeek.TUESDAY, timeline.getLatest().get().getMeetDay());
+        assertEquals(day(5), timeline.getLatest().get().getCreated());
+        // Committees already handed out are not modified
+        assertEquals(DayOfWeek.MONDAY, cached.getMeetDay());
+        assertEquals(DayOfWeek.MONDAY, original.getMeetDay());
+    }
+
+    @Test
+    public void earlierUpdateReplacesLaterVersionsTest() {
+        CommitteeTimeline timeline = new CommitteeTimeline(sessionId);
+        timeline.update(committee(day(5), 3, DayOfWeek.MONDAY));
+        timeline.update(committee(day(15), 4, DayOfWeek.MONDAY));
+        timeline.update(committee(day(20), 5, DayOfWeek.MONDAY));
+        timeline.update(committee(day(10), 6, DayOfWeek.MONDAY));
+
+        assertEquals(Arrays.asList(day(10), day(5)), createdDates(timeline));
+        assertEquals(6, timeline.getCommittee(day(25)).get().getMembers().size());
+    }
+
+    @Test
+    public void sameDateUpdateMergesWithPreviousVersionTest() {
+        CommitteeTimeline timeline = new CommitteeTimeline(sessionId);
+        timeline.update(committee(day(5), 3, DayOfWeek.MONDAY));
+        timeline.update(committee(day(10), 4, DayOfWeek.MONDAY));
+        timeline.update(committee(day(10), 5, DayOfWeek.MONDAY));
+        assertEquals(Arrays.asList(day(10), day(5)), createdDates(timeline));
+        assertEquals(5, timeline.getLatest().get().getMembers().size());
+
+        // Reverting the membership on the same date merges the change into the previous version
+        timeline.update(committee(day(10), 3, DayOfWeek.FRIDAY));
+        assertEquals(Arrays.asList(day(5)), createdDates(timeline));
+        assertEquals(DayOfWeek.FRIDAY, timeline.getLatest().get().getMeetDay());
+        assertNull(timeline.getLatest().get().getReformed());
+    }
+
+    @Test
+    public void loadedHistoryTest() {
+        Committee first = committee(day(5), 3, DayOfWeek.MONDAY);
+        first.setReformed(day(15));
+        CommitteeTimeline timeline = new CommitteeTimeline(sessionId,
+                Arrays.asList(committee(day(15), 4, DayOfWeek.MONDAY), first));
+        assertEquals(Arrays.asList(day(15), day(5)), createdDates(timeline));
+        assertEquals(day(5), timeline.getCommittee(day(10)).get().getCreated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void otherSessionUpdateTest() {
+        Committee committee = committee(day(5), 3, DayOfWeek.MONDAY);
+        committee.setSession(SessionYear.of(2013));
+        new CommitteeTimeline(sessionId).update(committee);
+    }
+}
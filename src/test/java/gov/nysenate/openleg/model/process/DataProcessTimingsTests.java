@@ -0,0 +1,70 @@
+package gov.nysenate.openleg.model.process;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DataProcessTimingsTests
+{
+    @Test
+    public void spansAreRolledUpPerSourceTypeAndPhaseTest() {
+        DataProcessTimings timings = new DataProcessTimings();
+        timings.recordSpan("SOBI-BILL", DataProcessPhase.APPLY, 300, 1, 1000);
+        timings.recordSpan("SOBI-BILL", DataProcessPhase.PARSE, 100, 1, 1000);
+        timings.recordSpan("SOBI-BILL", DataProcessPhase.APPLY, 500, 1, 2000);
+        timings.recordSpan(new DataProcessSpanEvent("BILL", DataProcessPhase.FLUSH, 700, 2, 0));
+        timings.recordSpan("SOBI-AGENDA", DataProcessPhase.APPLY, 50, 1, 10);
+
+        List<DataProcessPhaseStats> stats = timings.getPhaseStats();
+        assertEquals(4, stats.size());
+        // Ordered by source type and then phase
+        assertEquals("BILL", stats.get(0).getSourceType());
+        assertEquals("SOBI-AGENDA", stats.get(1).getSourceType());
+        assertEquals(DataProcessPhase.PARSE, stats.get(2).getPhase());
+
+        DataProcessPhaseStats billApply = stats.get(3);
+        assertEquals(DataProcessPhase.APPLY, billApply.getPhase());
+        assertEquals(2, billApply.getSpanCount());
+        assertEquals(800, billApply.getTotalNanos());
+        assertEquals(500, billApply.getMaxNanos());
+        assertEquals(3000, billApply.getByteCount());
+
+        assertEquals(850, timings.getTotalNanos(DataProcessPhase.APPLY));
+        assertEquals(0, timings.getTotalNanos(DataProcessPhase.INDEX));
+    }
+
+    @Test
+    public void lagIsRecordedInMillisTest() {
+        DataProcessTimings timings = new DataProcessTimings();
+        LocalDateTime published = LocalDateTime.of(2015, 3, 2, 10, 0);
+        DataProcessLagEvent lagEvent =
+            new DataProcessLagEvent("SOBI-BILL", "SOBI.D150302.T100000.TXT-0-BILL", published, published.plusSeconds(90));
+        timings.recordLag(lagEvent.getSourceType(), lagEvent.getLag());
+        timings.recordLag("SOBI-BILL", Duration.ofSeconds(30));
+
+        assertEquals(1, timings.getLagMillis().size());
+        assertEquals(2, timings.getLagMillis().get("SOBI-BILL").getTotalCount());
+        assertEquals(90000, timings.getLagMillis().get("SOBI-BILL").getMaxValue());
+    }
+
+    @Test
+    public void unitParseAndApplyTimesTest() throws InterruptedException {
+        DataProcessUnit unit = new DataProcessUnit("SOBI-BILL", "fragment", LocalDateTime.now(), DataProcessAction.INGEST);
+        assertEquals(-1, unit.getApplyNanos());
+        Thread.sleep(2);
+        unit.markParsed();
+        Thread.sleep(2);
+        unit.markProcessed();
+        assertTrue(unit.getParseNanos() > 0);
+        assertTrue(unit.getApplyNanos() > 0);
+
+        DataProcessUnit untimed = new DataProcessUnit("LAW_FILE", "file", LocalDateTime.now(), DataProcessAction.INGEST);
+        untimed.markProcessed();
+        assertEquals(0, untimed.getParseNanos());
+        assertTrue(untimed.getApplyNanos() >= 0);
+    }
+}
@@ -0,0 +1,42 @@
+package gov.nysenate.openleg.model.stats;
+
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTests
+{
+    @Test
+    public void bucketBoundsTest() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            long upperBound = LatencyHistogram.getBucketUpperBound(index);
+            assertTrue(value <= upperBound);
+            assertTrue(upperBound - value <= value / 8);
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.getBucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        IntStream.rangeClosed(1, 1000).forEach(histogram::record);
+        assertEquals(1000, histogram.getTotalCount());
+        assertEquals(1000, histogram.getMaxValue());
+        assertEquals(500.5, histogram.getMean(), 0.001);
+        assertWithinPrecision(500, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(990, histogram.getValueAtPercentile(99));
+        assertEquals(1000, histogram.getValueAtPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " should be within 12.5% of " + expected,
+                   actual >= expected && actual <= expected + expected / 8);
+    }
+}
@@ -0,0 +1,90 @@
+package gov.nysenate.openleg.processor.bill;
+
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.bill.BillAction;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that extending a retained analyzer with appended actions gives the same results as re-analyzing
+ * the full action list, using a synthetic bill with a long action history. The timing comparison lives in
+ * the BillActionAnalyzerBenchmark under the benchmarks profile.
+ */
+public class BillActionAnalyzerExtendTests
+{
+    private static final BillId billId = new BillId("S1234", 2015);
+    private static final int actionCount = 120;
+
+    private static final Optional<PublishStatus> defaultPubStatus =
+        Optional.of(new PublishStatus(true, LocalDateTime.of(2015, 1, 7, 0, 0)));
+
+    private static final String[] actionTexts = {
+        "REFERRED TO HEALTH", "1ST REPORT CAL.%d", "2ND REPORT CAL.", "ADVANCED TO THIRD READING",
+        "AMENDED ON THIRD READING 1234%s", "COMMITTED TO RULES", "PRINT NUMBER 1234%s", "PASSED SENATE",
+        "DELIVERED TO ASSEMBLY", "REFERRED TO CODES", "SUBSTITUTED BY A%d", "SUBSTITUTION RECONSIDERED",
+        "RETURNED TO SENATE", "RECOMMIT, ENACTING CLAUSE STRICKEN"
+    };
+
+    @Test
+    public void incrementalMatchesFullAnalysisTest() {
+        List<BillAction> actions = getActions(actionCount);
+        BillActionAnalyzer full = new BillActionAnalyzer(billId, actions, defaultPubStatus);
+        full.analyze();
+
+        BillActionAnalyzer incremental = new BillActionAnalyzer(billId, actions.subList(0, 1), defaultPubStatus);
+        incremental.analyze();
+        for (int i = 2; i <= actions.size(); i++) {
+            assertEquals(true, incremental.extend(new ArrayList<>(actions.subList(0, i)), defaultPubStatus));
+            incremental.analyze();
+        }
+
+        assertEquals(full.getBillStatus(), incremental.getBillStatus());
+        assertEquals(full.getStatuses(), incremental.getStatuses());
+        assertEquals(full.getMilestones(), incremental.getMilestones());
+        assertEquals(full.getPublishStatusMap(), incremental.getPublishStatusMap());
+        assertEquals(full.getActiveVersion(), incremental.getActiveVersion());
+        assertEquals(full.getPastCommittees(), incremental.getPastCommittees());
+        assertEquals(full.getSameAsMap(), incremental.getSameAsMap());
+        assertEquals(full.getSubstitutedBy(), incremental.getSubstitutedBy());
+        assertEquals(full.isStricken(), incremental.isStricken());
+    }
+
+    @Test
+    public void divergentActionsAreNotExtendedTest() {
+        List<BillAction> actions = getActions(10);
+        BillActionAnalyzer analyzer = new BillActionAnalyzer(billId, actions, defaultPubStatus);
+        analyzer.analyze();
+
+        List<BillAction> replaced = new ArrayList<>(actions);
+        replaced.set(3, new BillAction(LocalDate.of(2015, 3, 1), "RECALLED FROM ASSEMBLY", Chamber.SENATE, 4, billId));
+        assertEquals(false, analyzer.extend(replaced, defaultPubStatus));
+        assertEquals(false, analyzer.extend(actions.subList(0, 5), defaultPubStatus));
+        assertEquals(false, analyzer.extend(actions, Optional.empty()));
+    }
+
+    /** --- Internal --- */
+
+    private static List<BillAction> getActions(int count) {
+        List<BillAction> actions = new ArrayList<>();
+        LocalDate date = LocalDate.of(2015, 1, 7);
+        for (int i = 0; i < count; i++) {
+            String textFormat = actionTexts[i % actionTexts.length];
+            // Amendment actions cycle through versions A to C, other actions reference a number
+            String text = textFormat.contains("1234")
+                ? String.format(textFormat, (char) ('A' + (i / actionTexts.length) % 3))
+                : String.format(textFormat, 100 + i);
+            Chamber chamber = text.contains("CODES") ? Chamber.ASSEMBLY : Chamber.SENATE;
+            actions.add(new BillAction(date.plusDays(i / 3), text, chamber, i + 1, billId));
+        }
+        return actions;
+    }
+}
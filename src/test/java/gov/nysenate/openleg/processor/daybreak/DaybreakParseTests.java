@@ -0,0 +1,134 @@
+package gov.nysenate.openleg.processor.daybreak;
+
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.daybreak.DaybreakBill;
+import gov.nysenate.openleg.model.daybreak.DaybreakDocType;
+import gov.nysenate.openleg.model.daybreak.DaybreakFile;
+import gov.nysenate.openleg.model.daybreak.DaybreakFragment;
+import gov.nysenate.openleg.model.daybreak.PageFileEntry;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that parsing a synthetic daybreak report in parallel yields the same bills as parsing it serially.
+ * The timing comparison lives in the DaybreakParseBenchmark under the benchmarks profile.
+ */
+public class DaybreakParseTests
+{
+    private static final String reportPrefix = "20140808";
+    private static final int senateBillCount = 40;
+    private static final int assemblyBillCount = 60;
+    private static final int actionsPerBill = 12;
+
+    private File reportDir;
+    private List<DaybreakFile> reportFiles;
+    private DaybreakFile pageFile;
+
+    @Before
+    public void setup() throws IOException {
+        reportDir = Files.createTempDirectory("daybreak-bench").toFile();
+        pageFile = new DaybreakFile(writeFile(DaybreakDocType.PAGE_FILE, ""));
+        reportFiles = new ArrayList<>();
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.SENATE_LOW, reportHtml("S", 1, 20))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.SENATE_HIGH, reportHtml("S", 21, senateBillCount))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.ASSEMBLY_LOW, reportHtml("A", 1, 30))));
+        reportFiles.add(new DaybreakFile(writeFile(DaybreakDocType.ASSEMBLY_HIGH, reportHtml("A", 31, assemblyBillCount))));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(reportDir);
+    }
+
+    @Test
+    public void parallelMatchesSerialParseTest() throws IOException {
+        List<DaybreakBill> serialBills = parseSerial();
+        List<DaybreakBill> parallelBills = parseParallel();
+
+        assertEquals(senateBillCount + assemblyBillCount, serialBills.size());
+        assertEquals(summarize(serialBills), summarize(parallelBills));
+    }
+
+    /** --- Internal --- */
+
+    private List<DaybreakBill> parseSerial() throws IOException {
+        List<DaybreakBill> daybreakBills = new ArrayList<>();
+        for (DaybreakFile reportFile : reportFiles) {
+            for (DaybreakFragment fragment : DaybreakFileParser.extractDaybreakFragments(reportFile)) {
+                addPageFileEntry(fragment);
+                daybreakBills.add(DaybreakFragmentParser.extractDaybreakBill(fragment));
+            }
+        }
+        return daybreakBills;
+    }
+
+    private List<DaybreakBill> parseParallel() {
+        List<DaybreakFragment> fragments = reportFiles.parallelStream()
+                .flatMap(reportFile -> {
+                    try {
+                        return DaybreakFileParser.extractDaybreakFragments(reportFile).stream();
+                    }
+                    catch (IOException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                })
+                .collect(Collectors.toList());
+        fragments.forEach(this::addPageFileEntry);
+        return DaybreakFragmentParser.extractDaybreakBills(fragments);
+    }
+
+    /** Reduces the bills to their ids, sponsors and actions, ordered by bill id. */
+    private static List<String> summarize(List<DaybreakBill> daybreakBills) {
+        return daybreakBills.stream()
+                .sorted(Comparator.comparing(DaybreakBill::getBaseBillId))
+                .map(bill -> bill.getBaseBillId() + " " + bill.getSponsor() + " " + bill.getCosponsors() + " "
+                             + bill.getMultiSponsors() + " " + bill.getTitle() + " " + bill.getActions())
+                .collect(Collectors.toList());
+    }
+
+    private void addPageFileEntry(DaybreakFragment fragment) {
+        BillId billId = fragment.getBillId();
+        PageFileEntry entry = billId.getBasePrintNo().startsWith("S")
+                ? new PageFileEntry(billId, null, pageFile, LocalDate.of(2014, 1, 8), 3)
+                : new PageFileEntry(null, billId, pageFile, LocalDate.of(2014, 1, 8), 3);
+        fragment.setPageFileEntries(Collections.singletonMap(billId, entry));
+    }
+
+    private File writeFile(DaybreakDocType docType, String contents) throws IOException {
+        File file = new File(reportDir, reportPrefix + docType.getLocalFileExt());
+        FileUtils.writeStringToFile(file, contents, "UTF-8");
+        return file;
+    }
+
+    private static String reportHtml(String prefix, int start, int end) {
+        StringBuilder html = new StringBuilder("<html><body><table>\n");
+        html.append("<tr><td><b>Bill</b></td></tr>\n<tr><td><b>Sponsor</b></td></tr>\n");
+        for (int printNo = start; printNo <= end; printNo++) {
+            html.append("<tr><td>").append(prefix).append(printNo).append("</td>")
+                .append(prefix.equals("S") ? "<td>GOLDEN CO: LANZA, MARTINS, SAVINO</td>"
+                                           : "<td>Weinstein, Lentol, Paulin; M-S: Abinanti, Cook</td>")
+                .append("<td>Relates to the synthetic benchmark bill number ").append(printNo).append("</td>")
+                .append("<td>Amd S").append(printNo % 500).append(", Pub Hlth L</td>")
+                .append("<td>Pub Hlth L Relates to benchmarking</td><td>");
+            for (int i = 0; i < actionsPerBill; i++) {
+                html.append(String.format("%02d/%02d/14 REFERRED TO HEALTH<br>", (i % 12) + 1, (i % 28) + 1));
+            }
+            html.append("</td></tr>\n");
+        }
+        return html.append("</table></body></html>").toString();
+    }
+}
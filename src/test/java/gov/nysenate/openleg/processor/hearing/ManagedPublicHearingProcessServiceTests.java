@@ -0,0 +1,108 @@
+package gov.nysenate.openleg.processor.hearing;
+
+import com.google.common.eventbus.EventBus;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.hearing.PublicHearingFileDao;
+import gov.nysenate.openleg.model.hearing.PublicHearingFile;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+public class ManagedPublicHearingProcessServiceTests
+{
+    @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final ExecutorService parseExecutor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        parseExecutor.shutdown();
+    }
+
+    @Test
+    public void unparseableFileIsNoLongerPendingTest() throws IOException {
+        for (boolean parallel : new boolean[] {false, true}) {
+            PublicHearingFile file = createUnparseableFile("unparseable" + parallel + ".txt");
+            PendingFileDao fileDao = new PendingFileDao(file, true);
+            assertEquals(0, createService(fileDao, parallel).processPendingPublicHearingFiles());
+            assertFalse(file.isPendingProcessing());
+            assertEquals(0, file.getProcessedCount());
+            assertEquals(1, fileDao.updateCount);
+        }
+    }
+
+    @Test
+    public void filesThatStayPendingDoNotRepeatForeverTest() throws IOException {
+        PublicHearingFile file = createUnparseableFile("stuck.txt");
+        // The dao never persists the update, so the file is returned as pending every time
+        PendingFileDao fileDao = new PendingFileDao(file, false);
+        assertEquals(0, createService(fileDao, true).processPendingPublicHearingFiles());
+        assertEquals(2, fileDao.fetchCount);
+    }
+
+    /** --- Internal --- */
+
+    private PublicHearingFile createUnparseableFile(String fileName) throws IOException {
+        File file = tempFolder.newFile(fileName);
+        FileUtils.write(file, "", StandardCharsets.UTF_8);
+        PublicHearingFile publicHearingFile = new PublicHearingFile(file);
+        publicHearingFile.setPendingProcessing(true);
+        return publicHearingFile;
+    }
+
+    private ManagedPublicHearingProcessService createService(PublicHearingFileDao fileDao, boolean parallel) {
+        ManagedPublicHearingProcessService service = new ManagedPublicHearingProcessService();
+        ReflectionTestUtils.setField(service, "publicHearingFileDao", fileDao);
+        ReflectionTestUtils.setField(service, "publicHearingParser", new PublicHearingParser());
+        ReflectionTestUtils.setField(service, "eventBus", new EventBus());
+        ReflectionTestUtils.setField(service, "parseExecutor", parseExecutor);
+        ReflectionTestUtils.setField(service, "parallelProcessEnabled", parallel);
+        return service;
+    }
+
+    private static class PendingFileDao implements PublicHearingFileDao
+    {
+        private final List<PublicHearingFile> files = new ArrayList<>();
+        private final boolean persistUpdates;
+        private int fetchCount = 0;
+        private int updateCount = 0;
+
+        private PendingFileDao(PublicHearingFile file, boolean persistUpdates) {
+            this.files.add(file);
+            this.persistUpdates = persistUpdates;
+        }
+
+        @Override
+        public List<PublicHearingFile> getIncomingPublicHearingFiles(LimitOffset limOff) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<PublicHearingFile> getPendingPublicHearingFile(LimitOffset limOff) {
+            fetchCount++;
+            return files.stream().filter(file -> !persistUpdates || file.isPendingProcessing()).collect(toList());
+        }
+
+        @Override
+        public void updatePublicHearingFile(PublicHearingFile publicHearingFile) {
+            updateCount++;
+        }
+
+        @Override
+        public void archivePublicHearingFile(PublicHearingFile publicHearingFile) {}
+    }
+}
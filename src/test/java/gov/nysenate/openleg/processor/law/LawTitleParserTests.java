@@ -0,0 +1,88 @@
+package gov.nysenate.openleg.processor.law;
+
+import gov.nysenate.openleg.model.law.LawDocInfo;
+import gov.nysenate.openleg.model.law.LawDocumentType;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+
+public class LawTitleParserTests
+{
+    /** The patterns previously used to extract titles, which the scanner should agree with. */
+    private static final String sectionTitlePattern = "(?i)((?:Section|§)\\s*%s).?\\s(.+?)\\.(.*)";
+    private static final Pattern articleTitlePattern = Pattern.compile("((ARTICLE|TITLE).+?\\\\n)(.+?)\\\\n(Section)?");
+
+    private static LawDocInfo docInfo(String locationId, LawDocumentType docType) {
+        return new LawDocInfo("EDN" + locationId, "EDN", locationId, "", docType, locationId, LocalDate.of(2014, 9, 22));
+    }
+
+    private static String regexSectionTitle(String locationId, String text) {
+        int asteriskLoc = locationId.indexOf("*");
+        String locId = (asteriskLoc != -1) ? locationId.substring(0, asteriskLoc) : locationId;
+        Pattern titlePattern = Pattern.compile(String.format(sectionTitlePattern, locId.toLowerCase()));
+        int sectionIdx = text.indexOf("§");
+        String trimText = (sectionIdx != -1) ? text.substring(sectionIdx).trim() : text.trim();
+        Matcher titleMatcher = titlePattern.matcher(trimText);
+        String title = titleMatcher.matches()
+            ? titleMatcher.group(2).replaceAll("-\\\\n\\s*", "").replaceAll("\\\\n?\\s*", " ")
+            : trimText;
+        return StringUtils.abbreviate(title, 140);
+    }
+
+    private static String regexArticleTitle(String text) {
+        Matcher articleTitleMatcher = articleTitlePattern.matcher(text);
+        if (articleTitleMatcher.find()) {
+            String title = articleTitleMatcher.group(3).replaceAll("\\\\n", "").replaceAll("\\s{2,}", " ");
+            return LawTitleParser.capitalizeTitle(title.trim());
+        }
+        return "";
+    }
+
+    private static void assertSectionTitle(String expected, String locationId, String text) {
+        assertEquals(expected, LawTitleParser.extractTitle(docInfo(locationId, LawDocumentType.SECTION), text));
+        assertEquals(regexSectionTitle(locationId, text), expected);
+    }
+
+    private static void assertArticleTitle(String expected, String text) {
+        assertEquals(expected, LawTitleParser.extractTitle(docInfo("A1", LawDocumentType.ARTICLE), text));
+        assertEquals(regexArticleTitle(text), expected);
+    }
+
+    @Test
+    public void sectionTitleTest() {
+        assertSectionTitle("Short title", "1", "  § 1. Short title. This chapter shall be known as the education law.\\n");
+        assertSectionTitle("Definitions of terms", "2-a",
+                           "  § 2-a. Definitions\\n  of terms. As used in this chapter:\\n");
+        assertSectionTitle("Hyphenated title", "3", "§ 3. Hyphen-\\n  ated title. Text.");
+        assertSectionTitle("Starred section", "4*2", "  § 4. Starred section. * NB There are 2 § 4's");
+        assertSectionTitle("Spelled out", "5", "Section 5. Spelled out. Text.");
+        assertSectionTitle("No separator", "6", "§ 6 No separator. Text.");
+        assertSectionTitle("Case insensitive", "7-A", "§ 7-a. Case insensitive. Text.");
+    }
+
+    @Test
+    public void sectionTitleMismatchTest() {
+        assertSectionTitle("§ 8. No title period", "8", "  § 8. No title period  ");
+        assertSectionTitle("§ 9. Wrong number. Text.", "10", "  § 9. Wrong number. Text.");
+        assertSectionTitle("Text without a section symbol", "11", "  Text without a section symbol");
+        String longText = "§ 12 " + StringUtils.repeat("word ", 100);
+        assertSectionTitle(StringUtils.abbreviate(longText.trim(), 140), "12", longText);
+        assertSectionTitle("", "13", "");
+    }
+
+    @Test
+    public void articleTitleTest() {
+        assertArticleTitle("General Provisions of the Law",
+                           "ARTICLE 1\\nGENERAL PROVISIONS OF THE LAW\\nSection 1. Short title.\\n");
+        assertArticleTitle("General Provisions", "  TITLE I\\n  GENERAL PROVISIONS\\n  ARTICLE 2\\nREGENTS\\n");
+        assertArticleTitle("Regents of the University", "ARTICLE 2\\nREGENTS   OF THE UNIVERSITY\\n");
+        assertArticleTitle("Boards", "SUBTITLE A\\n\\nBOARDS\\nSection 3.\\n");
+        assertArticleTitle("", "ARTICLE 4\\nNO TRAILING LINE BREAK");
+        assertArticleTitle("", "No keyword here\\nAt all\\n");
+    }
+}
@@ -0,0 +1,108 @@
+package gov.nysenate.openleg.processor.transcript;
+
+import com.google.common.eventbus.EventBus;
+import gov.nysenate.openleg.dao.base.LimitOffset;
+import gov.nysenate.openleg.dao.transcript.TranscriptFileDao;
+import gov.nysenate.openleg.model.transcript.TranscriptFile;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+public class ManagedTranscriptProcessServiceTests
+{
+    @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final ExecutorService parseExecutor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        parseExecutor.shutdown();
+    }
+
+    @Test
+    public void unparseableFileIsNoLongerPendingTest() throws IOException {
+        for (boolean parallel : new boolean[] {false, true}) {
+            TranscriptFile file = createUnparseableFile("unparseable" + parallel + ".txt");
+            PendingFileDao fileDao = new PendingFileDao(file, true);
+            assertEquals(0, createService(fileDao, parallel).processPendingTranscriptFiles());
+            assertFalse(file.isPendingProcessing());
+            assertEquals(0, file.getProcessedCount());
+            assertEquals(1, fileDao.updateCount);
+        }
+    }
+
+    @Test
+    public void filesThatStayPendingDoNotRepeatForeverTest() throws IOException {
+        TranscriptFile file = createUnparseableFile("stuck.txt");
+        // The dao never persists the update, so the file is returned as pending every time
+        PendingFileDao fileDao = new PendingFileDao(file, false);
+        assertEquals(0, createService(fileDao, true).processPendingTranscriptFiles());
+        assertEquals(2, fileDao.fetchCount);
+    }
+
+    /** --- Internal --- */
+
+    private TranscriptFile createUnparseableFile(String fileName) throws IOException {
+        File file = tempFolder.newFile(fileName);
+        FileUtils.write(file, "Not a transcript\n", StandardCharsets.UTF_8);
+        TranscriptFile transcriptFile = new TranscriptFile(file);
+        transcriptFile.setPendingProcessing(true);
+        return transcriptFile;
+    }
+
+    private ManagedTranscriptProcessService createService(TranscriptFileDao fileDao, boolean parallel) {
+        ManagedTranscriptProcessService service = new ManagedTranscriptProcessService();
+        ReflectionTestUtils.setField(service, "transcriptFileDao", fileDao);
+        ReflectionTestUtils.setField(service, "transcriptParser", new TranscriptParser());
+        ReflectionTestUtils.setField(service, "eventBus", new EventBus());
+        ReflectionTestUtils.setField(service, "parseExecutor", parseExecutor);
+        ReflectionTestUtils.setField(service, "parallelProcessEnabled", parallel);
+        return service;
+    }
+
+    private static class PendingFileDao implements TranscriptFileDao
+    {
+        private final List<TranscriptFile> files = new ArrayList<>();
+        private final boolean persistUpdates;
+        private int fetchCount = 0;
+        private int updateCount = 0;
+
+        private PendingFileDao(TranscriptFile file, boolean persistUpdates) {
+            this.files.add(file);
+            this.persistUpdates = persistUpdates;
+        }
+
+        @Override
+        public List<TranscriptFile> getIncomingTranscriptFiles(LimitOffset limOff) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<TranscriptFile> getPendingTranscriptFiles(LimitOffset limOff) {
+            fetchCount++;
+            return files.stream().filter(file -> !persistUpdates || file.isPendingProcessing()).collect(toList());
+        }
+
+        @Override
+        public void updateTranscriptFile(TranscriptFile transcriptFile) {
+            updateCount++;
+        }
+
+        @Override
+        public void archiveAndUpdateTranscriptFile(TranscriptFile transcriptFile) {}
+    }
+}
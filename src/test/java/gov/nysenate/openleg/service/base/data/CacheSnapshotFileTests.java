@@ -0,0 +1,83 @@
+package gov.nysenate.openleg.service.base.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CacheSnapshotFileTests
+{
+    @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static final LocalDateTime watermark = LocalDateTime.of(2015, 3, 2, 10, 15, 30);
+
+    @Test
+    public void roundTripTest() throws IOException {
+        Path path = tempFolder.getRoot().toPath().resolve("snapshots/bills.snapshot");
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put("S" + i + "-2015", ("bill " + i).getBytes(StandardCharsets.UTF_8));
+        }
+        entries.put("empty", new byte[0]);
+        try (CacheSnapshotFile.Writer writer = CacheSnapshotFile.create(path, 3, watermark)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                writer.write(entry.getKey(), entry.getValue());
+            }
+        }
+
+        CacheSnapshotFile snapshot = CacheSnapshotFile.open(path);
+        assertEquals(3, snapshot.getContentVersion());
+        assertEquals(watermark, snapshot.getWatermark());
+        assertEquals(entries.size(), snapshot.getEntryCount());
+        Map<String, byte[]> read = new LinkedHashMap<>();
+        snapshot.forEach(read::put);
+        assertEquals(entries.keySet(), read.keySet());
+        entries.forEach((key, value) -> assertArrayEquals(value, read.get(key)));
+        // No temp files are left behind
+        assertEquals(1, path.getParent().toFile().list().length);
+    }
+
+    @Test
+    public void replacesExistingSnapshotTest() throws IOException {
+        Path path = tempFolder.getRoot().toPath().resolve("bills.snapshot");
+        try (CacheSnapshotFile.Writer writer = CacheSnapshotFile.create(path, 1, watermark)) {
+            writer.write("old", new byte[]{1});
+        }
+        try (CacheSnapshotFile.Writer writer = CacheSnapshotFile.create(path, 1, watermark.plusHours(1))) {
+            writer.write("new", new byte[]{2});
+            // The previous snapshot is intact until the writer is closed
+            assertEquals(watermark, CacheSnapshotFile.open(path).getWatermark());
+        }
+        CacheSnapshotFile snapshot = CacheSnapshotFile.open(path);
+        assertEquals(watermark.plusHours(1), snapshot.getWatermark());
+        snapshot.forEach((key, value) -> assertEquals("new", key));
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFilesTest() throws IOException {
+        Path path = tempFolder.newFile("bills.snapshot").toPath();
+        Files.write(path, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        CacheSnapshotFile.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedSnapshotTest() throws IOException {
+        Path path = tempFolder.getRoot().toPath().resolve("bills.snapshot");
+        try (CacheSnapshotFile.Writer writer = CacheSnapshotFile.create(path, 1, watermark)) {
+            writer.write("S1-2015", new byte[1000]);
+        }
+        byte[] data = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(data, data.length - 10));
+        CacheSnapshotFile.open(path).forEach((key, value) -> {});
+    }
+}
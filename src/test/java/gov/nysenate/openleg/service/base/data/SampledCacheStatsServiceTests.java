@@ -0,0 +1,80 @@
+package gov.nysenate.openleg.service.base.data;
+
+import gov.nysenate.openleg.model.cache.CacheStatsSample;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Element;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+import net.sf.ehcache.config.MemoryUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class SampledCacheStatsServiceTests
+{
+    private CacheManager cacheManager;
+    private Cache cache;
+    private SampledCacheStatsService statsService;
+
+    @Before
+    public void setup() {
+        cacheManager = CacheManager.newInstance(new Configuration().maxBytesLocalHeap(10, MemoryUnit.MEGABYTES));
+        cache = new Cache(new CacheConfiguration().name("test").eternal(true)
+                                                  .maxBytesLocalHeap(1, MemoryUnit.MEGABYTES));
+        cacheManager.addCache(cache);
+        statsService = new SampledCacheStatsService();
+        ReflectionTestUtils.setField(statsService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(statsService, "sampleCount", 2);
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Test
+    public void sampleIntervalCountsTest() {
+        cache.put(new Element("a", "a"));
+        cache.get("a");
+        cache.get("b");
+        statsService.sampleStats();
+        cache.get("a");
+        statsService.sampleStats();
+
+        List<CacheStatsSample> samples = statsService.getStatsHistory("test");
+        assertEquals(2, samples.size());
+        assertEquals(1, samples.get(0).getHitCount());
+        assertEquals(1, samples.get(0).getMissCount());
+        assertEquals(0.5, samples.get(0).getHitRatio(), 0.001);
+        assertEquals(1, samples.get(1).getHitCount());
+        assertEquals(0, samples.get(1).getMissCount());
+        assertEquals(1, samples.get(1).getSize());
+
+        // Only the most recent samples are retained
+        statsService.sampleStats();
+        samples = statsService.getStatsHistory("test");
+        assertEquals(2, samples.size());
+        assertEquals(0, samples.get(1).getHitCount());
+    }
+
+    @Test
+    public void loadLatencyTest() {
+        assertEquals(0, statsService.getLoadLatency("test").getTotalCount());
+        statsService.recordLoad("test", 100);
+        statsService.recordLoad("test", 300);
+        assertEquals(2, statsService.getLoadLatency("test").getTotalCount());
+        assertEquals(200, statsService.getLoadLatency("test").getMean(), 0.001);
+    }
+
+    @Test
+    public void heapResizeTest() {
+        cache.getCacheConfiguration().setMaxBytesLocalHeap(MemoryUnit.MEGABYTES.toBytes(2));
+        assertEquals(MemoryUnit.MEGABYTES.toBytes(2), cache.getCacheConfiguration().getMaxBytesLocalHeap());
+    }
+}
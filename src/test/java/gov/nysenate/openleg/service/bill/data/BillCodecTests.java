@@ -0,0 +1,200 @@
+package gov.nysenate.openleg.service.bill.data;
+
+import com.google.common.base.Strings;
+import gov.nysenate.openleg.client.view.bill.BillView;
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.agenda.CommitteeAgendaId;
+import gov.nysenate.openleg.model.base.PublishStatus;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.*;
+import gov.nysenate.openleg.model.calendar.CalendarId;
+import gov.nysenate.openleg.model.entity.Chamber;
+import gov.nysenate.openleg.model.entity.CommitteeId;
+import gov.nysenate.openleg.model.entity.CommitteeVersionId;
+import gov.nysenate.openleg.model.entity.Member;
+import gov.nysenate.openleg.processor.base.ParseError;
+import gov.nysenate.openleg.util.OutputUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BillCodecTests
+{
+    private static final BaseBillId baseBillId = new BaseBillId("S1234", 2013);
+    private static final CommitteeId health = new CommitteeId(Chamber.SENATE, "Health");
+
+    @Test
+    public void roundTripTest() throws ParseError {
+        Bill bill = createBill();
+        Bill decoded = BillCodec.decode(BillCodec.encode(bill));
+
+        assertEquals(bill.getBaseBillId(), decoded.getBaseBillId());
+        assertEquals(bill.getSession(), decoded.getSession());
+        assertEquals(bill.getYear(), decoded.getYear());
+        assertEquals(bill.getPublishedDateTime(), decoded.getPublishedDateTime());
+        assertEquals(bill.getModifiedDateTime(), decoded.getModifiedDateTime());
+        assertEquals(bill.getTitle(), decoded.getTitle());
+        assertEquals(bill.getActiveVersion(), decoded.getActiveVersion());
+        assertEquals(bill.getStatus(), decoded.getStatus());
+        assertEquals(bill.getMilestones(), decoded.getMilestones());
+        assertEquals(bill.getAmendPublishStatusMap(), decoded.getAmendPublishStatusMap());
+        assertEquals(bill.getSponsor(), decoded.getSponsor());
+        assertEquals(bill.getAdditionalSponsors(), decoded.getAdditionalSponsors());
+        assertEquals(bill.getPastCommittees(), decoded.getPastCommittees());
+        assertEquals(bill.getActions(), decoded.getActions());
+        assertEquals(bill.getSubstitutedBy(), decoded.getSubstitutedBy());
+        assertEquals(bill.getPreviousVersions(), decoded.getPreviousVersions());
+        assertEquals(bill.getProgramInfo().getInfo(), decoded.getProgramInfo().getInfo());
+        assertEquals(bill.getCommitteeAgendas(), decoded.getCommitteeAgendas());
+        assertEquals(bill.getCalendars(), decoded.getCalendars());
+        assertEquals(bill.getChapterNum(), decoded.getChapterNum());
+        assertNull(decoded.getChapterYear());
+        assertEquals(bill.getVetoMessages().keySet(), decoded.getVetoMessages().keySet());
+        assertEquals(bill.getApprovalMessage().getMemoText(), decoded.getApprovalMessage().getMemoText());
+
+        assertEquals(bill.getAmendmentMap().keySet(), decoded.getAmendmentMap().keySet());
+        for (BillAmendment amendment : bill.getAmendmentList()) {
+            BillAmendment decodedAmend = decoded.getAmendment(amendment.getVersion());
+            assertEquals(amendment.getFullText(), decodedAmend.getFullText());
+            assertEquals(amendment.getMemo(), decodedAmend.getMemo());
+            assertEquals(amendment.getLawSection(), decodedAmend.getLawSection());
+            assertEquals(amendment.getSameAs(), decodedAmend.getSameAs());
+            assertEquals(amendment.getCurrentCommittee(), decodedAmend.getCurrentCommittee());
+            assertEquals(amendment.getCoSponsors(), decodedAmend.getCoSponsors());
+            assertEquals(amendment.getMultiSponsors(), decodedAmend.getMultiSponsors());
+            assertEquals(amendment.isStricken(), decodedAmend.isStricken());
+            assertEquals(amendment.getVotesMap(), decodedAmend.getVotesMap());
+        }
+        // Interned members are shared within the decoded bill
+        assertSame(decoded.getSponsor().getMember(), decoded.getAmendment(Version.A).getCoSponsors().get(0));
+        assertFalse(decoded.getSponsor().getMember().hasId());
+        assertEquals("BALL", decoded.getSponsor().getMember().getLbdcShortName());
+    }
+
+    @Test
+    public void decodedBillsAreIndependentTest() throws ParseError {
+        byte[] data = BillCodec.encode(createBill());
+        Bill first = BillCodec.decode(data);
+        first.getAmendment(Version.DEFAULT).setFullText("");
+        first.getActions().clear();
+        Bill second = BillCodec.decode(data);
+        assertNotEquals("", second.getAmendment(Version.DEFAULT).getFullText());
+        assertFalse(second.getActions().isEmpty());
+    }
+
+    @Test
+    public void encodedSizeTest() throws IOException, ParseError {
+        // Compare the bills as they are cached, without the full text
+        Bill bill = createBill();
+        bill.getAmendmentList().forEach(amendment -> amendment.setFullText(""));
+        ByteArrayOutputStream javaBytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(javaBytes)) {
+            out.writeObject(bill);
+        }
+        int codecSize = BillCodec.encode(bill).length;
+        assertTrue("Encoded size " + codecSize + " vs java serialization " + javaBytes.size(),
+                   codecSize * 2 < javaBytes.size());
+        int jsonSize = OutputUtils.getCompactJsonMapper().writeValueAsBytes(new BillView(bill)).length;
+        assertTrue("Encoded size " + codecSize + " vs json view " + jsonSize, codecSize < jsonSize);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownDataTest() {
+        BillCodec.decode(new byte[]{1, 2, 3, 4, 5});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTruncatedDataTest() throws ParseError {
+        byte[] data = BillCodec.encode(createBill());
+        BillCodec.decode(Arrays.copyOf(data, data.length / 2));
+    }
+
+    /** --- Internal --- */
+
+    private static Bill createBill() throws ParseError {
+        SessionYear session = SessionYear.of(2013);
+        Member ball = Member.newMakeshiftMember("BALL", session, Chamber.SENATE);
+        List<Member> roll = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Member member = new Member(100 + i, session);
+            member.setId(i);
+            member.setSessionMemberId(200 + i);
+            member.setLbdcShortName("MEMBER" + i);
+            member.setChamber(Chamber.SENATE);
+            member.setFullName("Member Number " + i);
+            member.setLastName("Number " + i);
+            member.setDistrictCode(i + 1);
+            roll.add(member);
+        }
+
+        Bill bill = new Bill(baseBillId);
+        bill.setTitle("Relates to the establishment of school districts");
+        bill.setSummary("Establishes school districts");
+        bill.setModifiedDateTime(LocalDateTime.of(2014, 5, 9, 12, 47, 6, 1000));
+        bill.setPublishedDateTime(LocalDateTime.of(2013, 1, 7, 10, 0));
+        bill.setSponsor(new BillSponsor(ball));
+        bill.setAdditionalSponsors(new ArrayList<>(roll.subList(0, 2)));
+        bill.setSubstitutedBy(new BaseBillId("A5678", 2013));
+        bill.addPreviousVersion(new BillId("S999", 2011));
+        bill.setProgramInfo(new ProgramInfo("Governor Program", 12));
+        bill.getCommitteeAgendas().add(new CommitteeAgendaId(new AgendaId(4, 2013), health));
+        bill.getCalendars().add(new CalendarId(23, 2013));
+        bill.setChapterNum(55);
+
+        for (Version version : Arrays.asList(Version.DEFAULT, Version.A)) {
+            BillAmendment amendment = new BillAmendment(baseBillId, version);
+            amendment.setFullText(Strings.repeat("The people of the state of New York do enact as follows:\n", 50));
+            amendment.setMemo("Memo for " + version);
+            amendment.setLawSection("Education Law");
+            amendment.getSameAs().add(new BillId("A5678" + version.getValue(), 2013));
+            amendment.setCurrentCommittee(new CommitteeVersionId(health, session, LocalDateTime.of(2013, 1, 7, 0, 0)));
+            amendment.setCoSponsors(new ArrayList<>(Arrays.asList(ball, roll.get(3))));
+            amendment.setStricken(version == Version.A);
+            BillVote vote = new BillVote(amendment.getBillId(), LocalDate.of(2013, 6, 1), BillVoteType.FLOOR, 1);
+            roll.forEach(member -> vote.addMemberVote(BillVoteCode.AYE, member));
+            vote.addMemberVote(BillVoteCode.NAY, ball);
+            BillVote committeeVote = new BillVote(amendment.getBillId(), LocalDate.of(2013, 5, 1), BillVoteType.COMMITTEE, 1);
+            committeeVote.setCommitteeId(health);
+            roll.subList(0, 10).forEach(member -> committeeVote.addMemberVote(BillVoteCode.AYEWR, member));
+            amendment.setVotesMap(Arrays.asList(vote, committeeVote));
+            bill.addAmendment(amendment);
+            bill.updatePublishStatus(version, new PublishStatus(true, LocalDateTime.of(2013, 1, 7, 0, 0)));
+        }
+        bill.setActiveVersion(Version.A);
+
+        LocalDate actionDate = LocalDate.of(2013, 1, 7);
+        for (int i = 1; i <= 20; i++) {
+            bill.addAction(new BillAction(actionDate.plusDays(i * 3), "REFERRED TO HEALTH", Chamber.SENATE, i,
+                                          bill.getAmendment(i > 10 ? Version.A : Version.DEFAULT).getBillId()));
+        }
+        BillStatus status = new BillStatus(BillStatusType.IN_SENATE_COMM, actionDate);
+        status.setCommitteeId(health);
+        status.setActionSequenceNo(1);
+        bill.setStatus(status);
+        bill.getMilestones().add(status);
+        bill.addPastCommittee(new CommitteeVersionId(health, session, LocalDateTime.of(2013, 1, 7, 0, 0)));
+
+        VetoMessage veto = new VetoMessage();
+        veto.setYear(2013);
+        veto.setVetoNumber(7);
+        veto.setBillId(baseBillId);
+        veto.setType(VetoType.STANDARD);
+        veto.setMemoText("I am constrained to veto this bill");
+        bill.getVetoMessages().put(veto.getVetoId(), veto);
+        ApprovalMessage approval = new ApprovalMessage();
+        approval.setBillId(baseBillId);
+        approval.setMemoText("Approved");
+        bill.setApprovalMessage(approval);
+        return bill;
+    }
+}
@@ -0,0 +1,42 @@
+package gov.nysenate.openleg.service.calendar.event;
+
+import gov.nysenate.openleg.model.base.Version;
+import gov.nysenate.openleg.model.bill.BillId;
+import gov.nysenate.openleg.model.calendar.*;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.*;
+
+public class CalendarUpdateEventTests
+{
+    @Test
+    public void copySharesNoStateTest() {
+        LocalDateTime releaseDateTime = LocalDateTime.of(2015, 3, 2, 10, 30);
+        CalendarId calendarId = new CalendarId(20, 2015);
+        Calendar calendar = new Calendar(calendarId);
+        CalendarSupplemental supplemental =
+            new CalendarSupplemental(calendarId, Version.DEFAULT, releaseDateTime.toLocalDate(), releaseDateTime);
+        supplemental.addEntry(new CalendarSupplementalEntry(
+            1, CalendarSectionType.ORDER_OF_THE_FIRST_REPORT, new BillId("S1234", 2015), null, false));
+        calendar.putSupplemental(supplemental);
+        CalendarActiveList activeList =
+            new CalendarActiveList(calendarId, 0, "", releaseDateTime.toLocalDate(), releaseDateTime);
+        activeList.addEntry(new CalendarEntry(1, new BillId("S1234", 2015)));
+        calendar.putActiveList(activeList);
+
+        CalendarUpdateEvent event = new CalendarUpdateEvent(calendar, releaseDateTime);
+        CalendarUpdateEvent copy = event.copy();
+        assertEquals(event.getUpdateDateTime(), copy.getUpdateDateTime());
+        assertNotSame(calendar, copy.getCalendar());
+        assertEquals(calendar, copy.getCalendar());
+
+        // Changes made while processing later fragments don't reach the copy
+        calendar.getActiveList(0).addEntry(new CalendarEntry(2, new BillId("S1235", 2015)));
+        calendar.putSupplemental(new CalendarSupplemental(calendarId, Version.of("A"),
+                                                          releaseDateTime.toLocalDate(), releaseDateTime));
+        assertEquals(1, copy.getCalendar().getActiveList(0).getEntries().size());
+        assertEquals(1, copy.getCalendar().getSupplementalMap().size());
+    }
+}
@@ -0,0 +1,131 @@
+package gov.nysenate.openleg.service.response;
+
+import com.google.common.eventbus.EventBus;
+import gov.nysenate.openleg.client.response.base.SimpleResponse;
+import gov.nysenate.openleg.model.agenda.AgendaId;
+import gov.nysenate.openleg.model.base.SessionYear;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.cache.CacheEvictIdEvent;
+import gov.nysenate.openleg.model.cache.CachedResponse;
+import gov.nysenate.openleg.model.cache.ContentCache;
+import gov.nysenate.openleg.model.cache.ResponseCacheKey;
+import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import net.sf.ehcache.CacheManager;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CachedResponseServiceTests
+{
+    private static final BaseBillId billId = new BaseBillId("S1234", 2015);
+    private static final SessionYear session = SessionYear.of(2015);
+
+    private CacheManager cacheManager;
+    private EventBus eventBus;
+    private CachedResponseService responseService;
+
+    private AtomicInteger builds = new AtomicInteger();
+
+    @Before
+    public void setup() {
+        cacheManager = CacheManager.create();
+        eventBus = new EventBus();
+        responseService = new CachedResponseService();
+        ReflectionTestUtils.setField(responseService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(responseService, "eventBus", eventBus);
+        ReflectionTestUtils.setField(responseService, "responseCacheSizeMb", 5L);
+        ReflectionTestUtils.setField(responseService, "gzipResponses", true);
+        ReflectionTestUtils.invokeMethod(responseService, "init");
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.shutdown();
+    }
+
+    @Test
+    public void cachedUntilBillUpdateTest() throws Exception {
+        ResponseCacheKey billKey = new ResponseCacheKey(ContentCache.BILL, billId, "DEFAULT", session, false);
+        CachedResponse first = getResponse(billKey, "bill");
+        CachedResponse second = getResponse(billKey, "bill");
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+
+        eventBus.post(new BillUpdateEvent(new Bill(billId), LocalDateTime.now()));
+        CachedResponse third = getResponse(billKey, "bill");
+        assertEquals(2, builds.get());
+        // The same content serializes to the same entity tag
+        assertEquals(first.getEtag(), third.getEtag());
+    }
+
+    @Test
+    public void gzipBodyHasItsOwnEtagTest() {
+        byte[] json = "{\"success\":true}".getBytes();
+        CachedResponse response = new CachedResponse(json, json, true);
+        assertEquals(response.getEtag(), response.getEtag(false));
+        assertNotEquals(response.getEtag(false), response.getEtag(true));
+        assertTrue(response.getEtag(true).startsWith("\"") && response.getEtag(true).endsWith("-gzip\""));
+    }
+
+    @Test
+    public void billUpdateEvictsDependentResponsesTest() {
+        AgendaId agendaId = new AgendaId(1, 2016);
+        ResponseCacheKey agendaKey = new ResponseCacheKey(ContentCache.AGENDA, agendaId, "FULL", session, true);
+        ResponseCacheKey oldAgendaKey =
+            new ResponseCacheKey(ContentCache.AGENDA, agendaId, "FULL", SessionYear.of(2013), true);
+        getResponse(agendaKey, "agenda");
+        getResponse(oldAgendaKey, "old agenda");
+
+        eventBus.post(new BillUpdateEvent(new Bill(billId), LocalDateTime.now()));
+        getResponse(agendaKey, "agenda");
+        getResponse(oldAgendaKey, "old agenda");
+        assertEquals(3, builds.get());
+
+        eventBus.post(new CacheEvictIdEvent<>(ContentCache.AGENDA, agendaId));
+        getResponse(oldAgendaKey, "old agenda");
+        assertEquals(4, builds.get());
+    }
+
+    @Test
+    public void evictedWhileBuildingNotCachedTest() {
+        ResponseCacheKey billKey = new ResponseCacheKey(ContentCache.BILL, billId, "DEFAULT", session, false);
+        // The bill is updated after its response started building, so the outdated response is not kept
+        responseService.getResponse(billKey, () -> {
+            builds.incrementAndGet();
+            eventBus.post(new BillUpdateEvent(new Bill(billId), LocalDateTime.now()));
+            return new SimpleResponse(true, "outdated bill", "test");
+        });
+        getResponse(billKey, "bill");
+        getResponse(billKey, "bill");
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void gzipLargeResponsesTest() throws Exception {
+        ResponseCacheKey smallKey = new ResponseCacheKey(ContentCache.BILL, billId, "INFO", session, false);
+        ResponseCacheKey largeKey = new ResponseCacheKey(ContentCache.BILL, billId, "DEFAULT", session, false);
+        CachedResponse small = getResponse(smallKey, "small");
+        CachedResponse large = getResponse(largeKey, StringUtils.repeat("large ", 1000));
+        assertFalse(small.isGzipped());
+        assertTrue(large.isGzipped());
+        assertTrue(large.getContent().length < large.getJson().length);
+        assertTrue(new String(large.getJson(), "UTF-8").contains("large large"));
+    }
+
+    /** --- Internal --- */
+
+    private CachedResponse getResponse(ResponseCacheKey key, String message) {
+        return responseService.getResponse(key, () -> {
+            builds.incrementAndGet();
+            return new SimpleResponse(true, message, "test");
+        });
+    }
+}
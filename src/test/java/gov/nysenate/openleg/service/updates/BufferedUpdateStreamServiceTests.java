@@ -0,0 +1,100 @@
+package gov.nysenate.openleg.service.updates;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.eventbus.EventBus;
+import gov.nysenate.openleg.model.bill.BaseBillId;
+import gov.nysenate.openleg.model.bill.Bill;
+import gov.nysenate.openleg.model.updates.UpdateContentType;
+import gov.nysenate.openleg.model.updates.UpdateStreamPage;
+import gov.nysenate.openleg.service.bill.event.BillUpdateEvent;
+import gov.nysenate.openleg.service.bill.event.BulkBillUpdateEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class BufferedUpdateStreamServiceTests
+{
+    private static final Set<UpdateContentType> allTypes = UpdateContentType.getAllTypes();
+
+    private EventBus eventBus;
+    private BufferedUpdateStreamService streamService;
+
+    @Before
+    public void setup() {
+        eventBus = new EventBus();
+        streamService = new BufferedUpdateStreamService();
+        ReflectionTestUtils.setField(streamService, "eventBus", eventBus);
+        ReflectionTestUtils.setField(streamService, "bufferSize", 5);
+        streamService.init();
+    }
+
+    @Test
+    public void resumeFromCursorTest() {
+        String start = streamService.getUpdates(null, allTypes, 10).getCursor();
+        postBills(1, 3);
+
+        UpdateStreamPage first = streamService.getUpdates(start, allTypes, 2);
+        assertEquals(2, first.getTokens().size());
+        assertEquals("S1", first.getTokens().get(0).getId().get("printNo"));
+        assertFalse(first.isResync());
+
+        UpdateStreamPage second = streamService.getUpdates(first.getCursor(), allTypes, 2);
+        assertEquals(1, second.getTokens().size());
+        assertEquals("S3", second.getTokens().get(0).getId().get("printNo"));
+
+        assertTrue(streamService.getUpdates(second.getCursor(), allTypes, 2).getTokens().isEmpty());
+        assertTrue(streamService.getUpdates(second.getCursor(), ImmutableSet.of(UpdateContentType.AGENDA), 2)
+                                .getTokens().isEmpty());
+    }
+
+    @Test
+    public void evictedCursorRequiresResyncTest() {
+        String start = streamService.getUpdates(null, allTypes, 10).getCursor();
+        postBills(1, 6);
+        UpdateStreamPage page = streamService.getUpdates(start, allTypes, 10);
+        assertTrue(page.isResync());
+        assertTrue(page.getTokens().isEmpty());
+
+        // Cursors from a previous run of the stream must also be resynced
+        assertTrue(streamService.getUpdates("1-1", allTypes, 10).isResync());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformedCursorTest() {
+        streamService.getUpdates("not-a-cursor", allTypes, 10);
+    }
+
+    @Test
+    public void awaitUpdatesTest() throws Exception {
+        String start = streamService.getUpdates(null, allTypes, 10).getCursor();
+        CompletableFuture<UpdateStreamPage> billFuture = streamService.awaitUpdates(start, allTypes, 10);
+        CompletableFuture<UpdateStreamPage> agendaFuture =
+            streamService.awaitUpdates(start, ImmutableSet.of(UpdateContentType.AGENDA), 10);
+        assertFalse(billFuture.isDone());
+
+        eventBus.post(new BillUpdateEvent(getBill(7), LocalDateTime.now()));
+        assertTrue(billFuture.isDone());
+        assertEquals("S7", billFuture.get().getTokens().get(0).getId().get("printNo"));
+        assertFalse(agendaFuture.isDone());
+    }
+
+    /** --- Internal --- */
+
+    private void postBills(int from, int to) {
+        List<Bill> bills = IntStream.rangeClosed(from, to).mapToObj(this::getBill).collect(Collectors.toList());
+        eventBus.post(new BulkBillUpdateEvent(bills, LocalDateTime.now()));
+    }
+
+    private Bill getBill(int number) {
+        return new Bill(new BaseBillId("S" + number, 2015));
+    }
+}
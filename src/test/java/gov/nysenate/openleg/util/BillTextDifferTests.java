@@ -0,0 +1,99 @@
+package gov.nysenate.openleg.util;
+
+import gov.nysenate.openleg.util.StringDiffer.Diff;
+import gov.nysenate.openleg.util.StringDiffer.Operation;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class BillTextDifferTests
+{
+    private final StringDiffer stringDiffer = new StringDiffer();
+
+    private static String numberedLines(int from, String... lines) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            text.append(String.format("%6d %s\n", from + i, lines[i]));
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void reconstructsBothTextsTest() {
+        String text1 = "The people of the state of New York\nSection 1. Short title.\nThis act shall take effect.\n";
+        String text2 = "The people of the state of New York\nSection 1. Short title of act.\nNew section.\n" +
+                       "This act shall take effect immediately.";
+        LinkedList<Diff> diffs = BillTextDiffer.diff(text1, text2);
+        assertEquals(text1, stringDiffer.diff_text1(diffs));
+        assertEquals(text2, stringDiffer.diff_text2(diffs));
+        assertEquals(new Diff(Operation.EQUAL, "The people of the state of New York\nSection 1. Short title"),
+                     diffs.getFirst());
+    }
+
+    @Test
+    public void changesAreCharacterLevelTest() {
+        LinkedList<Diff> diffs = BillTextDiffer.diff("line one\nthe quick fox\nline three\n",
+                                                     "line one\nthe quick brown fox\nline three\n");
+        String inserted = diffs.stream().filter(d -> d.operation == Operation.INSERT)
+            .map(d -> d.text).collect(Collectors.joining());
+        assertEquals("brown ", inserted);
+        assertTrue(diffs.stream().noneMatch(d -> d.operation == Operation.DELETE));
+    }
+
+    @Test
+    public void ignoresShiftedLineNumbersTest() {
+        String text1 = numberedLines(1, "AN ACT to amend the tax law", "Section 1. Paragraph", "Section 2. Effective");
+        String text2 = numberedLines(1, "AN ACT to amend the tax law", "in relation to credits",
+                                     "Section 1. Paragraph", "Section 2. Effective");
+        LinkedList<Diff> diffs = BillTextDiffer.diff(text1, text2);
+        // Besides the added line, only the line numbers of the following lines are changed
+        String inserted = diffs.stream().filter(d -> d.operation == Operation.INSERT).map(d -> d.text)
+            .collect(Collectors.joining());
+        String deleted = diffs.stream().filter(d -> d.operation == Operation.DELETE).map(d -> d.text)
+            .collect(Collectors.joining());
+        assertTrue(inserted.contains("in relation to credits\n"));
+        assertTrue(deleted.matches("\\d{1,2}"));
+        assertEquals(text2, stringDiffer.diff_text2(diffs));
+    }
+
+    @Test
+    public void reconstructsTextsWithShiftedLineNumbersTest() {
+        String text1 = numberedLines(1, "AN ACT to amend the tax law", "Section 1. Paragraph one",
+                                     "Section 2. Paragraph two", "Section 3. Effective");
+        String text2 = numberedLines(1, "AN ACT to amend the tax law", "in relation to credits",
+                                     "and deductions", "Section 1. Paragraph one", "Section 3. Effective") +
+                       numberedLines(9, "Section 1. Paragraph one");
+        LinkedList<Diff> diffs = BillTextDiffer.diff(text1, text2);
+        assertEquals(text1, stringDiffer.diff_text1(diffs));
+        assertEquals(text2, stringDiffer.diff_text2(diffs));
+    }
+
+    @Test
+    public void manyChangedBlocksTest() {
+        StringBuilder text1 = new StringBuilder();
+        StringBuilder text2 = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            text1.append("unchanged line ").append(i).append('\n');
+            text2.append("unchanged line ").append(i).append('\n');
+            if (i % 10 == 0) {
+                text1.append("old wording of section ").append(i).append('\n');
+                text2.append("new wording of section ").append(i).append('\n');
+            }
+        }
+        LinkedList<Diff> diffs = BillTextDiffer.diff(text1.toString(), text2.toString());
+        assertEquals(text1.toString(), stringDiffer.diff_text1(diffs));
+        assertEquals(text2.toString(), stringDiffer.diff_text2(diffs));
+        assertEquals(50, diffs.stream().filter(d -> d.operation == Operation.INSERT).count());
+    }
+
+    @Test
+    public void emptyAndNullTextTest() {
+        assertTrue(BillTextDiffer.diff(null, "").isEmpty());
+        LinkedList<Diff> diffs = BillTextDiffer.diff("", "new text");
+        assertEquals(1, diffs.size());
+        assertEquals(new Diff(Operation.INSERT, "new text"), diffs.getFirst());
+    }
+}
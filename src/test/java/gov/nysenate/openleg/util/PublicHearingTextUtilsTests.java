@@ -0,0 +1,51 @@
+package gov.nysenate.openleg.util;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PublicHearingTextUtilsTests
+{
+    private static List<List<String>> readPages(String text) throws IOException {
+        List<List<String>> pages = new ArrayList<>();
+        PublicHearingTextUtils.readPages(new StringReader(text), pages::add);
+        return pages;
+    }
+
+    private static void assertSamePages(String text) throws IOException {
+        assertEquals(PublicHearingTextUtils.getPages(text), readPages(text));
+    }
+
+    @Test
+    public void readPagesMatchesFixturesTest() throws URISyntaxException, IOException {
+        File hearingDir = new File(getClass().getClassLoader().getResource("hearing").toURI());
+        File[] files = hearingDir.listFiles();
+        assertTrue(files != null && files.length > 0);
+        for (File file : files) {
+            String text = FileUtils.readFileToString(file);
+            List<List<String>> pages = readPages(text);
+            assertTrue(file.getName(), !pages.isEmpty());
+            assertEquals(file.getName(), PublicHearingTextUtils.getPages(text), pages);
+        }
+    }
+
+    @Test
+    public void readPagesTest() throws IOException {
+        assertEquals(Arrays.asList(Arrays.asList("line 1", "line 2\f"), Arrays.asList("", "line 3\f")),
+                     readPages("line 1\r\nline 2\f\n\nline 3\f"));
+        assertSamePages("line 1\r\nline 2\f\r\nline 3\r\r\n\f\n");
+        assertSamePages("page 1\f\ntext after the last page break\n");
+        assertSamePages("no page break\n");
+        assertSamePages("");
+    }
+}
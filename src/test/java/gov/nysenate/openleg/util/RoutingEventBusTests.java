@@ -0,0 +1,163 @@
+package gov.nysenate.openleg.util;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.eventbus.Subscribe;
+import gov.nysenate.openleg.model.stats.EventSubscriberStats;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class RoutingEventBusTests
+{
+    private RoutingEventBus eventBus;
+
+    @Before
+    public void setup() {
+        eventBus = new RoutingEventBus((ex, context) -> {}, ImmutableList.of(Recorder.class),
+                                       ImmutableList.of(AsyncEvent.class), event -> ((AsyncEvent) event).copy(),
+                                       Executors.newFixedThreadPool(4), 8);
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        eventBus.shutdown();
+    }
+
+    @Test
+    public void syncEventsAreDeliveredOnPostingThreadTest() {
+        Recorder recorder = new Recorder(0);
+        eventBus.register(recorder);
+        eventBus.post("sync");
+        assertEquals(ImmutableList.of("sync"), recorder.syncEvents);
+        assertSame(Thread.currentThread(), recorder.syncThread);
+    }
+
+    @Test
+    public void asyncEventsAreDeliveredInOrderPerSubscriberTest() throws InterruptedException {
+        int eventCount = 200;
+        Recorder slow = new Recorder(eventCount);
+        Recorder fast = new Recorder(eventCount);
+        slow.delayMillis = 1;
+        eventBus.register(slow);
+        eventBus.register(fast);
+        for (int i = 0; i < eventCount; i++) {
+            eventBus.post(new AsyncEvent(i));
+        }
+        assertTrue(fast.done.await(10, TimeUnit.SECONDS));
+        assertTrue(slow.done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < eventCount; i++) {
+            assertEquals(i, fast.asyncEvents.get(i).intValue());
+            assertEquals(i, slow.asyncEvents.get(i).intValue());
+        }
+        assertNotSame(Thread.currentThread(), fast.asyncThread);
+
+        // Stats are recorded after each handler returns, so let the pool finish before reading them
+        eventBus.shutdown();
+        List<EventSubscriberStats> stats = eventBus.getSubscriberStats();
+        assertEquals(2, stats.size());
+        stats.forEach(s -> {
+            assertEquals(eventCount, s.getHandledCount());
+            assertEquals(0, s.getQueueDepth());
+            assertTrue(s.getMaxQueueDepth() <= 8);
+        });
+    }
+
+    @Test
+    public void otherSubscribersReceiveAsyncEventsOnPostingThreadTest() throws InterruptedException {
+        Recorder recorder = new Recorder(1);
+        SyncRecorder syncRecorder = new SyncRecorder();
+        eventBus.register(recorder);
+        eventBus.register(syncRecorder);
+        AsyncEvent event = new AsyncEvent(1);
+        eventBus.post(event);
+        // Delivered before post returns, and with the posted event rather than a copy
+        assertEquals(ImmutableList.of(event), syncRecorder.events);
+        assertSame(Thread.currentThread(), syncRecorder.thread);
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertNotSame(event, recorder.lastAsyncEvent);
+        assertEquals(1, eventBus.getSubscriberStats().size());
+    }
+
+    @Test
+    public void asyncSubscribersReceiveSyncEventsOnPostingThreadTest() {
+        Recorder recorder = new Recorder(0);
+        eventBus.register(recorder);
+        eventBus.post("sync");
+        assertEquals(ImmutableList.of("sync"), recorder.syncEvents);
+        assertSame(Thread.currentThread(), recorder.syncThread);
+    }
+
+    @Test
+    public void unregisteredSubscribersReceiveNoEventsTest() throws InterruptedException {
+        Recorder recorder = new Recorder(1);
+        eventBus.register(recorder);
+        eventBus.unregister(recorder);
+        eventBus.post(new AsyncEvent(1));
+        eventBus.post("sync");
+        assertFalse(recorder.done.await(100, TimeUnit.MILLISECONDS));
+        assertTrue(recorder.syncEvents.isEmpty());
+        assertTrue(eventBus.getSubscriberStats().isEmpty());
+    }
+
+    /** --- Internal --- */
+
+    private static class AsyncEvent
+    {
+        private final int seq;
+
+        private AsyncEvent(int seq) {
+            this.seq = seq;
+        }
+
+        private AsyncEvent copy() {
+            return new AsyncEvent(seq);
+        }
+    }
+
+    public static class SyncRecorder
+    {
+        private final List<AsyncEvent> events = new CopyOnWriteArrayList<>();
+        private volatile Thread thread;
+
+        @Subscribe
+        public void handleAsync(AsyncEvent event) {
+            thread = Thread.currentThread();
+            events.add(event);
+        }
+    }
+
+    public static class Recorder
+    {
+        private final List<String> syncEvents = new CopyOnWriteArrayList<>();
+        private final List<Integer> asyncEvents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done;
+        private volatile Thread syncThread;
+        private volatile Thread asyncThread;
+        private volatile AsyncEvent lastAsyncEvent;
+        private int delayMillis = 0;
+
+        private Recorder(int asyncEventCount) {
+            this.done = new CountDownLatch(asyncEventCount);
+        }
+
+        @Subscribe
+        public void handleSync(String event) {
+            syncThread = Thread.currentThread();
+            syncEvents.add(event);
+        }
+
+        @Subscribe
+        public void handleAsync(AsyncEvent event) throws InterruptedException {
+            asyncThread = Thread.currentThread();
+            Thread.sleep(delayMillis);
+            lastAsyncEvent = event;
+            asyncEvents.add(event.seq);
+            done.countDown();
+        }
+    }
+}